@@ -3,5 +3,6 @@ package com.amazon.tools.cli;
 public enum CommandType {
     PROCESS,
     COMPARE,
+    PROFILE_SYMBOLS,
     VERSION
 }
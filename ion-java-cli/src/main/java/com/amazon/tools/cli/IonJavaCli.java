@@ -16,6 +16,7 @@ import com.amazon.ion.system.IonReaderBuilder;
 import com.amazon.ion.system.IonSystemBuilder;
 import com.amazon.ion.system.IonTextWriterBuilder;
 import com.amazon.ion.util.Equivalence;
+import com.amazon.ion.util.SymbolFrequencyProfiler;
 import org.kohsuke.args4j.Argument;
 import org.kohsuke.args4j.CmdLineException;
 import org.kohsuke.args4j.CmdLineParser;
@@ -97,6 +98,8 @@ public class IonJavaCli {
             } else if (commandType == CommandType.PROCESS) {
                 processContext.setIonWriter(ionWriterForOutput);
                 processFiles(ionWriterForErrorReport, parsedArgs, processContext);
+            } else if (commandType == CommandType.PROFILE_SYMBOLS) {
+                profileSymbols(ionWriterForOutput, ionWriterForErrorReport, parsedArgs);
             }
         } catch (IOException e) {
             System.err.println("Failed to close OutputStream: " + e.getMessage());
@@ -126,6 +129,17 @@ public class IonJavaCli {
                     throw new CmdLineException("COMPARE doesn't support option format \"-f events\"");
                 }
                 break;
+            case PROFILE_SYMBOLS:
+                if (parsedArgs.getOutputFormat() == OutputFormat.EVENTS) {
+                    throw new CmdLineException("PROFILE_SYMBOLS doesn't support option format \"-f events\"");
+                }
+                if (parsedArgs.getSymtabVersion() < 1) {
+                    throw new CmdLineException("--symtab-version must be at least 1");
+                }
+                if (parsedArgs.getMaxSymbols() < 0) {
+                    throw new CmdLineException("--max-symbols must not be negative");
+                }
+                break;
         }
     }
 
@@ -158,9 +172,54 @@ public class IonJavaCli {
                     + "pretty | binary | none)]  [--catalog <file>]... [--comparison-type (basic | equivs | \n"
                     + "non-equivs | equiv-timeline)] [-] [<input_file>]...\n");
             parser.printUsage(System.err);
+        } else if (commandType == CommandType.PROFILE_SYMBOLS) {
+            System.err.println(msg + "\n");
+            System.err.println("\"Profile-symbols\" counts the field names, annotations, and symbol values in the \n"
+                    + "input file(s) and writes a shared symbol table containing the most frequent symbols first, \n"
+                    + "for use as an import by writers of similar data. The projected number of bytes saved by \n"
+                    + "importing the table is reported to stderr.\n");
+            System.err.println("Usage:\n");
+            System.err.println("ion profile-symbols [--output <file>] [--error-report <file>] [--output-format \n"
+                    + "(text | pretty | binary | none)] [--symtab-name <name>] [--symtab-version <version>] \n"
+                    + "[--max-symbols <count>] [<input_file>]...\n");
+            parser.printUsage(System.err);
         }
     }
 
+    //
+    //
+    // functions for profiling symbols
+    //
+    //
+
+    private static void profileSymbols(IonWriter ionWriterForOutput,
+                                       IonWriter ionWriterForErrorReport,
+                                       CommandArgs args) throws IOException {
+        SymbolFrequencyProfiler profiler = new SymbolFrequencyProfiler();
+        for (String path : args.getInputFiles()) {
+            try (
+                    InputStream inputStream = new BufferedInputStream(new FileInputStream(path));
+                    IonReader ionReader = IonReaderBuilder.standard().build(inputStream);
+            ) {
+                profiler.profile(ionReader);
+            } catch (IonException e) {
+                new ErrorDescription(ErrorType.READ, e.getMessage(), path, -1).writeOutput(ionWriterForErrorReport);
+                ionWriterForErrorReport.finish();
+                System.exit(IO_ERROR_EXIT_CODE);
+            }
+        }
+        SymbolTable table = profiler.newSharedSymbolTable(ION_SYSTEM, args.getSymtabName(),
+                args.getSymtabVersion(), args.getMaxSymbols());
+        table.writeTo(ionWriterForOutput);
+        ionWriterForOutput.finish();
+
+        SymbolFrequencyProfiler.Projection projection = profiler.project(args.getMaxSymbols());
+        System.err.println("Profiled " + profiler.getSymbolCount() + " distinct symbols; the table contains "
+                + table.getMaxId() + ".");
+        System.err.println("Projected symbol bytes: " + projection.getBaselineBytes() + " without the table, "
+                + projection.getOptimizedBytes() + " with it (" + projection.getSavings() + " bytes saved).");
+    }
+
     //
     //
     // functions for processing
@@ -1323,6 +1382,7 @@ public class IonJavaCli {
     static class CommandArgs {
         private static final String DEFAULT_FORMAT_VALUE = OutputFormat.PRETTY.toString();
         private static final String DEFAULT_COMPARISON_TYPE = ComparisonType.BASIC.toString();
+        private static final String DEFAULT_SYMTAB_NAME = "profiled_symbols";
 
         @Option(name = "--output",
                 aliases = {"-o"},
@@ -1360,6 +1420,22 @@ public class IonJavaCli {
                         + "equivalent by the Ion data model.")
         private String comparisonType = DEFAULT_COMPARISON_TYPE;
 
+        @Option(name = "--symtab-name",
+                metaVar = "NAME",
+                usage = "Name of the shared symbol table written by the profile-symbols command")
+        private String symtabName = DEFAULT_SYMTAB_NAME;
+
+        @Option(name = "--symtab-version",
+                metaVar = "VERSION",
+                usage = "Version of the shared symbol table written by the profile-symbols command")
+        private int symtabVersion = 1;
+
+        @Option(name = "--max-symbols",
+                metaVar = "COUNT",
+                usage = "Maximum number of symbols in the shared symbol table written by the profile-symbols\n"
+                        + "command. Symbols beyond the first 118 require multi-byte symbol IDs.")
+        private int maxSymbols = Integer.MAX_VALUE;
+
         @Argument(required = true)
         private List<String> inputs;
 
@@ -1378,7 +1454,7 @@ public class IonJavaCli {
         }
 
         public void setCommand() {
-            this.commandType = CommandType.valueOf(inputs.get(0).toUpperCase());
+            this.commandType = CommandType.valueOf(inputs.get(0).replace('-','_').toUpperCase());
         }
 
         public OutputFormat getOutputFormat() throws IllegalArgumentException {
@@ -1391,5 +1467,8 @@ public class IonJavaCli {
         }
         public String getOutputFile() { return outputFile; }
         public String getErrorReport() { return errorReport; }
+        public String getSymtabName() { return symtabName; }
+        public int getSymtabVersion() { return symtabVersion; }
+        public int getMaxSymbols() { return maxSymbols; }
     }
 }
@@ -258,6 +258,16 @@ public class Decimal
         return new Decimal(val, mc);
     }
 
+    /**
+     * Returns a decimal value equal to {@code unscaledVal * 10^-scale}.
+     * This hides {@link BigDecimal#valueOf(long, int)} so that, like the
+     * other factory methods, the result is a {@link Decimal}.
+     */
+    public static Decimal valueOf(long unscaledVal, int scale)
+    {
+        return new Decimal(BigInteger.valueOf(unscaledVal), scale);
+    }
+
     public static Decimal valueOf(double val)
     {
         if (Double.compare(val, -0d) == 0)
@@ -0,0 +1,51 @@
+// Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+// SPDX-License-Identifier: Apache-2.0
+package com.amazon.ion;
+
+/**
+ * Provides the current decimal value of an {@link IonReader} as a long coefficient and an int scale, decoded directly
+ * from the encoded fields, without constructing a {@link java.math.BigDecimal}. The value is
+ * {@code decimalUnscaledValue() * 10^-decimalScale()}, as for {@link java.math.BigDecimal#valueOf(long, int)}. This
+ * is useful when, for example, prices are stored as scaled longs, and avoids the allocation of a BigDecimal and its
+ * BigInteger coefficient. Such values may be written back without allocation using
+ * {@link com.amazon.ion.util.IonStreamUtils#writeDecimal(IonWriter, long, int)}.
+ * <pre>
+ * if (decimals.decimalFitsInLong()) {
+ *     long unscaledValue = decimals.decimalUnscaledValue();
+ *     int scale = decimals.decimalScale();
+ *     ...
+ * } else {
+ *     BigDecimal value = reader.decimalValue();
+ *     ...
+ * }
+ * </pre>
+ * <p>
+ * All methods throw {@link IllegalStateException} if the reader is not positioned on a non-null decimal.
+ * <p>
+ * <b>WARNING:</b> This interface should not be implemented or extended by
+ * code outside of this library.
+ * <p>
+ * This functionality may be accessed as a facet of binary {@link IonReader}s.
+ */
+public interface DecimalPrimitivesProvider {
+
+    /**
+     * @return true if the coefficient of the current decimal fits in a long and the decimal is not negative zero,
+     *  which has no long representation; otherwise, false, in which case {@link IonReader#decimalValue()} must be
+     *  used to read the value.
+     */
+    boolean decimalFitsInLong();
+
+    /**
+     * @return the coefficient of the current decimal. This is equivalent to
+     *  {@code bigDecimalValue().unscaledValue().longValueExact()}.
+     * @throws ArithmeticException if {@link #decimalFitsInLong()} returns false.
+     */
+    long decimalUnscaledValue();
+
+    /**
+     * @return the scale of the current decimal, which is the negation of its exponent. This is equivalent to
+     *  {@code bigDecimalValue().scale()}, and is available even if {@link #decimalFitsInLong()} returns false.
+     */
+    int decimalScale();
+}
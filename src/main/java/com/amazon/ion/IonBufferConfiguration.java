@@ -81,6 +81,16 @@ public final class IonBufferConfiguration extends BufferConfiguration<IonBufferC
          */
         private OversizedSymbolTableHandler oversizedSymbolTableHandler = null;
 
+        /**
+         * The number of consecutive small top-level values after which a grown buffer is shrunk, or 0.
+         */
+        private int shrinkAfterValues = 0;
+
+        /**
+         * The pool from which grown buffers are borrowed, or null.
+         */
+        private IonBufferPool bufferPool = null;
+
         private Builder() {
             // Must be publicly instantiated via the factory method.
         }
@@ -106,7 +116,9 @@ public final class IonBufferConfiguration extends BufferConfiguration<IonBufferC
                 .onOversizedValue(existingConfiguration.getOversizedValueHandler())
                 .onOversizedSymbolTable(existingConfiguration.getOversizedSymbolTableHandler())
                 .withInitialBufferSize(existingConfiguration.getInitialBufferSize())
-                .withMaximumBufferSize(existingConfiguration.getMaximumBufferSize());
+                .withMaximumBufferSize(existingConfiguration.getMaximumBufferSize())
+                .withShrinkAfterValues(existingConfiguration.getShrinkAfterValues())
+                .withBufferPool(existingConfiguration.getBufferPool());
         }
 
         /**
@@ -128,6 +140,51 @@ public final class IonBufferConfiguration extends BufferConfiguration<IonBufferC
             return oversizedSymbolTableHandler;
         }
 
+        /**
+         * Sets the number of consecutive top-level values no larger than the initial buffer size after which a buffer
+         * that has grown beyond its initial size will be shrunk back to its initial size. This prevents a single large
+         * value from permanently increasing the memory used by a long-lived reader. The buffer is shrunk the next time
+         * the reader needs to make room for more data, provided that the data it is still holding fits in the initial
+         * buffer size. Default: 0, which means that the buffer never shrinks.
+         *
+         * @param numberOfValues the value, which must not be negative.
+         * @return this builder.
+         */
+        public Builder withShrinkAfterValues(int numberOfValues) {
+            shrinkAfterValues = numberOfValues;
+            return this;
+        }
+
+        /**
+         * @return the number of consecutive small top-level values after which a grown buffer will be shrunk, or 0 if
+         *  buffers do not shrink.
+         */
+        public int getShrinkAfterValues() {
+            return shrinkAfterValues;
+        }
+
+        /**
+         * Sets the pool from which buffers that grow beyond the initial buffer size are borrowed. Such buffers are
+         * returned to the pool when the reader shrinks its buffer (see {@link #withShrinkAfterValues(int)}), is reset,
+         * or is closed. The pool may be shared by readers used concurrently by different threads. Readers that are
+         * abandoned without being closed do not return their buffers. Default: null, in which case buffers are
+         * allocated as needed and are not shared.
+         *
+         * @param pool the pool, or null.
+         * @return this builder.
+         */
+        public Builder withBufferPool(IonBufferPool pool) {
+            bufferPool = pool;
+            return this;
+        }
+
+        /**
+         * @return the pool from which buffers that grow beyond the initial buffer size are borrowed, or null.
+         */
+        public IonBufferPool getBufferPool() {
+            return bufferPool;
+        }
+
         @Override
         public int getMinimumMaximumBufferSize() {
             return MINIMUM_MAX_VALUE_SIZE;
@@ -173,6 +230,16 @@ public final class IonBufferConfiguration extends BufferConfiguration<IonBufferC
      */
     private final OversizedSymbolTableHandler oversizedSymbolTableHandler;
 
+    /**
+     * The number of consecutive small top-level values after which a grown buffer is shrunk, or 0.
+     */
+    private final int shrinkAfterValues;
+
+    /**
+     * The pool from which grown buffers are borrowed, or null.
+     */
+    private final IonBufferPool bufferPool;
+
     /**
      * Constructs an instance from the given Builder.
      * @param builder the builder containing the settings to apply to the new configuration.
@@ -185,6 +252,11 @@ public final class IonBufferConfiguration extends BufferConfiguration<IonBufferC
         } else {
             oversizedSymbolTableHandler = builder.getOversizedSymbolTableHandler();
         }
+        if (builder.getShrinkAfterValues() < 0) {
+            throw new IllegalArgumentException("The number of values after which to shrink must not be negative.");
+        }
+        shrinkAfterValues = builder.getShrinkAfterValues();
+        bufferPool = builder.getBufferPool();
     }
 
     /**
@@ -204,4 +276,19 @@ public final class IonBufferConfiguration extends BufferConfiguration<IonBufferC
     public OversizedSymbolTableHandler getOversizedSymbolTableHandler() {
         return oversizedSymbolTableHandler;
     }
+
+    /**
+     * @return the number of consecutive small top-level values after which a grown buffer will be shrunk, or 0 if
+     *  buffers do not shrink.
+     */
+    public int getShrinkAfterValues() {
+        return shrinkAfterValues;
+    }
+
+    /**
+     * @return the pool from which buffers that grow beyond the initial buffer size are borrowed, or null.
+     */
+    public IonBufferPool getBufferPool() {
+        return bufferPool;
+    }
 }
@@ -0,0 +1,85 @@
+// Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+// SPDX-License-Identifier: Apache-2.0
+
+package com.amazon.ion;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A pool of byte arrays that may be shared by many readers. Readers configured with a pool (see
+ * {@link IonBufferConfiguration.Builder#withBufferPool(IonBufferPool)}) borrow a buffer from the pool whenever they need
+ * to grow beyond their initial buffer size, and return it to the pool when they shrink (see
+ * {@link IonBufferConfiguration.Builder#withShrinkAfterValues(int)}), are reset, or are closed. This allows a large
+ * number of long-lived readers that only occasionally encounter large values to share a small number of large buffers,
+ * rather than each retaining its own.
+ * <p>
+ * Instances of this class are safe for use by multiple threads.
+ */
+public final class IonBufferPool {
+
+    // Buffers that have been returned to the pool and may be borrowed again, in no particular order.
+    private final List<byte[]> idleBuffers = new ArrayList<>();
+
+    // The maximum number of idle buffers retained by the pool.
+    private final int maximumIdleBuffers;
+
+    /**
+     * @param maximumIdleBuffers the maximum number of returned buffers to retain for reuse. Buffers returned when the
+     *                           pool is full are discarded.
+     */
+    public IonBufferPool(int maximumIdleBuffers) {
+        if (maximumIdleBuffers < 0) {
+            throw new IllegalArgumentException("The maximum number of idle buffers must not be negative.");
+        }
+        this.maximumIdleBuffers = maximumIdleBuffers;
+    }
+
+    /**
+     * Removes the smallest idle buffer that holds at least the given number of bytes from the pool, or allocates a new
+     * buffer of exactly the given size if no idle buffer is large enough.
+     * @param minimumSize the minimum size of the buffer, in bytes.
+     * @return a buffer, which may contain data left by its previous user.
+     */
+    public byte[] acquire(int minimumSize) {
+        synchronized (idleBuffers) {
+            int bestIndex = -1;
+            for (int i = 0; i < idleBuffers.size(); i++) {
+                int length = idleBuffers.get(i).length;
+                if (length >= minimumSize && (bestIndex < 0 || length < idleBuffers.get(bestIndex).length)) {
+                    bestIndex = i;
+                }
+            }
+            if (bestIndex >= 0) {
+                int lastIndex = idleBuffers.size() - 1;
+                byte[] buffer = idleBuffers.get(bestIndex);
+                idleBuffers.set(bestIndex, idleBuffers.get(lastIndex));
+                idleBuffers.remove(lastIndex);
+                return buffer;
+            }
+        }
+        return new byte[minimumSize];
+    }
+
+    /**
+     * Returns a buffer to the pool. If the pool is full, the buffer is discarded. Callers MUST NOT use the buffer after
+     * returning it.
+     * @param buffer a buffer, usually one previously acquired from this pool.
+     */
+    public void release(byte[] buffer) {
+        synchronized (idleBuffers) {
+            if (idleBuffers.size() < maximumIdleBuffers) {
+                idleBuffers.add(buffer);
+            }
+        }
+    }
+
+    /**
+     * @return the number of buffers currently available to be borrowed from the pool.
+     */
+    public int getIdleBufferCount() {
+        synchronized (idleBuffers) {
+            return idleBuffers.size();
+        }
+    }
+}
@@ -0,0 +1,70 @@
+// Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+// SPDX-License-Identifier: Apache-2.0
+package com.amazon.ion;
+
+/**
+ * Receives notifications about the work an {@link IonReader} performs while reading, including work that is otherwise
+ * hidden, such as refilling and growing its buffer. This can be used, for example, to determine whether a slow
+ * consumer is bound by I/O or by buffer management. Listeners are opt-in; see
+ * {@link com.amazon.ion.system.IonReaderBuilder#withMetricsListener(IonReaderMetricsListener)}. Readers built without
+ * a listener incur no cost.
+ * <p>
+ * All methods have empty default implementations, so implementations need only override the methods for the events
+ * they track. Methods are invoked synchronously on the thread that is using the reader, so implementations should
+ * return quickly. Implementations that are shared between readers used concurrently must be thread-safe.
+ * <p>
+ * Currently, notifications are only delivered by binary readers. Buffer events are only delivered by readers that
+ * read from an {@link java.io.InputStream}, as readers over byte arrays read directly from the given array.
+ */
+public interface IonReaderMetricsListener {
+
+    /**
+     * Invoked each time bytes are read from the input stream into the reader's buffer.
+     * @param numberOfBytes the number of bytes read.
+     */
+    default void onRefill(int numberOfBytes) {}
+
+    /**
+     * Invoked each time the reader's buffer grows to make room for a value.
+     * @param previousCapacity the capacity of the buffer before growth, in bytes.
+     * @param newCapacity the capacity of the buffer after growth, in bytes.
+     */
+    default void onBufferGrowth(int previousCapacity, int newCapacity) {}
+
+    /**
+     * Invoked each time buffered bytes are moved to the start of the reader's buffer to make room for more data
+     * without growing the buffer.
+     * @param numberOfBytes the number of bytes moved.
+     */
+    default void onBufferShift(int numberOfBytes) {}
+
+    /**
+     * Invoked each time a value that exceeds the maximum buffer size is skipped. This occurs after the
+     * {@link BufferConfiguration.OversizedValueHandler} is notified.
+     * @param numberOfBytes the length of the skipped value in bytes, or -1 if the value is a delimited container, in
+     *                      which case its length is not known in advance.
+     */
+    default void onOversizedValueSkipped(long numberOfBytes) {}
+
+    /**
+     * Invoked each time a local symbol table is read and installed.
+     * @param numberOfSymbolsAdded the number of local symbols declared by the symbol table.
+     * @param isAppend true if the symbols were appended to previously-declared local symbols; false if the symbol
+     *                 table replaced the symbols previously in scope.
+     */
+    default void onLocalSymbolTable(int numberOfSymbolsAdded, boolean isAppend) {}
+
+    /**
+     * Invoked as the reader consumes data, with the same semantics as {@link BufferConfiguration.DataHandler}: the
+     * sum of all notifications is the number of bytes of the stream processed, including skipped bytes.
+     * @param numberOfBytes the number of bytes consumed since the previous notification.
+     */
+    default void onBytesConsumed(int numberOfBytes) {}
+
+    /**
+     * Invoked each time {@link IonReader#next()} positions the reader on a value, at any depth. System values, such as
+     * symbol tables, are not included.
+     * @param type the type of the value. Containers may be distinguished using {@link IonType#isContainer(IonType)}.
+     */
+    default void onValue(IonType type) {}
+}
@@ -0,0 +1,52 @@
+// Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+// SPDX-License-Identifier: Apache-2.0
+package com.amazon.ion;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Provides push-style input to an {@link IonReader}: rather than pulling from an {@link java.io.InputStream}, the
+ * reader is fed {@link ByteBuffer}s as they become available (for example, as they arrive from the network), and
+ * signals {@link IonCursor.Event#NEEDS_DATA} rather than blocking when it requires more. This allows Ion streams to
+ * be decoded on I/O threads without blocking adapters or thread hand-offs.
+ * <pre>
+ * // Upon receiving a buffer:
+ * feed.feed(buffer);
+ * IonCursor.Event event;
+ * while ((event = feed.nextValue()) != IonCursor.Event.NEEDS_DATA) {
+ *     ... // Read the current value using the IonReader.
+ * }
+ * // All bytes from 'buffer' have now been consumed.
+ * </pre>
+ * Top-level values are made available only once they are complete, so a value and its children may be read using
+ * the {@link IonReader} API without further checks for available data. Accordingly, NEEDS_DATA is only signaled at
+ * the top level. Closing the reader signals the end of input; {@link IonReader#close()} throws {@link IonException}
+ * if the data ends with an incomplete value.
+ * <p>
+ * <b>WARNING:</b> This interface should not be implemented or extended by
+ * code outside of this library.
+ * <p>
+ * This functionality may be accessed as a facet of {@link IonReader}s built by
+ * {@link com.amazon.ion.system.IonReaderBuilder#buildNonBlocking()}.
+ */
+public interface NonBlockingReader {
+
+    /**
+     * Provides more binary Ion data to the reader. The buffer is not copied; instead, the reader consumes bytes
+     * from it as they are needed, advancing its position. The buffer's contents must not be modified until it has
+     * been fully consumed, which is guaranteed to have happened once {@link #nextValue()} signals
+     * {@link IonCursor.Event#NEEDS_DATA}.
+     * @param data the data, between the buffer's position and limit. May be a heap or a direct buffer.
+     */
+    void feed(ByteBuffer data);
+
+    /**
+     * Advances the reader to the next value, if one is available. This is equivalent to {@link IonReader#next()},
+     * except that the cases in which that method returns null are distinguished.
+     * @return {@link IonCursor.Event#START_SCALAR} or {@link IonCursor.Event#START_CONTAINER} if the reader is
+     *  positioned on a scalar or container value, respectively; {@link IonCursor.Event#END_CONTAINER} if the end of
+     *  the current container has been reached; or {@link IonCursor.Event#NEEDS_DATA} if more data must be fed before
+     *  the next top-level value can be read.
+     */
+    IonCursor.Event nextValue();
+}
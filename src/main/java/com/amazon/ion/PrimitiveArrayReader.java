@@ -0,0 +1,72 @@
+// Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+// SPDX-License-Identifier: Apache-2.0
+package com.amazon.ion;
+
+/**
+ * Provides bulk decoding of homogeneous numeric sequences, such as lists of ints or floats, directly into primitive
+ * arrays. This is the read-side counterpart of {@link com.amazon.ion.util.IonStreamUtils#writeIntList} and
+ * {@link com.amazon.ion.util.IonStreamUtils#writeFloatList}, and is substantially faster than calling
+ * {@link IonReader#next()} and {@link IonReader#longValue()} for each element.
+ * <p>
+ * Each method reads consecutive values from the container into which the reader has stepped, beginning with the
+ * value after the reader's current value (if any), until either the requested number of values has been read or a
+ * value that does not match is encountered. Annotated values and nulls never match. If fewer than the requested
+ * number of values is read, the reader is left positioned on the first value that did not match, such that
+ * {@link IonReader#getType()} returns its type, or at the end of the container, such that {@link IonReader#getType()}
+ * returns null. Otherwise, the next call to {@link IonReader#next()} advances to the value that follows the last value
+ * read. Because reading begins after the current value, calling a method again after it stops on a value that did
+ * not match skips that value.
+ * <pre>
+ * reader.stepIn();
+ * int count = reader.asFacet(PrimitiveArrayReader.class).readLongs(values, 0, values.length);
+ * </pre>
+ * <p>
+ * <b>WARNING:</b> This interface should not be implemented or extended by
+ * code outside of this library.
+ * <p>
+ * This functionality may be accessed as a facet of binary {@link IonReader}s. Values are decoded directly from the
+ * reader's buffer when the container is length-prefixed and fully buffered, which is always the case for readers built
+ * from byte arrays; otherwise, they are read one at a time.
+ */
+public interface PrimitiveArrayReader {
+
+    /**
+     * Reads consecutive int values that fit in a long.
+     * @param destination the array into which to read the values.
+     * @param offset the index in the array at which to write the first value.
+     * @param length the maximum number of values to read.
+     * @return the number of values read.
+     * @throws IndexOutOfBoundsException if the given range is not within the array.
+     */
+    int readLongs(long[] destination, int offset, int length);
+
+    /**
+     * Reads consecutive int values that fit in an int.
+     * @param destination the array into which to read the values.
+     * @param offset the index in the array at which to write the first value.
+     * @param length the maximum number of values to read.
+     * @return the number of values read.
+     * @throws IndexOutOfBoundsException if the given range is not within the array.
+     */
+    int readInts(int[] destination, int offset, int length);
+
+    /**
+     * Reads consecutive float values.
+     * @param destination the array into which to read the values.
+     * @param offset the index in the array at which to write the first value.
+     * @param length the maximum number of values to read.
+     * @return the number of values read.
+     * @throws IndexOutOfBoundsException if the given range is not within the array.
+     */
+    int readDoubles(double[] destination, int offset, int length);
+
+    /**
+     * Reads consecutive float values, narrowing each to a 32-bit float as if by a cast.
+     * @param destination the array into which to read the values.
+     * @param offset the index in the array at which to write the first value.
+     * @param length the maximum number of values to read.
+     * @return the number of values read.
+     * @throws IndexOutOfBoundsException if the given range is not within the array.
+     */
+    int readFloats(float[] destination, int offset, int length);
+}
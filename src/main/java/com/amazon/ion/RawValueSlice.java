@@ -0,0 +1,59 @@
+// Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+// SPDX-License-Identifier: Apache-2.0
+package com.amazon.ion;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * The encoded bytes of a single value, as provided by {@link RawValueSliceProvider#currentValueSlice()}, along with a
+ * description of the symbol context on which those bytes depend. A slice is a view over the reader's buffer; its bytes
+ * are not copied. Therefore, a slice is only valid until the reader from which it was obtained is next advanced,
+ * stepped into or out of a container, reset, or closed.
+ * <p>
+ * <b>WARNING:</b> This interface should not be implemented or extended by
+ * code outside of this library.
+ */
+public interface RawValueSlice {
+
+    /**
+     * @return a read-only view of the encoded value, including its type descriptor, length, and annotation wrapper (if
+     *  any), but excluding its field name. The view's position is the first byte of the value and its limit is the
+     *  byte after the last byte of the value.
+     */
+    ByteBuffer getBytes();
+
+    /**
+     * @return the type of the value.
+     */
+    IonType getType();
+
+    /**
+     * @return the minor version of the Ion binary encoding of the bytes (e.g. 0 for Ion 1.0).
+     */
+    int getIonMinorVersion();
+
+    /**
+     * @return the symbol table in which any symbol IDs in the bytes must be resolved.
+     */
+    SymbolTable getSymbolTable();
+
+    /**
+     * @return true if the bytes cannot contain any symbol IDs, which is the case for unannotated scalars of any type
+     *  other than symbol. Such bytes may be copied to any stream of the same Ion version without regard to its
+     *  symbol table.
+     */
+    boolean isSymbolTableIndependent();
+
+    /**
+     * Writes the value to the given writer. This is equivalent to calling {@link IonWriter#writeValue(IonReader)} with
+     * the reader from which the slice was obtained, and must be called while the slice is valid. When the writer is a
+     * binary Ion 1.0 writer and either the value is symbol table independent or the writer's symbol table is a
+     * superset of {@link #getSymbolTable()}, the value's bytes are copied to the writer verbatim, with any annotations
+     * re-encoded using the writer's symbol table. Otherwise, the value is re-encoded by the writer, which resolves
+     * symbols by their text.
+     * @param writer the writer.
+     * @throws IOException if thrown by the writer.
+     */
+    void writeTo(IonWriter writer) throws IOException;
+}
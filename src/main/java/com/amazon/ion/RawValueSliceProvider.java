@@ -0,0 +1,33 @@
+// Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+// SPDX-License-Identifier: Apache-2.0
+package com.amazon.ion;
+
+/**
+ * Provides the encoded bytes of the current value of an {@link IonReader} without copying them. This is useful for
+ * routing and pass-through applications that inspect a few fields of a value and then forward the value, or some of
+ * its children, unchanged.
+ * <pre>
+ * reader.next();
+ * RawValueSlice slice = reader.asFacet(RawValueSliceProvider.class).currentValueSlice();
+ * writer.setFieldName("payload");
+ * slice.writeTo(writer);
+ * </pre>
+ * <p>
+ * <b>WARNING:</b> This interface should not be implemented or extended by
+ * code outside of this library.
+ * <p>
+ * This functionality may be accessed as a facet of binary {@link IonReader}s.
+ */
+public interface RawValueSliceProvider {
+
+    /**
+     * Provides the current value as a slice of the reader's buffer. If the reader is reading from a stream and the
+     * value has not yet been buffered in its entirety, the remainder of the value is buffered first.
+     * @return the slice, which is valid until the reader is next advanced, stepped into or out of a container, reset,
+     *  or closed.
+     * @throws IllegalStateException if the reader is not positioned on a value.
+     * @throws OversizedValueException if the value exceeds the reader's maximum buffer size.
+     * @throws IonException if the stream ends before the end of the value.
+     */
+    RawValueSlice currentValueSlice();
+}
@@ -0,0 +1,42 @@
+// Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+// SPDX-License-Identifier: Apache-2.0
+package com.amazon.ion;
+
+import java.io.InputStream;
+
+/**
+ * Provides the ability to reuse an {@link IonReader} to read new data, recycling the reader's internal buffers and
+ * state rather than constructing a new reader. This avoids the cost of reader construction when decoding many small,
+ * independent streams, such as individual messages.
+ * <p>
+ * After a reset, the reader behaves as if it had been newly built from the new data by the builder that built it;
+ * in particular, no symbol table state carries over. The new data must be binary Ion; unlike
+ * {@link com.amazon.ion.system.IonReaderBuilder}, a reset does not detect text or compressed data.
+ * <p>
+ * <b>WARNING:</b> This interface should not be implemented or extended by
+ * code outside of this library.
+ * <p>
+ * This functionality may be accessed as a facet of binary {@link IonReader}s.
+ *
+ * @see com.amazon.ion.system.IonReaderPool
+ */
+public interface ResettableReader {
+
+    /**
+     * Resets the reader to read the given binary Ion data. Any input stream from which the reader was previously
+     * reading is closed.
+     * @param ionData the byte array containing the data. Not copied; must not be modified while it is being read.
+     * @param offset the offset into the byte array at which the data begins.
+     * @param length the number of bytes of data.
+     * @throws IllegalStateException if the reader has been closed.
+     */
+    void reset(byte[] ionData, int offset, int length);
+
+    /**
+     * Resets the reader to read binary Ion data from the given stream, which will be closed when the reader is
+     * closed or reset again. Any input stream from which the reader was previously reading is closed.
+     * @param ionData the stream.
+     * @throws IllegalStateException if the reader has been closed.
+     */
+    void reset(InputStream ionData);
+}
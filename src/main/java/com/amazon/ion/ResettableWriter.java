@@ -0,0 +1,42 @@
+// Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+// SPDX-License-Identifier: Apache-2.0
+package com.amazon.ion;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Provides the ability to reuse an {@link IonWriter} to write a sequence of independent messages, recycling the
+ * writer's internal buffers and symbol table state rather than constructing a new writer for each message. This avoids
+ * the cost of writer construction when encoding many small, self-contained messages.
+ * <p>
+ * Each reset finishes the current message, after which the writer behaves as if it had been newly built by the
+ * builder that built it, except that its local symbols are kept when
+ * {@link com.amazon.ion.system.IonBinaryWriterBuilder#withLocalSymbolsRetainedOnReset(boolean)} is enabled. In either
+ * case, every message begins with an Ion version marker and can be read independently of the others.
+ * <p>
+ * <b>WARNING:</b> This interface should not be implemented or extended by
+ * code outside of this library.
+ * <p>
+ * This functionality may be accessed as a facet of binary {@link IonWriter}s.
+ */
+public interface ResettableWriter {
+
+    /**
+     * Finishes the current message, writing all buffered data to the current output, and prepares the writer to
+     * write the next message to the same output.
+     * @throws IOException if thrown by the output.
+     * @throws IllegalStateException if the writer is not at the top level or has been closed.
+     */
+    void finishAndReset() throws IOException;
+
+    /**
+     * Finishes the current message, writing all buffered data to the current output, and prepares the writer to
+     * write the next message to the given stream. The previous output is flushed but not closed; the given stream
+     * will be closed when the writer is closed.
+     * @param out the stream that will receive the next message. Must not be null.
+     * @throws IOException if thrown by the previous output.
+     * @throws IllegalStateException if the writer is not at the top level or has been closed.
+     */
+    void reset(OutputStream out) throws IOException;
+}
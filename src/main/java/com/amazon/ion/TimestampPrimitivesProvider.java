@@ -0,0 +1,42 @@
+// Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+// SPDX-License-Identifier: Apache-2.0
+package com.amazon.ion;
+
+/**
+ * Provides the current timestamp value of an {@link IonReader} as primitives, decoded directly from the encoded
+ * fields, without constructing a {@link Timestamp}. This is useful when, for example, only the instant is needed for
+ * bucketing, and avoids the allocation of a Timestamp and, for timestamps with fractional seconds, a
+ * {@link java.math.BigDecimal}.
+ * <p>
+ * All methods throw {@link IllegalStateException} if the reader is not positioned on a non-null timestamp, and
+ * {@link IonException} if the timestamp is malformed.
+ * <p>
+ * <b>WARNING:</b> This interface should not be implemented or extended by
+ * code outside of this library.
+ * <p>
+ * This functionality may be accessed as a facet of binary {@link IonReader}s.
+ */
+public interface TimestampPrimitivesProvider {
+
+    /**
+     * @return the current timestamp as a number of milliseconds since 1970-01-01T00:00:00Z. Sub-millisecond precision
+     *  is truncated. This is equivalent to {@code timestampValue().getMillis()}; in particular, as with
+     *  {@link java.util.Date}, dates before the Gregorian calendar's first day, 1582-10-15, are interpreted in the
+     *  Julian calendar.
+     */
+    long timestampEpochMillis();
+
+    /**
+     * @return the current timestamp as a number of nanoseconds since 1970-01-01T00:00:00Z. Sub-nanosecond precision
+     *  is truncated. Dates are interpreted in the same calendar as by {@link #timestampEpochMillis()}.
+     * @throws ArithmeticException if the result does not fit in a long, which is the case for timestamps before 1677
+     *  or after 2262.
+     */
+    long timestampEpochNanos();
+
+    /**
+     * @return the precision of the current timestamp. This is equivalent to
+     *  {@code timestampValue().getPrecision()}.
+     */
+    Timestamp.Precision timestampPrecision();
+}
@@ -0,0 +1,74 @@
+// Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+// SPDX-License-Identifier: Apache-2.0
+package com.amazon.ion;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Provides access to the text of the current value and field name of an {@link IonReader} without materializing
+ * {@link String}s, allowing text to be compared, copied into caller-owned storage, or forwarded as UTF-8 bytes without
+ * producing garbage.
+ * <p>
+ * The "text value" of the current value is the text of a {@code string} or {@code symbol} value, as returned by
+ * {@link IonReader#stringValue()}. All methods that access the text value throw {@link IllegalStateException} if the
+ * reader is not positioned on a string or symbol, and {@link UnknownSymbolException} if the reader is positioned on
+ * a symbol with unknown text.
+ * <p>
+ * <b>WARNING:</b> This interface should not be implemented or extended by
+ * code outside of this library.
+ * <p>
+ * This functionality may be accessed as a facet of binary {@link IonReader}s.
+ */
+public interface Utf8TextProvider {
+
+    /**
+     * Compares the text of the current value with the given UTF-8 bytes without decoding it.
+     * @param utf8 the UTF-8 encoding of the text to compare, which is typically encoded once and reused.
+     * @return true if the current value is a non-null string or symbol whose text is encoded by exactly the given
+     *  bytes; otherwise, false.
+     */
+    boolean textValueEquals(byte[] utf8);
+
+    /**
+     * Compares the current value's field name with the given UTF-8 bytes without decoding it.
+     * @param utf8 the UTF-8 encoding of the field name to compare, which is typically encoded once and reused.
+     * @return true if the current value has a field name whose text is encoded by exactly the given bytes;
+     *  otherwise, false.
+     * @throws UnknownSymbolException if the field name's text is unknown.
+     */
+    boolean fieldNameEquals(byte[] utf8);
+
+    /**
+     * Appends the text of the current value to the given StringBuilder.
+     * @param destination the StringBuilder.
+     * @return false if the current value is null, in which case nothing is appended; otherwise, true.
+     */
+    boolean appendTextValue(StringBuilder destination);
+
+    /**
+     * Copies the text of the current value into the given array. The number of chars copied never exceeds the number
+     * of UTF-8 bytes in the text, which is available from {@link #textValueBytes()}.
+     * @param destination the array.
+     * @param offset the index in the array at which to begin copying.
+     * @return the number of chars copied, or -1 if the current value is null.
+     * @throws IndexOutOfBoundsException if the text does not fit in the array.
+     */
+    int copyTextValue(char[] destination, int offset);
+
+    /**
+     * Provides a read-only view of the UTF-8 bytes of the current value's text, between the returned buffer's
+     * position and limit. The returned buffer may be reused by subsequent calls to this method and by
+     * {@link #fieldNameBytes()}, and its contents are only valid until the reader is advanced.
+     * @return the bytes, or null if the current value is null.
+     */
+    ByteBuffer textValueBytes();
+
+    /**
+     * Provides a read-only view of the UTF-8 bytes of the current value's field name, between the returned buffer's
+     * position and limit. The returned buffer may be reused by subsequent calls to this method and by
+     * {@link #textValueBytes()}, and its contents are only valid until the reader is advanced.
+     * @return the bytes, or null if the current value does not have a field name.
+     * @throws UnknownSymbolException if the field name's text is unknown.
+     */
+    ByteBuffer fieldNameBytes();
+}
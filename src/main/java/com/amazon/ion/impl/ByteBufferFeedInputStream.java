@@ -0,0 +1,100 @@
+// Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+// SPDX-License-Identifier: Apache-2.0
+package com.amazon.ion.impl;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+
+/**
+ * A non-blocking InputStream over a queue of {@link ByteBuffer}s supplied by the user as data becomes available.
+ * When the queue is exhausted, reads return -1 rather than blocking; more buffers may be fed afterward. This allows
+ * a continuable reader to copy bytes directly from the user's buffers into its own buffer, without an intermediate
+ * pipe.
+ * <p>
+ * Unlike {@link ByteBufferInputStream}, the user's buffers are not duplicated: their positions advance as bytes are
+ * consumed, allowing the user to determine when a buffer may be reused.
+ */
+final class ByteBufferFeedInputStream extends InputStream {
+
+    // Buffers that have been fed but not yet fully consumed, in order.
+    private final ArrayDeque<ByteBuffer> buffers = new ArrayDeque<>();
+
+    /**
+     * Adds a buffer to the end of the queue. The buffer is not copied.
+     * @param buffer the buffer, whose bytes between its position and limit will be read.
+     */
+    void feed(ByteBuffer buffer) {
+        if (buffer == null) {
+            throw new NullPointerException("Cannot feed a null ByteBuffer.");
+        }
+        if (buffer.hasRemaining()) {
+            buffers.addLast(buffer);
+        }
+    }
+
+    /**
+     * @return the buffer at the head of the queue, discarding any that have been consumed, or null if all buffers
+     *  have been consumed.
+     */
+    private ByteBuffer head() {
+        ByteBuffer head;
+        while ((head = buffers.peekFirst()) != null && !head.hasRemaining()) {
+            buffers.pollFirst();
+        }
+        return head;
+    }
+
+    @Override
+    public int read() {
+        ByteBuffer head = head();
+        if (head == null) {
+            return -1;
+        }
+        return head.get() & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) {
+        if (len == 0) {
+            return 0;
+        }
+        int numberOfBytesRead = 0;
+        ByteBuffer head;
+        while (numberOfBytesRead < len && (head = head()) != null) {
+            int numberOfBytesToRead = Math.min(len - numberOfBytesRead, head.remaining());
+            head.get(b, off + numberOfBytesRead, numberOfBytesToRead);
+            numberOfBytesRead += numberOfBytesToRead;
+        }
+        return numberOfBytesRead == 0 ? -1 : numberOfBytesRead;
+    }
+
+    @Override
+    public long skip(long n) {
+        long numberOfBytesSkipped = 0;
+        ByteBuffer head;
+        while (numberOfBytesSkipped < n && (head = head()) != null) {
+            int numberOfBytesToSkip = (int) Math.min(n - numberOfBytesSkipped, head.remaining());
+            head.position(head.position() + numberOfBytesToSkip);
+            numberOfBytesSkipped += numberOfBytesToSkip;
+        }
+        return numberOfBytesSkipped;
+    }
+
+    @Override
+    public int available() {
+        long available = 0;
+        for (ByteBuffer buffer : buffers) {
+            available += buffer.remaining();
+        }
+        return (int) Math.min(available, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Releases all buffers that have not been consumed.
+     */
+    @Override
+    public void close() {
+        buffers.clear();
+    }
+}
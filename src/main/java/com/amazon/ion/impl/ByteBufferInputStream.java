@@ -0,0 +1,87 @@
+// Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+// SPDX-License-Identifier: Apache-2.0
+package com.amazon.ion.impl;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * An InputStream over the remaining bytes of a {@link ByteBuffer}, which may be a heap or a direct (off-heap) buffer.
+ * Like {@link java.io.ByteArrayInputStream}, this is a fixed-size stream, which allows readers to size their internal
+ * buffers to the data rather than to the default configuration. Reading from this stream does not modify the
+ * position or limit of the buffer provided by the user.
+ * <p>
+ * Readers copy the bytes from this stream into their own heap buffers, because the binary cursor requires its data to
+ * be in a byte array. Parsing off-heap memory in place is not supported.
+ */
+public class ByteBufferInputStream extends InputStream {
+
+    // A view of the user's buffer, whose position and limit are private to this stream.
+    private final ByteBuffer source;
+
+    // The position of the source to return to upon reset().
+    private int markPosition;
+
+    /**
+     * @param source the buffer to read. Only the bytes between its position and limit at the time of construction
+     *               are available to the stream.
+     */
+    public ByteBufferInputStream(ByteBuffer source) {
+        if (source == null) {
+            throw new NullPointerException("Cannot read from a null ByteBuffer.");
+        }
+        this.source = source.duplicate();
+        this.markPosition = this.source.position();
+    }
+
+    @Override
+    public int read() {
+        if (!source.hasRemaining()) {
+            return -1;
+        }
+        return source.get() & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) {
+        if (len == 0) {
+            return 0;
+        }
+        if (!source.hasRemaining()) {
+            return -1;
+        }
+        int numberOfBytesToRead = Math.min(len, source.remaining());
+        source.get(b, off, numberOfBytesToRead);
+        return numberOfBytesToRead;
+    }
+
+    @Override
+    public long skip(long n) {
+        if (n <= 0) {
+            return 0;
+        }
+        int numberOfBytesToSkip = (int) Math.min(n, source.remaining());
+        source.position(source.position() + numberOfBytesToSkip);
+        return numberOfBytesToSkip;
+    }
+
+    @Override
+    public int available() {
+        return source.remaining();
+    }
+
+    @Override
+    public boolean markSupported() {
+        return true;
+    }
+
+    @Override
+    public synchronized void mark(int readLimit) {
+        markPosition = source.position();
+    }
+
+    @Override
+    public synchronized void reset() {
+        source.position(markPosition);
+    }
+}
@@ -0,0 +1,219 @@
+// Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+// SPDX-License-Identifier: Apache-2.0
+package com.amazon.ion.impl;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A set of field paths that selects which values nested within top-level containers are surfaced by a reader.
+ * Each path is a sequence of field names separated by '.', each of which may be followed by any number of '[*]'
+ * selectors that match every element of a list or s-expression. For example, {@code a.b[*].c} selects field `c` of
+ * every element of the sequence at field `b` of the struct at field `a` of each top-level struct. A selected value's
+ * entire subtree is surfaced. Values that are not on any path are skipped without being decoded.
+ * <p>
+ * Field names are resolved to symbol IDs lazily, at most once per symbol ID per symbol table, so that the common case
+ * compares raw symbol IDs without looking up any symbol text.
+ */
+final class FieldPathProjection {
+
+    /**
+     * Looks up the text of a symbol ID in the symbol table currently in scope.
+     */
+    interface SymbolResolver {
+
+        /**
+         * @param sid a symbol ID.
+         * @return the text of the symbol, or null if the text is unknown or the symbol ID is out of range.
+         */
+        String resolve(int sid);
+    }
+
+    // Symbol IDs at or above this value are not cached, bounding the size of each node's cache.
+    private static final int MAX_CACHED_SID = 4096;
+
+    // Initial capacity of the stack of nodes that apply to each container depth.
+    private static final int INITIAL_STACK_CAPACITY = 8;
+
+    /**
+     * A node in the trie of field paths. A node describes which children of a container are selected.
+     */
+    private static final class Node {
+
+        // The child nodes selected by field name, when the container is a struct.
+        private final Map<String, Node> fields = new HashMap<>();
+
+        // The child node that applies to every element, when the container is a list or s-expression.
+        private Node elements = null;
+
+        // True if a path ends at this node, meaning that the value's entire subtree is selected.
+        private boolean isTerminal = false;
+
+        // The children of this node indexed by field symbol ID. Null elements have not yet been resolved.
+        private Node[] childrenBySid = null;
+
+        // The symbol table generation for which `childrenBySid` is valid.
+        private int generation = -1;
+    }
+
+    // Marks symbol IDs that have been resolved to field names that are not selected.
+    private static final Node NOT_SELECTED = new Node();
+
+    private final Node root = new Node();
+
+    // The nodes that apply to the container at each depth. A null element means every child at that depth is selected.
+    private Node[] stack = new Node[INITIAL_STACK_CAPACITY];
+
+    // Incremented whenever the symbol table in scope changes, invalidating the resolved symbol IDs.
+    private int generation = 0;
+
+    /**
+     * @param fieldPaths the paths of the values to select. Must contain at least one path.
+     * @throws IllegalArgumentException if any path is malformed.
+     */
+    FieldPathProjection(Collection<String> fieldPaths) {
+        if (fieldPaths.isEmpty()) {
+            throw new IllegalArgumentException("At least one field path is required.");
+        }
+        for (String fieldPath : fieldPaths) {
+            addPath(fieldPath);
+        }
+        stack[0] = root;
+    }
+
+    /**
+     * Parses the given path and adds it to the trie.
+     * @param fieldPath the path.
+     */
+    private void addPath(String fieldPath) {
+        Node node = root;
+        int index = 0;
+        int length = fieldPath.length();
+        if (length == 0) {
+            throw new IllegalArgumentException("Field paths must not be empty.");
+        }
+        while (index < length) {
+            if (fieldPath.startsWith("[*]", index)) {
+                if (node.elements == null) {
+                    node.elements = new Node();
+                }
+                node = node.elements;
+                index += 3;
+                continue;
+            }
+            if (index > 0) {
+                if (fieldPath.charAt(index) != '.') {
+                    throw new IllegalArgumentException("Malformed field path: " + fieldPath);
+                }
+                index++;
+            }
+            int end = index;
+            while (end < length && fieldPath.charAt(end) != '.' && fieldPath.charAt(end) != '[') {
+                end++;
+            }
+            if (end == index) {
+                throw new IllegalArgumentException("Malformed field path: " + fieldPath);
+            }
+            node = node.fields.computeIfAbsent(fieldPath.substring(index, end), k -> new Node());
+            index = end;
+        }
+        node.isTerminal = true;
+    }
+
+    /**
+     * Invalidates the symbol IDs resolved so far. Must be called whenever the symbol table in scope changes.
+     */
+    void onSymbolTableChanged() {
+        generation++;
+    }
+
+    /**
+     * Determines whether the value on which the reader is positioned is selected, and if so, prepares to filter
+     * that value's children should the reader step into it.
+     * @param depth the depth of the container that holds the value, where 0 is a top-level container.
+     * @param isInStruct true if the value's container is a struct.
+     * @param fieldSid the value's field name symbol ID, or -1 if the field name has inline text.
+     * @param fieldText the value's inline field name text, or null if the field name is a symbol ID.
+     * @param resolver resolves symbol IDs to text.
+     * @return true if the value is selected and should be surfaced; false if it should be skipped.
+     */
+    boolean isSelected(int depth, boolean isInStruct, int fieldSid, String fieldText, SymbolResolver resolver) {
+        Node container = stack[depth];
+        if (container == null) {
+            // An ancestor was selected in its entirety.
+            push(depth + 1, null);
+            return true;
+        }
+        Node child;
+        if (!isInStruct) {
+            child = container.elements;
+        } else if (fieldSid < 0) {
+            child = fieldText == null ? null : container.fields.get(fieldText);
+        } else {
+            child = select(container, fieldSid, resolver);
+        }
+        if (child == null || child == NOT_SELECTED) {
+            return false;
+        }
+        push(depth + 1, child.isTerminal ? null : child);
+        return true;
+    }
+
+    /**
+     * Selects the child of the given node whose field name has the given symbol ID.
+     * @param container the node that applies to the struct that holds the field.
+     * @param fieldSid the field name symbol ID.
+     * @param resolver resolves symbol IDs to text.
+     * @return the selected child, or NOT_SELECTED.
+     */
+    private Node select(Node container, int fieldSid, SymbolResolver resolver) {
+        if (fieldSid >= MAX_CACHED_SID) {
+            return resolve(container, fieldSid, resolver);
+        }
+        Node[] childrenBySid = container.childrenBySid;
+        if (container.generation != generation) {
+            if (childrenBySid != null) {
+                Arrays.fill(childrenBySid, null);
+            }
+            container.generation = generation;
+        }
+        if (childrenBySid == null || fieldSid >= childrenBySid.length) {
+            int newSize = Math.min(MAX_CACHED_SID, Math.max(fieldSid + 1, childrenBySid == null ? 32 : childrenBySid.length * 2));
+            childrenBySid = childrenBySid == null ? new Node[newSize] : Arrays.copyOf(childrenBySid, newSize);
+            container.childrenBySid = childrenBySid;
+        }
+        Node child = childrenBySid[fieldSid];
+        if (child == null) {
+            child = resolve(container, fieldSid, resolver);
+            childrenBySid[fieldSid] = child;
+        }
+        return child;
+    }
+
+    /**
+     * Resolves the child of the given node whose field name has the given symbol ID by looking up its text.
+     * @param container the node that applies to the struct that holds the field.
+     * @param fieldSid the field name symbol ID.
+     * @param resolver resolves symbol IDs to text.
+     * @return the selected child, or NOT_SELECTED.
+     */
+    private static Node resolve(Node container, int fieldSid, SymbolResolver resolver) {
+        String text = resolver.resolve(fieldSid);
+        Node child = text == null ? null : container.fields.get(text);
+        return child == null ? NOT_SELECTED : child;
+    }
+
+    /**
+     * Records the node that applies to the container at the given depth.
+     * @param depth the depth.
+     * @param node the node, or null if every child at that depth is selected.
+     */
+    private void push(int depth, Node node) {
+        if (depth >= stack.length) {
+            stack = Arrays.copyOf(stack, stack.length * 2);
+        }
+        stack[depth] = node;
+    }
+}
@@ -4,8 +4,10 @@ package com.amazon.ion.impl;
 
 import com.amazon.ion.BufferConfiguration;
 import com.amazon.ion.IonBufferConfiguration;
+import com.amazon.ion.IonBufferPool;
 import com.amazon.ion.IonException;
 import com.amazon.ion.IonCursor;
+import com.amazon.ion.IonReaderMetricsListener;
 import com.amazon.ion.IonType;
 import com.amazon.ion.IvmNotificationConsumer;
 import com.amazon.ion.SystemSymbols;
@@ -36,6 +38,9 @@ class IonCursorBinary implements IonCursor {
     private static final int LIST_TYPE_ORDINAL = IonType.LIST.ordinal();
     private static final IvmNotificationConsumer NO_OP_IVM_NOTIFICATION_CONSUMER = (x, y) -> {};
 
+    // The Ion version ID for Ion 1.1, which may be used when slicing the buffer.
+    static final String ION_1_1 = "$ion_1_1";
+
     // Initial capacity of the stack used to hold ContainerInfo. Each additional level of nesting in the data requires
     // a new ContainerInfo. Depths greater than 8 are assumed to be rare.
     private static final int CONTAINER_STACK_INITIAL_CAPACITY = 8;
@@ -43,6 +48,18 @@ class IonCursorBinary implements IonCursor {
     // When set as an 'endIndex', indicates that the value is delimited.
     private static final int DELIMITED_MARKER = -1;
 
+    // In Ion 1.1, the byte that ends a delimited container. In delimited structs, it is escaped by FLEX_SYM_ESCAPE_BYTE.
+    private static final int DELIMITED_END_MARKER = 0xF0;
+
+    // In Ion 1.1, a FlexSym with the value zero, which indicates that the following byte has special meaning.
+    private static final int FLEX_SYM_ESCAPE_BYTE = 0x01;
+
+    // In Ion 1.1, the escaped FlexSym byte that represents symbol ID zero.
+    private static final int FLEX_SYM_SID_ZERO = 0x60;
+
+    // In Ion 1.1, the escaped FlexSym byte that represents the empty text.
+    private static final int FLEX_SYM_EMPTY_TEXT = 0x90;
+
     /**
      * The kind of location at which `checkpoint` points.
      */
@@ -124,9 +141,64 @@ class IonCursorBinary implements IonCursor {
          */
         int individualBytesSkippedWithoutBuffering = 0;
 
+        /**
+         * The number of Ion 1.1 delimited containers on the stack of containers being scanned to find the end of a
+         * delimited container in slow mode.
+         */
+        int delimitedScanDepth = 0;
+
+        /**
+         * For each delimited container on the scan stack, whether the container is a struct.
+         */
+        boolean[] delimitedScanStructs = new boolean[CONTAINER_STACK_INITIAL_CAPACITY];
+
+        /**
+         * When the delimited container scan is buffering the container, the index of the next token to be scanned,
+         * relative to `offset`.
+         */
+        long delimitedScanPosition = 0;
+
+        /**
+         * When the delimited container scan is seeking, the number of bytes that must be skipped before the next token
+         * may be scanned.
+         */
+        long delimitedScanSkip = 0;
+
+        /**
+         * Whether the field name of the first token to be scanned has already been consumed.
+         */
+        boolean isDelimitedScanFieldNameConsumed = false;
+
+        /**
+         * Whether the delimited container scan is discarding (rather than buffering) the bytes it scans.
+         */
+        boolean isDelimitedScanSeeking = false;
+
+        /**
+         * Whether a delimited container that was being filled was skipped because it was oversized.
+         */
+        boolean isDelimitedValueSkipped = false;
+
+        /**
+         * The marker whose `endIndex` will be set when the delimited container scan completes.
+         */
+        Marker delimitedScanTarget = null;
+
+        /**
+         * The capacity to which the buffer is restored when it shrinks.
+         */
+        int initialCapacity;
+
+        /**
+         * The number of consecutive top-level values no larger than `initialCapacity` encountered since the buffer
+         * last grew.
+         */
+        int consecutiveSmallValues = 0;
+
         RefillableState(InputStream inputStream, int capacity, int maximumBufferSize, State initialState) {
             this.inputStream = inputStream;
             this.capacity = capacity;
+            this.initialCapacity = capacity;
             this.maximumBufferSize = maximumBufferSize;
             this.state = initialState;
         }
@@ -156,7 +228,7 @@ class IonCursorBinary implements IonCursor {
     /**
      * The start offset into the user-provided byte array, or 0 if the user provided an InputStream.
      */
-    private final long startOffset;
+    private long startOffset;
 
     /**
      * The index of the next byte in the buffer that is available to be read. Always less than or equal to `limit`.
@@ -175,9 +247,25 @@ class IonCursorBinary implements IonCursor {
     ByteBuffer byteBuffer;
 
     /**
-     * The handler that will be notified when data is processed.
+     * The handler that will be notified when data is processed. Also notifies the metrics listener, if any.
+     */
+    private BufferConfiguration.DataHandler dataHandler;
+
+    /**
+     * The listener that will be notified of the work performed by the cursor, or null if notifications are disabled.
+     */
+    IonReaderMetricsListener metricsListener = null;
+
+    /**
+     * The configuration provided at construction, which is re-applied when the cursor is reset.
+     */
+    private final IonBufferConfiguration configuration;
+
+    /**
+     * The handler that will be notified when a value exceeds the maximum buffer size, which is re-applied when the
+     * cursor is reset.
      */
-    private final BufferConfiguration.DataHandler dataHandler;
+    private BufferConfiguration.OversizedValueHandler oversizedValueHandler;
 
     /**
      * Marker for the sequence of annotation symbol IDs on the current value. If there are no annotations on
@@ -220,6 +308,11 @@ class IonCursorBinary implements IonCursor {
      */
     byte[] buffer;
 
+    /**
+     * Whether `buffer` was borrowed from the configured IonBufferPool and must be returned to it when replaced.
+     */
+    private boolean isBufferPooled = false;
+
     /**
      * The major version of the Ion encoding currently being read.
      */
@@ -235,6 +328,12 @@ class IonCursorBinary implements IonCursor {
      */
     int fieldSid = -1;
 
+    /**
+     * Marker for the inline text of the current value's field name (Ion 1.1 only). If the current value's field name
+     * does not have inline text, the startIndex will be negative.
+     */
+    final Marker fieldTextMarker = new Marker(-1, 0);
+
     /**
      * The index of the first byte in the buffer that has not yet been successfully processed. The checkpoint is
      * only advanced when sufficient progress has been made, e.g. when a complete value header has been processed, or
@@ -250,7 +349,7 @@ class IonCursorBinary implements IonCursor {
     /**
      * The set of type IDs to use for Ion version currently active in the stream.
      */
-    private IonTypeID[] typeIds = IonTypeID.TYPE_IDS_NO_IVM;
+    IonTypeID[] typeIds = IonTypeID.TYPE_IDS_NO_IVM;
 
     /**
      * Holds information necessary for reading from refillable input. Null if the cursor is byte-backed.
@@ -308,6 +407,8 @@ class IonCursorBinary implements IonCursor {
         int length
     ) {
         this.dataHandler = getDataHandler(configuration);
+        this.configuration = configuration;
+        this.oversizedValueHandler = configuration.getOversizedValueHandler();
         peekIndex = offset;
         valuePreHeaderIndex = offset;
         checkpoint = peekIndex;
@@ -391,20 +492,28 @@ class IonCursorBinary implements IonCursor {
     }
 
     /**
-     * Provides a fixed-size buffer configuration suitable for the given ByteArrayInputStream.
+     * Provides a fixed-size buffer configuration suitable for the given fixed-size stream, i.e. a ByteArrayInputStream
+     * or a ByteBufferInputStream.
      * @param inputStream the stream.
      * @param alreadyReadLen the number of bytes already read from the stream. The configuration provided will allow
      *                       enough space for these bytes.
      * @return a fixed IonBufferConfiguration.
      */
     private static IonBufferConfiguration getFixedSizeConfigurationFor(
-        ByteArrayInputStream inputStream,
+        InputStream inputStream,
         int alreadyReadLen
     ) {
+        int available;
+        try {
+            available = inputStream.available();
+        } catch (IOException e) {
+            // Neither ByteArrayInputStream nor ByteBufferInputStream throws from available().
+            throw new IllegalStateException(e);
+        }
         // Note: ByteArrayInputStream.available() can return a negative number because its constructor does
         // not validate that the offset and length provided are actually within range of the provided byte array.
         // Setting the result to 0 in this case avoids an error when looking up the fixed sized configuration.
-        int fixedBufferSize = Math.max(0, inputStream.available());
+        int fixedBufferSize = Math.max(0, available);
         if (alreadyReadLen > 0) {
             fixedBufferSize += alreadyReadLen;
         }
@@ -428,14 +537,15 @@ class IonCursorBinary implements IonCursor {
         int alreadyReadOff,
         int alreadyReadLen
     ) {
+        this.configuration = configuration;
         if (configuration == IonBufferConfiguration.DEFAULT) {
             dataHandler = null;
-            if (inputStream instanceof ByteArrayInputStream) {
-                // ByteArrayInputStreams are fixed-size streams. Clamp the reader's internal buffer size at the size of
-                // the stream to avoid wastefully allocating extra space that will never be needed. It is still
-                // preferable for the user to manually specify the buffer size if it's less than the default, as doing
-                // so allows this branch to be skipped.
-                configuration = getFixedSizeConfigurationFor((ByteArrayInputStream) inputStream, alreadyReadLen);
+            if (inputStream instanceof ByteArrayInputStream || inputStream instanceof ByteBufferInputStream) {
+                // ByteArrayInputStreams and ByteBufferInputStreams are fixed-size streams. Clamp the reader's internal
+                // buffer size at the size of the stream to avoid wastefully allocating extra space that will never be
+                // needed. It is still preferable for the user to manually specify the buffer size if it's less than
+                // the default, as doing so allows this branch to be skipped.
+                configuration = getFixedSizeConfigurationFor(inputStream, alreadyReadLen);
             }
         } else {
             validate(configuration);
@@ -518,19 +628,74 @@ class IonCursorBinary implements IonCursor {
         long shortfall = minimumNumberOfBytesRequired - refillableState.capacity;
         if (shortfall > 0) {
             int newSize = (int) Math.min(Math.max(refillableState.capacity * 2, nextPowerOfTwo((int) (refillableState.capacity + shortfall))), maximumFreeSpace);
-            byte[] newBuffer = new byte[newSize];
-            moveBytesToStartOfBuffer(newBuffer, startOffset);
-            refillableState.capacity = newSize;
-            buffer = newBuffer;
-            byteBuffer = ByteBuffer.wrap(buffer, (int) offset, (int) refillableState.capacity);
+            if (metricsListener != null) {
+                metricsListener.onBufferGrowth((int) refillableState.capacity, newSize);
+            }
+            IonBufferPool bufferPool = configuration.getBufferPool();
+            replaceBuffer(bufferPool == null ? new byte[newSize] : bufferPool.acquire(newSize), newSize, startOffset);
+            isBufferPooled = bufferPool != null;
+            refillableState.consecutiveSmallValues = 0;
+        } else if (isShrinkDue(minimumNumberOfBytesRequired)) {
+            // Rather than shifting the bytes within the grown buffer, move them into a buffer of the initial size.
+            replaceBuffer(new byte[refillableState.initialCapacity], refillableState.initialCapacity, startOffset);
+            isBufferPooled = false;
+            refillableState.consecutiveSmallValues = 0;
         } else {
             // The current capacity can accommodate the requested size; move the existing bytes to the beginning
             // to make room for the remaining requested bytes to be filled at the end.
+            if (metricsListener != null && startOffset > 0) {
+                metricsListener.onBufferShift((int) Math.max(availableAt(startOffset), 0));
+            }
             moveBytesToStartOfBuffer(buffer, startOffset);
         }
         return true;
     }
 
+    /**
+     * Moves all buffered (but not yet read) bytes to the given buffer, which replaces the current buffer. If the current
+     * buffer was borrowed from the buffer pool, it is returned.
+     * @param newBuffer the new buffer.
+     * @param newCapacity the number of bytes of the new buffer that may be used.
+     * @param fromIndex the index of the first byte to move.
+     */
+    private void replaceBuffer(byte[] newBuffer, int newCapacity, int fromIndex) {
+        byte[] previousBuffer = buffer;
+        moveBytesToStartOfBuffer(newBuffer, fromIndex);
+        refillableState.capacity = newCapacity;
+        buffer = newBuffer;
+        byteBuffer = ByteBuffer.wrap(buffer, (int) offset, (int) refillableState.capacity);
+        if (isBufferPooled) {
+            configuration.getBufferPool().release(previousBuffer);
+        }
+    }
+
+    /**
+     * @param minimumNumberOfBytesRequired the minimum number of bytes that must fit in the buffer after `offset`.
+     * @return true if the configured number of consecutive small values has been reached since the buffer grew, and
+     *  the buffer can shrink back to its initial capacity while still accommodating the requested bytes.
+     */
+    private boolean isShrinkDue(long minimumNumberOfBytesRequired) {
+        int shrinkAfterValues = configuration.getShrinkAfterValues();
+        return shrinkAfterValues > 0
+            && refillableState.consecutiveSmallValues >= shrinkAfterValues
+            && refillableState.capacity > refillableState.initialCapacity
+            && minimumNumberOfBytesRequired <= refillableState.initialCapacity
+            && availableAt(offset) <= refillableState.initialCapacity;
+    }
+
+    /**
+     * Records the size of the top-level value on which the cursor is positioned, for use by the buffer shrink policy.
+     */
+    private void recordTopLevelValueSize() {
+        if (valueMarker.endIndex > DELIMITED_MARKER && valueMarker.endIndex - valuePreHeaderIndex > refillableState.initialCapacity) {
+            refillableState.consecutiveSmallValues = 0;
+        } else if (refillableState.consecutiveSmallValues < Integer.MAX_VALUE) {
+            // Delimited values whose lengths are unknown are counted as small. If such a value needs to be buffered and
+            // does not fit in the initial capacity, the resulting buffer growth resets the count.
+            refillableState.consecutiveSmallValues++;
+        }
+    }
+
     /**
      * Attempts to fill the buffer so that it contains at least `numberOfBytes` after `index`.
      * @param index the index after which to fill.
@@ -653,12 +818,18 @@ class IonCursorBinary implements IonCursor {
         peekIndex = Math.max(peekIndex - shiftAmount, 0);
         valuePreHeaderIndex -= shiftAmount;
         valueMarker.startIndex -= shiftAmount;
-        valueMarker.endIndex -= shiftAmount;
+        if (valueMarker.endIndex > DELIMITED_MARKER) {
+            valueMarker.endIndex -= shiftAmount;
+        }
         checkpoint -= shiftAmount;
         if (annotationSequenceMarker.startIndex > -1) {
             annotationSequenceMarker.startIndex -= shiftAmount;
             annotationSequenceMarker.endIndex -= shiftAmount;
         }
+        if (fieldTextMarker.startIndex > -1) {
+            fieldTextMarker.startIndex -= shiftAmount;
+            fieldTextMarker.endIndex -= shiftAmount;
+        }
         shiftContainerEnds(shiftAmount);
         refillableState.totalDiscardedBytes += shiftAmount;
     }
@@ -688,6 +859,9 @@ class IonCursorBinary implements IonCursor {
             }
             if (numberOfBytesFilled > 0) {
                 limit += numberOfBytesFilled;
+                if (metricsListener != null) {
+                    metricsListener.onRefill(numberOfBytesFilled);
+                }
             }
             shortfall = minimumNumberOfBytesRequired - availableAt(offset);
         } while (shortfall > 0 && numberOfBytesFilled >= 0);
@@ -955,189 +1129,945 @@ class IonCursorBinary implements IonCursor {
 
     /* ---- Ion 1.1 ---- */
 
-    private long uncheckedReadVarUInt_1_1() {
-        throw new UnsupportedOperationException();
-    }
-
-    private long slowReadVarUInt_1_1() {
-        throw new UnsupportedOperationException();
-    }
-
-    private boolean uncheckedReadAnnotationWrapperHeader_1_1(IonTypeID valueTid) {
-        throw new UnsupportedOperationException();
-    }
-
-    private boolean slowReadAnnotationWrapperHeader_1_1(IonTypeID valueTid) {
-        throw new UnsupportedOperationException();
-    }
-
-    private long calculateEndIndex_1_1(IonTypeID valueTid, boolean isAnnotated) {
-        throw new UnsupportedOperationException();
-    }
-
-    private void uncheckedReadFieldName_1_1() {
-        throw new UnsupportedOperationException();
-    }
-
-    private boolean slowReadFieldName_1_1() {
-        throw new UnsupportedOperationException();
-    }
-
-    private boolean uncheckedIsDelimitedEnd_1_1() {
-        throw new UnsupportedOperationException();
-    }
-
-    private boolean slowIsDelimitedEnd_1_1() {
-        throw new UnsupportedOperationException();
-    }
-
-    boolean skipRemainingDelimitedContainerElements_1_1() {
-        throw new UnsupportedOperationException();
-    }
-
-    private void seekPastDelimitedContainer_1_1() {
-        throw new UnsupportedOperationException();
-    }
-
-    private boolean slowFindDelimitedEnd_1_1() {
-        throw new UnsupportedOperationException();
-    }
-
-    private boolean slowSeekToDelimitedEnd_1_1() {
-        throw new UnsupportedOperationException();
+    /**
+     * Determines the length of the FlexUInt or FlexInt that begins at the given index, using only the bytes that are
+     * currently buffered. The length of a FlexUInt or FlexInt is one more than the number of trailing zero bits in its
+     * little-endian representation. Only lengths of up to 16 bytes are supported.
+     * @param index the index of the first byte of the FlexUInt or FlexInt.
+     * @return the length, or -1 if not enough bytes are buffered to determine the length.
+     */
+    private long flexLengthAt_1_1(long index) {
+        if (index >= limit) {
+            return -1;
+        }
+        int b = buffer[(int) index] & SINGLE_BYTE_MASK;
+        if (b != 0) {
+            return Integer.numberOfTrailingZeros(b) + 1;
+        }
+        if (index + 1 >= limit) {
+            return -1;
+        }
+        b = buffer[(int) index + 1] & SINGLE_BYTE_MASK;
+        if (b == 0) {
+            throw new IonException("Found a FlexUInt or FlexInt that was too large to fit in a `long`");
+        }
+        return Integer.numberOfTrailingZeros(b) + 1 + Byte.SIZE;
     }
 
-    private boolean slowFillDelimitedContainer_1_1() {
-        throw new UnsupportedOperationException();
+    /**
+     * Reads the FlexUInt or FlexInt of the given length that begins at the given index. NOTE: the value must fit in a
+     * `long`. This must only be called when it is known that the buffer already contains all the bytes in the value.
+     * @param index the index of the first byte of the FlexUInt or FlexInt.
+     * @param length the length of the FlexUInt or FlexInt, as determined by `flexLengthAt_1_1`.
+     * @param isSigned true if the value is a FlexInt; false if it is a FlexUInt.
+     * @return the value.
+     */
+    private long readFlexAt_1_1(long index, int length, boolean isSigned) {
+        if (length > Long.BYTES + 1) {
+            throw new IonException("Found a FlexUInt or FlexInt that was too large to fit in a `long`");
+        }
+        // When the length exceeds 8, the first byte is zero and the value's bits (and the remaining length bits) begin
+        // at the second byte.
+        int firstByteIndex = length > Long.BYTES ? (int) index + 1 : (int) index;
+        int lastByteIndex = (int) index + length - 1;
+        long result = 0;
+        for (int i = lastByteIndex; i >= firstByteIndex; i--) {
+            result = (result << Byte.SIZE) | (buffer[i] & SINGLE_BYTE_MASK);
+        }
+        int shift = length > Long.BYTES ? length - Long.BYTES : length;
+        if (!isSigned) {
+            return result >>> shift;
+        }
+        int unusedBits = Long.SIZE - (lastByteIndex - firstByteIndex + 1) * Byte.SIZE;
+        return ((result << unusedBits) >> unusedBits) >> shift;
     }
 
-    private boolean slowSkipRemainingDelimitedContainerElements_1_1() {
-        throw new UnsupportedOperationException();
+    /**
+     * Reads a FlexUInt. NOTE: the FlexUInt must fit in a `long`. This must only be called when it is known that the
+     * buffer already contains all the bytes in the FlexUInt.
+     * @return the value.
+     */
+    private long uncheckedReadVarUInt_1_1() {
+        if (peekIndex < limit) {
+            int b = buffer[(int) peekIndex];
+            if ((b & 1) != 0) {
+                // Single-byte FlexUInt; this is the most common case.
+                peekIndex++;
+                return (b & SINGLE_BYTE_MASK) >>> 1;
+            }
+        }
+        long length = flexLengthAt_1_1(peekIndex);
+        if (length < 0 || peekIndex + length > limit) {
+            throw new IonException("Malformed data: declared length exceeds the number of bytes remaining in the stream.");
+        }
+        long result = readFlexAt_1_1(peekIndex, (int) length, false);
+        peekIndex += length;
+        return result;
     }
 
-    /* ---- End: version-dependent parsing methods ---- */
-
-    /* ---- Begin: version-agnostic parsing, utility, and public API methods ---- */
-
     /**
-     * Attempts to make the cursor READY by finishing the operation that was in progress last time the end of the stream
-     * was reached. This should not be called when the cursor state is already READY.
-     * @return true if the cursor is ready; otherwise, false.
+     * Reads a FlexUInt, ensuring enough data is available in the buffer. NOTE: the FlexUInt must fit in a `long`.
+     * @return the value, or -1 if not enough data was available in the stream.
      */
-    private boolean slowMakeBufferReady() {
-        boolean isReady;
-        switch (refillableState.state) {
-            case SEEK:
-                isReady = !slowSeek(refillableState.bytesRequested);
-                break;
-            case FILL:
-                isReady = fillAt(offset, refillableState.bytesRequested);
-                break;
-            case FILL_DELIMITED:
-                refillableState.state = State.READY;
-                isReady = slowFindDelimitedEnd_1_1();
-                break;
-            case SEEK_DELIMITED:
-                isReady = slowSeekToDelimitedEnd_1_1();
-                break;
-            case TERMINATED:
-                isReady = false;
-                break;
-            default:
-                throw new IllegalStateException();
+    private long slowReadVarUInt_1_1() {
+        int currentByte = slowReadByte();
+        if (currentByte < 0) {
+            return -1;
         }
-        if (!isReady) {
-            event = Event.NEEDS_DATA;
+        int numberOfBytes = Integer.numberOfTrailingZeros(currentByte) + 1;
+        long result = currentByte;
+        int shift = numberOfBytes;
+        if (currentByte == 0) {
+            // The value is longer than 8 bytes. Its bits (and the final length bit) begin at the next byte.
+            currentByte = slowReadByte();
+            if (currentByte < 0) {
+                return -1;
+            }
+            if ((currentByte & 1) == 0) {
+                throw new IonException("Found a FlexUInt that was too large to fit in a `long`");
+            }
+            numberOfBytes = Long.BYTES;
+            result = currentByte;
+            shift = 1;
         }
-        return isReady;
+        for (int i = 1; i < numberOfBytes; i++) {
+            currentByte = slowReadByte();
+            if (currentByte < 0) {
+                return -1;
+            }
+            result |= ((long) currentByte) << (i * Byte.SIZE);
+        }
+        return result >>> shift;
     }
 
     /**
-     * Sets `checkpoint` to the current `peekIndex`, which is at the given type of location.
-     * @param location the type of checkpoint location. Must not be BEFORE_UNANNOTATED_TYPE_ID.
+     * Determines the length of the FlexUInt or FlexInt that begins at `peekIndex`, ensuring enough data is available
+     * in the buffer to do so.
+     * @return the length, or -1 if not enough data was available in the stream.
      */
-    private void setCheckpoint(CheckpointLocation location) {
-        checkpointLocation = location;
-        checkpoint = peekIndex;
+    private long slowPeekFlexLength_1_1() {
+        if (!fillAt(peekIndex, 1)) {
+            return -1;
+        }
+        long length = flexLengthAt_1_1(peekIndex);
+        if (length < 0) {
+            if (!fillAt(peekIndex, 2)) {
+                return -1;
+            }
+            length = flexLengthAt_1_1(peekIndex);
+        }
+        return length;
     }
 
     /**
-     * Sets `checkpoint` to the current `peekIndex`, which must be before an unannotated type ID, and seeks the
-     * buffer to that point.
+     * Calculates the index of the first byte after the FlexUInt or FlexSym that begins at the given index, using only
+     * the bytes that are currently buffered. A FlexSym is a FlexInt that holds a symbol ID when positive, the length
+     * of the inline UTF-8 text that follows when negative, or, when zero, an escape for the single byte that follows.
+     * @param index the index of the first byte of the FlexUInt or FlexSym.
+     * @param isFlexSym true if the value is a FlexSym; false if it is a FlexUInt.
+     * @return the index of the first byte after the value, or -1 if the value is not entirely buffered.
      */
-    private void setCheckpointBeforeUnannotatedTypeId() {
-        reset();
-        offset = peekIndex;
-        checkpointLocation = CheckpointLocation.BEFORE_UNANNOTATED_TYPE_ID;
-        checkpoint = peekIndex;
+    private long skipFlexUIntOrFlexSymAt_1_1(long index, boolean isFlexSym) {
+        long length = flexLengthAt_1_1(index);
+        if (length < 0 || index + length > limit) {
+            return -1;
+        }
+        long endIndex = index + length;
+        if (isFlexSym) {
+            long value = readFlexAt_1_1(index, (int) length, true);
+            if (value < 0) {
+                endIndex -= value;
+            } else if (value == 0) {
+                endIndex++;
+            }
+        }
+        return endIndex > limit ? -1 : endIndex;
     }
 
     /**
-     * Validates and sets the given marker, which must fit within its parent container (if applicable). The resulting
-     * `startIndex` will be set to `peekIndex` (the next byte to be consumed from the cursor's buffer), and its
-     * `endIndex` will be set to the given value.
-     * @param endIndex the value's end index.
-     * @param markerToSet the marker to set.
+     * Calculates the index of the first byte after the annotations sequence of an annotation wrapper, using only the
+     * bytes that are currently buffered.
+     * @param index the index of the first byte after the annotation wrapper's type ID byte.
+     * @param wrapperTid the type ID of the annotation wrapper.
+     * @return the index of the first byte after the annotations sequence, or -1 if not enough bytes are buffered to
+     *  determine it.
      */
-    private void setMarker(long endIndex, Marker markerToSet) {
-        if (parent != null && endIndex > parent.endIndex && parent.endIndex > DELIMITED_MARKER) {
-            throw new IonException("Value exceeds the length of its parent container.");
+    private long skipAnnotationsAt_1_1(long index, IonTypeID wrapperTid) {
+        if (wrapperTid.variableLength) {
+            long length = lengthAfterTypeIdAt_1_1(index, wrapperTid);
+            return length < 0 ? -1 : index + length;
         }
-        markerToSet.startIndex = peekIndex;
-        markerToSet.endIndex = endIndex;
+        for (int i = 0; i < wrapperTid.length && index >= 0; i++) {
+            index = skipFlexUIntOrFlexSymAt_1_1(index, wrapperTid.isInlineable);
+        }
+        return index;
     }
 
     /**
-     * Determines whether the cursor has reached the end of the current container. If true, `event` will be set to
-     * END_CONTAINER and information about the current value will be reset.
-     * @return true if the end of the current container has been reached; otherwise, false.
+     * Calculates the number of bytes that follow the type ID byte of a value that is not a delimited container,
+     * including any FlexUInt length prefix, using only the bytes that are currently buffered.
+     * @param index the index of the first byte after the value's type ID byte.
+     * @param valueTid the type ID of the value.
+     * @return the number of bytes, or -1 if not enough bytes are buffered to determine it.
      */
-    private boolean checkContainerEnd() {
-        if (parent.endIndex > peekIndex) {
-            return false;
-        }
-        if (parent.endIndex == DELIMITED_MARKER) {
-            return isSlowMode ? slowIsDelimitedEnd_1_1() : uncheckedIsDelimitedEnd_1_1();
+    private long lengthAfterTypeIdAt_1_1(long index, IonTypeID valueTid) {
+        if (valueTid.variableLength) {
+            long length = flexLengthAt_1_1(index);
+            if (length < 0 || index + length > limit) {
+                return -1;
+            }
+            long totalLength = length + readFlexAt_1_1(index, (int) length, false);
+            if (totalLength < 0) {
+                throw new IonException("Unsupported value: declared length is too long.");
+            }
+            return totalLength;
         }
-        if (parent.endIndex == peekIndex) {
-            event = Event.END_CONTAINER;
-            valueTid = null;
-            fieldSid = -1;
-            return true;
+        if (valueTid.length < 0) {
+            // The value's representation is a single self-delimiting FlexInt or FlexUInt.
+            return flexLengthAt_1_1(index);
         }
-        throw new IonException("Contained values overflowed the parent container length.");
+        return valueTid.length;
     }
 
     /**
-     * Resets state specific to the current value.
+     * Reads the type byte that follows a typed null type ID, returning the IonTypeID that represents the typed null.
+     * @param typeByte the type byte.
+     * @return the IonTypeID.
      */
-    private void reset() {
-        valueMarker.typeId = null;
-        valueMarker.startIndex = -1;
-        valueMarker.endIndex = -1;
-        fieldSid = -1;
-        hasAnnotations = false;
+    private static IonTypeID typedNullTypeId_1_1(int typeByte) {
+        if (typeByte >= IonTypeID.NULL_TYPE_IDS_1_1.length) {
+            throw new IonException("Invalid typed null.");
+        }
+        return IonTypeID.NULL_TYPE_IDS_1_1[typeByte];
     }
 
     /**
-     * Reads the final three bytes of an IVM. `peekIndex` must point to the first byte after the opening `0xE0` byte.
-     * After return, `majorVersion`, `minorVersion`, and `typeIds` will be updated accordingly, and `peekIndex` will
-     * point to the first byte after the IVM.
+     * Reads an annotation wrapper header. This must only be called when it is known that the buffer already contains
+     * all the bytes in the header. Sets `annotationSequenceMarker` with the start and end indices of the sequence of
+     * annotation FlexUInts or FlexSyms. Unlike Ion 1.0 annotation wrappers, Ion 1.1 annotation wrappers do not declare
+     * the length of the wrapped value, so `valueMarker` is not set until the wrapped value's header is read.
+     * @param valueTid the type ID of the annotation wrapper.
+     * @return false; the header is always complete when the buffer contains all of its bytes.
      */
-    private void readIvm() {
-        if (limit < peekIndex + IVM_REMAINING_LENGTH) {
-            throw new IonException("Incomplete Ion version marker.");
+    private boolean uncheckedReadAnnotationWrapperHeader_1_1(IonTypeID valueTid) {
+        long annotationsEndIndex;
+        if (valueTid.variableLength) {
+            long annotationsLength = uncheckedReadVarUInt_1_1();
+            annotationsEndIndex = peekIndex + annotationsLength;
+        } else {
+            annotationsEndIndex = skipAnnotationsAt_1_1(peekIndex, valueTid);
         }
-        majorVersion = buffer[(int) (peekIndex++)];
-        minorVersion = buffer[(int) (peekIndex++)];
-        if ((buffer[(int) (peekIndex++)] & SINGLE_BYTE_MASK) != IVM_FINAL_BYTE) {
-            throw new IonException("Invalid Ion version marker.");
+        if (annotationsEndIndex < 0 || annotationsEndIndex >= limit) {
+            throw new IonException("Malformed data: declared length exceeds the number of bytes remaining in the stream.");
         }
-        if (majorVersion != 1) {
-            throw new IonException(String.format("Unsupported Ion version: %d.%d", majorVersion, minorVersion));
+        if (parent != null && parent.endIndex > DELIMITED_MARKER && annotationsEndIndex >= parent.endIndex) {
+            throw new IonException("Annotation wrapper must wrap a value.");
         }
-        if (minorVersion == 0) {
-            typeIds = IonTypeID.TYPE_IDS_1_0;
+        annotationSequenceMarker.typeId = valueTid;
+        annotationSequenceMarker.startIndex = peekIndex;
+        annotationSequenceMarker.endIndex = annotationsEndIndex;
+        peekIndex = annotationsEndIndex;
+        valueMarker.startIndex = -1;
+        valueMarker.endIndex = -1;
+        return false;
+    }
+
+    /**
+     * Reads an annotation wrapper header, ensuring enough bytes are buffered. Sets `annotationSequenceMarker` with the
+     * start and end indices of the sequence of annotation FlexUInts or FlexSyms.
+     * @param valueTid the type ID of the annotation wrapper.
+     * @return true if not enough data was available in the stream to complete the header; otherwise, false.
+     */
+    private boolean slowReadAnnotationWrapperHeader_1_1(IonTypeID valueTid) {
+        long annotationsLength;
+        if (valueTid.variableLength) {
+            annotationsLength = slowReadVarUInt_1_1();
+            if (annotationsLength < 0) {
+                return true;
+            }
+        } else {
+            // The annotations sequence is not length-prefixed; buffer bytes until each of its FlexUInts or FlexSyms
+            // can be found.
+            long annotationsEndIndex;
+            while ((annotationsEndIndex = skipAnnotationsAt_1_1(peekIndex, valueTid)) < 0) {
+                if (!fillAt(peekIndex, availableAt(peekIndex) + 1)) {
+                    return true;
+                }
+                if (refillableState.isSkippingCurrentValue) {
+                    break;
+                }
+            }
+            annotationsLength = annotationsEndIndex - peekIndex;
+        }
+        // At this point the value must be at least 1 more byte: the wrapped value's type ID.
+        if (!fillAt(peekIndex, annotationsLength + 1)) {
+            return true;
+        }
+        if (refillableState.isSkippingCurrentValue) {
+            // The length of the wrapped value is not declared by the wrapper, so it cannot be skipped.
+            throw new IonException("The annotations on a value exceed the maximum buffer size.");
+        }
+        annotationSequenceMarker.typeId = valueTid;
+        annotationSequenceMarker.startIndex = peekIndex;
+        annotationSequenceMarker.endIndex = peekIndex + annotationsLength;
+        peekIndex = annotationSequenceMarker.endIndex;
+        if (parent != null && parent.endIndex > DELIMITED_MARKER && peekIndex >= parent.endIndex) {
+            throw new IonException("Annotation wrapper must wrap a value.");
+        }
+        valueMarker.startIndex = -1;
+        valueMarker.endIndex = -1;
+        return false;
+    }
+
+    /**
+     * Calculates the end index for the given type ID and sets `event` based on the type of value encountered, if any.
+     * At the time of invocation, `peekIndex` must point to the first byte after the value's type ID byte. After return,
+     * `peekIndex` will point to the first byte in the value's representation, or, in the case of a NOP pad, the first
+     * byte that follows the pad.
+     * @param valueTid the type ID of the value.
+     * @param isAnnotated true if the value is annotated.
+     * @return the end index of the value or NOP pad, or DELIMITED_MARKER if the value is a delimited container.
+     */
+    private long calculateEndIndex_1_1(IonTypeID valueTid, boolean isAnnotated) {
+        long endIndex;
+        if (valueTid.isDelimited) {
+            endIndex = DELIMITED_MARKER;
+        } else if (valueTid.variableLength) {
+            endIndex = uncheckedReadVarUInt_1_1() + peekIndex;
+            if (endIndex < 0) {
+                throw new IonException("Unsupported value: declared length is too long.");
+            }
+        } else if (valueTid.length < 0) {
+            // The value's representation is a single self-delimiting FlexInt or FlexUInt.
+            long length = flexLengthAt_1_1(peekIndex);
+            endIndex = length < 0 ? limit + 1 : peekIndex + length;
+        } else {
+            endIndex = valueTid.length + peekIndex;
+        }
+        if (valueTid.type != null && valueTid.type.ordinal() >= LIST_TYPE_ORDINAL) {
+            event = Event.START_CONTAINER;
+        } else if (valueTid.isNopPad) {
+            uncheckedSeekPastNopPad(endIndex, isAnnotated);
+        } else {
+            event = Event.START_SCALAR;
+        }
+        return endIndex;
+    }
+
+    /**
+     * Sets the current field name from the given FlexSym value. At the time of invocation, `peekIndex` must point to
+     * the first byte after the FlexSym, and the buffer must contain any inline text or escaped byte that follows it.
+     * After return, `peekIndex` will point to the first byte after the field name.
+     * @param flexSym the value of the FlexSym.
+     */
+    private void setFieldNameFromFlexSym_1_1(long flexSym) {
+        if (flexSym > 0) {
+            fieldSid = (int) flexSym;
+            fieldTextMarker.startIndex = -1;
+        } else if (flexSym < 0) {
+            fieldSid = -1;
+            fieldTextMarker.startIndex = peekIndex;
+            peekIndex -= flexSym;
+            fieldTextMarker.endIndex = peekIndex;
+        } else {
+            int escapedByte = buffer[(int) peekIndex++] & SINGLE_BYTE_MASK;
+            if (escapedByte == FLEX_SYM_SID_ZERO) {
+                fieldSid = 0;
+                fieldTextMarker.startIndex = -1;
+            } else if (escapedByte == FLEX_SYM_EMPTY_TEXT) {
+                fieldSid = -1;
+                fieldTextMarker.startIndex = peekIndex;
+                fieldTextMarker.endIndex = peekIndex;
+            } else {
+                throw new IonException("Invalid FlexSym escape in field name.");
+            }
+        }
+    }
+
+    /**
+     * Reads the field name FlexUInt or FlexSym starting at `peekIndex`. This must only be called when it is known that
+     * the buffer already contains all the bytes in the field name. After return, either `fieldSid` will be set or, if
+     * the field name's text is inline, `fieldTextMarker` will hold the location of the text.
+     */
+    private void uncheckedReadFieldName_1_1() {
+        if (!parent.typeId.isInlineable) {
+            fieldSid = (int) uncheckedReadVarUInt_1_1();
+            fieldTextMarker.startIndex = -1;
+            return;
+        }
+        long endIndex = skipFlexUIntOrFlexSymAt_1_1(peekIndex, true);
+        if (endIndex < 0) {
+            throw new IonException("Malformed data: declared length exceeds the number of bytes remaining in the stream.");
+        }
+        long length = flexLengthAt_1_1(peekIndex);
+        long flexSym = readFlexAt_1_1(peekIndex, (int) length, true);
+        peekIndex += length;
+        setFieldNameFromFlexSym_1_1(flexSym);
+    }
+
+    /**
+     * Reads the field name FlexUInt or FlexSym starting at `peekIndex`, ensuring enough data is available in the
+     * buffer.
+     * @return true if there are not enough bytes in the stream to complete the field name; otherwise, false.
+     */
+    private boolean slowReadFieldName_1_1() {
+        if (!parent.typeId.isInlineable) {
+            long sid = slowReadVarUInt_1_1();
+            if (sid < 0) {
+                return true;
+            }
+            fieldSid = (int) sid;
+            fieldTextMarker.startIndex = -1;
+            return false;
+        }
+        long length = slowPeekFlexLength_1_1();
+        if (length < 0 || !fillAt(peekIndex, length)) {
+            return true;
+        }
+        long flexSym = readFlexAt_1_1(peekIndex, (int) length, true);
+        long trailingLength = flexSym < 0 ? -flexSym : (flexSym == 0 ? 1 : 0);
+        if (!fillAt(peekIndex, length + trailingLength)) {
+            return true;
+        }
+        if (refillableState.isSkippingCurrentValue) {
+            throw new IonException("A field name exceeds the maximum buffer size.");
+        }
+        peekIndex += length;
+        setFieldNameFromFlexSym_1_1(flexSym);
+        return false;
+    }
+
+    /**
+     * Records the end of the current delimited container, whose end marker has just been consumed.
+     */
+    private void setDelimitedContainerEnd_1_1() {
+        parent.endIndex = peekIndex;
+        event = Event.END_CONTAINER;
+        valueTid = null;
+        fieldSid = -1;
+        fieldTextMarker.startIndex = -1;
+    }
+
+    /**
+     * Determines whether the cursor has reached the end of the current delimited container by examining the bytes at
+     * `peekIndex`. This must only be called when it is known that the buffer already contains all bytes in the
+     * container. Delimited lists and s-expressions end with a single end marker byte; delimited structs end with an
+     * escaped FlexSym that holds the end marker. If the end has been reached, the end marker is consumed and `event`
+     * is set to END_CONTAINER.
+     * @return true if the end of the current container has been reached; otherwise, false.
+     */
+    private boolean uncheckedIsDelimitedEnd_1_1() {
+        if (peekIndex >= limit) {
+            return false;
+        }
+        int b = buffer[(int) peekIndex] & SINGLE_BYTE_MASK;
+        if (parent.typeId.type == IonType.STRUCT) {
+            if (b != FLEX_SYM_ESCAPE_BYTE
+                || peekIndex + 1 >= limit
+                || (buffer[(int) peekIndex + 1] & SINGLE_BYTE_MASK) != DELIMITED_END_MARKER) {
+                return false;
+            }
+            peekIndex += 2;
+        } else if (b == DELIMITED_END_MARKER) {
+            peekIndex++;
+        } else {
+            return false;
+        }
+        setDelimitedContainerEnd_1_1();
+        return true;
+    }
+
+    /**
+     * Determines whether the cursor has reached the end of the current delimited container, ensuring enough bytes are
+     * buffered. If the end has been reached, the end marker is consumed, `event` is set to END_CONTAINER, and the
+     * checkpoint is set after the end marker.
+     * @return true if the end of the current container has been reached or if not enough data was available in the
+     *  stream to determine whether it has been reached; otherwise, false.
+     */
+    private boolean slowIsDelimitedEnd_1_1() {
+        if (checkpointLocation != CheckpointLocation.BEFORE_UNANNOTATED_TYPE_ID) {
+            // The cursor is positioned within a value, not at the start of a token.
+            return false;
+        }
+        if (!fillAt(peekIndex, 1)) {
+            return true;
+        }
+        int b = buffer[(int) peekIndex] & SINGLE_BYTE_MASK;
+        if (parent.typeId.type == IonType.STRUCT) {
+            if (b != FLEX_SYM_ESCAPE_BYTE) {
+                return false;
+            }
+            if (!fillAt(peekIndex, 2)) {
+                return true;
+            }
+            if ((buffer[(int) peekIndex + 1] & SINGLE_BYTE_MASK) != DELIMITED_END_MARKER) {
+                return false;
+            }
+            peekIndex += 2;
+        } else if (b == DELIMITED_END_MARKER) {
+            peekIndex++;
+        } else {
+            return false;
+        }
+        setCheckpointBeforeUnannotatedTypeId();
+        setDelimitedContainerEnd_1_1();
+        return true;
+    }
+
+    /**
+     * Finds the end of the delimited container whose contents begin at the given index. This must only be called when
+     * it is known that the buffer already contains all the bytes in the container, unless the stream is truncated.
+     * @param index the index of the first byte after the container's type ID byte.
+     * @param isStruct true if the container is a struct; otherwise, false.
+     * @return the index of the first byte after the container's end marker, or -1 if the end marker is not in the
+     *  buffer.
+     */
+    private long uncheckedFindDelimitedEnd_1_1(long index, boolean isStruct) {
+        while (index < limit) {
+            if (isStruct) {
+                if ((buffer[(int) index] & SINGLE_BYTE_MASK) == FLEX_SYM_ESCAPE_BYTE) {
+                    if (index + 1 >= limit) {
+                        return -1;
+                    }
+                    if ((buffer[(int) index + 1] & SINGLE_BYTE_MASK) == DELIMITED_END_MARKER) {
+                        return index + 2;
+                    }
+                }
+                index = skipFlexUIntOrFlexSymAt_1_1(index, true);
+                if (index < 0 || index >= limit) {
+                    return -1;
+                }
+            } else if ((buffer[(int) index] & SINGLE_BYTE_MASK) == DELIMITED_END_MARKER) {
+                return index + 1;
+            }
+            index = uncheckedSkipValue_1_1(index);
+            if (index < 0) {
+                return -1;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Skips the value (or NOP pad) that begins at the given index, including its annotation wrapper, if any. This must
+     * only be called when it is known that the buffer already contains all the bytes in the value, unless the stream
+     * is truncated.
+     * @param index the index of the value's first byte.
+     * @return the index of the first byte after the value, or -1 if the value extends beyond the buffer.
+     */
+    private long uncheckedSkipValue_1_1(long index) {
+        IonTypeID valueTid = typeIds[buffer[(int) index++] & SINGLE_BYTE_MASK];
+        if (valueTid.type == IonTypeID.ION_TYPE_ANNOTATION_WRAPPER) {
+            index = skipAnnotationsAt_1_1(index, valueTid);
+            if (index < 0 || index >= limit) {
+                return -1;
+            }
+            valueTid = typeIds[buffer[(int) index++] & SINGLE_BYTE_MASK];
+            if (valueTid.type == IonTypeID.ION_TYPE_ANNOTATION_WRAPPER) {
+                throw new IonException("Nested annotation wrappers are invalid.");
+            }
+        }
+        if (!valueTid.isValid) {
+            throw invalidTypeId(valueTid);
+        }
+        if (valueTid.isDelimited) {
+            return uncheckedFindDelimitedEnd_1_1(index, valueTid.type == IonType.STRUCT);
+        }
+        long length = lengthAfterTypeIdAt_1_1(index, valueTid);
+        if (length < 0 || index + length > limit) {
+            return -1;
+        }
+        return index + length;
+    }
+
+    /**
+     * Skips past the remaining elements in the current delimited container, including its end marker. This must only
+     * be called when it is known that the buffer already contains all the bytes in the container, unless the stream
+     * is truncated. After return, `peekIndex` will point to the first byte after the container.
+     */
+    void skipRemainingDelimitedContainerElements_1_1() {
+        long index = peekIndex;
+        if (valueTid != null && valueTid.isDelimited && valueMarker.endIndex == DELIMITED_MARKER) {
+            // The cursor is positioned on a delimited container that has not been stepped into.
+            index = uncheckedFindDelimitedEnd_1_1(valueMarker.startIndex, valueTid.type == IonType.STRUCT);
+        } else if (index < valueMarker.endIndex) {
+            index = valueMarker.endIndex;
+        }
+        if (index >= 0) {
+            index = uncheckedFindDelimitedEnd_1_1(index, parent.typeId.type == IonType.STRUCT);
+        }
+        if (index < 0) {
+            peekIndex = limit;
+            isValueIncomplete = true;
+        } else {
+            peekIndex = index;
+        }
+    }
+
+    /**
+     * Seeks past the delimited container on which the cursor is positioned. This must only be called when it is known
+     * that the buffer already contains all the bytes in the container, unless the stream is truncated. After return,
+     * `peekIndex` will point to the first byte after the container.
+     */
+    private void seekPastDelimitedContainer_1_1() {
+        long endIndex = uncheckedFindDelimitedEnd_1_1(valueMarker.startIndex, valueTid.type == IonType.STRUCT);
+        if (endIndex < 0) {
+            peekIndex = limit;
+            isValueIncomplete = true;
+        } else {
+            peekIndex = endIndex;
+        }
+    }
+
+    /**
+     * Pushes a container onto the stack of delimited containers being scanned in slow mode.
+     * @param isStruct true if the container is a struct; otherwise, false.
+     */
+    private void pushDelimitedScanContainer_1_1(boolean isStruct) {
+        RefillableState state = refillableState;
+        if (state.delimitedScanDepth >= state.delimitedScanStructs.length) {
+            boolean[] newStructs = new boolean[state.delimitedScanStructs.length * 2];
+            System.arraycopy(state.delimitedScanStructs, 0, newStructs, 0, state.delimitedScanStructs.length);
+            state.delimitedScanStructs = newStructs;
+        }
+        state.delimitedScanStructs[state.delimitedScanDepth++] = isStruct;
+    }
+
+    /**
+     * Prepares to scan for the end of a delimited container in slow mode. The caller must push the container(s) to be
+     * scanned and set the scan's starting position before invoking `slowScanDelimited_1_1`.
+     * @param isSeeking true if the scanned bytes should be discarded; false if they should be buffered.
+     * @param target the marker whose `endIndex` will be set to the index of the first byte after the outermost
+     *  container when the scan completes.
+     */
+    private void startDelimitedScan_1_1(boolean isSeeking, Marker target) {
+        RefillableState state = refillableState;
+        state.delimitedScanDepth = 0;
+        state.delimitedScanPosition = 0;
+        state.delimitedScanSkip = 0;
+        state.isDelimitedScanFieldNameConsumed = false;
+        state.isDelimitedScanSeeking = isSeeking;
+        state.isDelimitedValueSkipped = false;
+        state.delimitedScanTarget = target;
+    }
+
+    /**
+     * Examines the token that begins at the given index within the delimited container being scanned in slow mode.
+     * The token is either a container end marker or a value, including its field name and annotation wrapper, if any.
+     * If the token begins a delimited container, that container is pushed onto the scan stack; if the token is an end
+     * marker, the current container is popped.
+     * @param index the index of the token's first byte.
+     * @return the number of bytes in the token, including the representation of any length-prefixed or fixed-length
+     *  value, or -1 if not enough bytes are buffered to determine the token's length.
+     */
+    private long slowScanDelimitedToken_1_1(long index) {
+        RefillableState state = refillableState;
+        if (index >= limit) {
+            return -1;
+        }
+        long startIndex = index;
+        boolean isStruct = state.delimitedScanStructs[state.delimitedScanDepth - 1];
+        int b = buffer[(int) index] & SINGLE_BYTE_MASK;
+        if (isStruct && !state.isDelimitedScanFieldNameConsumed) {
+            if (b == FLEX_SYM_ESCAPE_BYTE) {
+                if (index + 1 >= limit) {
+                    return -1;
+                }
+                if ((buffer[(int) index + 1] & SINGLE_BYTE_MASK) == DELIMITED_END_MARKER) {
+                    state.delimitedScanDepth--;
+                    return 2;
+                }
+            }
+            index = skipFlexUIntOrFlexSymAt_1_1(index, true);
+            if (index < 0 || index >= limit) {
+                return -1;
+            }
+        } else if (!isStruct && b == DELIMITED_END_MARKER) {
+            state.delimitedScanDepth--;
+            return 1;
+        }
+        IonTypeID valueTid = typeIds[buffer[(int) index++] & SINGLE_BYTE_MASK];
+        if (valueTid.type == IonTypeID.ION_TYPE_ANNOTATION_WRAPPER) {
+            index = skipAnnotationsAt_1_1(index, valueTid);
+            if (index < 0 || index >= limit) {
+                return -1;
+            }
+            valueTid = typeIds[buffer[(int) index++] & SINGLE_BYTE_MASK];
+            if (valueTid.type == IonTypeID.ION_TYPE_ANNOTATION_WRAPPER) {
+                throw new IonException("Nested annotation wrappers are invalid.");
+            }
+        }
+        if (!valueTid.isValid) {
+            throw invalidTypeId(valueTid);
+        }
+        long length = 0;
+        if (valueTid.isDelimited) {
+            pushDelimitedScanContainer_1_1(valueTid.type == IonType.STRUCT);
+        } else {
+            length = lengthAfterTypeIdAt_1_1(index, valueTid);
+            if (length < 0) {
+                return -1;
+            }
+        }
+        state.isDelimitedScanFieldNameConsumed = false;
+        return index - startIndex + length;
+    }
+
+    /**
+     * Scans for the end of the delimited container(s) on the slow mode scan stack, resuming any scan that previously
+     * ran out of data. In fill mode the scanned bytes are buffered. If the container turns out to exceed the maximum
+     * buffer size, the oversized value handler is notified and the scan continues in seek mode, in which the scanned
+     * bytes are discarded.
+     * @return true if the end of the outermost container was found; false if not enough data was available in the
+     *  stream or if the cursor was terminated.
+     */
+    private boolean slowScanDelimited_1_1() {
+        RefillableState state = refillableState;
+        while (true) {
+            if (state.isDelimitedScanSeeking) {
+                if (state.delimitedScanSkip > 0) {
+                    if (slowSeek(state.delimitedScanSkip)) {
+                        state.delimitedScanSkip = state.bytesRequested;
+                        state.state = State.SEEK_DELIMITED;
+                        return false;
+                    }
+                    state.delimitedScanSkip = 0;
+                }
+                if (state.delimitedScanDepth == 0) {
+                    peekIndex = offset;
+                    state.delimitedScanTarget.endIndex = offset;
+                    state.state = State.READY;
+                    return true;
+                }
+                long tokenLength = slowScanDelimitedToken_1_1(offset);
+                if (tokenLength < 0) {
+                    if (!fillAt(offset, Math.max(availableAt(offset), 0) + 1)) {
+                        state.state = State.SEEK_DELIMITED;
+                        return false;
+                    }
+                    if (state.isSkippingCurrentValue) {
+                        throw new IonException("A value header within a delimited container exceeds the maximum buffer size.");
+                    }
+                    continue;
+                }
+                state.delimitedScanSkip = tokenLength;
+            } else {
+                long index = offset + state.delimitedScanPosition;
+                long tokenLength = slowScanDelimitedToken_1_1(index);
+                if (tokenLength < 0) {
+                    if (!fillAt(index, Math.max(availableAt(index), 0) + 1)) {
+                        state.state = State.FILL_DELIMITED;
+                        return false;
+                    }
+                    if (state.isSkippingCurrentValue) {
+                        // The container is oversized. Notify the handler, then discard the bytes scanned so far and
+                        // continue the scan in seek mode.
+                        state.isSkippingCurrentValue = false;
+                        state.oversizedValueHandler.onOversizedValue();
+                        if (refillableState.state == State.TERMINATED) {
+                            return false;
+                        }
+                        if (metricsListener != null) {
+                            metricsListener.onOversizedValueSkipped(-1);
+                        }
+                        state.isDelimitedScanSeeking = true;
+                        state.isDelimitedValueSkipped = true;
+                        state.delimitedScanSkip = state.delimitedScanPosition;
+                    }
+                    continue;
+                }
+                state.delimitedScanPosition += tokenLength;
+                if (state.delimitedScanDepth == 0) {
+                    state.delimitedScanTarget.endIndex = index + tokenLength;
+                    state.state = State.READY;
+                    return true;
+                }
+            }
+        }
+    }
+
+    /**
+     * Fills the buffer with the delimited container on which the cursor is positioned, ensuring that enough bytes are
+     * available in the stream. On success, `valueMarker.endIndex` is set to the index of the first byte after the
+     * container.
+     * @return true if not enough data was available in the stream to fill the container; otherwise, false.
+     */
+    private boolean slowFillDelimitedContainer_1_1() {
+        startDelimitedScan_1_1(false, valueMarker);
+        refillableState.delimitedScanPosition = valueMarker.startIndex - offset;
+        pushDelimitedScanContainer_1_1(valueTid.type == IonType.STRUCT);
+        return !slowScanDelimited_1_1();
+    }
+
+    /**
+     * Seeks past the delimited container on which the cursor is positioned, ensuring that enough bytes are available
+     * in the stream. On success, `valueMarker.endIndex` is set to the index of the first byte after the container.
+     * @return true if not enough data was available in the stream; otherwise, false.
+     */
+    private boolean slowSeekPastDelimitedContainer_1_1() {
+        startDelimitedScan_1_1(true, valueMarker);
+        refillableState.delimitedScanSkip = valueMarker.startIndex - offset;
+        pushDelimitedScanContainer_1_1(valueTid.type == IonType.STRUCT);
+        return !slowScanDelimited_1_1();
+    }
+
+    /**
+     * Skips past the remaining elements in the current delimited container, including its end marker, ensuring that
+     * enough bytes are available in the stream. On success, `parent.endIndex` is set to the index of the first byte
+     * after the container and `peekIndex` points to that byte.
+     * @return true if not enough data was available in the stream; otherwise, false.
+     */
+    private boolean slowSkipRemainingDelimitedContainerElements_1_1() {
+        startDelimitedScan_1_1(true, parent);
+        pushDelimitedScanContainer_1_1(parent.typeId.type == IonType.STRUCT);
+        RefillableState state = refillableState;
+        switch (checkpointLocation) {
+            case BEFORE_UNANNOTATED_TYPE_ID:
+                state.delimitedScanSkip = checkpoint - offset;
+                break;
+            case BEFORE_ANNOTATED_TYPE_ID:
+                // The field name and annotations have been consumed; the scan begins at the wrapped value's type ID.
+                state.delimitedScanSkip = checkpoint - offset;
+                state.isDelimitedScanFieldNameConsumed = true;
+                break;
+            default:
+                if (valueMarker.endIndex == DELIMITED_MARKER) {
+                    // The cursor is positioned on a delimited container that has not been stepped into.
+                    state.delimitedScanSkip = valueMarker.startIndex - offset;
+                    pushDelimitedScanContainer_1_1(valueTid.type == IonType.STRUCT);
+                } else {
+                    state.delimitedScanSkip = valueMarker.endIndex - offset;
+                }
+                break;
+        }
+        return !slowScanDelimited_1_1();
+    }
+
+    /* ---- End: version-dependent parsing methods ---- */
+
+    /* ---- Begin: version-agnostic parsing, utility, and public API methods ---- */
+
+    /**
+     * Attempts to make the cursor READY by finishing the operation that was in progress last time the end of the stream
+     * was reached. This should not be called when the cursor state is already READY.
+     * @return true if the cursor is ready; otherwise, false.
+     */
+    private boolean slowMakeBufferReady() {
+        boolean isReady;
+        switch (refillableState.state) {
+            case SEEK:
+                isReady = !slowSeek(refillableState.bytesRequested);
+                break;
+            case FILL:
+                isReady = fillAt(offset, refillableState.bytesRequested);
+                break;
+            case FILL_DELIMITED:
+            case SEEK_DELIMITED:
+                refillableState.state = State.READY;
+                isReady = slowScanDelimited_1_1();
+                break;
+            case TERMINATED:
+                isReady = false;
+                break;
+            default:
+                throw new IllegalStateException();
+        }
+        if (!isReady) {
+            event = Event.NEEDS_DATA;
+        }
+        return isReady;
+    }
+
+    /**
+     * Sets `checkpoint` to the current `peekIndex`, which is at the given type of location.
+     * @param location the type of checkpoint location. Must not be BEFORE_UNANNOTATED_TYPE_ID.
+     */
+    private void setCheckpoint(CheckpointLocation location) {
+        checkpointLocation = location;
+        checkpoint = peekIndex;
+    }
+
+    /**
+     * Sets `checkpoint` to the current `peekIndex`, which must be before an unannotated type ID, and seeks the
+     * buffer to that point.
+     */
+    private void setCheckpointBeforeUnannotatedTypeId() {
+        reset();
+        offset = peekIndex;
+        checkpointLocation = CheckpointLocation.BEFORE_UNANNOTATED_TYPE_ID;
+        checkpoint = peekIndex;
+    }
+
+    /**
+     * Validates and sets the given marker, which must fit within its parent container (if applicable). The resulting
+     * `startIndex` will be set to `peekIndex` (the next byte to be consumed from the cursor's buffer), and its
+     * `endIndex` will be set to the given value.
+     * @param endIndex the value's end index.
+     * @param markerToSet the marker to set.
+     */
+    private void setMarker(long endIndex, Marker markerToSet) {
+        if (parent != null && endIndex > parent.endIndex && parent.endIndex > DELIMITED_MARKER) {
+            throw new IonException("Value exceeds the length of its parent container.");
+        }
+        markerToSet.startIndex = peekIndex;
+        markerToSet.endIndex = endIndex;
+    }
+
+    /**
+     * Determines whether the cursor has reached the end of the current container. If true, `event` will be set to
+     * END_CONTAINER and information about the current value will be reset.
+     * @return true if the end of the current container has been reached; otherwise, false.
+     */
+    private boolean checkContainerEnd() {
+        if (parent.endIndex > peekIndex) {
+            return false;
+        }
+        if (parent.endIndex == DELIMITED_MARKER) {
+            return isSlowMode ? slowIsDelimitedEnd_1_1() : uncheckedIsDelimitedEnd_1_1();
+        }
+        if (parent.endIndex == peekIndex) {
+            event = Event.END_CONTAINER;
+            valueTid = null;
+            fieldSid = -1;
+            fieldTextMarker.startIndex = -1;
+            return true;
+        }
+        throw new IonException("Contained values overflowed the parent container length.");
+    }
+
+    /**
+     * Resets state specific to the current value.
+     */
+    private void reset() {
+        valueMarker.typeId = null;
+        valueMarker.startIndex = -1;
+        valueMarker.endIndex = -1;
+        fieldSid = -1;
+        fieldTextMarker.startIndex = -1;
+        hasAnnotations = false;
+    }
+
+    /**
+     * Reads the final three bytes of an IVM. `peekIndex` must point to the first byte after the opening `0xE0` byte.
+     * After return, `majorVersion`, `minorVersion`, and `typeIds` will be updated accordingly, and `peekIndex` will
+     * point to the first byte after the IVM.
+     */
+    private void readIvm() {
+        if (limit < peekIndex + IVM_REMAINING_LENGTH) {
+            throw new IonException("Incomplete Ion version marker.");
+        }
+        majorVersion = buffer[(int) (peekIndex++)];
+        minorVersion = buffer[(int) (peekIndex++)];
+        if ((buffer[(int) (peekIndex++)] & SINGLE_BYTE_MASK) != IVM_FINAL_BYTE) {
+            throw new IonException("Invalid Ion version marker.");
+        }
+        if (majorVersion != 1) {
+            throw new IonException(String.format("Unsupported Ion version: %d.%d", majorVersion, minorVersion));
+        }
+        if (minorVersion == 0) {
+            typeIds = IonTypeID.TYPE_IDS_1_0;
+        } else if (minorVersion == 1) {
+            typeIds = IonTypeID.TYPE_IDS_1_1;
         } else {
             throw new IonException(String.format("Unsupported Ion version: %d.%d", majorVersion, minorVersion));
         }
@@ -1188,6 +2118,18 @@ class IonCursorBinary implements IonCursor {
         return false;
     }
 
+    /**
+     * Creates the exception to throw when an invalid type ID is encountered.
+     * @param valueTid the invalid type ID.
+     * @return the exception.
+     */
+    private static IonException invalidTypeId(IonTypeID valueTid) {
+        if (valueTid.isTemplateInvocation) {
+            return new IonException("Macro invocations are not supported.");
+        }
+        return new IonException("Invalid type ID.");
+    }
+
     /**
      * Validates that an annotated value's endIndex matches the annotation wrapper's endIndex (which is contained in
      * `valueMarker.endIndex`).
@@ -1214,7 +2156,7 @@ class IonCursorBinary implements IonCursor {
     private boolean uncheckedReadHeader(final int typeIdByte, final boolean isAnnotated, final Marker markerToSet) {
         IonTypeID valueTid = typeIds[typeIdByte];
         if (!valueTid.isValid) {
-            throw new IonException("Invalid type ID.");
+            throw invalidTypeId(valueTid);
         } else if (valueTid.type == IonTypeID.ION_TYPE_ANNOTATION_WRAPPER) {
             if (isAnnotated) {
                 throw new IonException("Nested annotation wrappers are invalid.");
@@ -1225,6 +2167,13 @@ class IonCursorBinary implements IonCursor {
             hasAnnotations = true;
             return uncheckedReadHeader(buffer[(int)(peekIndex++)] & SINGLE_BYTE_MASK, true, valueMarker);
         } else {
+            if (valueTid.isNull && valueTid.length > 0) {
+                // Ion 1.1 typed null; the type is given by the byte that follows.
+                if (peekIndex >= limit) {
+                    throw new IonException("Malformed data: declared length exceeds the number of bytes remaining in the stream.");
+                }
+                valueTid = typedNullTypeId_1_1(buffer[(int)(peekIndex++)] & SINGLE_BYTE_MASK);
+            }
             long endIndex = minorVersion == 0
                 ? calculateEndIndex_1_0(valueTid, isAnnotated)
                 : calculateEndIndex_1_1(valueTid, isAnnotated);
@@ -1261,7 +2210,7 @@ class IonCursorBinary implements IonCursor {
     private boolean slowReadHeader(final int typeIdByte, final boolean isAnnotated, final Marker markerToSet) {
         IonTypeID valueTid = typeIds[typeIdByte];
         if (!valueTid.isValid) {
-            throw new IonException("Invalid type ID.");
+            throw invalidTypeId(valueTid);
         } else if (valueTid.type == IonTypeID.ION_TYPE_ANNOTATION_WRAPPER) {
             if (isAnnotated) {
                 throw new IonException("Nested annotation wrappers are invalid.");
@@ -1271,13 +2220,23 @@ class IonCursorBinary implements IonCursor {
                 return true;
             }
             setCheckpoint(CheckpointLocation.BEFORE_ANNOTATED_TYPE_ID);
-        } else if (slowReadValueHeader(valueTid, isAnnotated, markerToSet)) {
-            if (refillableState.isSkippingCurrentValue) {
-                // If the value will be skipped, its type ID must be set so that the core reader can determine
-                // whether it represents a symbol table.
-                markerToSet.typeId = valueTid;
+        } else {
+            if (valueTid.isNull && valueTid.length > 0) {
+                // Ion 1.1 typed null; the type is given by the byte that follows.
+                int typeByte = slowReadByte();
+                if (typeByte < 0) {
+                    return true;
+                }
+                valueTid = typedNullTypeId_1_1(typeByte);
+            }
+            if (slowReadValueHeader(valueTid, isAnnotated, markerToSet)) {
+                if (refillableState.isSkippingCurrentValue) {
+                    // If the value will be skipped, its type ID must be set so that the core reader can determine
+                    // whether it represents a symbol table.
+                    markerToSet.typeId = valueTid;
+                }
+                return true;
             }
-            return true;
         }
         markerToSet.typeId = valueTid;
         if (checkpointLocation == CheckpointLocation.AFTER_SCALAR_HEADER) {
@@ -1308,15 +2267,21 @@ class IonCursorBinary implements IonCursor {
         if (valueTid.isDelimited) {
             endIndex = DELIMITED_MARKER;
         } else if (valueTid.variableLength) {
-            // At this point the value must be at least 2 more bytes: 1 for the smallest-possible value length
-            // and 1 for the smallest-possible value representation.
-            if (!fillAt(peekIndex, 2)) {
+            // At this point the value must be at least 2 more bytes in Ion 1.0: 1 for the smallest-possible value length
+            // and 1 for the smallest-possible value representation. Ion 1.1 length-prefixed values may be empty.
+            if (!fillAt(peekIndex, minorVersion == 0 ? 2 : 1)) {
                 return true;
             }
             valueLength = minorVersion == 0 ? slowReadVarUInt_1_0() : slowReadVarUInt_1_1();
             if (valueLength < 0) {
                 return true;
             }
+        } else if (valueTid.length < 0) {
+            // Ion 1.1 value whose representation is a single self-delimiting FlexInt or FlexUInt.
+            valueLength = slowPeekFlexLength_1_1();
+            if (valueLength < 0) {
+                return true;
+            }
         } else {
             valueLength = valueTid.length;
         }
@@ -1459,9 +2424,7 @@ class IonCursorBinary implements IonCursor {
         }
         // Seek past the remaining bytes at this depth and pop from the stack.
         if (parent.endIndex == DELIMITED_MARKER) {
-            if (skipRemainingDelimitedContainerElements_1_1()) {
-                return event;
-            }
+            skipRemainingDelimitedContainerElements_1_1();
         } else {
             peekIndex = parent.endIndex;
         }
@@ -1532,13 +2495,16 @@ class IonCursorBinary implements IonCursor {
      */
     private boolean uncheckedNextContainedToken() {
         if (parent.endIndex == DELIMITED_MARKER) {
-            return uncheckedIsDelimitedEnd_1_1();
+            if (uncheckedIsDelimitedEnd_1_1()) {
+                return true;
+            }
         } else if (parent.endIndex == peekIndex) {
             event = Event.END_CONTAINER;
             return true;
         } else if (parent.endIndex < peekIndex) {
             throw new IonException("Contained values overflowed the parent container length.");
-        } else if (parent.typeId.type == IonType.STRUCT) {
+        }
+        if (parent.typeId.type == IonType.STRUCT) {
             if (minorVersion == 0) {
                 byte b = buffer[(int) peekIndex++];
                 if (b < 0) {
@@ -1581,8 +2547,13 @@ class IonCursorBinary implements IonCursor {
         }
         if (peekIndex >= limit) {
             setCheckpointBeforeUnannotatedTypeId();
-            if (parent != null && parent.endIndex == peekIndex) {
-                event = Event.END_CONTAINER;
+            if (parent != null) {
+                if (parent.endIndex == peekIndex) {
+                    event = Event.END_CONTAINER;
+                } else if (parent.endIndex == DELIMITED_MARKER) {
+                    // The delimited container's end marker has not been reached.
+                    isValueIncomplete = true;
+                }
             }
             return false;
         }
@@ -1683,11 +2654,12 @@ class IonCursorBinary implements IonCursor {
      */
     private boolean slowSkipRemainingValueBytes() {
         if (valueMarker.endIndex == DELIMITED_MARKER && valueTid != null && valueTid.isDelimited) {
-            seekPastDelimitedContainer_1_1();
-            if (event == Event.NEEDS_DATA) {
+            if (slowSeekPastDelimitedContainer_1_1()) {
                 return true;
             }
-        } else if (limit >= valueMarker.endIndex) {
+        }
+        refillableState.isDelimitedValueSkipped = false;
+        if (limit >= valueMarker.endIndex) {
             offset = valueMarker.endIndex;
         } else if (slowSeek(valueMarker.endIndex - offset)) {
             return true;
@@ -1725,6 +2697,9 @@ class IonCursorBinary implements IonCursor {
     private void seekPastOversizedValue() {
         refillableState.oversizedValueHandler.onOversizedValue();
         if (refillableState.state != State.TERMINATED) {
+            if (metricsListener != null) {
+                metricsListener.onOversizedValueSkipped(valueMarker.endIndex - valuePreHeaderIndex);
+            }
             slowSeek(valueMarker.endIndex - offset - refillableState.individualBytesSkippedWithoutBuffering);
             refillableState.totalDiscardedBytes += refillableState.individualBytesSkippedWithoutBuffering;
             peekIndex = offset;
@@ -1762,9 +2737,15 @@ class IonCursorBinary implements IonCursor {
             peekIndex = valueMarker.endIndex;
             setCheckpointBeforeUnannotatedTypeId();
             slowNextToken();
-            return event;
+        } else {
+            slowOverflowableNextToken();
+        }
+        if (containerIndex < 0
+            && configuration.getShrinkAfterValues() > 0
+            && (event == Event.START_SCALAR || event == Event.START_CONTAINER)) {
+            recordTopLevelValueSize();
         }
-        return slowOverflowableNextToken();
+        return event;
     }
 
     @Override
@@ -1799,6 +2780,14 @@ class IonCursorBinary implements IonCursor {
                 return event;
             }
         }
+        if (refillableState.isDelimitedValueSkipped) {
+            // The delimited container was oversized, so it was skipped instead of filled.
+            refillableState.isDelimitedValueSkipped = false;
+            peekIndex = offset;
+            setCheckpointBeforeUnannotatedTypeId();
+            event = Event.NEEDS_INSTRUCTION;
+            return event;
+        }
         if (limit >= valueMarker.endIndex || fillAt(peekIndex, valueMarker.endIndex - valueMarker.startIndex)) {
             if (refillableState.isSkippingCurrentValue) {
                 event = Event.NEEDS_INSTRUCTION;
@@ -1835,6 +2824,23 @@ class IonCursorBinary implements IonCursor {
         return valueMarker;
     }
 
+    /**
+     * Gets the index of the first byte after the current value. If the current value is an Ion 1.1 delimited container
+     * whose end has not yet been found, the end is found and recorded first; this must only be called when it is known
+     * that the buffer already contains all the bytes in the value.
+     * @return the index.
+     */
+    long getValueEndIndex() {
+        if (valueMarker.endIndex == DELIMITED_MARKER && valueTid != null && valueTid.isDelimited) {
+            long endIndex = uncheckedFindDelimitedEnd_1_1(valueMarker.startIndex, valueTid.type == IonType.STRUCT);
+            if (endIndex < 0) {
+                throw new IonException("Malformed data: delimited container end marker not found.");
+            }
+            valueMarker.endIndex = endIndex;
+        }
+        return valueMarker.endIndex;
+    }
+
     /**
      * Slices the buffer using the given offset and limit. Slices are treated as if they were at the top level. This
      * can be used to seek the reader to a "span" of bytes that represent a value in the stream.
@@ -1856,8 +2862,11 @@ class IonCursorBinary implements IonCursor {
             typeIds = IonTypeID.TYPE_IDS_1_0;
             majorVersion = 1;
             minorVersion = 0;
+        } else if (ION_1_1.equals(ionVersionId)) {
+            typeIds = IonTypeID.TYPE_IDS_1_1;
+            majorVersion = 1;
+            minorVersion = 1;
         } else {
-            // TODO changes are needed here to support Ion 1.1.
             throw new IonException(String.format("Attempted to seek using an unsupported Ion version %s.", ionVersionId));
         }
     }
@@ -1873,17 +2882,78 @@ class IonCursorBinary implements IonCursor {
         return refillableState == null;
     }
 
+    /**
+     * Prepares to read the remaining values in the current list or s-expression directly from the buffer, bypassing
+     * nextValue(). This is possible only when the container is length-prefixed and fully buffered, and when no data
+     * handler needs to be notified of consumed bytes. If possible, the values may be read up to `parent.endIndex`.
+     * @return the index of the first byte after the current value, if any, or -1 if the values must instead be read
+     *  using nextValue().
+     */
+    long prepareToReadContainedValuesDirectly() {
+        if (isSlowMode
+            || dataHandler != null
+            || parent == null
+            || parent.endIndex == DELIMITED_MARKER
+            || parent.endIndex > limit
+            || parent.typeId.type == IonType.STRUCT
+            || (valueTid != null && valueTid.isDelimited)) {
+            return -1;
+        }
+        return Math.max(peekIndex, valueMarker.endIndex);
+    }
+
+    /**
+     * Completes a read started by {@link #prepareToReadContainedValuesDirectly()}, leaving the cursor positioned
+     * before the given index.
+     * @param nextValueIndex the index of the first byte of the next value to be returned by nextValue().
+     */
+    void finishReadingContainedValuesDirectly(long nextValueIndex) {
+        reset();
+        valueTid = null;
+        peekIndex = nextValueIndex;
+        valuePreHeaderIndex = nextValueIndex;
+        event = Event.NEEDS_DATA;
+    }
+
+    /**
+     * @return the stream from which the cursor reads, or null if the cursor is byte-backed.
+     */
+    InputStream getInputStream() {
+        return refillableState == null ? null : refillableState.inputStream;
+    }
+
     public void registerIvmNotificationConsumer(IvmNotificationConsumer ivmConsumer) {
         this.ivmConsumer = ivmConsumer;
     }
 
     void registerOversizedValueHandler(BufferConfiguration.OversizedValueHandler oversizedValueHandler) {
+        // Retained so that it can be re-registered if the cursor is reset to read from a stream.
+        this.oversizedValueHandler = oversizedValueHandler;
         // Non-refillable streams cannot overflow.
         if (refillableState != null) {
             refillableState.oversizedValueHandler = oversizedValueHandler;
         }
     }
 
+    /**
+     * Registers a listener to be notified of the work performed by the cursor, including the data it consumes.
+     * @param metricsListener the listener, or null to disable notifications.
+     */
+    void registerMetricsListener(IonReaderMetricsListener metricsListener) {
+        this.metricsListener = metricsListener;
+        if (metricsListener != null) {
+            BufferConfiguration.DataHandler configuredDataHandler = dataHandler;
+            if (configuredDataHandler == null) {
+                dataHandler = metricsListener::onBytesConsumed;
+            } else {
+                dataHandler = numberOfBytes -> {
+                    configuredDataHandler.onData(numberOfBytes);
+                    metricsListener.onBytesConsumed(numberOfBytes);
+                };
+            }
+        }
+    }
+
     @Override
     public Event endStream() {
         if (isValueIncomplete || isAwaitingMoreData()) {
@@ -1911,10 +2981,148 @@ class IonCursorBinary implements IonCursor {
         return refillableState.state != State.TERMINATED
             && (refillableState.state == State.SEEK
             || refillableState.state == State.SEEK_DELIMITED
+            || refillableState.state == State.FILL_DELIMITED
             || refillableState.bytesRequested > 1
             || peekIndex > checkpoint);
     }
 
+    /**
+     * Resets the state that describes the cursor's position in the stream to the state of a newly-constructed cursor
+     * whose first byte of data is at the given index. Retains the container stack and any other storage for reuse.
+     * @param startIndex the index of the first byte of data.
+     */
+    private void resetPosition(long startIndex) {
+        if (containerStack == null) {
+            throw new IllegalStateException("Cannot reset a closed reader.");
+        }
+        containerIndex = -1;
+        parent = null;
+        annotationSequenceMarker.typeId = null;
+        annotationSequenceMarker.startIndex = -1;
+        annotationSequenceMarker.endIndex = -1;
+        hasAnnotations = false;
+        valueMarker.typeId = null;
+        valueMarker.startIndex = -1;
+        valueMarker.endIndex = -1;
+        valuePreHeaderIndex = startIndex;
+        valueTid = null;
+        event = Event.NEEDS_DATA;
+        majorVersion = -1;
+        minorVersion = 0;
+        fieldSid = -1;
+        fieldTextMarker.startIndex = -1;
+        fieldTextMarker.endIndex = -1;
+        checkpoint = startIndex;
+        peekIndex = startIndex;
+        typeIds = IonTypeID.TYPE_IDS_NO_IVM;
+        checkpointLocation = CheckpointLocation.BEFORE_UNANNOTATED_TYPE_ID;
+        isValueIncomplete = false;
+        lastReportedByteTotal = 0;
+    }
+
+    /**
+     * Closes the input stream from which the cursor is currently reading, if any.
+     */
+    private void closeInputStream() {
+        if (refillableState != null && refillableState.inputStream != null) {
+            try {
+                refillableState.inputStream.close();
+            } catch (IOException e) {
+                throwAsIonException(e);
+            }
+        }
+    }
+
+    /**
+     * Resets the cursor to read the given bytes, as if it had been newly constructed from them. Any input stream
+     * from which the cursor was previously reading is closed.
+     * @param bytes the byte array containing the bytes to read.
+     * @param offset the offset into the byte array at which the first byte of Ion data begins.
+     * @param length the number of bytes to be read from the byte array.
+     */
+    void reset(byte[] bytes, int offset, int length) {
+        resetPosition(offset);
+        closeInputStream();
+        releasePooledBuffer();
+        if (byteBuffer == null || buffer != bytes) {
+            byteBuffer = ByteBuffer.wrap(bytes, offset, length);
+        }
+        buffer = bytes;
+        startOffset = offset;
+        this.offset = offset;
+        limit = offset + length;
+        isSlowMode = false;
+        refillableState = null;
+        resetReaderState();
+    }
+
+    /**
+     * Resets the cursor to read from the given input stream, as if it had been newly constructed from it. Any input
+     * stream from which the cursor was previously reading is closed. If the cursor was previously reading from an
+     * input stream, its internal buffer is reused when possible.
+     * @param inputStream the stream to read.
+     * @param alreadyRead the byte array containing the bytes already read (often the IVM).
+     * @param alreadyReadOff the offset into `alreadyRead` at which the first byte that was already read exists.
+     * @param alreadyReadLen the number of bytes already read from `alreadyRead`.
+     */
+    void reset(InputStream inputStream, byte[] alreadyRead, int alreadyReadOff, int alreadyReadLen) {
+        resetPosition(0);
+        IonBufferConfiguration configuration = this.configuration;
+        if (configuration == IonBufferConfiguration.DEFAULT
+            && (inputStream instanceof ByteArrayInputStream || inputStream instanceof ByteBufferInputStream)) {
+            configuration = getFixedSizeConfigurationFor(inputStream, alreadyReadLen);
+        }
+        boolean isBufferOwned = refillableState != null && refillableState != TERMINATED_STATE;
+        closeInputStream();
+        releasePooledBuffer();
+        int capacity = configuration.getInitialBufferSize();
+        if (isBufferOwned && buffer != null && buffer.length >= capacity && buffer.length <= configuration.getMaximumBufferSize()) {
+            // Reuse the existing buffer, which may have grown beyond the initial size.
+            capacity = buffer.length;
+        } else {
+            buffer = new byte[capacity];
+            byteBuffer = ByteBuffer.wrap(buffer, 0, capacity);
+        }
+        startOffset = 0;
+        offset = 0;
+        limit = 0;
+        if (alreadyReadLen > 0) {
+            System.arraycopy(alreadyRead, alreadyReadOff, buffer, 0, alreadyReadLen);
+            limit = alreadyReadLen;
+        }
+        isSlowMode = true;
+        refillableState = new RefillableState(
+            inputStream,
+            capacity,
+            configuration.getMaximumBufferSize(),
+            State.READY
+        );
+        refillableState.initialCapacity = configuration.getInitialBufferSize();
+        refillableState.oversizedValueHandler = oversizedValueHandler;
+        resetReaderState();
+    }
+
+    /**
+     * Returns the buffer to the configured IonBufferPool if it was borrowed from the pool. After this method returns,
+     * `buffer` is null if it was returned.
+     */
+    private void releasePooledBuffer() {
+        if (isBufferPooled) {
+            configuration.getBufferPool().release(buffer);
+            buffer = null;
+            byteBuffer = null;
+            isBufferPooled = false;
+        }
+    }
+
+    /**
+     * Called after the cursor is reset to read new data. Subclasses that hold state derived from the data must
+     * override this method to restore that state to the state of a newly-constructed instance.
+     */
+    void resetReaderState() {
+        // Nothing to do; the cursor's own state has already been reset.
+    }
+
     /**
      * Terminates the cursor. Called when a non-recoverable event occurs, like encountering a symbol table that
      * exceeds the maximum buffer size.
@@ -1928,13 +3136,8 @@ class IonCursorBinary implements IonCursor {
 
     @Override
     public void close() {
-        if (refillableState != null && refillableState.inputStream != null) {
-            try {
-                refillableState.inputStream.close();
-            } catch (IOException e) {
-                throwAsIonException(e);
-            }
-        }
+        closeInputStream();
+        releasePooledBuffer();
         buffer = null;
         containerStack = null;
         byteBuffer = null;
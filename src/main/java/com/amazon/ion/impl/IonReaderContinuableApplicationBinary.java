@@ -2,6 +2,7 @@
 // SPDX-License-Identifier: Apache-2.0
 package com.amazon.ion.impl;
 
+import com.amazon.ion.BufferConfiguration;
 import com.amazon.ion.IonCatalog;
 import com.amazon.ion.IonException;
 import com.amazon.ion.IonReader;
@@ -13,6 +14,7 @@ import com.amazon.ion.SymbolTable;
 import com.amazon.ion.SymbolToken;
 import com.amazon.ion.SystemSymbols;
 import com.amazon.ion.UnknownSymbolException;
+import com.amazon.ion.Utf8TextProvider;
 import com.amazon.ion.ValueFactory;
 import com.amazon.ion.impl.bin.IntList;
 import com.amazon.ion.system.IonReaderBuilder;
@@ -20,6 +22,7 @@ import com.amazon.ion.system.SimpleCatalog;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -93,6 +96,21 @@ class IonReaderContinuableApplicationBinary extends IonReaderContinuableCoreBina
     // The reusable annotation iterator.
     private final AnnotationSequenceIterator annotationIterator = new AnnotationSequenceIterator();
 
+    // Selects the values nested within top-level containers that are surfaced, or null if all values are surfaced.
+    private final FieldPathProjection projection;
+
+    // Resolves field name symbol IDs for the projection without throwing for out-of-range symbol IDs.
+    private final FieldPathProjection.SymbolResolver projectionSymbolResolver = this::findSymbol;
+
+    // Read-only UTF-8 encodings of symbol text, indexed by symbol ID. Lazily populated by the Utf8TextProvider facet
+    // and cleared whenever the symbol table changes.
+    private ByteBuffer[] utf8Symbols = null;
+
+    // A read-only view of the cursor's buffer that exposes inline UTF-8 text, and the buffer it views. The view is
+    // recreated only when the cursor replaces its buffer.
+    private ByteBuffer utf8BufferView = null;
+    private byte[] utf8BufferViewSource = null;
+
     // ------
 
     /**
@@ -105,6 +123,7 @@ class IonReaderContinuableApplicationBinary extends IonReaderContinuableCoreBina
     IonReaderContinuableApplicationBinary(IonReaderBuilder builder, byte[] bytes, int offset, int length) {
         super(builder.getBufferConfiguration(), bytes, offset, length);
         this.catalog = builder.getCatalog() == null ? EMPTY_CATALOG : builder.getCatalog();
+        this.projection = createProjection(builder);
         symbols = new String[SYMBOLS_LIST_INITIAL_CAPACITY];
         symbolTableReader = new SymbolTableReader();
         resetImports();
@@ -114,6 +133,10 @@ class IonReaderContinuableApplicationBinary extends IonReaderContinuableCoreBina
             resetSymbolTable();
             resetImports();
         });
+        // Byte-backed readers cannot overflow, but the handler is retained in case the reader is reset to read from a
+        // stream.
+        registerOversizedValueHandler(createOversizedValueHandler(builder));
+        registerMetricsListener(builder.getMetricsListener());
     }
 
     /**
@@ -126,6 +149,7 @@ class IonReaderContinuableApplicationBinary extends IonReaderContinuableCoreBina
     IonReaderContinuableApplicationBinary(final IonReaderBuilder builder, final InputStream inputStream, byte[] alreadyRead, int alreadyReadOff, int alreadyReadLen) {
         super(builder.getBufferConfiguration(), inputStream, alreadyRead, alreadyReadOff, alreadyReadLen);
         this.catalog = builder.getCatalog() == null ? EMPTY_CATALOG : builder.getCatalog();
+        this.projection = createProjection(builder);
         symbols = new String[SYMBOLS_LIST_INITIAL_CAPACITY];
         symbolTableReader = new SymbolTableReader();
         resetImports();
@@ -135,35 +159,54 @@ class IonReaderContinuableApplicationBinary extends IonReaderContinuableCoreBina
             resetSymbolTable();
             resetImports();
         });
-        registerOversizedValueHandler(
-            () -> {
-                boolean mightBeSymbolTable = true;
-                if (state == State.READING_VALUE) {
-                    // The reader is not currently processing a symbol table.
-                    if (parent != null || !hasAnnotations) {
-                        // Only top-level annotated values can be symbol tables.
+        registerOversizedValueHandler(createOversizedValueHandler(builder));
+        registerMetricsListener(builder.getMetricsListener());
+    }
+
+    /**
+     * Creates the handler that is notified when a value exceeds the maximum buffer size. The handler distinguishes
+     * values that may be symbol tables, which cannot be skipped, from other values.
+     * @param builder the builder containing the configuration for the reader.
+     * @return a new handler.
+     */
+    private BufferConfiguration.OversizedValueHandler createOversizedValueHandler(IonReaderBuilder builder) {
+        return () -> {
+            boolean mightBeSymbolTable = true;
+            if (state == State.READING_VALUE) {
+                // The reader is not currently processing a symbol table.
+                if (parent != null || !hasAnnotations) {
+                    // Only top-level annotated values can be symbol tables.
+                    mightBeSymbolTable = false;
+                } else if (annotationSequenceMarker.startIndex >= 0 && annotationSequenceMarker.endIndex <= limit) {
+                    // The annotations on the value are available.
+                    if (startsWithIonSymbolTable()) {
+                        // The first annotation on the value is $ion_symbol_table. It may be a symbol table if
+                        // its type is not yet known (null); it is definitely a symbol table if its type is STRUCT.
+                        IonType type = super.getType();
+                        mightBeSymbolTable = type == null || type == IonType.STRUCT;
+                    } else {
+                        // The first annotation on the value is not $ion_symbol_table, so it cannot be a symbol table.
                         mightBeSymbolTable = false;
-                    } else if (annotationSequenceMarker.startIndex >= 0 && annotationSequenceMarker.endIndex <= limit) {
-                        // The annotations on the value are available.
-                        if (startsWithIonSymbolTable()) {
-                            // The first annotation on the value is $ion_symbol_table. It may be a symbol table if
-                            // its type is not yet known (null); it is definitely a symbol table if its type is STRUCT.
-                            IonType type = super.getType();
-                            mightBeSymbolTable = type == null || type == IonType.STRUCT;
-                        } else {
-                            // The first annotation on the value is not $ion_symbol_table, so it cannot be a symbol table.
-                            mightBeSymbolTable = false;
-                        }
                     }
                 }
-                if (mightBeSymbolTable) {
-                    builder.getBufferConfiguration().getOversizedSymbolTableHandler().onOversizedSymbolTable();
-                    terminate();
-                } else {
-                    builder.getBufferConfiguration().getOversizedValueHandler().onOversizedValue();
-                }
             }
-        );
+            if (mightBeSymbolTable) {
+                builder.getBufferConfiguration().getOversizedSymbolTableHandler().onOversizedSymbolTable();
+                terminate();
+            } else {
+                builder.getBufferConfiguration().getOversizedValueHandler().onOversizedValue();
+            }
+        };
+    }
+
+    /**
+     * Creates the field path projection configured by the given builder, if any.
+     * @param builder the builder.
+     * @return a new FieldPathProjection, or null if the builder does not configure one.
+     */
+    private static FieldPathProjection createProjection(IonReaderBuilder builder) {
+        List<String> fieldPaths = builder.getProjectedFieldPaths();
+        return fieldPaths == null ? null : new FieldPathProjection(fieldPaths);
     }
 
     /**
@@ -188,11 +231,7 @@ class IonReaderContinuableApplicationBinary extends IonReaderContinuableCoreBina
 
         @Override
         public String next() {
-            int sid = annotationSids.get(index);
-            String annotation = getSymbol(sid);
-            if (annotation == null) {
-                throw new UnknownSymbolException(sid);
-            }
+            String annotation = getAnnotation(annotationSids, index);
             index++;
             return annotation;
         }
@@ -560,6 +599,15 @@ class IonReaderContinuableApplicationBinary extends IonReaderContinuableCoreBina
         }
     }
 
+    @Override
+    void resetReaderState() {
+        super.resetReaderState();
+        state = State.READING_VALUE;
+        symbolTableReader.resetState();
+        resetSymbolTable();
+        resetImports();
+    }
+
     /**
      * Reset the local symbol table to the system symbol table.
      */
@@ -570,6 +618,19 @@ class IonReaderContinuableApplicationBinary extends IonReaderContinuableCoreBina
         localSymbolMaxOffset = -1;
         cachedReadOnlySymbolTable = null;
         lastSupersetSymbolTable = null;
+        onSymbolTableChanged();
+    }
+
+    /**
+     * Invalidates any state derived from the symbol table that was previously in scope.
+     */
+    private void onSymbolTableChanged() {
+        if (projection != null) {
+            projection.onSymbolTableChanged();
+        }
+        if (utf8Symbols != null) {
+            Arrays.fill(utf8Symbols, null);
+        }
     }
 
     /**
@@ -580,6 +641,7 @@ class IonReaderContinuableApplicationBinary extends IonReaderContinuableCoreBina
         // must be added here.
         imports = ION_1_0_IMPORTS;
         firstLocalSymbolId = imports.getMaxId() + 1;
+        onSymbolTableChanged();
     }
 
     /**
@@ -603,6 +665,7 @@ class IonReaderContinuableApplicationBinary extends IonReaderContinuableCoreBina
             localSymbolMaxOffset = snapshot.maxId - firstLocalSymbolId;
             System.arraycopy(snapshot.idToText, 0, symbols, 0, snapshot.idToText.length);
             lastSupersetSymbolTable = null;
+            onSymbolTableChanged();
         } else {
             // Note: this will only happen when `symbolTable` is the system symbol table.
             resetSymbolTable();
@@ -682,6 +745,22 @@ class IonReaderContinuableApplicationBinary extends IonReaderContinuableCoreBina
         return symbols[localSymbolOffset];
     }
 
+    /**
+     * Retrieves the String text for the given symbol ID, if known.
+     * @param sid a symbol ID.
+     * @return a String, or null if the symbol ID has unknown text or is out of range.
+     */
+    private String findSymbol(int sid) {
+        if (sid < firstLocalSymbolId) {
+            return imports.findKnownSymbol(sid);
+        }
+        int localSymbolOffset = sid - firstLocalSymbolId;
+        if (localSymbolOffset > localSymbolMaxOffset) {
+            return null;
+        }
+        return symbols[localSymbolOffset];
+    }
+
     /**
      * Creates a SymbolToken representation of the given symbol ID.
      * @param sid a symbol ID.
@@ -742,6 +821,9 @@ class IonReaderContinuableApplicationBinary extends IonReaderContinuableCoreBina
                 resetSymbolTable();
                 resetImports();
             }
+            if (metricsListener != null) {
+                metricsListener.onLocalSymbolTable(newSymbols == null ? 0 : newSymbols.size(), localSymbolMaxOffset >= 0);
+            }
             if (newSymbols != null) {
                 int numberOfNewSymbols = newSymbols.size();
                 int numberOfAvailableSlots = symbols.length - (localSymbolMaxOffset + 1);
@@ -758,6 +840,7 @@ class IonReaderContinuableApplicationBinary extends IonReaderContinuableCoreBina
             // Note: last superset table is reset even if new symbols were simply appended because there's no
             // guarantee those symbols are reflected in the superset table.
             lastSupersetSymbolTable = null;
+            onSymbolTableChanged();
             state = State.READING_VALUE;
         }
 
@@ -1007,6 +1090,15 @@ class IonReaderContinuableApplicationBinary extends IonReaderContinuableCoreBina
     // The current state.
     private State state = State.READING_VALUE;
 
+    /**
+     * @return true if the reader is in the process of reading a top-level symbol table, in which case the cursor
+     *  may be positioned within the symbol table even though, from the user's perspective, the reader is at the top
+     *  level.
+     */
+    boolean isReadingSymbolTable() {
+        return state != State.READING_VALUE;
+    }
+
     /**
      * @return true if current value has a sequence of annotations that begins with `$ion_symbol_table`; otherwise,
      *  false.
@@ -1051,6 +1143,38 @@ class IonReaderContinuableApplicationBinary extends IonReaderContinuableCoreBina
             }
         } else {
             event = super.nextValue();
+            if (projection != null) {
+                event = skipUnselectedValues(event);
+            }
+        }
+        return event;
+    }
+
+    @Override
+    long prepareToReadContainedValuesDirectly() {
+        // When a projection is in use, values must be filtered by nextValue().
+        return projection == null ? super.prepareToReadContainedValuesDirectly() : -1;
+    }
+
+    /**
+     * Advances past any values that are not selected by the projection. Unselected values are skipped by their
+     * length prefixes without being decoded.
+     * @param event the event that resulted from advancing the cursor to the next value in the current container.
+     * @return the event that resulted from advancing the cursor to the next selected value, if any.
+     */
+    private Event skipUnselectedValues(Event event) {
+        while (event == Event.START_SCALAR || event == Event.START_CONTAINER) {
+            boolean isInStruct = parent.typeId.type == IonType.STRUCT;
+            if (projection.isSelected(
+                containerIndex,
+                isInStruct,
+                fieldSid,
+                isInStruct && fieldSid < 0 ? getFieldText() : null,
+                projectionSymbolResolver
+            )) {
+                break;
+            }
+            event = super.nextValue();
         }
         return event;
     }
@@ -1074,6 +1198,9 @@ class IonReaderContinuableApplicationBinary extends IonReaderContinuableCoreBina
         if (type == IonType.STRING) {
             value = super.stringValue();
         } else if (type == IonType.SYMBOL) {
+            if (hasInlineSymbolText()) {
+                return super.stringValue();
+            }
             int sid = symbolValueId();
             if (sid < 0) {
                 // The raw reader uses this to denote null.symbol.
@@ -1091,6 +1218,9 @@ class IonReaderContinuableApplicationBinary extends IonReaderContinuableCoreBina
 
     @Override
     public SymbolToken symbolValue() {
+        if (hasInlineSymbolText()) {
+            return new SymbolTokenImpl(super.stringValue(), -1);
+        }
         int sid = symbolValueId();
         if (sid < 0) {
             // The raw reader uses this to denote null.symbol.
@@ -1107,15 +1237,31 @@ class IonReaderContinuableApplicationBinary extends IonReaderContinuableCoreBina
         IntList annotationSids = getAnnotationSidList();
         String[] annotationArray = new String[annotationSids.size()];
         for (int i = 0; i < annotationArray.length; i++) {
-            String symbol = getSymbol(annotationSids.get(i));
-            if (symbol == null) {
-                throw new UnknownSymbolException(annotationSids.get(i));
-            }
-            annotationArray[i] = symbol;
+            annotationArray[i] = getAnnotation(annotationSids, i);
         }
         return annotationArray;
     }
 
+    /**
+     * Gets the text of the annotation at the given index.
+     * @param annotationSids the annotation symbol IDs for the current value.
+     * @param index the index of the annotation.
+     * @return the text.
+     * @throws UnknownSymbolException if the annotation's text is not known.
+     */
+    private String getAnnotation(IntList annotationSids, int index) {
+        int sid = annotationSids.get(index);
+        if (sid < 0) {
+            // Ion 1.1 inline text.
+            return getAnnotationText(index);
+        }
+        String symbol = getSymbol(sid);
+        if (symbol == null) {
+            throw new UnknownSymbolException(sid);
+        }
+        return symbol;
+    }
+
     @Override
     public SymbolToken[] getTypeAnnotationSymbols() {
         if (!hasAnnotations) {
@@ -1124,7 +1270,8 @@ class IonReaderContinuableApplicationBinary extends IonReaderContinuableCoreBina
         IntList annotationSids = getAnnotationSidList();
         SymbolToken[] annotationArray = new SymbolToken[annotationSids.size()];
         for (int i = 0; i < annotationArray.length; i++) {
-            annotationArray[i] = getSymbolToken(annotationSids.get(i));
+            int sid = annotationSids.get(i);
+            annotationArray[i] = sid < 0 ? new SymbolTokenImpl(getAnnotationText(i), -1) : getSymbolToken(sid);
         }
         return annotationArray;
     }
@@ -1159,7 +1306,7 @@ class IonReaderContinuableApplicationBinary extends IonReaderContinuableCoreBina
     @Override
     public String getFieldName() {
         if (fieldSid < 0) {
-            return null;
+            return getFieldText();
         }
         String fieldName = getSymbol(fieldSid);
         if (fieldName == null) {
@@ -1171,9 +1318,175 @@ class IonReaderContinuableApplicationBinary extends IonReaderContinuableCoreBina
     @Override
     public SymbolToken getFieldNameSymbol() {
         if (fieldSid < 0) {
-            return null;
+            String text = getFieldText();
+            return text == null ? null : new SymbolTokenImpl(text, -1);
         }
         return getSymbolToken(fieldSid);
     }
 
+
+    // Returned by prepareTextValue() when the current value's text is encoded inline.
+    private static final int INLINE_TEXT = -1;
+
+    // Returned by prepareTextValue() when the current value is null.
+    private static final int NULL_TEXT = -2;
+
+    /**
+     * Prepares the text of the current string or symbol value to be accessed.
+     * @return INLINE_TEXT if the text is encoded inline between the value marker's indices; NULL_TEXT if the value is
+     *  null; otherwise, the symbol ID of the symbol value.
+     */
+    private int prepareTextValue() {
+        IonType type = super.getType();
+        if (type == IonType.STRING || (type == IonType.SYMBOL && hasInlineSymbolText())) {
+            if (valueTid.isNull) {
+                return NULL_TEXT;
+            }
+            prepareScalar();
+            return INLINE_TEXT;
+        }
+        if (type == IonType.SYMBOL) {
+            int sid = symbolValueId();
+            // The raw reader uses a negative symbol ID to denote null.symbol.
+            return sid < 0 ? NULL_TEXT : sid;
+        }
+        throw new IllegalStateException("Invalid type requested.");
+    }
+
+    /**
+     * Gets the UTF-8 encoding of the given symbol's text, encoding it at most once per symbol table.
+     * @param sid a symbol ID.
+     * @return a read-only buffer whose position and limit bound the UTF-8 bytes.
+     * @throws UnknownSymbolException if the symbol's text is unknown.
+     */
+    private ByteBuffer getUtf8Symbol(int sid) {
+        if (utf8Symbols == null || sid >= utf8Symbols.length) {
+            int newSize = Math.max(sid + 1, utf8Symbols == null ? 32 : utf8Symbols.length * 2);
+            utf8Symbols = utf8Symbols == null ? new ByteBuffer[newSize] : Arrays.copyOf(utf8Symbols, newSize);
+        }
+        ByteBuffer utf8 = utf8Symbols[sid];
+        if (utf8 == null) {
+            String text = getSymbol(sid);
+            if (text == null) {
+                throw new UnknownSymbolException(sid);
+            }
+            utf8 = ByteBuffer.wrap(text.getBytes(StandardCharsets.UTF_8)).asReadOnlyBuffer();
+            utf8Symbols[sid] = utf8;
+        }
+        utf8.clear();
+        return utf8;
+    }
+
+    /**
+     * Provides a read-only view of the cursor's buffer between the given indices.
+     * @param startIndex the index of the first byte.
+     * @param endIndex the index of the first byte after the end of the view.
+     * @return the view, whose position and limit are set to the given indices.
+     */
+    private ByteBuffer viewBuffer(long startIndex, long endIndex) {
+        if (utf8BufferViewSource != buffer) {
+            utf8BufferViewSource = buffer;
+            utf8BufferView = ByteBuffer.wrap(buffer).asReadOnlyBuffer();
+        }
+        utf8BufferView.limit(buffer.length);
+        utf8BufferView.position((int) startIndex);
+        utf8BufferView.limit((int) endIndex);
+        return utf8BufferView;
+    }
+
+    /**
+     * @param utf8 a read-only buffer whose position and limit bound some UTF-8 bytes.
+     * @param expected the expected bytes.
+     * @return true if the bytes are identical; otherwise, false.
+     */
+    private static boolean utf8Equals(ByteBuffer utf8, byte[] expected) {
+        int length = utf8.remaining();
+        if (length != expected.length) {
+            return false;
+        }
+        int start = utf8.position();
+        for (int i = 0; i < length; i++) {
+            if (utf8.get(start + i) != expected[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Provides allocation-free access to the current value's text and field name.
+     */
+    class Utf8TextProviderFacet implements Utf8TextProvider {
+
+        @Override
+        public boolean textValueEquals(byte[] utf8) {
+            int sid = prepareTextValue();
+            if (sid == INLINE_TEXT) {
+                return utf8Equals(valueMarker.startIndex, valueMarker.endIndex, utf8);
+            }
+            return sid != NULL_TEXT && utf8Equals(getUtf8Symbol(sid), utf8);
+        }
+
+        @Override
+        public boolean fieldNameEquals(byte[] utf8) {
+            if (fieldSid < 0) {
+                return fieldTextMarker.startIndex >= 0 && utf8Equals(fieldTextMarker.startIndex, fieldTextMarker.endIndex, utf8);
+            }
+            return utf8Equals(getUtf8Symbol(fieldSid), utf8);
+        }
+
+        @Override
+        public boolean appendTextValue(StringBuilder destination) {
+            int sid = prepareTextValue();
+            if (sid == INLINE_TEXT) {
+                readString(valueMarker.startIndex, valueMarker.endIndex, destination);
+            } else if (sid == NULL_TEXT) {
+                return false;
+            } else {
+                String text = getSymbol(sid);
+                if (text == null) {
+                    throw new UnknownSymbolException(sid);
+                }
+                destination.append(text);
+            }
+            return true;
+        }
+
+        @Override
+        public int copyTextValue(char[] destination, int offset) {
+            int sid = prepareTextValue();
+            if (sid == INLINE_TEXT) {
+                return readString(valueMarker.startIndex, valueMarker.endIndex, destination, offset);
+            }
+            if (sid == NULL_TEXT) {
+                return -1;
+            }
+            String text = getSymbol(sid);
+            if (text == null) {
+                throw new UnknownSymbolException(sid);
+            }
+            if (offset < 0 || destination.length - offset < text.length()) {
+                throw new IndexOutOfBoundsException("The destination cannot hold " + text.length() + " chars.");
+            }
+            text.getChars(0, text.length(), destination, offset);
+            return text.length();
+        }
+
+        @Override
+        public ByteBuffer textValueBytes() {
+            int sid = prepareTextValue();
+            if (sid == INLINE_TEXT) {
+                return viewBuffer(valueMarker.startIndex, valueMarker.endIndex);
+            }
+            return sid == NULL_TEXT ? null : getUtf8Symbol(sid);
+        }
+
+        @Override
+        public ByteBuffer fieldNameBytes() {
+            if (fieldSid < 0) {
+                return fieldTextMarker.startIndex < 0 ? null : viewBuffer(fieldTextMarker.startIndex, fieldTextMarker.endIndex);
+            }
+            return getUtf8Symbol(fieldSid);
+        }
+    }
 }
@@ -9,6 +9,7 @@ import com.amazon.ion.IonException;
 import com.amazon.ion.IonType;
 import com.amazon.ion.Timestamp;
 import com.amazon.ion.impl.bin.IntList;
+import com.amazon.ion.impl.bin.Ion_1_1_Constants;
 import com.amazon.ion.impl.bin.utf8.Utf8StringDecoder;
 import com.amazon.ion.impl.bin.utf8.Utf8StringDecoderPool;
 
@@ -64,9 +65,88 @@ class IonReaderContinuableCoreBinary extends IonCursorBinary implements IonReade
     // 32-bit floats must declare length 4.
     private static final int FLOAT_32_BYTE_LENGTH = 4;
 
+    // 16-bit floats must declare length 2.
+    private static final int FLOAT_16_BYTE_LENGTH = 2;
+
     // Initial capacity of the ArrayList used to hold the symbol IDs of the annotations on the current value.
     private static final int ANNOTATIONS_LIST_INITIAL_CAPACITY = 8;
 
+    // In Ion 1.1, the lower nibble of the type ID for boolean true.
+    private static final int BOOLEAN_TRUE_NIBBLE_1_1 = 0xE;
+
+    // In Ion 1.1, the lower nibbles of the type IDs for symbol addresses encoded in one and two bytes.
+    private static final int ONE_BYTE_SYMBOL_ADDRESS_NIBBLE_1_1 = 0x1;
+    private static final int TWO_BYTE_SYMBOL_ADDRESS_NIBBLE_1_1 = 0x2;
+
+    // In Ion 1.1, the escaped FlexSym byte that represents symbol ID zero.
+    private static final int FLEX_SYM_SID_ZERO = 0x60;
+
+    // In Ion 1.1, the escaped FlexSym byte that represents the empty text.
+    private static final int FLEX_SYM_EMPTY_TEXT = 0x90;
+
+    // In Ion 1.1, the lower nibbles of the short-form timestamp type IDs that are significant to parsing.
+    private static final int SHORT_TIMESTAMP_YEAR_NIBBLE = 0x0;
+    private static final int SHORT_TIMESTAMP_MONTH_NIBBLE = 0x1;
+    private static final int SHORT_TIMESTAMP_DAY_NIBBLE = 0x2;
+    private static final int SHORT_TIMESTAMP_MINUTE_NIBBLE = 0x3;
+    private static final int SHORT_TIMESTAMP_SECOND_NIBBLE = 0x4;
+    private static final int SHORT_TIMESTAMP_MINUTE_WITH_OFFSET_NIBBLE = 0x8;
+    private static final int SHORT_TIMESTAMP_SECOND_WITH_OFFSET_NIBBLE = 0x9;
+
+    // Short-form timestamps with an offset store the fields through seconds in this many bytes, followed by the
+    // fractional seconds, if any.
+    private static final int SHORT_TIMESTAMP_WITH_OFFSET_FIELDS_LENGTH = 5;
+
+    // Short-form timestamps store the year as an offset from 1970 in the lowest seven bits.
+    private static final int SHORT_TIMESTAMP_BASE_YEAR = 1970;
+    private static final int SHORT_TIMESTAMP_YEAR_MASK = 0x7F;
+
+    // Short-form timestamps store the local offset as a biased count of 15-minute increments in seven bits.
+    private static final int SHORT_TIMESTAMP_OFFSET_MASK = 0x7F;
+    private static final int SHORT_TIMESTAMP_OFFSET_BIAS = 56;
+    private static final int SHORT_TIMESTAMP_OFFSET_INCREMENT_MINUTES = 15;
+
+    // Long-form timestamps store the year in the lowest 14 bits.
+    private static final int LONG_TIMESTAMP_YEAR_MASK = 0x3FFF;
+
+    // Long-form timestamps store the local offset in minutes, biased by 24 hours.
+    private static final int LONG_TIMESTAMP_OFFSET_BIAS = 24 * 60;
+
+    // The lengths of long-form timestamps of year, day (or month), and minute precision.
+    private static final int LONG_TIMESTAMP_YEAR_LENGTH = 2;
+    private static final int LONG_TIMESTAMP_DAY_LENGTH = 3;
+    private static final int LONG_TIMESTAMP_MINUTE_LENGTH = 6;
+
+    // Long-form timestamps store the fields through seconds in this many bytes, followed by the fractional seconds,
+    // if any.
+    private static final int LONG_TIMESTAMP_FIELDS_LENGTH = 7;
+
+    // Masks for timestamp fields, shared by both Ion 1.1 timestamp forms.
+    private static final int MONTH_MASK = 0xF;
+    private static final int DAY_MASK = 0x1F;
+    private static final int HOUR_MASK = 0x1F;
+    private static final int MINUTE_OR_SECOND_MASK = 0x3F;
+
+    // Powers of ten that fit in a long, indexed by exponent.
+    private static final long[] POWERS_OF_TEN = new long[19];
+    static {
+        POWERS_OF_TEN[0] = 1;
+        for (int i = 1; i < POWERS_OF_TEN.length; i++) {
+            POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+        }
+    }
+
+    // The number of decimal digits of sub-second precision available in a count of nanoseconds.
+    private static final int NANOSECOND_DIGITS = 9;
+
+    private static final long SECONDS_PER_DAY = 24 * 60 * 60;
+    // The number of days between 1970-01-01 and 1582-10-15, the first day of the Gregorian calendar.
+    private static final long GREGORIAN_CUTOVER_EPOCH_DAY = -141427;
+    private static final int SECONDS_PER_HOUR = 60 * 60;
+    private static final int SECONDS_PER_MINUTE = 60;
+    private static final int NANOS_PER_MILLI = 1_000_000;
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
     // Converter between scalar types, allowing, for example, for a value encoded as an Ion float to be returned as a
     // Java `long` via `IonReader.longValue()`.
     private final _Private_ScalarConversions.ValueVariant scalarConverter;
@@ -78,9 +158,27 @@ class IonReaderContinuableCoreBinary extends IonCursorBinary implements IonReade
     // The number of bytes of a lob value that the user has consumed, allowing for piecewise reads.
     private int lobBytesRead = 0;
 
+    // The timestamp most recently decoded by decodeTimestamp(), which allows timestamp values to be provided as
+    // primitives without constructing a Timestamp.
+    private Timestamp.Precision decodedTimestampPrecision = null;
+    private long decodedTimestampEpochSecond = 0;
+    private int decodedTimestampNanos = 0;
+
+    // The decimal most recently decoded by decodeDecimal(), which allows decimal values whose coefficients fit in a
+    // long to be provided as primitives without constructing a BigDecimal.
+    private long decodedDecimalUnscaledValue = 0;
+    private int decodedDecimalScale = 0;
+
     // The symbol IDs for the annotations on the current value.
     private final IntList annotationSids;
 
+    // The inline text of the annotations on the current value, at the same indices as the corresponding entries in
+    // `annotationSids` (Ion 1.1 only). Entries for annotations without inline text are null.
+    private String[] annotationTexts = new String[ANNOTATIONS_LIST_INITIAL_CAPACITY];
+
+    // Marker for the inline text of a FlexSym that is currently being read.
+    private final Marker flexSymTextMarker = new Marker(-1, 0);
+
     /**
      * Constructs a new reader from the given byte array.
      * @param configuration the configuration to use. The buffer size and oversized value configuration are unused, as
@@ -278,6 +376,12 @@ class IonReaderContinuableCoreBinary extends IonCursorBinary implements IonReade
      * @return the value.
      */
     private Decimal readDecimal_1_0() {
+        long startIndex = peekIndex;
+        if (decodeDecimal_1_0()) {
+            // The coefficient fits in a long, so there is no need to copy its bytes to scratch space.
+            return Decimal.valueOf(decodedDecimalUnscaledValue, decodedDecimalScale);
+        }
+        peekIndex = startIndex;
         int scale = -readVarInt_1_0();
         BigInteger coefficient;
         int length = (int) (valueMarker.endIndex - peekIndex);
@@ -286,11 +390,6 @@ class IonReaderContinuableCoreBinary extends IonCursorBinary implements IonReade
             // so copying to scratch space is always required.
             byte[] bits = copyBytesToScratch(peekIndex, length);
             int signum = getAndClearSignBit_1_0(bits);
-            // NOTE: there is a BigInteger.valueOf(long unscaledValue, int scale) factory method that avoids allocating
-            // a BigInteger for coefficients that fit in a long. See its use in readBigDecimal() above. Unfortunately,
-            // it is not possible to use this for Decimal because the necessary BigDecimal constructor is
-            // package-private. If a compatible BigDecimal constructor is added in a future JDK revision, a
-            // corresponding factory method should be added to Decimal to enable this optimization.
             coefficient = new BigInteger(signum, bits);
             if (coefficient.signum() == 0 && signum < 0) {
                 return Decimal.negativeZero(scale);
@@ -302,6 +401,40 @@ class IonReaderContinuableCoreBinary extends IonCursorBinary implements IonReade
         return Decimal.valueOf(coefficient, scale);
     }
 
+    /**
+     * Decodes the Ion 1.0 decimal value that begins at `peekIndex` and ends at `valueMarker.endIndex` into
+     * `decodedDecimalUnscaledValue` and `decodedDecimalScale`.
+     * @return true if the value's coefficient fits in a long and the value is not negative zero; otherwise, false, in
+     *  which case only `decodedDecimalScale` is valid.
+     */
+    private boolean decodeDecimal_1_0() {
+        decodedDecimalScale = -readVarInt_1_0();
+        long magnitude = 0;
+        boolean isNegative = false;
+        if (peekIndex < valueMarker.endIndex) {
+            int firstByte = buffer[(int) (peekIndex++)] & SINGLE_BYTE_MASK;
+            isNegative = (firstByte & HIGHEST_BIT_BITMASK) != 0;
+            magnitude = firstByte & LOWER_SEVEN_BITS_BITMASK;
+            while (peekIndex < valueMarker.endIndex) {
+                if ((magnitude >>> (Long.SIZE - VALUE_BITS_PER_UINT_BYTE)) != 0) {
+                    // The magnitude would overflow 64 bits.
+                    return false;
+                }
+                magnitude = (magnitude << VALUE_BITS_PER_UINT_BYTE) | buffer[(int) (peekIndex++)] & SINGLE_BYTE_MASK;
+            }
+            if (magnitude < 0 && !(isNegative && magnitude == Long.MIN_VALUE)) {
+                // The magnitude requires 64 bits, which only fits in a long when the coefficient is Long.MIN_VALUE.
+                return false;
+            }
+            if (isNegative && magnitude == 0) {
+                // Negative zero cannot be represented by a long coefficient.
+                return false;
+            }
+        }
+        decodedDecimalUnscaledValue = isNegative ? -magnitude : magnitude;
+        return true;
+    }
+
     /**
      * Reads into a long the integer value that begins at `valueMarker.startIndex` and ends at `valueMarker.endIndex`.
      * @return the value.
@@ -421,36 +554,489 @@ class IonReaderContinuableCoreBinary extends IonCursorBinary implements IonReade
         return (buffer[(int) (valueMarker.startIndex)] & SINGLE_BYTE_MASK) <= MOST_SIGNIFICANT_BYTE_OF_MAX_INTEGER;
     }
 
+    /**
+     * Determines the length of the FlexUInt or FlexInt starting at `peekIndex`. The length is one more than the number
+     * of trailing zero bits in the value's little-endian representation.
+     * @return the length.
+     */
+    private int readFlexLength_1_1() {
+        long index = peekIndex;
+        int numberOfZeroBytes = 0;
+        while (true) {
+            if (index >= limit) {
+                throw new IonException("Malformed data: declared length exceeds the number of bytes remaining in the stream.");
+            }
+            int currentByte = buffer[(int) index++] & SINGLE_BYTE_MASK;
+            if (currentByte != 0) {
+                return numberOfZeroBytes * VALUE_BITS_PER_UINT_BYTE + Integer.numberOfTrailingZeros(currentByte) + 1;
+            }
+            numberOfZeroBytes++;
+        }
+    }
+
+    /**
+     * Reads the FlexUInt or FlexInt of the given length starting at `peekIndex`. When this method returns, `peekIndex`
+     * will point at the first byte that follows the value. NOTE: the value must fit in a `long`.
+     * @param length the length of the value, as determined by `readFlexLength_1_1`.
+     * @param isSigned true if the value is a FlexInt; false if it is a FlexUInt.
+     * @return the value.
+     */
+    private long readFlexInteger_1_1(int length, boolean isSigned) {
+        if (peekIndex + length > limit) {
+            throw new IonException("Malformed data: declared length exceeds the number of bytes remaining in the stream.");
+        }
+        if (length > LONG_SIZE_IN_BYTES + 1) {
+            throw new IonException("Found a FlexUInt or FlexInt that was too large to fit in a `long`");
+        }
+        // When the length exceeds 8, the first byte is zero, and the value's bits (along with the remaining length
+        // bits) begin at the second byte.
+        long startIndex = length > LONG_SIZE_IN_BYTES ? peekIndex + 1 : peekIndex;
+        long endIndex = peekIndex + length;
+        long result = isSigned ? readFixedInt_1_1(startIndex, endIndex) : readFixedUInt_1_1(startIndex, endIndex);
+        int shift = length > LONG_SIZE_IN_BYTES ? length - LONG_SIZE_IN_BYTES : length;
+        peekIndex = endIndex;
+        return isSigned ? result >> shift : result >>> shift;
+    }
+
+    /**
+     * Reads the FlexUInt starting at `peekIndex`. When this method returns, `peekIndex` will point at the first byte
+     * that follows the FlexUInt. NOTE: the FlexUInt must fit in an `int`.
+     * @return the value.
+     */
     int readVarUInt_1_1() {
-        throw new UnsupportedOperationException();
+        if (peekIndex < limit) {
+            int firstByte = buffer[(int) peekIndex];
+            if ((firstByte & 1) != 0) {
+                // Single-byte FlexUInt; this is the most common case.
+                peekIndex++;
+                return (firstByte & SINGLE_BYTE_MASK) >>> 1;
+            }
+        }
+        return (int) readFlexInteger_1_1(readFlexLength_1_1(), false);
+    }
+
+    /**
+     * Reads the FlexInt starting at `peekIndex`. When this method returns, `peekIndex` will point at the first byte
+     * that follows the FlexInt. NOTE: the FlexInt must fit in an `int`.
+     * @return the value.
+     */
+    private int readVarInt_1_1() {
+        return (int) readFlexInteger_1_1(readFlexLength_1_1(), true);
     }
 
+    /**
+     * Reads the FlexSym starting at `peekIndex`. When this method returns, `peekIndex` will point at the first byte
+     * that follows the FlexSym, including any inline text.
+     * @param marker the marker to set with the start and end indices of the FlexSym's inline text, if any. When the
+     *               FlexSym does not contain inline text, the marker's startIndex will be set to -1.
+     * @return the symbol ID, or -1 if the FlexSym contains inline text.
+     */
     private int readVarSym_1_1(Marker marker) {
-        throw new UnsupportedOperationException();
+        int value = readVarInt_1_1();
+        if (value > 0) {
+            marker.startIndex = -1;
+            return value;
+        }
+        if (value < 0) {
+            marker.startIndex = peekIndex;
+            marker.endIndex = peekIndex - value;
+            peekIndex = marker.endIndex;
+            return -1;
+        }
+        int escapedByte = buffer[(int) peekIndex++] & SINGLE_BYTE_MASK;
+        if (escapedByte == FLEX_SYM_SID_ZERO) {
+            marker.startIndex = -1;
+            return 0;
+        }
+        if (escapedByte == FLEX_SYM_EMPTY_TEXT) {
+            marker.startIndex = peekIndex;
+            marker.endIndex = peekIndex;
+            return -1;
+        }
+        throw new IonException("Invalid FlexSym escape.");
+    }
+
+    /**
+     * Reads a little-endian, two's complement FixedInt. NOTE: the value must fit in a `long`.
+     * @param startIndex the index of the first byte in the FixedInt.
+     * @param endIndex the index of the first byte after the end of the FixedInt.
+     * @return the value.
+     */
+    private long readFixedInt_1_1(long startIndex, long endIndex) {
+        int length = (int) (endIndex - startIndex);
+        if (length == 0) {
+            return 0;
+        }
+        long result = readFixedUInt_1_1(startIndex, endIndex);
+        // Sign-extend the most significant byte.
+        int unusedBits = Long.SIZE - length * VALUE_BITS_PER_UINT_BYTE;
+        return (result << unusedBits) >> unusedBits;
     }
 
+    /**
+     * Reads a little-endian FixedUInt. NOTE: the value must fit in a `long`.
+     * @param startIndex the index of the first byte in the FixedUInt.
+     * @param endIndex the index of the first byte after the end of the FixedUInt.
+     * @return the value.
+     */
+    private long readFixedUInt_1_1(long startIndex, long endIndex) {
+        long result = 0;
+        for (long i = endIndex - 1; i >= startIndex; i--) {
+            result = (result << VALUE_BITS_PER_UINT_BYTE) | buffer[(int) i] & SINGLE_BYTE_MASK;
+        }
+        return result;
+    }
+
+    /**
+     * Reads a little-endian, two's complement FixedInt of any size into a BigInteger.
+     * @param startIndex the index of the first byte in the FixedInt.
+     * @param endIndex the index of the first byte after the end of the FixedInt.
+     * @return the value.
+     */
+    private BigInteger readFixedIntAsBigInteger_1_1(long startIndex, long endIndex) {
+        return readFixedIntAsBigInteger_1_1(startIndex, endIndex, true);
+    }
+
+    /**
+     * Reads the FixedInt or FixedUInt that begins at `startIndex` and ends at `endIndex` into a BigInteger.
+     * @param startIndex the index of the first byte.
+     * @param endIndex the index after the last byte.
+     * @param isSigned true if the value is a FixedInt; false if it is a FixedUInt.
+     * @return the value.
+     */
+    private BigInteger readFixedIntAsBigInteger_1_1(long startIndex, long endIndex, boolean isSigned) {
+        int length = (int) (endIndex - startIndex);
+        if (length == 0) {
+            return BigInteger.ZERO;
+        }
+        // NOTE: unfortunately, there is no BigInteger(int signum, byte[] bits, int offset, int length) constructor
+        // until JDK 9, so copying to scratch space is always required. The BigInteger constructor requires
+        // big-endian bytes, so the bytes are reversed during the copy.
+        byte[] bytes = copyBytesToScratch(startIndex, length);
+        for (int i = 0, j = length - 1; i < j; i++, j--) {
+            byte swap = bytes[i];
+            bytes[i] = bytes[j];
+            bytes[j] = swap;
+        }
+        return isSigned ? new BigInteger(bytes) : new BigInteger(1, bytes);
+    }
+
+    /**
+     * @return true if the current value is an Ion 1.1 decimal encoded with a positive zero coefficient, which is
+     *  followed only by a FlexInt exponent.
+     */
+    private boolean isPositiveZeroDecimal_1_1() {
+        return valueTid.length < 0 && !valueTid.variableLength;
+    }
+
+    /**
+     * Reads into a BigDecimal the decimal value that begins at `peekIndex` and ends at `valueMarker.endIndex`.
+     * @return the value.
+     */
     private BigDecimal readBigDecimal_1_1() {
-        throw new UnsupportedOperationException();
+        if (isPositiveZeroDecimal_1_1()) {
+            return BigDecimal.valueOf(0, -readVarInt_1_1());
+        }
+        int coefficientLength = readFlexLength_1_1();
+        long exponentStartIndex = peekIndex + coefficientLength;
+        int scale = (int) -readFixedInt_1_1(exponentStartIndex, valueMarker.endIndex);
+        if (coefficientLength <= LONG_SIZE_IN_BYTES) {
+            // No need to allocate a BigInteger to hold the coefficient.
+            return BigDecimal.valueOf(readFlexInteger_1_1(coefficientLength, true), scale);
+        }
+        // The coefficient may overflow a long, so a BigInteger is required.
+        return new BigDecimal(readFlexIntAsBigInteger_1_1(coefficientLength), scale);
     }
 
+    /**
+     * Reads into a Decimal the decimal value that begins at `peekIndex` and ends at `valueMarker.endIndex`.
+     * @return the value.
+     */
     private Decimal readDecimal_1_1() {
-        throw new UnsupportedOperationException();
+        long startIndex = peekIndex;
+        if (decodeDecimal_1_1()) {
+            // The coefficient fits in a long, so there is no need to copy its bytes to scratch space.
+            return Decimal.valueOf(decodedDecimalUnscaledValue, decodedDecimalScale);
+        }
+        peekIndex = startIndex;
+        int coefficientLength = readFlexLength_1_1();
+        long exponentStartIndex = peekIndex + coefficientLength;
+        int scale = (int) -readFixedInt_1_1(exponentStartIndex, valueMarker.endIndex);
+        BigInteger coefficient = readFlexIntAsBigInteger_1_1(coefficientLength);
+        if (coefficient.signum() == 0) {
+            // Positive zero is always encoded without a coefficient, so an encoded zero coefficient is negative.
+            return Decimal.negativeZero(scale);
+        }
+        return Decimal.valueOf(coefficient, scale);
+    }
+
+    /**
+     * Decodes the Ion 1.1 decimal value that begins at `peekIndex` and ends at `valueMarker.endIndex` into
+     * `decodedDecimalUnscaledValue` and `decodedDecimalScale`.
+     * @return true if the value's coefficient fits in a long and the value is not negative zero; otherwise, false, in
+     *  which case only `decodedDecimalScale` is valid.
+     */
+    private boolean decodeDecimal_1_1() {
+        if (isPositiveZeroDecimal_1_1()) {
+            decodedDecimalUnscaledValue = 0;
+            decodedDecimalScale = -readVarInt_1_1();
+            return true;
+        }
+        int coefficientLength = readFlexLength_1_1();
+        long exponentStartIndex = peekIndex + coefficientLength;
+        decodedDecimalScale = (int) -readFixedInt_1_1(exponentStartIndex, valueMarker.endIndex);
+        long coefficient;
+        if (coefficientLength <= LONG_SIZE_IN_BYTES + 1) {
+            // Up to nine bytes always fit in a long; see readFlexInteger_1_1.
+            coefficient = readFlexInteger_1_1(coefficientLength, true);
+        } else if (coefficientLength == LONG_SIZE_IN_BYTES + 2) {
+            // Coefficients with magnitudes between 2^62 and 2^63 require ten bytes, which may or may not fit in a long.
+            if (!decodeTenByteFlexIntCoefficient()) {
+                return false;
+            }
+            coefficient = decodedDecimalUnscaledValue;
+        } else {
+            // The coefficient overflows a long.
+            return false;
+        }
+        if (coefficient == 0) {
+            // Positive zero is always encoded without a coefficient, so an encoded zero coefficient is negative.
+            return false;
+        }
+        decodedDecimalUnscaledValue = coefficient;
+        return true;
     }
 
+    /**
+     * Decodes the ten-byte FlexInt starting at `peekIndex` into `decodedDecimalUnscaledValue`, if it fits in a long.
+     * When this method returns true, `peekIndex` will point at the first byte that follows the FlexInt.
+     * @return true if the value fits in a long; otherwise, false.
+     */
+    private boolean decodeTenByteFlexIntCoefficient() {
+        int length = LONG_SIZE_IN_BYTES + 2;
+        if (peekIndex + length > limit) {
+            throw new IonException("Malformed data: declared length exceeds the number of bytes remaining in the stream.");
+        }
+        // The first byte and the lowest two bits of the second byte encode the length. The upper six bits of the second
+        // byte are the value's six least significant bits, and the remaining eight bytes are its most significant bits.
+        int lowBitsCount = Byte.SIZE - (length - Byte.SIZE);
+        long highBits = readFixedInt_1_1(peekIndex + 2, peekIndex + length);
+        if (((highBits << lowBitsCount) >> lowBitsCount) != highBits) {
+            // The value overflows a long.
+            return false;
+        }
+        long lowBits = (buffer[(int) peekIndex + 1] & SINGLE_BYTE_MASK) >>> (length - Byte.SIZE);
+        decodedDecimalUnscaledValue = (highBits << lowBitsCount) | lowBits;
+        peekIndex += length;
+        return true;
+    }
+
+    /**
+     * Reads the FlexInt of the given length starting at `peekIndex` into a BigInteger. When this method returns,
+     * `peekIndex` will point at the first byte that follows the FlexInt.
+     * @param length the length of the FlexInt, as determined by `readFlexLength_1_1`.
+     * @return the value.
+     */
+    private BigInteger readFlexIntAsBigInteger_1_1(int length) {
+        return readFlexIntAsBigInteger_1_1(length, true);
+    }
+
+    /**
+     * Reads the FlexInt or FlexUInt of the given length starting at `peekIndex` into a BigInteger. When this method
+     * returns, `peekIndex` will point at the first byte that follows the value.
+     * @param length the length of the value, as determined by `readFlexLength_1_1`.
+     * @param isSigned true if the value is a FlexInt; false if it is a FlexUInt.
+     * @return the value.
+     */
+    private BigInteger readFlexIntAsBigInteger_1_1(int length, boolean isSigned) {
+        if (peekIndex + length > limit) {
+            throw new IonException("Malformed data: declared length exceeds the number of bytes remaining in the stream.");
+        }
+        // The value's bits are preceded by `length` bits that encode the length.
+        BigInteger value = readFixedIntAsBigInteger_1_1(peekIndex, peekIndex + length, isSigned).shiftRight(length);
+        peekIndex += length;
+        return value;
+    }
+
+    /**
+     * Reads into a long the integer value that begins at `valueMarker.startIndex` and ends at `valueMarker.endIndex`.
+     * @return the value.
+     */
     private long readLong_1_1() {
-        throw new UnsupportedOperationException();
+        return readFixedInt_1_1(valueMarker.startIndex, valueMarker.endIndex);
     }
 
+    /**
+     * Reads into a BigInteger the integer value that begins at `valueMarker.startIndex` and ends at
+     * `valueMarker.endIndex`.
+     * @return the value.
+     */
     private BigInteger readBigInteger_1_1() {
-        throw new UnsupportedOperationException();
+        return readFixedIntAsBigInteger_1_1(valueMarker.startIndex, valueMarker.endIndex);
     }
 
+    /**
+     * Reads the timestamp that begins at `peekIndex` and ends at `valueMarker.endIndex`. Short-form timestamps (whose
+     * precision is determined by the type ID) pack their fields into a fixed number of bytes; long-form timestamps
+     * (type ID 0xF7) determine their precision by their length.
+     * @return the value.
+     */
     private Timestamp readTimestamp_1_1() {
-        throw new UnsupportedOperationException();
+        try {
+            return valueTid.variableLength ? readLongFormTimestamp_1_1() : readShortFormTimestamp_1_1();
+        } catch (IllegalArgumentException e) {
+            throw new IonException("Illegal timestamp encoding. ", e);
+        }
+    }
+
+    /**
+     * Reads the short-form timestamp that begins at `peekIndex` and ends at `valueMarker.endIndex`.
+     * @return the value.
+     */
+    private Timestamp readShortFormTimestamp_1_1() {
+        int precisionNibble = valueTid.lowerNibble;
+        // Offset-aware forms store the fraction separately, after the first five bytes.
+        long fieldsEndIndex = precisionNibble < SHORT_TIMESTAMP_MINUTE_WITH_OFFSET_NIBBLE
+            ? valueMarker.endIndex
+            : Math.min(valueMarker.endIndex, peekIndex + SHORT_TIMESTAMP_WITH_OFFSET_FIELDS_LENGTH);
+        long bits = readFixedUInt_1_1(peekIndex, fieldsEndIndex);
+        int year = (int) (bits & SHORT_TIMESTAMP_YEAR_MASK) + SHORT_TIMESTAMP_BASE_YEAR;
+        if (precisionNibble == SHORT_TIMESTAMP_YEAR_NIBBLE) {
+            return Timestamp.forYear(year);
+        }
+        int month = (int) (bits >>> Ion_1_1_Constants.S_TIMESTAMP_MONTH_BIT_OFFSET) & MONTH_MASK;
+        if (precisionNibble == SHORT_TIMESTAMP_MONTH_NIBBLE) {
+            return Timestamp.forMonth(year, month);
+        }
+        int day = (int) (bits >>> Ion_1_1_Constants.S_TIMESTAMP_DAY_BIT_OFFSET) & DAY_MASK;
+        if (precisionNibble == SHORT_TIMESTAMP_DAY_NIBBLE) {
+            return Timestamp.forDay(year, month, day);
+        }
+        int hour = (int) (bits >>> Ion_1_1_Constants.S_TIMESTAMP_HOUR_BIT_OFFSET) & HOUR_MASK;
+        int minute = (int) (bits >>> Ion_1_1_Constants.S_TIMESTAMP_MINUTE_BIT_OFFSET) & MINUTE_OR_SECOND_MASK;
+        Integer offset;
+        int second;
+        BigDecimal fractionalSecond = null;
+        if (precisionNibble < SHORT_TIMESTAMP_MINUTE_WITH_OFFSET_NIBBLE) {
+            // Either UTC or unknown offset.
+            offset = (bits & Ion_1_1_Constants.S_U_TIMESTAMP_UTC_FLAG) == 0 ? null : 0;
+            if (precisionNibble == SHORT_TIMESTAMP_MINUTE_NIBBLE) {
+                return Timestamp.forMinute(year, month, day, hour, minute, offset);
+            }
+            second = (int) (bits >>> Ion_1_1_Constants.S_U_TIMESTAMP_SECOND_BIT_OFFSET) & MINUTE_OR_SECOND_MASK;
+            if (precisionNibble > SHORT_TIMESTAMP_SECOND_NIBBLE) {
+                long fraction = bits >>> Ion_1_1_Constants.S_U_TIMESTAMP_FRACTION_BIT_OFFSET;
+                fractionalSecond = BigDecimal.valueOf(fraction, (precisionNibble - SHORT_TIMESTAMP_SECOND_NIBBLE) * 3);
+            }
+        } else {
+            offset = (int) ((bits >>> Ion_1_1_Constants.S_O_TIMESTAMP_OFFSET_BIT_OFFSET) & SHORT_TIMESTAMP_OFFSET_MASK);
+            offset = (offset - SHORT_TIMESTAMP_OFFSET_BIAS) * SHORT_TIMESTAMP_OFFSET_INCREMENT_MINUTES;
+            if (precisionNibble == SHORT_TIMESTAMP_MINUTE_WITH_OFFSET_NIBBLE) {
+                return Timestamp.forMinute(year, month, day, hour, minute, offset);
+            }
+            second = (int) (bits >>> Ion_1_1_Constants.S_O_TIMESTAMP_SECOND_BIT_OFFSET) & MINUTE_OR_SECOND_MASK;
+            if (precisionNibble > SHORT_TIMESTAMP_SECOND_WITH_OFFSET_NIBBLE) {
+                long fraction = readFixedUInt_1_1(fieldsEndIndex, valueMarker.endIndex);
+                fractionalSecond = BigDecimal.valueOf(fraction, (precisionNibble - SHORT_TIMESTAMP_SECOND_WITH_OFFSET_NIBBLE) * 3);
+            }
+        }
+        return timestampForSecond_1_1(year, month, day, hour, minute, second, fractionalSecond, offset);
+    }
+
+    /**
+     * Reads the long-form timestamp that begins at `peekIndex` and ends at `valueMarker.endIndex`.
+     * @return the value.
+     */
+    private Timestamp readLongFormTimestamp_1_1() {
+        int length = (int) (valueMarker.endIndex - peekIndex);
+        long bits = readFixedUInt_1_1(peekIndex, peekIndex + Math.min(length, LONG_TIMESTAMP_FIELDS_LENGTH));
+        int year = (int) (bits & LONG_TIMESTAMP_YEAR_MASK);
+        if (length == LONG_TIMESTAMP_YEAR_LENGTH) {
+            return Timestamp.forYear(year);
+        }
+        int month = (int) (bits >>> Ion_1_1_Constants.L_TIMESTAMP_MONTH_BIT_OFFSET) & MONTH_MASK;
+        int day = (int) (bits >>> Ion_1_1_Constants.L_TIMESTAMP_DAY_BIT_OFFSET) & DAY_MASK;
+        if (length == LONG_TIMESTAMP_DAY_LENGTH) {
+            // Month and day precision share a length; month precision is denoted by a day of zero.
+            return day == 0 ? Timestamp.forMonth(year, month) : Timestamp.forDay(year, month, day);
+        }
+        if (length < LONG_TIMESTAMP_MINUTE_LENGTH) {
+            throw new IonException("Illegal timestamp encoding: invalid length.");
+        }
+        int hour = (int) (bits >>> Ion_1_1_Constants.L_TIMESTAMP_HOUR_BIT_OFFSET) & HOUR_MASK;
+        int minute = (int) (bits >>> Ion_1_1_Constants.L_TIMESTAMP_MINUTE_BIT_OFFSET) & MINUTE_OR_SECOND_MASK;
+        int offsetBits = (int) (bits >>> Ion_1_1_Constants.L_TIMESTAMP_OFFSET_BIT_OFFSET) & Ion_1_1_Constants.L_TIMESTAMP_UNKNOWN_OFFSET_VALUE;
+        Integer offset = offsetBits == Ion_1_1_Constants.L_TIMESTAMP_UNKNOWN_OFFSET_VALUE
+            ? null
+            : offsetBits - LONG_TIMESTAMP_OFFSET_BIAS;
+        if (length == LONG_TIMESTAMP_MINUTE_LENGTH) {
+            return Timestamp.forMinute(year, month, day, hour, minute, offset);
+        }
+        if (length < LONG_TIMESTAMP_FIELDS_LENGTH) {
+            throw new IonException("Illegal timestamp encoding: invalid length.");
+        }
+        int second = (int) (bits >>> Ion_1_1_Constants.L_TIMESTAMP_SECOND_BIT_OFFSET) & MINUTE_OR_SECOND_MASK;
+        BigDecimal fractionalSecond = null;
+        if (length > LONG_TIMESTAMP_FIELDS_LENGTH) {
+            peekIndex += LONG_TIMESTAMP_FIELDS_LENGTH;
+            int coefficientLength = readFlexLength_1_1();
+            BigInteger coefficient = coefficientLength <= LONG_SIZE_IN_BYTES
+                ? BigInteger.valueOf(readFlexInteger_1_1(coefficientLength, false))
+                : readFlexIntAsBigInteger_1_1(coefficientLength, false);
+            int scale = (int) readFixedUInt_1_1(peekIndex, valueMarker.endIndex);
+            fractionalSecond = new BigDecimal(coefficient, scale);
+        }
+        return timestampForSecond_1_1(year, month, day, hour, minute, second, fractionalSecond, offset);
     }
 
+    /**
+     * Creates a Timestamp with second precision from the given local fields.
+     * @return the value.
+     */
+    private static Timestamp timestampForSecond_1_1(
+        int year,
+        int month,
+        int day,
+        int hour,
+        int minute,
+        int second,
+        BigDecimal fractionalSecond,
+        Integer offset
+    ) {
+        if (fractionalSecond == null) {
+            return Timestamp.forSecond(year, month, day, hour, minute, second, offset);
+        }
+        if (fractionalSecond.compareTo(BigDecimal.ONE) >= 0) {
+            throw new IonException("Illegal timestamp encoding: fractional seconds must be less than one.");
+        }
+        return Timestamp.forSecond(year, month, day, hour, minute, fractionalSecond.add(BigDecimal.valueOf(second)), offset);
+    }
+
+    /**
+     * Reads the boolean value using the type ID of the current value.
+     * @return the value.
+     */
     private boolean readBoolean_1_1() {
-        throw new UnsupportedOperationException();
+        return valueTid.lowerNibble == BOOLEAN_TRUE_NIBBLE_1_1;
+    }
+
+    /**
+     * Converts the bits of an IEEE-754 half-precision (16-bit) float to a double.
+     * @param bits the 16 bits.
+     * @return the value.
+     */
+    private static double readFloat16(short bits) {
+        int sign = (bits & 0x8000) == 0 ? 1 : -1;
+        int exponent = (bits >> 10) & 0x1F;
+        int significand = bits & 0x3FF;
+        if (exponent == 0x1F) {
+            return significand == 0 ? sign * Double.POSITIVE_INFINITY : Double.NaN;
+        }
+        if (exponent == 0) {
+            // Subnormal.
+            return sign * Math.scalb((double) significand, -24);
+        }
+        return sign * Math.scalb((double) (significand | 0x400), exponent - 25);
     }
 
     @Override
@@ -510,15 +1096,17 @@ class IonReaderContinuableCoreBinary extends IonCursorBinary implements IonReade
             return null;
         }
         prepareScalar();
-        if (valueTid.length < 0) {
+        // Ion 1.1 integers are two's complement, so their size may be determined by their length alone.
+        int length = minorVersion == 0 ? valueTid.length : (int) (valueMarker.endIndex - valueMarker.startIndex);
+        if (length < 0) {
             return IntegerSize.BIG_INTEGER;
-        } else if (valueTid.length < INT_SIZE_IN_BYTES) {
+        } else if (length < INT_SIZE_IN_BYTES) {
             return IntegerSize.INT;
-        } else if (valueTid.length == INT_SIZE_IN_BYTES) {
+        } else if (length == INT_SIZE_IN_BYTES) {
             return (minorVersion != 0 || classifyInteger_1_0()) ? IntegerSize.INT : IntegerSize.LONG;
-        } else if (valueTid.length < LONG_SIZE_IN_BYTES) {
+        } else if (length < LONG_SIZE_IN_BYTES) {
             return IntegerSize.LONG;
-        } else if (valueTid.length == LONG_SIZE_IN_BYTES) {
+        } else if (length == LONG_SIZE_IN_BYTES) {
             return (minorVersion != 0 || classifyInteger_1_0()) ? IntegerSize.LONG : IntegerSize.BIG_INTEGER;
         }
         return IntegerSize.BIG_INTEGER;
@@ -669,6 +1257,96 @@ class IonReaderContinuableCoreBinary extends IonCursorBinary implements IonReade
         return value;
     }
 
+    /**
+     * Reads consecutive int values from the current list or s-expression directly from the buffer, without
+     * positioning the reader on each value, until either the requested number of values has been read or a value that
+     * cannot be read this way is encountered. Values that cannot be read this way include annotated values, nulls,
+     * values that do not fit in the destination type, and NOP pads; such values must be read using nextValue().
+     * Exactly one of `longs` and `ints` must be non-null.
+     * @param longs the destination for the values, or null.
+     * @param ints the destination for the values, or null.
+     * @param offset the index in the destination at which to write the first value.
+     * @param length the maximum number of values to read.
+     * @return the number of values read. After return, the reader is positioned before the next value.
+     */
+    int readIntegersDirectly(long[] longs, int[] ints, int offset, int length) {
+        long index = prepareToReadContainedValuesDirectly();
+        if (index < 0) {
+            return 0;
+        }
+        long containerEnd = parent.endIndex;
+        int numberOfValuesRead = 0;
+        while (numberOfValuesRead < length && index < containerEnd) {
+            IonTypeID typeId = typeIds[buffer[(int) index] & SINGLE_BYTE_MASK];
+            if (typeId.type != IonType.INT || typeId.isNull || !typeId.isValid || typeId.variableLength
+                || typeId.length > LONG_SIZE_IN_BYTES || index + 1 + typeId.length > containerEnd) {
+                break;
+            }
+            long value;
+            if (minorVersion == 0) {
+                value = readUInt(index + 1, index + 1 + typeId.length);
+                if (typeId.isNegativeInt) {
+                    // Long.MIN_VALUE is the only negative value whose magnitude does not fit in a positive long.
+                    if (value < 0 && value != Long.MIN_VALUE) {
+                        break;
+                    }
+                    value = -value;
+                } else if (value < 0) {
+                    break;
+                }
+            } else {
+                value = readFixedInt_1_1(index + 1, index + 1 + typeId.length);
+            }
+            if (longs != null) {
+                longs[offset + numberOfValuesRead] = value;
+            } else if (value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE) {
+                ints[offset + numberOfValuesRead] = (int) value;
+            } else {
+                break;
+            }
+            numberOfValuesRead++;
+            index += 1 + typeId.length;
+        }
+        finishReadingContainedValuesDirectly(index);
+        return numberOfValuesRead;
+    }
+
+    /**
+     * Reads consecutive float values from the current list or s-expression directly from the buffer. See
+     * {@link #readIntegersDirectly(long[], int[], int, int)}. Exactly one of `doubles` and `floats` must be non-null;
+     * values read into `floats` are narrowed as if by a cast.
+     * @param doubles the destination for the values, or null.
+     * @param floats the destination for the values, or null.
+     * @param offset the index in the destination at which to write the first value.
+     * @param length the maximum number of values to read.
+     * @return the number of values read. After return, the reader is positioned before the next value.
+     */
+    int readFloatsDirectly(double[] doubles, float[] floats, int offset, int length) {
+        long index = prepareToReadContainedValuesDirectly();
+        if (index < 0) {
+            return 0;
+        }
+        long containerEnd = parent.endIndex;
+        int numberOfValuesRead = 0;
+        while (numberOfValuesRead < length && index < containerEnd) {
+            IonTypeID typeId = typeIds[buffer[(int) index] & SINGLE_BYTE_MASK];
+            if (typeId.type != IonType.FLOAT || typeId.isNull || !typeId.isValid || typeId.variableLength
+                || index + 1 + typeId.length > containerEnd) {
+                break;
+            }
+            double value = readFloat(index + 1, index + 1 + typeId.length);
+            if (doubles != null) {
+                doubles[offset + numberOfValuesRead] = value;
+            } else {
+                floats[offset + numberOfValuesRead] = (float) value;
+            }
+            numberOfValuesRead++;
+            index += 1 + typeId.length;
+        }
+        finishReadingContainedValuesDirectly(index);
+        return numberOfValuesRead;
+    }
+
     @Override
     public BigInteger bigIntegerValue() {
         BigInteger value;
@@ -704,6 +1382,28 @@ class IonReaderContinuableCoreBinary extends IonCursorBinary implements IonReade
         return (int) longValue();
     }
 
+    /**
+     * Reads a float value.
+     * @param startIndex the index of the first byte of the value's representation.
+     * @param endIndex the index of the first byte after the end of the value's representation.
+     * @return the value.
+     */
+    private double readFloat(long startIndex, long endIndex) {
+        int length = (int) (endIndex - startIndex);
+        if (length == 0) {
+            return 0.0d;
+        }
+        ByteBuffer bytes = prepareByteBuffer(startIndex, endIndex);
+        if (length == FLOAT_32_BYTE_LENGTH) {
+            return bytes.getFloat();
+        } else if (length == FLOAT_16_BYTE_LENGTH) {
+            // Ion 1.1 only.
+            return readFloat16(bytes.getShort());
+        }
+        // Note: there is no need to check for other lengths here; the type ID byte is validated during next().
+        return bytes.getDouble();
+    }
+
     @Override
     public double doubleValue() {
         double value;
@@ -712,17 +1412,7 @@ class IonReaderContinuableCoreBinary extends IonCursorBinary implements IonReade
         }
         if (valueTid.type == IonType.FLOAT) {
             prepareScalar();
-            int length = (int) (valueMarker.endIndex - valueMarker.startIndex);
-            if (length == 0) {
-                return 0.0d;
-            }
-            ByteBuffer bytes = prepareByteBuffer(valueMarker.startIndex, valueMarker.endIndex);
-            if (length == FLOAT_32_BYTE_LENGTH) {
-                value = bytes.getFloat();
-            } else {
-                // Note: there is no need to check for other lengths here; the type ID byte is validated during next().
-                value = bytes.getDouble();
-            }
+            value = readFloat(valueMarker.startIndex, valueMarker.endIndex);
         } else if (valueTid.type == IonType.DECIMAL) {
             scalarConverter.addValue(decimalValue());
             scalarConverter.setAuthoritativeType(_Private_ScalarConversions.AS_TYPE.decimal_value);
@@ -740,6 +1430,420 @@ class IonReaderContinuableCoreBinary extends IonCursorBinary implements IonReade
         return value;
     }
 
+    /**
+     * Converts a non-negative fractional second expressed as a coefficient and scale to a number of nanoseconds.
+     * Precision beyond nanoseconds is truncated.
+     * @param coefficient the coefficient.
+     * @param scale the scale, i.e. the negation of the exponent.
+     * @return the number of nanoseconds.
+     */
+    private static int fractionalSecondToNanos(long coefficient, int scale) {
+        if (coefficient == 0) {
+            return 0;
+        }
+        if (coefficient < 0 || scale <= 0 || (scale < POWERS_OF_TEN.length && coefficient >= POWERS_OF_TEN[scale])) {
+            throw new IonException("Illegal timestamp encoding: fractional seconds must be less than one.");
+        }
+        if (scale <= NANOSECOND_DIGITS) {
+            return (int) (coefficient * POWERS_OF_TEN[NANOSECOND_DIGITS - scale]);
+        }
+        int digitsToTruncate = scale - NANOSECOND_DIGITS;
+        return digitsToTruncate < POWERS_OF_TEN.length ? (int) (coefficient / POWERS_OF_TEN[digitsToTruncate]) : 0;
+    }
+
+    /**
+     * Converts a fractional second whose coefficient does not fit in a long to a number of nanoseconds.
+     * Precision beyond nanoseconds is truncated.
+     * @param fractionalSecond the fractional second.
+     * @return the number of nanoseconds.
+     */
+    private static int fractionalSecondToNanos(BigDecimal fractionalSecond) {
+        if (fractionalSecond.signum() < 0 || fractionalSecond.compareTo(BigDecimal.ONE) >= 0) {
+            throw new IonException("Illegal timestamp encoding: fractional seconds must be less than one.");
+        }
+        return fractionalSecond.movePointRight(NANOSECOND_DIGITS).intValue();
+    }
+
+    /**
+     * @param year the year.
+     * @param month the month, from 1 to 12.
+     * @return the number of days in the month.
+     */
+    private static int daysInMonth(int year, int month) {
+        if (month == 2) {
+            return (year % 4 == 0 && (year % 100 != 0 || year % 400 == 0)) ? 29 : 28;
+        }
+        return (month == 4 || month == 6 || month == 9 || month == 11) ? 30 : 31;
+    }
+
+    /**
+     * Computes the number of days between 1970-01-01 and the given date in the proleptic Gregorian calendar.
+     * @param year the year.
+     * @param month the month, from 1 to 12.
+     * @param day the day of the month.
+     * @return the number of days, which is negative for dates before 1970.
+     */
+    private static long epochDay(int year, int month, int day) {
+        // Treats March as the first month of the year so that the leap day, if any, is the last day of the year.
+        long y = month <= 2 ? year - 1 : year;
+        long era = Math.floorDiv(y, 400);
+        long yearOfEra = y - era * 400;
+        long dayOfYear = (153 * (month + (month > 2 ? -3 : 9)) + 2) / 5 + day - 1;
+        long dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        // 719468 is the number of days from 0000-03-01 to 1970-01-01.
+        return era * 146097 + dayOfEra - 719468;
+    }
+
+    /**
+     * Computes the number of days by which the Julian calendar trails the proleptic Gregorian calendar on the given
+     * day. Like {@link java.util.Date} and {@link Timestamp#getMillis()}, the instant of a date before the first day
+     * of the Gregorian calendar, 1582-10-15, is that of the Julian date with the same fields.
+     * @param epochDay a number of days since 1970-01-01 in the proleptic Gregorian calendar.
+     * @return the number of days to add to `epochDay` to get the day with the same fields in the Julian calendar, or
+     *  zero if the day is not before the Gregorian cutover.
+     */
+    private static long julianCalendarShift(long epochDay) {
+        if (epochDay >= GREGORIAN_CUTOVER_EPOCH_DAY) {
+            return 0;
+        }
+        // The year, beginning in March, in which the day falls; see epochDay.
+        long dayOf0000March1 = epochDay + 719468;
+        long era = Math.floorDiv(dayOf0000March1, 146097);
+        long dayOfEra = dayOf0000March1 - era * 146097;
+        long yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+        long y = yearOfEra + era * 400;
+        // The Julian calendar has a leap day in every fourth year, including the centuries that the Gregorian calendar
+        // skips, and the two calendars coincided from 0200-03-01 to 0300-02-28.
+        return Math.floorDiv(y, 100) - Math.floorDiv(y, 400) - 2;
+    }
+
+    /**
+     * Validates the given timestamp fields and records the instant they represent.
+     * @param offsetMinutes the offset, in minutes, of the local fields from UTC. Zero if the fields are in UTC.
+     */
+    private void setDecodedTimestamp(
+        Timestamp.Precision precision,
+        int year,
+        int month,
+        int day,
+        int hour,
+        int minute,
+        int second,
+        int nanos,
+        int offsetMinutes
+    ) {
+        if (year < 1 || year > 9999 || month < 1 || month > 12 || day < 1 || day > daysInMonth(year, month)
+            || hour > 23 || minute > 59 || second > 59) {
+            throw new IonException("Illegal timestamp encoding: field out of range.");
+        }
+        decodedTimestampPrecision = precision;
+        long epochSecond = epochDay(year, month, day) * SECONDS_PER_DAY
+            + (long) hour * SECONDS_PER_HOUR
+            + (long) minute * SECONDS_PER_MINUTE
+            + second
+            - (long) offsetMinutes * SECONDS_PER_MINUTE;
+        // The calendar is chosen by the date in UTC, as Timestamp.getMillis() does.
+        decodedTimestampEpochSecond = epochSecond
+            + julianCalendarShift(Math.floorDiv(epochSecond, SECONDS_PER_DAY)) * SECONDS_PER_DAY;
+        decodedTimestampNanos = nanos;
+    }
+
+    /**
+     * Decodes into primitive fields the timestamp that begins at `peekIndex` and ends at `valueMarker.endIndex`.
+     * Ion 1.0 timestamp fields are encoded in UTC.
+     */
+    private void decodeTimestamp_1_0() {
+        int firstByte = buffer[(int)(peekIndex++)] & SINGLE_BYTE_MASK;
+        if (firstByte != VAR_INT_NEGATIVE_ZERO) {
+            // The fields are in UTC, so the offset is not needed to compute the instant.
+            readVarInt_1_0(firstByte);
+        }
+        int year = readVarUInt_1_0();
+        int month = 1;
+        int day = 1;
+        int hour = 0;
+        int minute = 0;
+        int second = 0;
+        int nanos = 0;
+        Timestamp.Precision precision = Timestamp.Precision.YEAR;
+        if (peekIndex < valueMarker.endIndex) {
+            month = readVarUInt_1_0();
+            precision = Timestamp.Precision.MONTH;
+            if (peekIndex < valueMarker.endIndex) {
+                day = readVarUInt_1_0();
+                precision = Timestamp.Precision.DAY;
+                if (peekIndex < valueMarker.endIndex) {
+                    hour = readVarUInt_1_0();
+                    if (peekIndex >= valueMarker.endIndex) {
+                        throw new IonException("Timestamps may not specify hour without specifying minute.");
+                    }
+                    minute = readVarUInt_1_0();
+                    precision = Timestamp.Precision.MINUTE;
+                    if (peekIndex < valueMarker.endIndex) {
+                        second = readVarUInt_1_0();
+                        precision = Timestamp.Precision.SECOND;
+                        if (peekIndex < valueMarker.endIndex) {
+                            nanos = readFractionalSecondNanos_1_0();
+                        }
+                    }
+                }
+            }
+        }
+        setDecodedTimestamp(precision, year, month, day, hour, minute, second, nanos, 0);
+    }
+
+    /**
+     * Reads the decimal fractional second that begins at `peekIndex` and ends at `valueMarker.endIndex`.
+     * @return the fractional second as a number of nanoseconds.
+     */
+    private int readFractionalSecondNanos_1_0() {
+        long startIndex = peekIndex;
+        int scale = -readVarInt_1_0();
+        int length = (int) (valueMarker.endIndex - peekIndex);
+        if (length >= LONG_SIZE_IN_BYTES) {
+            // The coefficient may overflow a long.
+            peekIndex = startIndex;
+            return fractionalSecondToNanos(readBigDecimal_1_0());
+        }
+        long coefficient = 0;
+        boolean isNegative = false;
+        if (peekIndex < valueMarker.endIndex) {
+            int firstByte = buffer[(int)(peekIndex++)] & SINGLE_BYTE_MASK;
+            isNegative = (firstByte & HIGHEST_BIT_BITMASK) != 0;
+            coefficient = firstByte & LOWER_SEVEN_BITS_BITMASK;
+        }
+        while (peekIndex < valueMarker.endIndex) {
+            coefficient = (coefficient << VALUE_BITS_PER_UINT_BYTE) | buffer[(int)(peekIndex++)] & SINGLE_BYTE_MASK;
+        }
+        return fractionalSecondToNanos(isNegative ? -coefficient : coefficient, scale);
+    }
+
+    /**
+     * Decodes into primitive fields the timestamp that begins at `peekIndex` and ends at `valueMarker.endIndex`.
+     * Ion 1.1 timestamp fields are local, so the offset (if known) is applied to compute the instant.
+     */
+    private void decodeTimestamp_1_1() {
+        if (valueTid.variableLength) {
+            decodeLongFormTimestamp_1_1();
+        } else {
+            decodeShortFormTimestamp_1_1();
+        }
+    }
+
+    /**
+     * Decodes into primitive fields the short-form timestamp that begins at `peekIndex` and ends at
+     * `valueMarker.endIndex`. See {@link #readShortFormTimestamp_1_1()}.
+     */
+    private void decodeShortFormTimestamp_1_1() {
+        int precisionNibble = valueTid.lowerNibble;
+        long fieldsEndIndex = precisionNibble < SHORT_TIMESTAMP_MINUTE_WITH_OFFSET_NIBBLE
+            ? valueMarker.endIndex
+            : Math.min(valueMarker.endIndex, peekIndex + SHORT_TIMESTAMP_WITH_OFFSET_FIELDS_LENGTH);
+        long bits = readFixedUInt_1_1(peekIndex, fieldsEndIndex);
+        int year = (int) (bits & SHORT_TIMESTAMP_YEAR_MASK) + SHORT_TIMESTAMP_BASE_YEAR;
+        int month = 1;
+        int day = 1;
+        int hour = 0;
+        int minute = 0;
+        int second = 0;
+        int nanos = 0;
+        int offsetMinutes = 0;
+        Timestamp.Precision precision;
+        if (precisionNibble == SHORT_TIMESTAMP_YEAR_NIBBLE) {
+            precision = Timestamp.Precision.YEAR;
+        } else if (precisionNibble == SHORT_TIMESTAMP_MONTH_NIBBLE) {
+            precision = Timestamp.Precision.MONTH;
+            month = (int) (bits >>> Ion_1_1_Constants.S_TIMESTAMP_MONTH_BIT_OFFSET) & MONTH_MASK;
+        } else {
+            month = (int) (bits >>> Ion_1_1_Constants.S_TIMESTAMP_MONTH_BIT_OFFSET) & MONTH_MASK;
+            day = (int) (bits >>> Ion_1_1_Constants.S_TIMESTAMP_DAY_BIT_OFFSET) & DAY_MASK;
+            precision = Timestamp.Precision.DAY;
+            if (precisionNibble != SHORT_TIMESTAMP_DAY_NIBBLE) {
+                hour = (int) (bits >>> Ion_1_1_Constants.S_TIMESTAMP_HOUR_BIT_OFFSET) & HOUR_MASK;
+                minute = (int) (bits >>> Ion_1_1_Constants.S_TIMESTAMP_MINUTE_BIT_OFFSET) & MINUTE_OR_SECOND_MASK;
+                precision = Timestamp.Precision.MINUTE;
+                if (precisionNibble < SHORT_TIMESTAMP_MINUTE_WITH_OFFSET_NIBBLE) {
+                    // Either UTC or unknown offset; in both cases, the local fields are in UTC.
+                    if (precisionNibble != SHORT_TIMESTAMP_MINUTE_NIBBLE) {
+                        second = (int) (bits >>> Ion_1_1_Constants.S_U_TIMESTAMP_SECOND_BIT_OFFSET) & MINUTE_OR_SECOND_MASK;
+                        precision = Timestamp.Precision.SECOND;
+                        if (precisionNibble > SHORT_TIMESTAMP_SECOND_NIBBLE) {
+                            long fraction = bits >>> Ion_1_1_Constants.S_U_TIMESTAMP_FRACTION_BIT_OFFSET;
+                            nanos = fractionalSecondToNanos(fraction, (precisionNibble - SHORT_TIMESTAMP_SECOND_NIBBLE) * 3);
+                        }
+                    }
+                } else {
+                    offsetMinutes = (int) ((bits >>> Ion_1_1_Constants.S_O_TIMESTAMP_OFFSET_BIT_OFFSET) & SHORT_TIMESTAMP_OFFSET_MASK);
+                    offsetMinutes = (offsetMinutes - SHORT_TIMESTAMP_OFFSET_BIAS) * SHORT_TIMESTAMP_OFFSET_INCREMENT_MINUTES;
+                    if (precisionNibble != SHORT_TIMESTAMP_MINUTE_WITH_OFFSET_NIBBLE) {
+                        second = (int) (bits >>> Ion_1_1_Constants.S_O_TIMESTAMP_SECOND_BIT_OFFSET) & MINUTE_OR_SECOND_MASK;
+                        precision = Timestamp.Precision.SECOND;
+                        if (precisionNibble > SHORT_TIMESTAMP_SECOND_WITH_OFFSET_NIBBLE) {
+                            long fraction = readFixedUInt_1_1(fieldsEndIndex, valueMarker.endIndex);
+                            nanos = fractionalSecondToNanos(fraction, (precisionNibble - SHORT_TIMESTAMP_SECOND_WITH_OFFSET_NIBBLE) * 3);
+                        }
+                    }
+                }
+            }
+        }
+        setDecodedTimestamp(precision, year, month, day, hour, minute, second, nanos, offsetMinutes);
+    }
+
+    /**
+     * Decodes into primitive fields the long-form timestamp that begins at `peekIndex` and ends at
+     * `valueMarker.endIndex`. See {@link #readLongFormTimestamp_1_1()}.
+     */
+    private void decodeLongFormTimestamp_1_1() {
+        int length = (int) (valueMarker.endIndex - peekIndex);
+        long bits = readFixedUInt_1_1(peekIndex, peekIndex + Math.min(length, LONG_TIMESTAMP_FIELDS_LENGTH));
+        int year = (int) (bits & LONG_TIMESTAMP_YEAR_MASK);
+        int month = 1;
+        int day = 1;
+        int hour = 0;
+        int minute = 0;
+        int second = 0;
+        int nanos = 0;
+        int offsetMinutes = 0;
+        Timestamp.Precision precision;
+        if (length == LONG_TIMESTAMP_YEAR_LENGTH) {
+            precision = Timestamp.Precision.YEAR;
+        } else {
+            month = (int) (bits >>> Ion_1_1_Constants.L_TIMESTAMP_MONTH_BIT_OFFSET) & MONTH_MASK;
+            day = (int) (bits >>> Ion_1_1_Constants.L_TIMESTAMP_DAY_BIT_OFFSET) & DAY_MASK;
+            if (length == LONG_TIMESTAMP_DAY_LENGTH) {
+                // Month and day precision share a length; month precision is denoted by a day of zero.
+                if (day == 0) {
+                    precision = Timestamp.Precision.MONTH;
+                    day = 1;
+                } else {
+                    precision = Timestamp.Precision.DAY;
+                }
+            } else {
+                if (length < LONG_TIMESTAMP_MINUTE_LENGTH) {
+                    throw new IonException("Illegal timestamp encoding: invalid length.");
+                }
+                hour = (int) (bits >>> Ion_1_1_Constants.L_TIMESTAMP_HOUR_BIT_OFFSET) & HOUR_MASK;
+                minute = (int) (bits >>> Ion_1_1_Constants.L_TIMESTAMP_MINUTE_BIT_OFFSET) & MINUTE_OR_SECOND_MASK;
+                int offsetBits = (int) (bits >>> Ion_1_1_Constants.L_TIMESTAMP_OFFSET_BIT_OFFSET) & Ion_1_1_Constants.L_TIMESTAMP_UNKNOWN_OFFSET_VALUE;
+                if (offsetBits != Ion_1_1_Constants.L_TIMESTAMP_UNKNOWN_OFFSET_VALUE) {
+                    offsetMinutes = offsetBits - LONG_TIMESTAMP_OFFSET_BIAS;
+                }
+                precision = Timestamp.Precision.MINUTE;
+                if (length != LONG_TIMESTAMP_MINUTE_LENGTH) {
+                    if (length < LONG_TIMESTAMP_FIELDS_LENGTH) {
+                        throw new IonException("Illegal timestamp encoding: invalid length.");
+                    }
+                    second = (int) (bits >>> Ion_1_1_Constants.L_TIMESTAMP_SECOND_BIT_OFFSET) & MINUTE_OR_SECOND_MASK;
+                    precision = Timestamp.Precision.SECOND;
+                    if (length > LONG_TIMESTAMP_FIELDS_LENGTH) {
+                        peekIndex += LONG_TIMESTAMP_FIELDS_LENGTH;
+                        int coefficientLength = readFlexLength_1_1();
+                        if (coefficientLength <= LONG_SIZE_IN_BYTES) {
+                            long coefficient = readFlexInteger_1_1(coefficientLength, false);
+                            nanos = fractionalSecondToNanos(coefficient, (int) readFixedUInt_1_1(peekIndex, valueMarker.endIndex));
+                        } else {
+                            BigInteger coefficient = readFlexIntAsBigInteger_1_1(coefficientLength, false);
+                            int scale = (int) readFixedUInt_1_1(peekIndex, valueMarker.endIndex);
+                            nanos = fractionalSecondToNanos(new BigDecimal(coefficient, scale));
+                        }
+                    }
+                }
+            }
+        }
+        setDecodedTimestamp(precision, year, month, day, hour, minute, second, nanos, offsetMinutes);
+    }
+
+    /**
+     * Decodes the current timestamp value into primitive fields, without constructing a Timestamp.
+     */
+    private void decodeTimestamp() {
+        if (valueTid == null || IonType.TIMESTAMP != valueTid.type || valueTid.isNull) {
+            throwDueToInvalidType(IonType.TIMESTAMP);
+        }
+        prepareScalar();
+        peekIndex = valueMarker.startIndex;
+        if (peekIndex >= valueMarker.endIndex) {
+            throw new IonException("Timestamp value cannot have length 0.");
+        }
+        if (minorVersion == 0) {
+            decodeTimestamp_1_0();
+        } else {
+            decodeTimestamp_1_1();
+        }
+    }
+
+    /**
+     * @return the current timestamp value as a number of milliseconds since the epoch, equivalent to
+     *  {@code timestampValue().getMillis()}.
+     */
+    long timestampEpochMillis() {
+        decodeTimestamp();
+        return decodedTimestampEpochSecond * 1000 + decodedTimestampNanos / NANOS_PER_MILLI;
+    }
+
+    /**
+     * @return the current timestamp value as a number of nanoseconds since the epoch.
+     * @throws ArithmeticException if the result overflows a long.
+     */
+    long timestampEpochNanos() {
+        decodeTimestamp();
+        return Math.addExact(Math.multiplyExact(decodedTimestampEpochSecond, NANOS_PER_SECOND), decodedTimestampNanos);
+    }
+
+    /**
+     * @return the precision of the current timestamp value, equivalent to {@code timestampValue().getPrecision()}.
+     */
+    Timestamp.Precision timestampPrecision() {
+        decodeTimestamp();
+        return decodedTimestampPrecision;
+    }
+
+    /**
+     * Decodes the current decimal value into primitive fields, without constructing a BigDecimal.
+     * @return true if the value's coefficient fits in a long and the value is not negative zero; otherwise, false, in
+     *  which case only `decodedDecimalScale` is valid.
+     */
+    private boolean decodeDecimal() {
+        if (valueTid == null || IonType.DECIMAL != valueTid.type || valueTid.isNull) {
+            throwDueToInvalidType(IonType.DECIMAL);
+        }
+        prepareScalar();
+        peekIndex = valueMarker.startIndex;
+        if (peekIndex >= valueMarker.endIndex) {
+            // 0d0
+            decodedDecimalUnscaledValue = 0;
+            decodedDecimalScale = 0;
+            return true;
+        }
+        return minorVersion == 0 ? decodeDecimal_1_0() : decodeDecimal_1_1();
+    }
+
+    /**
+     * @return true if the current decimal value's coefficient fits in a long and the value is not negative zero.
+     */
+    boolean decimalFitsInLong() {
+        return decodeDecimal();
+    }
+
+    /**
+     * @return the coefficient of the current decimal value, equivalent to {@code bigDecimalValue().unscaledValue()}.
+     * @throws ArithmeticException if the coefficient does not fit in a long, or if the value is negative zero.
+     */
+    long decimalUnscaledValue() {
+        if (!decodeDecimal()) {
+            throw new ArithmeticException("Decimal coefficient does not fit in a long.");
+        }
+        return decodedDecimalUnscaledValue;
+    }
+
+    /**
+     * @return the scale of the current decimal value, equivalent to {@code bigDecimalValue().scale()}.
+     */
+    int decimalScale() {
+        decodeDecimal();
+        return decodedDecimalScale;
+    }
+
     @Override
     public Timestamp timestampValue() {
         if (valueTid == null || IonType.TIMESTAMP != valueTid.type) {
@@ -774,17 +1878,91 @@ class IonReaderContinuableCoreBinary extends IonCursorBinary implements IonReade
         return minorVersion == 0 ? readBoolean_1_0() : readBoolean_1_1();
     }
 
+    @Override
+    void resetReaderState() {
+        super.resetReaderState();
+        peekIndex = -1;
+        lobBytesRead = 0;
+        annotationSids.clear();
+        flexSymTextMarker.startIndex = -1;
+        flexSymTextMarker.endIndex = -1;
+        scalarConverter.clear();
+    }
+
+    /**
+     * Decodes the UTF-8 text between the given indices.
+     * @param startIndex the index of the first byte of the text.
+     * @param endIndex the index of the first byte after the end of the text.
+     * @return the text.
+     */
+    private String readString(long startIndex, long endIndex) {
+        ByteBuffer utf8InputBuffer = prepareByteBuffer(startIndex, endIndex);
+        return utf8Decoder.decode(utf8InputBuffer, (int) (endIndex - startIndex));
+    }
+
+    /**
+     * Decodes the UTF-8 text between the given indices, appending it to the given StringBuilder.
+     * @param startIndex the index of the first byte of the text.
+     * @param endIndex the index of the first byte after the end of the text.
+     * @param destination the StringBuilder to which the text will be appended.
+     */
+    void readString(long startIndex, long endIndex, StringBuilder destination) {
+        ByteBuffer utf8InputBuffer = prepareByteBuffer(startIndex, endIndex);
+        utf8Decoder.decode(utf8InputBuffer, (int) (endIndex - startIndex), destination);
+    }
+
+    /**
+     * Decodes the UTF-8 text between the given indices into the given char array.
+     * @param startIndex the index of the first byte of the text.
+     * @param endIndex the index of the first byte after the end of the text.
+     * @param destination the array into which the text will be copied.
+     * @param offset the index in the destination at which to begin copying.
+     * @return the number of chars copied.
+     */
+    int readString(long startIndex, long endIndex, char[] destination, int offset) {
+        ByteBuffer utf8InputBuffer = prepareByteBuffer(startIndex, endIndex);
+        return utf8Decoder.decode(utf8InputBuffer, (int) (endIndex - startIndex), destination, offset);
+    }
+
+    /**
+     * Compares the UTF-8 text between the given indices with the given UTF-8 bytes without decoding it.
+     * @param startIndex the index of the first byte of the text.
+     * @param endIndex the index of the first byte after the end of the text.
+     * @param utf8 the bytes to compare.
+     * @return true if the bytes are identical; otherwise, false.
+     */
+    boolean utf8Equals(long startIndex, long endIndex, byte[] utf8) {
+        int length = (int) (endIndex - startIndex);
+        if (length != utf8.length) {
+            return false;
+        }
+        int start = (int) startIndex;
+        for (int i = 0; i < length; i++) {
+            if (buffer[start + i] != utf8[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return true if the reader is positioned on a non-null symbol whose text is encoded inline rather than as a
+     *  symbol ID (Ion 1.1 only); otherwise, false.
+     */
+    boolean hasInlineSymbolText() {
+        return valueTid != null && valueTid.type == IonType.SYMBOL && valueTid.isInlineable && !valueTid.isNull;
+    }
+
     @Override
     public String stringValue() {
-        if (valueTid == null || IonType.STRING != valueTid.type) {
+        if (valueTid == null || (IonType.STRING != valueTid.type && !hasInlineSymbolText())) {
             throwDueToInvalidType(IonType.STRING);
         }
         if (valueTid.isNull) {
             return null;
         }
         prepareScalar();
-        ByteBuffer utf8InputBuffer = prepareByteBuffer(valueMarker.startIndex, valueMarker.endIndex);
-        return utf8Decoder.decode(utf8InputBuffer, (int) (valueMarker.endIndex - valueMarker.startIndex));
+        return readString(valueMarker.startIndex, valueMarker.endIndex);
     }
 
     @Override
@@ -796,7 +1974,31 @@ class IonReaderContinuableCoreBinary extends IonCursorBinary implements IonReade
             return -1;
         }
         prepareScalar();
-        return (int) readUInt(valueMarker.startIndex, valueMarker.endIndex);
+        if (minorVersion == 0) {
+            return (int) readUInt(valueMarker.startIndex, valueMarker.endIndex);
+        }
+        return readSymbolAddress_1_1();
+    }
+
+    /**
+     * Reads the symbol ID of the Ion 1.1 symbol value that begins at `valueMarker.startIndex` and ends at
+     * `valueMarker.endIndex`.
+     * @return the symbol ID, or -1 if the symbol's text is encoded inline.
+     */
+    private int readSymbolAddress_1_1() {
+        if (valueTid.isInlineable) {
+            return -1;
+        }
+        switch (valueTid.lowerNibble) {
+            case ONE_BYTE_SYMBOL_ADDRESS_NIBBLE_1_1:
+                return (int) readFixedUInt_1_1(valueMarker.startIndex, valueMarker.endIndex);
+            case TWO_BYTE_SYMBOL_ADDRESS_NIBBLE_1_1:
+                return (int) readFixedUInt_1_1(valueMarker.startIndex, valueMarker.endIndex)
+                    + Ion_1_1_Constants.FIRST_2_BYTE_SYMBOL_ADDRESS;
+            default:
+                peekIndex = valueMarker.startIndex;
+                return readVarUInt_1_1() + Ion_1_1_Constants.FIRST_MANY_BYTE_SYMBOL_ADDRESS;
+        }
     }
 
     /**
@@ -811,6 +2013,14 @@ class IonReaderContinuableCoreBinary extends IonCursorBinary implements IonReade
             while (peekIndex < annotationSequenceMarker.endIndex) {
                 annotationSids.add(readVarUInt_1_0());
             }
+        } else if (annotationSequenceMarker.typeId.isInlineable) {
+            while (peekIndex < annotationSequenceMarker.endIndex) {
+                int sid = readVarSym_1_1(flexSymTextMarker);
+                if (flexSymTextMarker.startIndex >= 0) {
+                    setAnnotationText(annotationSids.size(), readString(flexSymTextMarker.startIndex, flexSymTextMarker.endIndex));
+                }
+                annotationSids.add(sid);
+            }
         } else {
             while (peekIndex < annotationSequenceMarker.endIndex) {
                 annotationSids.add(readVarUInt_1_1());
@@ -820,6 +2030,41 @@ class IonReaderContinuableCoreBinary extends IonCursorBinary implements IonReade
         return annotationSids;
     }
 
+    /**
+     * Records the inline text of the annotation at the given index.
+     * @param index the index of the annotation.
+     * @param text the annotation's text.
+     */
+    private void setAnnotationText(int index, String text) {
+        if (index >= annotationTexts.length) {
+            String[] newTexts = new String[Math.max(annotationTexts.length * 2, index + 1)];
+            System.arraycopy(annotationTexts, 0, newTexts, 0, annotationTexts.length);
+            annotationTexts = newTexts;
+        }
+        annotationTexts[index] = text;
+    }
+
+    /**
+     * Gets the inline text of the annotation at the given index in the list most recently returned by
+     * `getAnnotationSidList`. Only annotations whose symbol ID is -1 have inline text.
+     * @param index the index of the annotation.
+     * @return the annotation's text.
+     */
+    String getAnnotationText(int index) {
+        return annotationTexts[index];
+    }
+
+    /**
+     * @return the inline text of the current value's field name, or null if the field name is not encoded as inline
+     *  text (Ion 1.1 only).
+     */
+    String getFieldText() {
+        if (fieldTextMarker.startIndex < 0) {
+            return null;
+        }
+        return readString(fieldTextMarker.startIndex, fieldTextMarker.endIndex);
+    }
+
     @Override
     public int[] getAnnotationIds() {
         getAnnotationSidList();
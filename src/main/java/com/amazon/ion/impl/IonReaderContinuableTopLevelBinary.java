@@ -3,22 +3,37 @@
 
 package com.amazon.ion.impl;
 
+import com.amazon.ion.DecimalPrimitivesProvider;
 import com.amazon.ion.IonBufferConfiguration;
 import com.amazon.ion.IonException;
 import com.amazon.ion.IonReader;
 import com.amazon.ion.IonCursor;
+import com.amazon.ion.IntegerSize;
 import com.amazon.ion.IonType;
+import com.amazon.ion.NonBlockingReader;
 import com.amazon.ion.OffsetSpan;
 import com.amazon.ion.OversizedValueException;
+import com.amazon.ion.PrimitiveArrayReader;
+import com.amazon.ion.IonWriter;
+import com.amazon.ion.RawValueSlice;
+import com.amazon.ion.RawValueSliceProvider;
 import com.amazon.ion.RawValueSpanProvider;
+import com.amazon.ion.ResettableReader;
 import com.amazon.ion.SeekableReader;
 import com.amazon.ion.Span;
 import com.amazon.ion.SpanProvider;
 import com.amazon.ion.SymbolTable;
+import com.amazon.ion.SymbolToken;
+import com.amazon.ion.SystemSymbols;
+import com.amazon.ion.Timestamp;
+import com.amazon.ion.TimestampPrimitivesProvider;
+import com.amazon.ion.Utf8TextProvider;
+import com.amazon.ion.impl.bin._Private_IonManagedWriter;
 import com.amazon.ion.system.IonReaderBuilder;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 
 /**
  * An optionally continuable (i.e., incremental) binary {@link IonReader} implementation. Continuability is enabled
@@ -47,12 +62,15 @@ import java.io.InputStream;
  */
 final class IonReaderContinuableTopLevelBinary extends IonReaderContinuableApplicationBinary implements IonReader, _Private_ReaderWriter, _Private_ByteTransferReader {
 
+    // Builds the readers used to re-encode RawValueSlices.
+    private static final IonReaderBuilder SLICE_READER_BUILDER = IonReaderBuilder.standard().immutable();
+
     // True if continuable reading is disabled.
     private final boolean isNonContinuable;
 
     // True if input is sourced from a non-fixed stream and the reader is non-continuable, meaning that its top level
     // values are not automatically filled during next().
-    private final boolean isFillRequired;
+    private boolean isFillRequired;
 
     // True if a value is in the process of being filled.
     private boolean isFillingValue = false;
@@ -89,6 +107,26 @@ final class IonReaderContinuableTopLevelBinary extends IonReaderContinuableAppli
         isFillRequired = false;
     }
 
+    @Override
+    void reset(byte[] bytes, int offset, int length) {
+        super.reset(bytes, offset, length);
+        isFillRequired = false;
+    }
+
+    @Override
+    void reset(InputStream inputStream, byte[] alreadyRead, int alreadyReadOff, int alreadyReadLen) {
+        super.reset(inputStream, alreadyRead, alreadyReadOff, alreadyReadLen);
+        isFillRequired = isNonContinuable;
+    }
+
+    @Override
+    void resetReaderState() {
+        super.resetReaderState();
+        isFillingValue = false;
+        type = null;
+        symbolTableLastTransferred = null;
+    }
+
     @Override
     public SymbolTable pop_passed_symbol_table() {
         SymbolTable currentSymbolTable = getSymbolTable();
@@ -165,7 +203,10 @@ final class IonReaderContinuableTopLevelBinary extends IonReaderContinuableAppli
         type = null;
         if (isValueIncomplete) {
             handleIncompleteValue();
-        } else if (!isSlowMode || isNonContinuable || parent != null) {
+        } else if (!isSlowMode || isNonContinuable || (parent != null && !isReadingSymbolTable())) {
+            // Note: while a symbol table is partially read, the cursor is within it even though the user is at the top
+            // level. In that case, the value that follows the symbol table must be filled below, like any other
+            // top-level value.
             if (nextValue() == IonCursor.Event.NEEDS_DATA) {
                 if (isNonContinuable) {
                     endStream();
@@ -182,6 +223,9 @@ final class IonReaderContinuableTopLevelBinary extends IonReaderContinuableAppli
         } else {
             nextAndFill();
         }
+        if (type != null && metricsListener != null) {
+            metricsListener.onValue(type);
+        }
         return type;
     }
 
@@ -230,6 +274,7 @@ final class IonReaderContinuableTopLevelBinary extends IonReaderContinuableAppli
         final long bufferLimit;
         final long totalOffset;
         final SymbolTable symbolTable;
+        final String ionVersionId;
 
         /**
          * @param bufferOffset the offset of the span's first byte in the cursor's internal buffer.
@@ -238,12 +283,14 @@ final class IonReaderContinuableTopLevelBinary extends IonReaderContinuableAppli
          *                    the cursor's internal buffer is refillable, such as when it consumes data from an input
          *                    stream.
          * @param symbolTable the symbol table active where the span occurs.
+         * @param ionVersionId the Ion version ID active where the span occurs, e.g. $ion_1_0 for Ion 1.0.
          */
-        IonReaderBinarySpan(long bufferOffset, long bufferLimit, long totalOffset, SymbolTable symbolTable) {
+        IonReaderBinarySpan(long bufferOffset, long bufferLimit, long totalOffset, SymbolTable symbolTable, String ionVersionId) {
             this.bufferOffset = bufferOffset;
             this.bufferLimit = bufferLimit;
             this.totalOffset = totalOffset;
             this.symbolTable = symbolTable;
+            this.ionVersionId = ionVersionId;
         }
 
         @Override
@@ -267,9 +314,10 @@ final class IonReaderContinuableTopLevelBinary extends IonReaderContinuableAppli
             }
             return new IonReaderBinarySpan(
                 valuePreHeaderIndex,
-                valueMarker.endIndex,
+                getValueEndIndex(),
                 getTotalOffset(),
-                getSymbolTable()
+                getSymbolTable(),
+                getIonMinorVersion() == 0 ? SystemSymbols.ION_1_0 : ION_1_1
             );
         }
     }
@@ -283,8 +331,9 @@ final class IonReaderContinuableTopLevelBinary extends IonReaderContinuableAppli
             }
             return new IonReaderBinarySpan(
                 valueMarker.startIndex,
-                valueMarker.endIndex,
+                getValueEndIndex(),
                 valueMarker.startIndex,
+                null,
                 null
             );
         }
@@ -295,6 +344,300 @@ final class IonReaderContinuableTopLevelBinary extends IonReaderContinuableAppli
         }
     }
 
+    /**
+     * Ensures that the current value is present in the buffer in its entirety.
+     */
+    private void prepareValueSlice() {
+        if (!isValueIncomplete) {
+            if (!isSlowMode || event == Event.VALUE_READY) {
+                return;
+            }
+            if (isFillRequired) {
+                if (fillValue() == Event.VALUE_READY) {
+                    return;
+                }
+                if (event == Event.NEEDS_INSTRUCTION) {
+                    throw new OversizedValueException();
+                }
+            }
+        }
+        throw new IonException("Unexpected EOF.");
+    }
+
+    private class RawValueSliceProviderFacet implements RawValueSliceProvider {
+
+        @Override
+        public RawValueSlice currentValueSlice() {
+            if (type == null) {
+                throw new IllegalStateException("IonReader isn't positioned on a value");
+            }
+            prepareValueSlice();
+            return new RawValueSliceImpl();
+        }
+    }
+
+    /**
+     * A slice of the reader's buffer that holds the value on which the reader was positioned when the slice was
+     * created.
+     */
+    private class RawValueSliceImpl implements RawValueSlice {
+        private final byte[] bytes = buffer;
+        private final long startIndex = valuePreHeaderIndex;
+        private final long endIndex = getValueEndIndex();
+        // For Ion 1.0 values, the index of the first byte of the value within its annotation wrapper, if any.
+        private final long unannotatedStartIndex = hasAnnotations ? annotationSequenceMarker.endIndex : valuePreHeaderIndex;
+        private final IonType sliceType = type;
+        private final boolean isAnnotated = hasAnnotations;
+        private final int ionMinorVersion = IonReaderContinuableTopLevelBinary.this.getIonMinorVersion();
+        private final SymbolTable symbolTable = IonReaderContinuableTopLevelBinary.this.getSymbolTable();
+
+        @Override
+        public ByteBuffer getBytes() {
+            return ByteBuffer.wrap(bytes, (int) startIndex, (int) (endIndex - startIndex)).asReadOnlyBuffer();
+        }
+
+        @Override
+        public IonType getType() {
+            return sliceType;
+        }
+
+        @Override
+        public int getIonMinorVersion() {
+            return ionMinorVersion;
+        }
+
+        @Override
+        public SymbolTable getSymbolTable() {
+            return symbolTable;
+        }
+
+        /**
+         * @return true if the bytes of the value, excluding any annotation wrapper, cannot contain symbol IDs.
+         */
+        private boolean isUnannotatedValueSymbolTableIndependent() {
+            return sliceType != IonType.SYMBOL && !IonType.isContainer(sliceType);
+        }
+
+        @Override
+        public boolean isSymbolTableIndependent() {
+            return !isAnnotated && isUnannotatedValueSymbolTableIndependent();
+        }
+
+        /**
+         * Sets the writer's field name to the field name of the reader's current value if the writer is in a struct
+         * and its field name has not already been set, as {@link IonWriter#writeValue(IonReader)} would.
+         */
+        private void transferFieldName(IonWriter writer) {
+            if (writer.isInStruct() && writer instanceof _Private_IonWriter && !((_Private_IonWriter) writer).isFieldNameSet()) {
+                SymbolToken fieldName = getFieldNameSymbol();
+                if (fieldName != null) {
+                    writer.setFieldNameSymbol(fieldName);
+                }
+            }
+        }
+
+        @Override
+        public void writeTo(IonWriter writer) throws IOException {
+            transferFieldName(writer);
+            // Only the Ion 1.0 managed binary writer accepts raw Ion 1.0 bytes; other byte transfer sinks, such as
+            // the Ion 1.1 writer, require the value to be re-encoded.
+            if (ionMinorVersion == 0
+                && writer instanceof _Private_IonManagedWriter
+                && (isUnannotatedValueSymbolTableIndependent() || isSymbolTableSubsetOf(writer.getSymbolTable()))) {
+                // The value's bytes can be copied verbatim. Any annotations are re-encoded by the writer using its own
+                // symbol table, so they do not need to be compatible.
+                if (isAnnotated) {
+                    writer.setTypeAnnotationSymbols(getTypeAnnotationSymbols());
+                }
+                ((_Private_ByteTransferSink) writer).writeBytes(
+                    bytes,
+                    (int) unannotatedStartIndex,
+                    (int) (endIndex - unannotatedStartIndex)
+                );
+                return;
+            }
+            // Re-encode the value using a separate reader over the slice, leaving this reader positioned on the value.
+            IonReaderContinuableTopLevelBinary sliceReader = new IonReaderContinuableTopLevelBinary(
+                SLICE_READER_BUILDER,
+                bytes,
+                (int) startIndex,
+                (int) (endIndex - startIndex)
+            );
+            sliceReader.restoreSymbolTable(symbolTable);
+            sliceReader.slice(startIndex, endIndex, ionMinorVersion == 0 ? SystemSymbols.ION_1_0 : ION_1_1);
+            sliceReader.next();
+            writer.writeValue(sliceReader);
+        }
+    }
+
+    private class ResettableReaderFacet implements ResettableReader {
+
+        @Override
+        public void reset(byte[] ionData, int offset, int length) {
+            IonReaderContinuableTopLevelBinary.this.reset(ionData, offset, length);
+        }
+
+        @Override
+        public void reset(InputStream ionData) {
+            if (ionData == null) {
+                throw new NullPointerException("Cannot reset a reader to read from a null InputStream.");
+            }
+            IonReaderContinuableTopLevelBinary.this.reset(ionData, _Private_Utils.EMPTY_BYTE_ARRAY, 0, 0);
+        }
+    }
+
+    private class PrimitiveArrayReaderFacet implements PrimitiveArrayReader {
+
+        /**
+         * Advances to the next value using next(), for use when the remaining values cannot be read directly.
+         * @param expectedType the type of value to match.
+         * @return true if the reader is positioned on a non-null, unannotated value of the expected type.
+         */
+        private boolean nextMatches(IonType expectedType) {
+            return next() == expectedType && !isNullValue() && !hasAnnotations;
+        }
+
+        @Override
+        public int readLongs(long[] destination, int offset, int length) {
+            checkBounds(destination.length, offset, length);
+            int numberOfValuesRead = 0;
+            while (true) {
+                numberOfValuesRead += readIntegersDirectly(destination, null, offset + numberOfValuesRead, length - numberOfValuesRead);
+                if (numberOfValuesRead == length) {
+                    type = null;
+                    return numberOfValuesRead;
+                }
+                if (!nextMatches(IonType.INT) || getIntegerSize() == IntegerSize.BIG_INTEGER) {
+                    return numberOfValuesRead;
+                }
+                destination[offset + numberOfValuesRead++] = longValue();
+            }
+        }
+
+        @Override
+        public int readInts(int[] destination, int offset, int length) {
+            checkBounds(destination.length, offset, length);
+            int numberOfValuesRead = 0;
+            while (true) {
+                numberOfValuesRead += readIntegersDirectly(null, destination, offset + numberOfValuesRead, length - numberOfValuesRead);
+                if (numberOfValuesRead == length) {
+                    type = null;
+                    return numberOfValuesRead;
+                }
+                if (!nextMatches(IonType.INT) || getIntegerSize() != IntegerSize.INT) {
+                    return numberOfValuesRead;
+                }
+                destination[offset + numberOfValuesRead++] = intValue();
+            }
+        }
+
+        @Override
+        public int readDoubles(double[] destination, int offset, int length) {
+            checkBounds(destination.length, offset, length);
+            int numberOfValuesRead = 0;
+            while (true) {
+                numberOfValuesRead += readFloatsDirectly(destination, null, offset + numberOfValuesRead, length - numberOfValuesRead);
+                if (numberOfValuesRead == length) {
+                    type = null;
+                    return numberOfValuesRead;
+                }
+                if (!nextMatches(IonType.FLOAT)) {
+                    return numberOfValuesRead;
+                }
+                destination[offset + numberOfValuesRead++] = doubleValue();
+            }
+        }
+
+        @Override
+        public int readFloats(float[] destination, int offset, int length) {
+            checkBounds(destination.length, offset, length);
+            int numberOfValuesRead = 0;
+            while (true) {
+                numberOfValuesRead += readFloatsDirectly(null, destination, offset + numberOfValuesRead, length - numberOfValuesRead);
+                if (numberOfValuesRead == length) {
+                    type = null;
+                    return numberOfValuesRead;
+                }
+                if (!nextMatches(IonType.FLOAT)) {
+                    return numberOfValuesRead;
+                }
+                destination[offset + numberOfValuesRead++] = (float) doubleValue();
+            }
+        }
+    }
+
+    /**
+     * @param arrayLength the length of an array.
+     * @param offset the offset into the array.
+     * @param length the number of elements after the offset.
+     * @throws IndexOutOfBoundsException if the range is not within the array.
+     */
+    private static void checkBounds(int arrayLength, int offset, int length) {
+        if (offset < 0 || length < 0 || offset > arrayLength - length) {
+            throw new IndexOutOfBoundsException();
+        }
+    }
+
+    private class TimestampPrimitivesProviderFacet implements TimestampPrimitivesProvider {
+
+        @Override
+        public long timestampEpochMillis() {
+            return IonReaderContinuableTopLevelBinary.this.timestampEpochMillis();
+        }
+
+        @Override
+        public long timestampEpochNanos() {
+            return IonReaderContinuableTopLevelBinary.this.timestampEpochNanos();
+        }
+
+        @Override
+        public Timestamp.Precision timestampPrecision() {
+            return IonReaderContinuableTopLevelBinary.this.timestampPrecision();
+        }
+    }
+
+    private class DecimalPrimitivesProviderFacet implements DecimalPrimitivesProvider {
+
+        @Override
+        public boolean decimalFitsInLong() {
+            return IonReaderContinuableTopLevelBinary.this.decimalFitsInLong();
+        }
+
+        @Override
+        public long decimalUnscaledValue() {
+            return IonReaderContinuableTopLevelBinary.this.decimalUnscaledValue();
+        }
+
+        @Override
+        public int decimalScale() {
+            return IonReaderContinuableTopLevelBinary.this.decimalScale();
+        }
+    }
+
+    private class NonBlockingReaderFacet implements NonBlockingReader {
+
+        @Override
+        public void feed(ByteBuffer data) {
+            InputStream inputStream = getInputStream();
+            if (!(inputStream instanceof ByteBufferFeedInputStream)) {
+                // The reader has been closed or reset to read from a different source.
+                throw new IllegalStateException("The reader no longer accepts fed data.");
+            }
+            ((ByteBufferFeedInputStream) inputStream).feed(data);
+        }
+
+        @Override
+        public Event nextValue() {
+            IonType type = next();
+            if (type != null) {
+                return IonType.isContainer(type) ? Event.START_CONTAINER : Event.START_SCALAR;
+            }
+            // Top-level values are filled before being returned, so a null result within a container always signals
+            // the end of that container. A partially-read symbol table is at the top level from the user's perspective.
+            return getDepth() == 0 || isReadingSymbolTable() ? Event.NEEDS_DATA : Event.END_CONTAINER;
+        }
+    }
+
     private class SeekableReaderFacet extends SpanProviderFacet implements SeekableReader {
 
         @Override
@@ -311,14 +654,14 @@ final class IonReaderContinuableTopLevelBinary extends IonReaderContinuableAppli
             // an implementation perspective, this is not necessary; if we leave the buffer's limit unchanged, the
             // reader can continue after processing the hoisted value.
             restoreSymbolTable(binarySpan.symbolTable);
-            slice(binarySpan.bufferOffset, binarySpan.bufferLimit, binarySpan.symbolTable.getIonVersionId());
+            slice(binarySpan.bufferOffset, binarySpan.bufferLimit, binarySpan.ionVersionId);
             type = null;
         }
     }
 
     @Override
     public boolean transferCurrentValue(_Private_ByteTransferSink writer) throws IOException {
-        if (hasAnnotations || !isByteBacked() || isInStruct()) {
+        if (hasAnnotations || !isByteBacked() || isInStruct() || getIonMinorVersion() != 0) {
             return false;
         }
         writer.writeBytes(buffer, (int) valuePreHeaderIndex, (int) (valueMarker.endIndex - valuePreHeaderIndex));
@@ -335,6 +678,27 @@ final class IonReaderContinuableTopLevelBinary extends IonReaderContinuableAppli
         if (facetType == SpanProvider.class) {
             return facetType.cast(new SpanProviderFacet());
         }
+        if (facetType == Utf8TextProvider.class) {
+            return facetType.cast(new Utf8TextProviderFacet());
+        }
+        if (facetType == ResettableReader.class) {
+            return facetType.cast(new ResettableReaderFacet());
+        }
+        if (facetType == PrimitiveArrayReader.class) {
+            return facetType.cast(new PrimitiveArrayReaderFacet());
+        }
+        if (facetType == TimestampPrimitivesProvider.class) {
+            return facetType.cast(new TimestampPrimitivesProviderFacet());
+        }
+        if (facetType == DecimalPrimitivesProvider.class) {
+            return facetType.cast(new DecimalPrimitivesProviderFacet());
+        }
+        if (facetType == RawValueSliceProvider.class) {
+            return facetType.cast(new RawValueSliceProviderFacet());
+        }
+        if (facetType == NonBlockingReader.class && getInputStream() instanceof ByteBufferFeedInputStream) {
+            return facetType.cast(new NonBlockingReaderFacet());
+        }
         // Note: because IonCursorBinary has an internal buffer that can grow, it is possible to relax the restriction
         // that readers must have been constructed with a byte array in order to be seekable or provide raw value spans.
         // However, it requires some considerations that do not fit well with the existing interfaces. Most importantly,
@@ -0,0 +1,530 @@
+// Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+// SPDX-License-Identifier: Apache-2.0
+package com.amazon.ion.impl;
+
+import com.amazon.ion.IonBufferConfiguration;
+import com.amazon.ion.IonCatalog;
+import com.amazon.ion.IonException;
+import com.amazon.ion.IonType;
+import com.amazon.ion.SeekableReader;
+import com.amazon.ion.SpanProvider;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * A text IonReader that reads incrementally from an InputStream, mirroring the behavior of
+ * {@link IonReaderContinuableTopLevelBinary}: if {@link #next()} returns null at the top level, there is not yet enough
+ * data in the stream to complete a top-level value, and it may be called again once more data is available. See
+ * {@link com.amazon.ion.system.IonReaderBuilder#withIncrementalTextReadingEnabled(boolean)}.
+ * <p>
+ * Bytes are read from the stream into a buffer and scanned for the boundaries of top-level values. Only complete
+ * top-level values are handed to the underlying text reader, which is re-initialized over each new batch of complete
+ * values. Symbol table context carries over from batch to batch.
+ * <p>
+ * Text has no length prefixes, so the end of some top-level values can only be determined by looking at what follows
+ * them. A top-level value that is an unquoted or quoted symbol is not complete until the next non-whitespace,
+ * non-comment character is available, because that character could be the start of '::', making the symbol an
+ * annotation. Similarly, a top-level long string is not complete until it is known that another long string (which
+ * would be concatenated with it) does not follow. Unquoted top-level values, such as numbers, timestamps, and
+ * keywords, are not complete until the delimiter that follows them is available, because more digits or characters
+ * could follow. All other top-level values are complete as soon as their last character is available. As a result,
+ * data that ends without a delimiter after its last value does not complete that value; in that case, as for a
+ * truncated value, {@link #close()} raises an error.
+ */
+final class IonReaderContinuableTopLevelText extends IonReaderTextUserX {
+
+    private static final byte[] EMPTY = new byte[0];
+
+    private final InputStream source;
+
+    private final IonBufferConfiguration configuration;
+
+    private final TopLevelValueScanner scanner = new TopLevelValueScanner();
+
+    // Holds bytes read from the source that have not yet been consumed by the underlying reader.
+    private byte[] buffer;
+
+    // The index after the last byte read from the source.
+    private int limit = 0;
+
+    // The index after the last byte handed to the underlying reader.
+    private int batchEnd = 0;
+
+    /**
+     * @param catalog the catalog from which to resolve shared symbol tables.
+     * @param lstFactory the factory for local symbol tables.
+     * @param source the stream from which to read text Ion.
+     * @param configuration the buffer configuration.
+     */
+    IonReaderContinuableTopLevelText(
+        IonCatalog catalog,
+        _Private_LocalSymbolTableFactory lstFactory,
+        InputStream source,
+        IonBufferConfiguration configuration
+    ) {
+        super(catalog, lstFactory, UnifiedInputStreamX.makeStream(EMPTY));
+        this.source = source;
+        this.configuration = configuration;
+        buffer = new byte[configuration.getInitialBufferSize()];
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (getDepth() > 0) {
+            return super.hasNext();
+        }
+        // Note: super.hasNext() returns false when the current batch has been exhausted, at which point the underlying
+        // reader may be re-initialized over the next batch of complete values.
+        while (!super.hasNext()) {
+            if (!fill()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Reads from the source until at least one more complete top-level value is buffered or no more data is
+     * currently available, then re-initializes the underlying reader over the complete values.
+     * @return true if the underlying reader was re-initialized over at least one complete value; otherwise, false.
+     */
+    private boolean fill() {
+        discard(batchEnd);
+        batchEnd = 0;
+        while (scanner.completeEnd == 0) {
+            if (limit == buffer.length && !grow()) {
+                skipOversizedValue();
+            }
+            int numberOfBytesRead;
+            try {
+                numberOfBytesRead = source.read(buffer, limit, buffer.length - limit);
+            } catch (EOFException e) {
+                // Certain InputStream implementations (e.g. GZIPInputStream) throw EOFException if more bytes are requested
+                // to read than are currently available (e.g. if a header or trailer is incomplete).
+                numberOfBytesRead = -1;
+            } catch (IOException e) {
+                throw new IonException(e);
+            }
+            if (numberOfBytesRead <= 0) {
+                break;
+            }
+            limit += numberOfBytesRead;
+            scanner.scan(buffer, limit);
+            if (scanner.skippedValueEnd >= 0) {
+                // The oversized value has ended. Discard the rest of it.
+                discard(scanner.skippedValueEnd);
+                scanner.skippedValueEnd = -1;
+            }
+        }
+        if (scanner.completeEnd == 0) {
+            return false;
+        }
+        batchEnd = scanner.completeEnd;
+        re_init(
+            UnifiedInputStreamX.makeStream(buffer, 0, batchEnd),
+            IonType.DATAGRAM,
+            _scanner.getLineNumber(),
+            _scanner.getLineOffset()
+        );
+        // re_init is designed for hoisting, which reads a single value. Read all values in the batch instead.
+        _nesting_parent = null;
+        return true;
+    }
+
+    /**
+     * Grows the buffer, if allowed by the maximum buffer size.
+     * @return true if the buffer grew; false if it is already at its maximum size.
+     */
+    private boolean grow() {
+        int maximumSize = configuration.getMaximumBufferSize();
+        if (buffer.length >= maximumSize) {
+            return false;
+        }
+        int newSize = (int) Math.min(maximumSize, Math.max(1, buffer.length * 2L));
+        byte[] newBuffer = new byte[newSize];
+        System.arraycopy(buffer, 0, newBuffer, 0, limit);
+        buffer = newBuffer;
+        return true;
+    }
+
+    /**
+     * Notifies the oversized value handler, then discards the scanned bytes of the in-progress value, which the
+     * scanner will continue to track until the value ends.
+     */
+    private void skipOversizedValue() {
+        configuration.getOversizedValueHandler().onOversizedValue();
+        scanner.isSkipping = true;
+        discard(scanner.position);
+    }
+
+    /**
+     * Discards the given number of bytes from the start of the buffer.
+     * @param numberOfBytes the number of bytes to discard.
+     */
+    private void discard(int numberOfBytes) {
+        if (numberOfBytes == 0) {
+            return;
+        }
+        System.arraycopy(buffer, numberOfBytes, buffer, 0, limit - numberOfBytes);
+        limit -= numberOfBytes;
+        scanner.shift(numberOfBytes);
+    }
+
+    @Override
+    public <T> T asFacet(Class<T> facetType) {
+        if (facetType == SpanProvider.class || facetType == SeekableReader.class) {
+            // Spans would refer to buffer contents that are discarded as reading progresses.
+            return null;
+        }
+        return super.asFacet(facetType);
+    }
+
+    /**
+     * Closes the source. Raises an {@link IonException} if an incomplete top-level value is buffered, including a
+     * value that could not be completed because no delimiter followed it.
+     */
+    @Override
+    public void close() throws IOException {
+        source.close();
+        if (scanner.isValueIncomplete()) {
+            throw new IonException("Unexpected EOF.");
+        }
+    }
+
+    /**
+     * Scans UTF-8 text Ion for the boundaries of top-level values. Only as much of the syntax is recognized as is
+     * required to locate the boundaries: containers, strings, symbols, lobs, and comments. Anything else, including
+     * malformed data, is left to the underlying reader, which raises any errors once the data is handed to it.
+     * Scanning may be resumed after more data is appended to the buffer.
+     */
+    private static final class TopLevelValueScanner {
+
+        // Lexical modes.
+        private static final int CODE = 0;
+        private static final int PLAIN = 1; // An unquoted top-level token, e.g. a number, timestamp, or symbol.
+        private static final int SHORT_STRING = 2;
+        private static final int QUOTED_SYMBOL = 3;
+        private static final int LONG_STRING = 4;
+        private static final int LOB = 5;
+        private static final int LINE_COMMENT = 6;
+        private static final int BLOCK_COMMENT = 7;
+
+        private int mode = CODE;
+
+        // The mode to return to when the current string ends; either CODE or LOB.
+        private int modeAfterString = CODE;
+
+        // The index of the next byte to scan.
+        int position = 0;
+
+        // The container depth.
+        private int depth = 0;
+
+        // The index of the first byte of the current top-level value, or -1 if between top-level values.
+        private int valueStart = -1;
+
+        // The index after the last byte of the latest top-level value that is complete. All top-level values before
+        // this index are complete.
+        int completeEnd = 0;
+
+        // The index after the last byte of a top-level value whose completeness depends on what follows it, or -1.
+        private int pendingEnd = -1;
+
+        // True if the pending value is a long string, which is continued by another long string.
+        private boolean isPendingLongString = false;
+
+        // For the current PLAIN token: whether it started like a symbol identifier, and its last byte.
+        private boolean isPlainIdentifier = false;
+        private int lastPlainByte = 0;
+
+        // True if the current top-level value is oversized and its bytes are being discarded.
+        boolean isSkipping = false;
+
+        // The index after the last byte of the oversized value that was being skipped, or -1.
+        int skippedValueEnd = -1;
+
+        /**
+         * @return true if a top-level value has been started but not completed, including a value whose completeness
+         *  is awaiting lookahead.
+         */
+        boolean isValueIncomplete() {
+            return valueStart >= 0;
+        }
+
+        /**
+         * Adjusts all indices after bytes have been removed from the start of the buffer.
+         * @param numberOfBytes the number of bytes removed.
+         */
+        void shift(int numberOfBytes) {
+            position -= numberOfBytes;
+            completeEnd = Math.max(0, completeEnd - numberOfBytes);
+            if (valueStart >= 0) {
+                valueStart = Math.max(0, valueStart - numberOfBytes);
+            }
+            if (pendingEnd >= 0) {
+                pendingEnd = Math.max(0, pendingEnd - numberOfBytes);
+            }
+        }
+
+        private void complete(int end) {
+            valueStart = -1;
+            pendingEnd = -1;
+            if (isSkipping) {
+                isSkipping = false;
+                skippedValueEnd = end;
+            } else {
+                completeEnd = end;
+            }
+        }
+
+        private void pend(int end, boolean isLongString) {
+            pendingEnd = end;
+            isPendingLongString = isLongString;
+        }
+
+        private static boolean isWhitespace(int b) {
+            return b == ' ' || b == '\t' || b == '\n' || b == '\r' || b == '\f' || b == 0x0B;
+        }
+
+        private static boolean isPlainDelimiter(int b) {
+            switch (b) {
+                case '{': case '}': case '[': case ']': case '(': case ')': case ',': case '"': case '\'': case '/':
+                    return true;
+                default:
+                    return isWhitespace(b);
+            }
+        }
+
+        /**
+         * Scans forward from 'position' until 'end', stopping early if more bytes are needed to make a decision.
+         * @param bytes the buffer.
+         * @param end the index after the last available byte.
+         */
+        void scan(byte[] bytes, int end) {
+            int i = position;
+            loop: while (i < end) {
+                int b = bytes[i] & 0xFF;
+                switch (mode) {
+                    case PLAIN:
+                        if (!isPlainDelimiter(b)) {
+                            lastPlainByte = b;
+                            i++;
+                            continue;
+                        }
+                        mode = CODE;
+                        if (lastPlainByte == ':') {
+                            // The token ended with '::', so it is an annotation of a value yet to come.
+                        } else if (isPlainIdentifier) {
+                            pend(i, false);
+                        } else {
+                            complete(i);
+                        }
+                        // Re-process the delimiter in CODE mode.
+                        continue;
+                    case SHORT_STRING:
+                    case QUOTED_SYMBOL:
+                        if (b == '\\') {
+                            if (i + 1 >= end) {
+                                break loop;
+                            }
+                            i += 2;
+                            continue;
+                        }
+                        i++;
+                        if (b == (mode == SHORT_STRING ? '"' : '\'')) {
+                            endString(i, mode == QUOTED_SYMBOL, false);
+                        }
+                        continue;
+                    case LONG_STRING:
+                        if (b == '\\') {
+                            if (i + 1 >= end) {
+                                break loop;
+                            }
+                            i += 2;
+                            continue;
+                        }
+                        if (b == '\'') {
+                            if (i + 2 >= end) {
+                                break loop;
+                            }
+                            if (bytes[i + 1] == '\'' && bytes[i + 2] == '\'') {
+                                i += 3;
+                                endString(i, false, true);
+                                continue;
+                            }
+                        }
+                        i++;
+                        continue;
+                    case LOB:
+                        if (b == '"') {
+                            modeAfterString = LOB;
+                            mode = SHORT_STRING;
+                            i++;
+                        } else if (b == '\'') {
+                            if (i + 2 >= end) {
+                                break loop;
+                            }
+                            modeAfterString = LOB;
+                            mode = LONG_STRING;
+                            i += 3;
+                        } else if (b == '}') {
+                            if (i + 1 >= end) {
+                                break loop;
+                            }
+                            i += 2;
+                            mode = CODE;
+                            endValue(i);
+                        } else {
+                            i++;
+                        }
+                        continue;
+                    case LINE_COMMENT:
+                        if (b == '\n' || b == '\r') {
+                            mode = CODE;
+                        }
+                        i++;
+                        continue;
+                    case BLOCK_COMMENT:
+                        if (b == '*') {
+                            if (i + 1 >= end) {
+                                break loop;
+                            }
+                            if (bytes[i + 1] == '/') {
+                                mode = CODE;
+                                i += 2;
+                                continue;
+                            }
+                        }
+                        i++;
+                        continue;
+                    default:
+                        break;
+                }
+                // CODE mode.
+                if (isWhitespace(b)) {
+                    i++;
+                    continue;
+                }
+                if (b == '/') {
+                    if (i + 1 >= end) {
+                        break;
+                    }
+                    int next = bytes[i + 1];
+                    if (next == '/' || next == '*') {
+                        mode = next == '/' ? LINE_COMMENT : BLOCK_COMMENT;
+                        i += 2;
+                        continue;
+                    }
+                }
+                if (depth == 0) {
+                    // This is the first significant byte after a top-level value or annotation.
+                    if (pendingEnd >= 0) {
+                        if (b == ':') {
+                            // The pending symbol is an annotation.
+                            pendingEnd = -1;
+                        } else if (isPendingLongString && b == '\'') {
+                            if (i + 2 >= end) {
+                                break;
+                            }
+                            if (bytes[i + 1] == '\'' && bytes[i + 2] == '\'') {
+                                // The pending long string continues.
+                                pendingEnd = -1;
+                            } else {
+                                complete(pendingEnd);
+                            }
+                        } else {
+                            complete(pendingEnd);
+                        }
+                    }
+                    if (valueStart < 0) {
+                        valueStart = i;
+                    }
+                }
+                switch (b) {
+                    case '"':
+                        modeAfterString = CODE;
+                        mode = SHORT_STRING;
+                        i++;
+                        break;
+                    case '\'':
+                        if (i + 2 >= end) {
+                            break loop;
+                        }
+                        modeAfterString = CODE;
+                        if (bytes[i + 1] == '\'' && bytes[i + 2] == '\'') {
+                            mode = LONG_STRING;
+                            i += 3;
+                        } else {
+                            mode = QUOTED_SYMBOL;
+                            i++;
+                        }
+                        break;
+                    case '{':
+                        if (i + 1 >= end) {
+                            break loop;
+                        }
+                        if (bytes[i + 1] == '{') {
+                            mode = LOB;
+                            i += 2;
+                        } else {
+                            depth++;
+                            i++;
+                        }
+                        break;
+                    case '[':
+                    case '(':
+                        depth++;
+                        i++;
+                        break;
+                    case '}':
+                    case ']':
+                    case ')':
+                        // A closing delimiter at the top level is invalid, but is treated as the end of a value so
+                        // that the underlying reader will raise the error.
+                        depth = Math.max(0, depth - 1);
+                        i++;
+                        endValue(i);
+                        break;
+                    default:
+                        if (depth == 0 && b != ',') {
+                            mode = PLAIN;
+                            isPlainIdentifier = (b >= 'a' && b <= 'z') || (b >= 'A' && b <= 'Z') || b == '_' || b == '$';
+                            lastPlainByte = b;
+                        } else if (depth == 0) {
+                            // A comma at the top level is invalid; let the underlying reader raise the error.
+                            i++;
+                            complete(i);
+                            break;
+                        }
+                        i++;
+                        break;
+                }
+            }
+            position = i;
+        }
+
+        /**
+         * Handles the end of a string or quoted symbol.
+         */
+        private void endString(int end, boolean isQuotedSymbol, boolean isLongString) {
+            mode = modeAfterString;
+            if (mode == CODE && depth == 0) {
+                if (isQuotedSymbol || isLongString) {
+                    pend(end, isLongString);
+                } else {
+                    complete(end);
+                }
+            }
+        }
+
+        /**
+         * Handles the end of a container or lob.
+         */
+        private void endValue(int end) {
+            if (depth == 0) {
+                complete(end);
+            }
+        }
+    }
+}
@@ -0,0 +1,251 @@
+// Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+// SPDX-License-Identifier: Apache-2.0
+package com.amazon.ion.impl;
+
+import com.amazon.ion.Decimal;
+import com.amazon.ion.IntegerSize;
+import com.amazon.ion.IonException;
+import com.amazon.ion.IonReader;
+import com.amazon.ion.IonType;
+import com.amazon.ion.SymbolTable;
+import com.amazon.ion.SymbolToken;
+import com.amazon.ion.Timestamp;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.function.Function;
+
+/**
+ * An IonReader over a stream that had no data available when the reader was built, making it impossible to determine
+ * whether the stream contains text or binary Ion. The decision is deferred until {@link #next()} or
+ * {@link #hasNext()} finds that at least one byte is available, at which point the reader for the detected format is
+ * created and all calls are delegated to it. Until then, the reader behaves as an incremental reader positioned before
+ * the first value of an empty stream.
+ */
+final class IonReaderDeferredFormat implements IonReader {
+
+    private final InputStream source;
+
+    // Creates the reader for the detected format, given the bytes already read from the source.
+    private final Function<byte[], IonReader> readerFactory;
+
+    // The reader for the detected format, or null if no data has yet been available.
+    private IonReader delegate = null;
+
+    /**
+     * @param source the stream from which to read Ion.
+     * @param readerFactory creates the reader for the detected format, given the bytes already read from the source,
+     *                      which the created reader must read before the rest of the source.
+     */
+    IonReaderDeferredFormat(InputStream source, Function<byte[], IonReader> readerFactory) {
+        this.source = source;
+        this.readerFactory = readerFactory;
+    }
+
+    /**
+     * Creates the delegate reader if it has not yet been created and at least one byte is available from the source.
+     * @return true if the delegate reader exists; otherwise, false.
+     */
+    private boolean detectFormat() {
+        if (delegate != null) {
+            return true;
+        }
+        int b;
+        try {
+            b = source.read();
+        } catch (EOFException e) {
+            // Certain InputStream implementations (e.g. GZIPInputStream) throw EOFException if more bytes are requested
+            // to read than are currently available.
+            b = -1;
+        } catch (IOException e) {
+            throw new IonException(e);
+        }
+        if (b < 0) {
+            return false;
+        }
+        delegate = readerFactory.apply(new byte[] {(byte) b});
+        return true;
+    }
+
+    /**
+     * @return the delegate reader.
+     * @throws IllegalStateException if the reader is not positioned on a value because no data has been available.
+     */
+    private IonReader current() {
+        if (delegate == null) {
+            throw new IllegalStateException("The reader is not positioned on a value.");
+        }
+        return delegate;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return detectFormat() && delegate.hasNext();
+    }
+
+    @Override
+    public IonType next() {
+        return detectFormat() ? delegate.next() : null;
+    }
+
+    @Override
+    public void stepIn() {
+        current().stepIn();
+    }
+
+    @Override
+    public void stepOut() {
+        current().stepOut();
+    }
+
+    @Override
+    public int getDepth() {
+        return delegate == null ? 0 : delegate.getDepth();
+    }
+
+    @Override
+    public SymbolTable getSymbolTable() {
+        return delegate == null ? SharedSymbolTable.getSystemSymbolTable(1) : delegate.getSymbolTable();
+    }
+
+    @Override
+    public IonType getType() {
+        return delegate == null ? null : delegate.getType();
+    }
+
+    @Override
+    public IntegerSize getIntegerSize() {
+        return delegate == null ? null : delegate.getIntegerSize();
+    }
+
+    @Override
+    public String[] getTypeAnnotations() {
+        return current().getTypeAnnotations();
+    }
+
+    @Override
+    public SymbolToken[] getTypeAnnotationSymbols() {
+        return current().getTypeAnnotationSymbols();
+    }
+
+    @Override
+    public Iterator<String> iterateTypeAnnotations() {
+        return current().iterateTypeAnnotations();
+    }
+
+    @Override
+    public int getFieldId() {
+        return current().getFieldId();
+    }
+
+    @Override
+    public String getFieldName() {
+        return current().getFieldName();
+    }
+
+    @Override
+    public SymbolToken getFieldNameSymbol() {
+        return current().getFieldNameSymbol();
+    }
+
+    @Override
+    public boolean isNullValue() {
+        return current().isNullValue();
+    }
+
+    @Override
+    public boolean isInStruct() {
+        return delegate != null && delegate.isInStruct();
+    }
+
+    @Override
+    public boolean booleanValue() {
+        return current().booleanValue();
+    }
+
+    @Override
+    public int intValue() {
+        return current().intValue();
+    }
+
+    @Override
+    public long longValue() {
+        return current().longValue();
+    }
+
+    @Override
+    public BigInteger bigIntegerValue() {
+        return current().bigIntegerValue();
+    }
+
+    @Override
+    public double doubleValue() {
+        return current().doubleValue();
+    }
+
+    @Override
+    public BigDecimal bigDecimalValue() {
+        return current().bigDecimalValue();
+    }
+
+    @Override
+    public Decimal decimalValue() {
+        return current().decimalValue();
+    }
+
+    @Override
+    public Date dateValue() {
+        return current().dateValue();
+    }
+
+    @Override
+    public Timestamp timestampValue() {
+        return current().timestampValue();
+    }
+
+    @Override
+    public String stringValue() {
+        return current().stringValue();
+    }
+
+    @Override
+    public SymbolToken symbolValue() {
+        return current().symbolValue();
+    }
+
+    @Override
+    public int byteSize() {
+        return current().byteSize();
+    }
+
+    @Override
+    public byte[] newBytes() {
+        return current().newBytes();
+    }
+
+    @Override
+    public int getBytes(byte[] buffer, int offset, int len) {
+        return current().getBytes(buffer, offset, len);
+    }
+
+    /**
+     * Facets are available only once the format has been detected, because they depend on the format.
+     */
+    @Override
+    public <T> T asFacet(Class<T> facetType) {
+        return delegate == null ? null : delegate.asFacet(facetType);
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (delegate == null) {
+            source.close();
+        } else {
+            delegate.close();
+        }
+    }
+}
@@ -1206,6 +1206,9 @@ final class IonReaderTextRawTokensX
         int c;
 
         for (;;) {
+            // Only delimiters matter while skipping a container, so everything else is skipped directly from the
+            // stream's buffer without being tokenized.
+            _stream.consumeRun(IonTokenConstsX.SKIPPED_CONTAINER_RUN, null);
             c = skip_over_whitespace();
             switch (c) {
             case -1:
@@ -1841,6 +1844,7 @@ final class IonReaderTextRawTokensX
 
     private final int skip_over_symbol_identifier(SavePoint sp) throws IOException
     {
+        _stream.consumeRun(IonTokenConstsX.SYMBOL_IDENTIFIER_RUN, null);
         int c = read_char();
 
         while(IonTokenConstsX.isValidSymbolCharacter(c)) {
@@ -1855,6 +1859,7 @@ final class IonReaderTextRawTokensX
 
     protected void load_symbol_identifier(StringBuilder sb) throws IOException
     {
+        _stream.consumeRun(IonTokenConstsX.SYMBOL_IDENTIFIER_RUN, sb);
         int c = read_char();
         while(IonTokenConstsX.isValidSymbolCharacter(c)) {
             sb.append((char)c);
@@ -1919,6 +1924,7 @@ final class IonReaderTextRawTokensX
         // quoted symbol
 
         for (;;) {
+            _stream.consumeRun(IonTokenConstsX.SKIPPED_QUOTED_RUN, null);
             c = read_string_char(ProhibitedCharacters.NONE);
             switch (c) {
             case -1: unexpected_eof();
@@ -2000,6 +2006,8 @@ final class IonReaderTextRawTokensX
     {
         int c;
         for (;;) {
+            // Characters that need no special handling are skipped directly from the stream's buffer.
+            _stream.consumeRun(IonTokenConstsX.SKIPPED_STRING_RUN, null);
             c = read_string_char(ProhibitedCharacters.NONE);
             switch (c) {
             case -1:
@@ -2025,6 +2033,11 @@ final class IonReaderTextRawTokensX
         boolean expectLowSurrogate = false;
 
         for (;;) {
+            if (!expectLowSurrogate) {
+                // Plain ASCII characters need no escape, UTF-8, or surrogate handling, so they are copied directly
+                // from the stream's buffer. Anything else is handled below, one character at a time.
+                _stream.consumeRun(IonTokenConstsX.PLAIN_STRING_RUN, sb);
+            }
             c = read_string_char(ProhibitedCharacters.SHORT_CHAR);
             switch (c) {
             case CharacterSequence.CHAR_SEQ_ESCAPED_NEWLINE_SEQUENCE_1:
@@ -2136,6 +2149,7 @@ final class IonReaderTextRawTokensX
         // starts AFTER the 3 quotes have been consumed
         int c;
         for (;;) {
+            _stream.consumeRun(IonTokenConstsX.SKIPPED_QUOTED_RUN, null);
             c = read_char();
             switch (c) {
             case -1:
@@ -2399,10 +2413,12 @@ final class IonReaderTextRawTokensX
 
     private void skip_over_blob(SavePoint sp) throws IOException
     {
+        _stream.consumeRun(IonTokenConstsX.SKIPPED_BLOB_RUN, null);
         int c = skip_over_blob_whitespace();
         for (;;) {
             if (c == UnifiedInputStreamX.EOF) break;
             if (c == '}') break;
+            _stream.consumeRun(IonTokenConstsX.SKIPPED_BLOB_RUN, null);
             c = skip_over_blob_whitespace();
         }
         if (sp != null) {
@@ -193,6 +193,188 @@ class IonReaderTextSystemX
         }
     }
 
+    // The exactly-representable powers of ten, used by the float fast path.
+    private static final double[] EXACT_POWERS_OF_TEN = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+        1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    // The largest mantissa for which every smaller integer is exactly representable as a double.
+    private static final long MAX_EXACT_DOUBLE_MANTISSA = 1L << 53;
+
+    // The maximum number of decimal digits that may be accumulated into a long without overflow.
+    private static final int MAX_SAFE_LONG_DIGITS = 18;
+
+    /**
+     * Attempts to set the current value directly from the characters of
+     * the current numeric token, without creating a String or parsing it
+     * through BigInteger, BigDecimal, or Double. This covers decimal ints
+     * that fit in a long, decimals whose coefficients fit in a long, and
+     * floats that can be computed exactly from a long mantissa and a small
+     * power of ten. Anything else, including malformed tokens and negative
+     * zero decimals, is left to the general path, which remains the
+     * authority on errors.
+     * @return true if the value was set; otherwise, false.
+     */
+    private boolean load_numeric_value_without_string(CharSequence cs, int token_type)
+    {
+        switch (token_type) {
+        case IonTokenConstsX.TOKEN_UNKNOWN_NUMERIC:
+        case IonTokenConstsX.TOKEN_INT:
+        case IonTokenConstsX.TOKEN_DECIMAL:
+        case IonTokenConstsX.TOKEN_FLOAT:
+            break;
+        default:
+            return false;
+        }
+        switch (_value_type) {
+        case INT:
+            return load_long_value(cs);
+        case DECIMAL:
+        case FLOAT:
+            return load_decimal_or_float_value(cs, _value_type == IonType.FLOAT);
+        default:
+            return false;
+        }
+    }
+
+    /**
+     * Accumulates the digits of a decimal-radix int into a long, with the
+     * same overflow detection as {@link Long#parseLong(String)}.
+     */
+    private boolean load_long_value(CharSequence cs)
+    {
+        int len = cs.length();
+        int i = 0;
+        boolean isNegative = len > 0 && cs.charAt(0) == '-';
+        if (isNegative) {
+            i = 1;
+        }
+        if (i == len) {
+            return false;
+        }
+        // Accumulate negatively, as the magnitude of Long.MIN_VALUE exceeds that of Long.MAX_VALUE.
+        long limit = isNegative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+        long multiplicationLimit = limit / 10;
+        long value = 0;
+        for (; i < len; i++) {
+            int digit = cs.charAt(i) - '0';
+            if (digit < 0 || digit > 9 || value < multiplicationLimit) {
+                return false;
+            }
+            value *= 10;
+            if (value < limit + digit) {
+                return false;
+            }
+            value -= digit;
+        }
+        if (!isNegative) {
+            value = -value;
+        }
+        if (value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE) {
+            _v.setValue((int) value);
+        }
+        else {
+            _v.setValue(value);
+        }
+        return true;
+    }
+
+    /**
+     * Reads a decimal or float of the form {@code -?digits(.digits)?([eEdD][+-]?digits)?}
+     * (floats require an exponent, marked by 'e' or 'E')
+     * whose significant digits fit in a long. Decimals are created
+     * directly from the coefficient and scale. Floats are computed
+     * exactly from the mantissa and a power of ten when both are exactly
+     * representable as doubles, in which case the single rounding
+     * performed by the multiplication or division is correct.
+     */
+    private boolean load_decimal_or_float_value(CharSequence cs, boolean isFloat)
+    {
+        int len = cs.length();
+        int i = 0;
+        boolean isNegative = len > 0 && cs.charAt(0) == '-';
+        if (isNegative) {
+            i = 1;
+        }
+        long coefficient = 0;
+        int numberOfDigits = 0;
+        int numberOfFractionDigits = 0;
+        boolean isFraction = false;
+        char c = 0;
+        for (; i < len; i++) {
+            c = cs.charAt(i);
+            if (c >= '0' && c <= '9') {
+                if (++numberOfDigits > MAX_SAFE_LONG_DIGITS) {
+                    return false;
+                }
+                coefficient = coefficient * 10 + (c - '0');
+                if (isFraction) {
+                    numberOfFractionDigits++;
+                }
+            }
+            else if (c == '.' && !isFraction && numberOfDigits > 0) {
+                isFraction = true;
+            }
+            else {
+                break;
+            }
+        }
+        if (numberOfDigits == 0) {
+            return false;
+        }
+        long exponent = 0;
+        if (i < len) {
+            if (c != 'e' && c != 'E' && (isFloat || (c != 'd' && c != 'D'))) {
+                return false;
+            }
+            i++;
+            boolean isExponentNegative = false;
+            if (i < len && (cs.charAt(i) == '-' || cs.charAt(i) == '+')) {
+                isExponentNegative = cs.charAt(i) == '-';
+                i++;
+            }
+            if (i == len || len - i > 9) {
+                return false;
+            }
+            for (; i < len; i++) {
+                int digit = cs.charAt(i) - '0';
+                if (digit < 0 || digit > 9) {
+                    return false;
+                }
+                exponent = exponent * 10 + digit;
+            }
+            if (isExponentNegative) {
+                exponent = -exponent;
+            }
+        }
+        else if (isFloat) {
+            // Float tokens always have an exponent.
+            return false;
+        }
+        if (isFloat) {
+            long powerOfTen = exponent - numberOfFractionDigits;
+            if (coefficient > MAX_EXACT_DOUBLE_MANTISSA || powerOfTen < -22 || powerOfTen > 22) {
+                return false;
+            }
+            double value = coefficient;
+            if (powerOfTen < 0) {
+                value /= EXACT_POWERS_OF_TEN[(int) -powerOfTen];
+            }
+            else {
+                value *= EXACT_POWERS_OF_TEN[(int) powerOfTen];
+            }
+            _v.setValue(isNegative ? -value : value);
+            return true;
+        }
+        long scale = numberOfFractionDigits - exponent;
+        if (scale < Integer.MIN_VALUE || scale > Integer.MAX_VALUE || (isNegative && coefficient == 0)) {
+            return false;
+        }
+        _v.setValue(Decimal.valueOf(isNegative ? -coefficient : coefficient, (int) scale));
+        return true;
+    }
+
     private final void load_scalar_value() throws IOException {
         // make sure we're trying to load a scalar value here
         switch(_value_type) {
@@ -240,6 +422,11 @@ class IonReaderTextSystemX
         }
 
 
+        if (load_numeric_value_without_string(cs, token_type)) {
+            clear_current_value_buffer();
+            return;
+        }
+
         int          len = cs.length();
         String       s  = cs.toString();
 
@@ -485,6 +485,89 @@ final class IonTokenConstsX
         return (isValidSymbolCharacter[c & 0xff] && is8bitValue(c));
     }
 
+    /**
+     * The characters that may be consumed as a run by
+     * {@link UnifiedInputStreamX#consumeRun(boolean[], StringBuilder)}
+     * while loading an identifier symbol.
+     */
+    static final boolean[] SYMBOL_IDENTIFIER_RUN = isValidSymbolCharacter;
+
+    /**
+     * The characters that may be consumed as a run while loading the
+     * content of a short string: printable ASCII characters other than
+     * the quote and the escape character. These never require escape,
+     * newline, or UTF-8 processing, and are never prohibited.
+     */
+    static final boolean[] PLAIN_STRING_RUN = makePlainStringRunArray();
+    private static final boolean [] makePlainStringRunArray() {
+        boolean [] values = new boolean [256];
+
+        for (int ii=0x20; ii<=0x7E; ii++) {
+            values[ii] = true;
+        }
+        values['"'] = false;
+        values['\\'] = false;
+
+        return values;
+    }
+
+    /**
+     * The characters that may be consumed as a run while skipping a short
+     * string: all except the quote, the escape character, and the
+     * newline characters, which require line counting. For byte input
+     * this includes all non-ASCII UTF-8 bytes, none of which can be
+     * mistaken for an ASCII character.
+     */
+    static final boolean[] SKIPPED_STRING_RUN = makeSkippedStringRunArray();
+    private static final boolean [] makeSkippedStringRunArray() {
+        boolean [] values = new boolean [256];
+
+        for (int ii=0; ii<values.length; ii++) {
+            values[ii] = true;
+        }
+        values['"'] = false;
+        values['\\'] = false;
+        values['\r'] = false;
+        values['\n'] = false;
+
+        return values;
+    }
+
+    /**
+     * The characters that may be consumed as a run while skipping the
+     * content of a container: all except the characters that open or
+     * close containers, strings, symbols, lobs, and comments, and the
+     * newline characters, which require line counting.
+     */
+    static final boolean[] SKIPPED_CONTAINER_RUN = makeSkippedRunArray("{}[]()\"'/\r\n");
+
+    /**
+     * The characters that may be consumed as a run while skipping a
+     * quoted symbol or a long string: all except the quote, the escape
+     * character, and the newline characters.
+     */
+    static final boolean[] SKIPPED_QUOTED_RUN = makeSkippedRunArray("'\\\r\n");
+
+    /**
+     * The characters that may be consumed as a run while skipping the
+     * content of a blob: all except the closing brace, the comment
+     * start character, and the newline characters.
+     */
+    static final boolean[] SKIPPED_BLOB_RUN = makeSkippedRunArray("}/\r\n");
+
+    private static final boolean [] makeSkippedRunArray(String excluded) {
+        boolean [] values = new boolean [256];
+
+        for (int ii=0; ii<values.length; ii++) {
+            values[ii] = true;
+        }
+        for (int ii=0; ii<excluded.length(); ii++) {
+            values[excluded.charAt(ii)] = false;
+        }
+
+        return values;
+    }
+
     private static final boolean isValidStartSymbolCharacter[] = makeIsValidStartSymbolCharacterArray();
     private static final boolean [] makeIsValidStartSymbolCharacterArray() {
         boolean [] values = new boolean [256];
@@ -49,18 +49,64 @@ final class IonTypeID {
         null // The 0xF type code is illegal in Ion 1.0.
     };
 
+    // The types of the Ion 1.1 length-prefixed values with opcodes 0xF5 through 0xFF.
+    private static final IonType[] VARIABLE_LENGTH_TYPES_1_1 = new IonType[] {
+        IonType.INT,
+        IonType.DECIMAL,
+        IonType.TIMESTAMP,
+        IonType.STRING,
+        IonType.SYMBOL,
+        IonType.LIST,
+        IonType.SEXP,
+        IonType.STRUCT,
+        IonType.STRUCT,
+        IonType.BLOB,
+        IonType.CLOB
+    };
+
+    // The lengths of the Ion 1.1 floats with opcodes 0x5A through 0x5D.
+    private static final int[] FLOAT_LENGTHS_1_1 = new int[] {0, 2, 4, 8};
+
+    // The lengths of the Ion 1.1 short-form timestamps with opcodes 0x70 through 0x7C.
+    private static final int[] SHORT_TIMESTAMP_LENGTHS_1_1 = new int[] {1, 2, 2, 4, 5, 6, 7, 8, 5, 5, 7, 8, 9};
+
+    // The Ion 1.1 types that may follow the typed null opcode (0xEB), indexed by the value of the byte that follows.
+    private static final IonType[] TYPED_NULL_TYPES_1_1 = new IonType[] {
+        IonType.BOOL,
+        IonType.INT,
+        IonType.FLOAT,
+        IonType.DECIMAL,
+        IonType.TIMESTAMP,
+        IonType.STRING,
+        IonType.SYMBOL,
+        IonType.BLOB,
+        IonType.CLOB,
+        IonType.LIST,
+        IonType.SEXP,
+        IonType.STRUCT
+    };
+
     // Singleton invalid type ID.
     private static final IonTypeID ALWAYS_INVALID_TYPE_ID = new IonTypeID((byte) 0xFF, 0);
 
     // Pre-compute all possible type ID bytes.
     static final IonTypeID[] TYPE_IDS_NO_IVM;
     static final IonTypeID[] TYPE_IDS_1_0;
+    static final IonTypeID[] TYPE_IDS_1_1;
+    // Ion 1.1 typed nulls, indexed by the value of the byte that follows the typed null opcode (0xEB).
+    static final IonTypeID[] NULL_TYPE_IDS_1_1;
     static {
         TYPE_IDS_NO_IVM = new IonTypeID[NUMBER_OF_BYTES];
         TYPE_IDS_1_0 = new IonTypeID[NUMBER_OF_BYTES];
+        TYPE_IDS_1_1 = new IonTypeID[NUMBER_OF_BYTES];
         for (int b = 0x00; b < NUMBER_OF_BYTES; b++) {
             TYPE_IDS_NO_IVM[b] = ALWAYS_INVALID_TYPE_ID;
             TYPE_IDS_1_0[b] = new IonTypeID((byte) b, 0);
+            TYPE_IDS_1_1[b] = new IonTypeID((byte) b, 1);
+        }
+        NULL_TYPE_IDS_1_1 = new IonTypeID[TYPED_NULL_TYPES_1_1.length];
+        for (int i = 0; i < TYPED_NULL_TYPES_1_1.length; i++) {
+            NULL_TYPE_IDS_1_1[i] = new IonTypeID(TYPED_NULL_TYPES_1_1[i]);
         }
     }
 
@@ -79,6 +125,13 @@ final class IonTypeID {
     // For annotation wrappers, denotes whether tokens are VarSyms.
     final boolean isInlineable; // Unused in Ion 1.0
 
+    // In Ion 1.1, `length` is -1 for values whose length is not known from the opcode alone. When `variableLength` is
+    // true, the length is encoded in a FlexUInt that follows the opcode. Otherwise, the value is self-delimiting, i.e.
+    // its representation is a single FlexInt (decimal 0x6F) or FlexUInt (symbol address 0xE3). For annotation
+    // wrappers, `length` is the number of annotations, or -1 if the annotations sequence is length-prefixed. The typed
+    // null opcode (0xEB) is a null with length 1: the following byte, which must be resolved using
+    // NULL_TYPE_IDS_1_1, conveys the type.
+
     /**
      * Determines whether the Ion spec allows this particular upperNibble/lowerNibble pair.
      */
@@ -141,10 +194,165 @@ final class IonTypeID {
             this.isDelimited = false;
             this.isInlineable = false;
         } else {
-            throw new IllegalStateException("Only Ion 1.0 is currently supported.");
+            int b = id & 0xFF;
+            byte upperNibble = (byte) ((id >> BITS_PER_NIBBLE) & LOW_NIBBLE_BITMASK);
+            this.lowerNibble = (byte) (id & LOW_NIBBLE_BITMASK);
+            IonType type = null;
+            int length = 0;
+            boolean variableLength = false;
+            boolean isNull = false;
+            boolean isNopPad = false;
+            boolean isValid = true;
+            boolean isTemplateInvocation = false;
+            int templateId = -1;
+            boolean isDelimited = false;
+            boolean isInlineable = false;
+            if (b < 0x50) {
+                // E-expressions (macro invocations).
+                isTemplateInvocation = true;
+                templateId = b < 0x40 ? b : -1;
+            } else {
+                switch (upperNibble) {
+                    case 0x5:
+                        if (lowerNibble <= 0x8) {
+                            type = IonType.INT;
+                            length = lowerNibble;
+                        } else if (lowerNibble >= 0xA && lowerNibble <= 0xD) {
+                            type = IonType.FLOAT;
+                            length = FLOAT_LENGTHS_1_1[lowerNibble - 0xA];
+                        } else if (lowerNibble >= 0xE) {
+                            // 0x5E is true; 0x5F is false.
+                            type = IonType.BOOL;
+                        }
+                        break;
+                    case 0x6:
+                        type = IonType.DECIMAL;
+                        // 0x6F is a positive zero decimal followed by a FlexInt exponent.
+                        length = lowerNibble == 0xF ? -1 : lowerNibble;
+                        break;
+                    case 0x7:
+                        if (lowerNibble < SHORT_TIMESTAMP_LENGTHS_1_1.length) {
+                            type = IonType.TIMESTAMP;
+                            length = SHORT_TIMESTAMP_LENGTHS_1_1[lowerNibble];
+                        }
+                        break;
+                    case 0x8:
+                        type = IonType.STRING;
+                        length = lowerNibble;
+                        break;
+                    case 0x9:
+                        type = IonType.SYMBOL;
+                        length = lowerNibble;
+                        isInlineable = true;
+                        break;
+                    case 0xA:
+                        type = IonType.LIST;
+                        length = lowerNibble;
+                        break;
+                    case 0xB:
+                        type = IonType.SEXP;
+                        length = lowerNibble;
+                        break;
+                    case 0xC:
+                        type = IonType.STRUCT;
+                        length = lowerNibble;
+                        break;
+                    case 0xD:
+                        type = IonType.STRUCT;
+                        length = lowerNibble;
+                        isInlineable = true;
+                        break;
+                    case 0xE:
+                        if (lowerNibble >= 0x1 && lowerNibble <= 0x3) {
+                            // Symbol addresses. 0xE3 is followed by a FlexUInt.
+                            type = IonType.SYMBOL;
+                            length = lowerNibble == 0x3 ? -1 : lowerNibble;
+                        } else if (lowerNibble >= 0x4 && lowerNibble <= 0x9) {
+                            type = ION_TYPE_ANNOTATION_WRAPPER;
+                            isInlineable = lowerNibble >= 0x7;
+                            int numberOfAnnotations = (lowerNibble - 0x4) % 3 + 1;
+                            if (numberOfAnnotations == 3) {
+                                variableLength = true;
+                                length = -1;
+                            } else {
+                                length = numberOfAnnotations;
+                            }
+                        } else if (lowerNibble == 0xA) {
+                            type = IonType.NULL;
+                            isNull = true;
+                        } else if (lowerNibble == 0xB) {
+                            type = IonType.NULL;
+                            isNull = true;
+                            length = 1;
+                        } else if (lowerNibble == 0xC) {
+                            isNopPad = true;
+                        } else if (lowerNibble == 0xD) {
+                            isNopPad = true;
+                            variableLength = true;
+                            length = -1;
+                        } else if (lowerNibble == 0xF) {
+                            // System macro invocation.
+                            isTemplateInvocation = true;
+                        }
+                        // 0xE0 is the first byte of an IVM, which is handled by the cursor. 0xEE is reserved.
+                        break;
+                    case 0xF:
+                        if (lowerNibble >= 0x1 && lowerNibble <= 0x3) {
+                            type = lowerNibble == 0x1 ? IonType.LIST : (lowerNibble == 0x2 ? IonType.SEXP : IonType.STRUCT);
+                            isDelimited = true;
+                            isInlineable = type == IonType.STRUCT;
+                            length = -1;
+                        } else if (lowerNibble == 0x4) {
+                            // E-expression with a FlexUInt macro address.
+                            isTemplateInvocation = true;
+                        } else if (lowerNibble >= 0x5) {
+                            type = VARIABLE_LENGTH_TYPES_1_1[lowerNibble - 0x5];
+                            variableLength = true;
+                            length = -1;
+                            isInlineable = lowerNibble == 0x9 || lowerNibble == 0xD;
+                        }
+                        // 0xF0 is the delimited container end marker, which is handled by the cursor.
+                        break;
+                    default:
+                        throw new IllegalStateException();
+                }
+            }
+            if (type == null && !isNopPad) {
+                isValid = false;
+            }
+            this.type = type;
+            this.length = length;
+            this.variableLength = variableLength;
+            this.isNull = isNull;
+            this.isNopPad = isNopPad;
+            this.isValid = isValid;
+            this.isNegativeInt = false;
+            this.isTemplateInvocation = isTemplateInvocation;
+            this.templateId = templateId;
+            this.isDelimited = isDelimited;
+            this.isInlineable = isInlineable;
         }
     }
 
+    /**
+     * Creates an Ion 1.1 typed null of the given type.
+     * @param type the type of the null value.
+     */
+    private IonTypeID(IonType type) {
+        this.type = type;
+        this.length = 0;
+        this.variableLength = false;
+        this.isNull = true;
+        this.isNopPad = false;
+        this.lowerNibble = NULL_VALUE_NIBBLE;
+        this.isValid = true;
+        this.isNegativeInt = false;
+        this.isTemplateInvocation = false;
+        this.templateId = -1;
+        this.isDelimited = false;
+        this.isInlineable = false;
+    }
+
     /**
      * @return a String representation of this object (for debugging).
      */
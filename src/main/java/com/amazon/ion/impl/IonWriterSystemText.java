@@ -16,7 +16,6 @@
 package com.amazon.ion.impl;
 
 import static com.amazon.ion.SystemSymbols.SYMBOLS;
-import static com.amazon.ion._Private_TrampolineKt.printTimestamp;
 import static com.amazon.ion.impl._Private_IonConstants.tidList;
 import static com.amazon.ion.impl._Private_IonConstants.tidSexp;
 import static com.amazon.ion.impl._Private_IonConstants.tidStruct;
@@ -39,6 +38,7 @@ import java.math.BigInteger;
 
 class IonWriterSystemText
     extends IonWriterSystem
+    implements _Private_DecimalWriter
 {
     /** Not null. */
     private final _Private_IonTextWriterBuilder _options;
@@ -625,6 +625,14 @@ class IonWriterSystemText
         closeValue();
     }
 
+    public void writeDecimal(long unscaledValue, int scale)
+        throws IOException
+    {
+        startValue();
+        _output.printDecimal(_options, unscaledValue, scale);
+        closeValue();
+    }
+
     public void writeTimestamp(Timestamp value) throws IOException
     {
         if (value == null) {
@@ -637,19 +645,18 @@ class IonWriterSystemText
         if (_options._timestamp_as_millis)
         {
             long millis = value.getMillis();
-            _output.appendAscii(Long.toString(millis));
+            _output.printInt(millis);
         }
         else if (_options._timestamp_as_string)
         {
             // Timestamp is ASCII-safe so this is easy
-            String valueText = printTimestamp(value, _options.getMaximumTimestampPrecisionDigits());
             _output.appendAscii('"');
-            _output.appendAscii(valueText);
+            _output.printTimestamp(value, _options.getMaximumTimestampPrecisionDigits());
             _output.appendAscii('"');
         }
         else
         {
-            _output.appendAscii(printTimestamp(value, _options.getMaximumTimestampPrecisionDigits()));
+            _output.printTimestamp(value, _options.getMaximumTimestampPrecisionDigits());
         }
 
         closeValue();
@@ -54,7 +54,7 @@ import java.math.BigInteger;
  */
 class IonWriterUser
     extends _Private_IonWriterBase
-    implements _Private_IonWriter
+    implements _Private_IonWriter, _Private_DecimalWriter
 {
     /** Factory for constructing the DOM of local symtabs. Not null. */
     private final ValueFactory _symtab_value_factory;
@@ -428,6 +428,15 @@ class IonWriterUser
         _current_writer.writeDecimal(value);
     }
 
+    public void writeDecimal(long unscaledValue, int scale) throws IOException
+    {
+        if (_current_writer instanceof _Private_DecimalWriter) {
+            ((_Private_DecimalWriter)_current_writer).writeDecimal(unscaledValue, scale);
+            return;
+        }
+        _current_writer.writeDecimal(BigDecimal.valueOf(unscaledValue, scale));
+    }
+
     public void writeFloat(double value) throws IOException
     {
         _current_writer.writeFloat(value);
@@ -0,0 +1,237 @@
+// Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+// SPDX-License-Identifier: Apache-2.0
+package com.amazon.ion.impl;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * An InputStream over a {@link FileChannel} that reads from memory-mapped windows of the file rather than issuing a
+ * read system call for each refill. The operating system's page cache serves the data through the mapping, so a
+ * refill costs a copy from the mapping into the caller's array instead of a system call, and repeated scans of a
+ * cached file do not enter the kernel at all.
+ * <p>
+ * This is not zero-copy: like any InputStream, it copies bytes into the caller's array, and the readers parse that
+ * array rather than the mapping itself. It reduces per-refill overhead, which matters most when a reader's buffer is
+ * refilled many times, e.g. for large files or small buffers.
+ * <p>
+ * A single {@link MappedByteBuffer} can address at most {@link Integer#MAX_VALUE} bytes, so files larger than the
+ * window size are mapped one window at a time; when the current window is exhausted, the next window is mapped
+ * starting at the current position. Because the readers copy the bytes they need into their own buffers, window
+ * boundaries may fall anywhere, including in the middle of a value.
+ * <p>
+ * Closing this stream closes the underlying channel.
+ */
+public class MappedFileInputStream extends InputStream {
+
+    /**
+     * The default maximum number of bytes mapped at once.
+     */
+    static final long DEFAULT_WINDOW_SIZE = 1L << 30;
+
+    // The channel from which windows are mapped.
+    private final FileChannel channel;
+
+    // The maximum number of bytes mapped at once.
+    private final long windowSize;
+
+    // The position in the file of the first byte after the region to be read, or Long.MAX_VALUE to read to the end
+    // of the file.
+    private final long end;
+
+    // The currently-mapped window, or null if no window is mapped.
+    private MappedByteBuffer window = null;
+
+    // The position in the file of the first byte in the current window.
+    private long windowStart;
+
+    // The position in the file of the first byte after the current window.
+    private long windowEnd;
+
+    // The marked position in the file, or -1 if no mark has been set.
+    private long markPosition = -1;
+
+    /**
+     * Constructs a stream that reads the given channel from its current position to its end.
+     * @param channel a readable FileChannel.
+     * @throws IOException if the channel's position cannot be determined.
+     */
+    public MappedFileInputStream(FileChannel channel) throws IOException {
+        this(channel, DEFAULT_WINDOW_SIZE);
+    }
+
+    /**
+     * Constructs a stream that reads the given channel from its current position to its end, mapping at most
+     * `windowSize` bytes at once.
+     * @param channel a readable FileChannel.
+     * @param windowSize the maximum number of bytes to map at once. Must be positive and no larger than
+     *                   {@link Integer#MAX_VALUE}.
+     * @throws IOException if the channel's position cannot be determined.
+     */
+    MappedFileInputStream(FileChannel channel, long windowSize) throws IOException {
+        this(channel, windowSize, checkNotNull(channel).position(), Long.MAX_VALUE);
+    }
+
+    /**
+     * Constructs a stream that reads at most `length` bytes of the given channel, starting at the given position.
+     * Only that region of the file is mapped, which limits the address space used when many streams are open over
+     * small regions of the same file.
+     * @param channel a readable FileChannel.
+     * @param position the position in the file of the first byte to read. Must not be negative.
+     * @param length the maximum number of bytes to read. Must not be negative.
+     */
+    public MappedFileInputStream(FileChannel channel, long position, long length) {
+        this(
+            checkNotNull(channel),
+            DEFAULT_WINDOW_SIZE,
+            position,
+            length > Long.MAX_VALUE - position ? Long.MAX_VALUE : position + length
+        );
+        if (position < 0 || length < 0) {
+            throw new IllegalArgumentException("Position and length must not be negative.");
+        }
+    }
+
+    private MappedFileInputStream(FileChannel channel, long windowSize, long start, long end) {
+        if (windowSize <= 0 || windowSize > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Window size must be between 1 and Integer.MAX_VALUE.");
+        }
+        this.channel = channel;
+        this.windowSize = windowSize;
+        this.end = end;
+        this.windowStart = start;
+        this.windowEnd = windowStart;
+    }
+
+    private static FileChannel checkNotNull(FileChannel channel) {
+        if (channel == null) {
+            throw new NullPointerException("Cannot read from a null FileChannel.");
+        }
+        return channel;
+    }
+
+    /**
+     * @return the position in the file of the first byte after the region to be read.
+     * @throws IOException if thrown by the channel.
+     */
+    private long end() throws IOException {
+        return Math.min(channel.size(), end);
+    }
+
+    /**
+     * @return the position in the file of the next byte to be read.
+     */
+    private long position() {
+        return window == null ? windowEnd : windowStart + window.position();
+    }
+
+    /**
+     * Maps the window that begins at the given file position.
+     * @param position the file position at which the window will begin.
+     * @return false if the position is at or beyond the end of the region to be read; otherwise, true.
+     * @throws IOException if thrown by the channel.
+     */
+    private boolean mapWindowAt(long position) throws IOException {
+        long size = end();
+        window = null;
+        windowStart = position;
+        windowEnd = position;
+        if (position >= size) {
+            return false;
+        }
+        windowEnd = Math.min(size, position + windowSize);
+        window = channel.map(FileChannel.MapMode.READ_ONLY, windowStart, windowEnd - windowStart);
+        return true;
+    }
+
+    /**
+     * Ensures that at least one byte is available in the current window, mapping the next window if necessary.
+     * @return false if the end of the region to be read has been reached; otherwise, true.
+     * @throws IOException if thrown by the channel.
+     */
+    private boolean ensureAvailable() throws IOException {
+        if (window != null && window.hasRemaining()) {
+            return true;
+        }
+        return mapWindowAt(position());
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (!ensureAvailable()) {
+            return -1;
+        }
+        return window.get() & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        if (!ensureAvailable()) {
+            return -1;
+        }
+        int numberOfBytesToRead = Math.min(len, window.remaining());
+        window.get(b, off, numberOfBytesToRead);
+        return numberOfBytesToRead;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        if (n <= 0) {
+            return 0;
+        }
+        long position = position();
+        long target = Math.min(end(), position + n);
+        if (target <= position) {
+            return 0;
+        }
+        if (window != null && target < windowEnd) {
+            window.position((int) (target - windowStart));
+        } else {
+            // Defer mapping until the next read.
+            window = null;
+            windowStart = target;
+            windowEnd = target;
+        }
+        return target - position;
+    }
+
+    @Override
+    public int available() throws IOException {
+        return (int) Math.min(Integer.MAX_VALUE, Math.max(0, end() - position()));
+    }
+
+    @Override
+    public boolean markSupported() {
+        return true;
+    }
+
+    @Override
+    public synchronized void mark(int readLimit) {
+        markPosition = position();
+    }
+
+    @Override
+    public synchronized void reset() throws IOException {
+        if (markPosition < 0) {
+            throw new IOException("Mark not set.");
+        }
+        if (window != null && markPosition >= windowStart && markPosition <= windowEnd) {
+            window.position((int) (markPosition - windowStart));
+        } else {
+            window = null;
+            windowStart = markPosition;
+            windowEnd = markPosition;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        window = null;
+        channel.close();
+    }
+}
@@ -0,0 +1,249 @@
+// Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+// SPDX-License-Identifier: Apache-2.0
+package com.amazon.ion.impl;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * An InputStream that reads ahead from another InputStream on a dedicated producer thread. The producer fills a bounded
+ * ring of byte blocks, which are handed to the consuming thread in order and then recycled. This allows the work
+ * performed by the source stream, such as I/O and decompression, to overlap with the work performed by the consumer,
+ * such as parsing.
+ * <p>
+ * Like other InputStreams, instances of this class must be consumed by one thread at a time. The source stream is
+ * only accessed by the producer thread until this stream is closed, at which point the source is closed and the
+ * producer is stopped.
+ */
+final class PrefetchingInputStream extends InputStream {
+
+    // The size of each block, in bytes.
+    static final int BLOCK_SIZE = 64 * 1024;
+
+    // The number of blocks in the ring, which bounds the number of bytes read ahead.
+    static final int NUMBER_OF_BLOCKS = 4;
+
+    /**
+     * A block of bytes read from the source.
+     */
+    private static final class Block {
+        final byte[] data;
+        int length = 0;
+
+        Block(int size) {
+            data = new byte[size];
+        }
+    }
+
+    // Marks the end of the source. Any error raised by the source is held in 'producerError'.
+    private static final Block END = new Block(0);
+
+    private final InputStream source;
+
+    // Blocks that have been filled by the producer and not yet consumed, in order. Has room for every block in the ring
+    // plus END, so that the producer never blocks when signaling the end of the source.
+    private final BlockingQueue<Block> filledBlocks = new ArrayBlockingQueue<>(NUMBER_OF_BLOCKS + 1);
+
+    // Blocks that have been consumed and may be refilled by the producer.
+    private final BlockingQueue<Block> emptyBlocks = new ArrayBlockingQueue<>(NUMBER_OF_BLOCKS);
+
+    private final Thread producer;
+
+    // The error raised by the source, if any. Written by the producer before it enqueues END.
+    private volatile Throwable producerError = null;
+
+    // The block currently being consumed, or null if a new block must be taken.
+    private Block current = null;
+
+    // The index of the next byte to consume from 'current'.
+    private int position = 0;
+
+    private boolean isEnd = false;
+    private volatile boolean isClosed = false;
+
+    /**
+     * Starts prefetching from the given source.
+     * @param source the stream to read ahead.
+     */
+    PrefetchingInputStream(InputStream source) {
+        this.source = source;
+        for (int i = 0; i < NUMBER_OF_BLOCKS; i++) {
+            emptyBlocks.add(new Block(BLOCK_SIZE));
+        }
+        producer = new Thread(this::produce, "ion-reader-prefetch");
+        producer.setDaemon(true);
+        producer.start();
+    }
+
+    /**
+     * Fills empty blocks from the source until the source ends, fails, or this stream is closed.
+     */
+    private void produce() {
+        try {
+            while (!isClosed) {
+                Block block = emptyBlocks.take();
+                int length = 0;
+                int numberOfBytesRead = 0;
+                try {
+                    // Fill the entire block if possible; this minimizes the number of hand-offs between threads.
+                    while (length < block.data.length
+                        && (numberOfBytesRead = source.read(block.data, length, block.data.length - length)) >= 0) {
+                        length += numberOfBytesRead;
+                    }
+                } catch (Throwable t) {
+                    if (isClosed) {
+                        // The source was closed to unblock this read. Nothing will consume the remaining blocks.
+                        return;
+                    }
+                    producerError = t;
+                }
+                if (length > 0) {
+                    // Bytes read before any error are delivered before the error is raised.
+                    block.length = length;
+                    filledBlocks.put(block);
+                }
+                if (numberOfBytesRead < 0 || producerError != null) {
+                    break;
+                }
+            }
+        } catch (InterruptedException e) {
+            // The stream was closed. Nothing will consume the remaining blocks.
+            return;
+        }
+        // There is always room for END; see 'filledBlocks'.
+        filledBlocks.offer(END);
+    }
+
+    /**
+     * Ensures that 'current' has at least one unconsumed byte, taking the next filled block if necessary.
+     * @return false if the source has ended; otherwise, true.
+     * @throws IOException if the source raised an error or the consuming thread was interrupted.
+     */
+    private boolean ensureCurrentBlock() throws IOException {
+        if (current != null && position < current.length) {
+            return true;
+        }
+        if (isEnd) {
+            return false;
+        }
+        if (isClosed) {
+            throw new IOException("Stream closed.");
+        }
+        if (current != null) {
+            emptyBlocks.add(current);
+            current = null;
+        }
+        Block next;
+        try {
+            next = filledBlocks.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for data.");
+        }
+        if (next == END) {
+            isEnd = true;
+            Throwable error = producerError;
+            if (error instanceof IOException) {
+                throw (IOException) error;
+            } else if (error instanceof RuntimeException) {
+                throw (RuntimeException) error;
+            } else if (error instanceof Error) {
+                throw (Error) error;
+            }
+            return false;
+        }
+        current = next;
+        position = 0;
+        return true;
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (!ensureCurrentBlock()) {
+            return -1;
+        }
+        return current.data[position++] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        int numberOfBytesRead = 0;
+        // Copy from as many blocks as are already available, but only wait for the first.
+        do {
+            if (!ensureCurrentBlock()) {
+                break;
+            }
+            int numberOfBytesToCopy = Math.min(len - numberOfBytesRead, current.length - position);
+            System.arraycopy(current.data, position, b, off + numberOfBytesRead, numberOfBytesToCopy);
+            position += numberOfBytesToCopy;
+            numberOfBytesRead += numberOfBytesToCopy;
+        } while (numberOfBytesRead < len && isNextBlockReady());
+        return numberOfBytesRead == 0 ? -1 : numberOfBytesRead;
+    }
+
+    /**
+     * @return true if the next block has already been filled and can be consumed without waiting. Does not include
+     *  END, which may carry an error that must not be raised after bytes have been copied.
+     */
+    private boolean isNextBlockReady() {
+        Block next = filledBlocks.peek();
+        return next != null && next != END;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        long numberOfBytesSkipped = 0;
+        while (numberOfBytesSkipped < n && ensureCurrentBlock()) {
+            int numberOfBytesToSkip = (int) Math.min(n - numberOfBytesSkipped, current.length - position);
+            position += numberOfBytesToSkip;
+            numberOfBytesSkipped += numberOfBytesToSkip;
+        }
+        return numberOfBytesSkipped;
+    }
+
+    @Override
+    public int available() {
+        return current == null ? 0 : current.length - position;
+    }
+
+    /**
+     * Closes the source, which unblocks any read from the source that is in progress, then stops the producer and
+     * waits for it to finish.
+     * @throws IOException if thrown by the source.
+     */
+    @Override
+    public void close() throws IOException {
+        if (isClosed) {
+            return;
+        }
+        isClosed = true;
+        // Reads from sources such as sockets and pipes ignore interrupts, so the source must be closed before waiting
+        // for the producer. Interrupting the producer stops it if it is waiting for an empty block.
+        producer.interrupt();
+        try {
+            source.close();
+        } finally {
+            boolean isInterrupted = false;
+            while (true) {
+                try {
+                    producer.join();
+                    break;
+                } catch (InterruptedException e) {
+                    isInterrupted = true;
+                }
+            }
+            if (isInterrupted) {
+                Thread.currentThread().interrupt();
+            }
+            current = null;
+            filledBlocks.clear();
+            emptyBlocks.clear();
+        }
+    }
+}
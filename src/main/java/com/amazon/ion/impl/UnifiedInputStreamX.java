@@ -289,6 +289,50 @@ abstract class UnifiedInputStreamX
         return (_is_byte_data) ? (_bytes[_pos++] & 0xff) : _chars[_pos++];
     }
 
+    /**
+     * Consumes the run of characters that starts at the current position
+     * and ends before the first character that is not included in the
+     * given table, or at the end of the current page, whichever comes
+     * first. This allows callers to scan runs of characters that need no
+     * special handling directly from the page, rather than one call to
+     * {@link #read()} at a time. Because the table is indexed by byte
+     * value, byte data (UTF-8) is scanned without being decoded.
+     * Characters above 0xFF always end the run.
+     * @param table whether each character value 0x00-0xFF may be part of
+     *        the run.
+     * @param sb receives the consumed characters, if non-null.
+     * @return the number of characters consumed.
+     */
+    public final int consumeRun(boolean[] table, StringBuilder sb)
+    {
+        int start = _pos;
+        int pos = start;
+        int limit = _limit;
+        if (_is_byte_data) {
+            byte[] bytes = _bytes;
+            while (pos < limit && table[bytes[pos] & 0xff]) {
+                pos++;
+            }
+            if (sb != null) {
+                for (int i = start; i < pos; i++) {
+                    sb.append((char) (bytes[i] & 0xff));
+                }
+            }
+        }
+        else {
+            char[] chars = _chars;
+            char c;
+            while (pos < limit && (c = chars[pos]) <= 0xff && table[c]) {
+                pos++;
+            }
+            if (sb != null) {
+                sb.append(chars, start, pos - start);
+            }
+        }
+        _pos = pos;
+        return pos - start;
+    }
+
     protected final int read_helper() throws IOException
     {
         if (_eof) {
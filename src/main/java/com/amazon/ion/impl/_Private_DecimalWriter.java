@@ -0,0 +1,22 @@
+// Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+// SPDX-License-Identifier: Apache-2.0
+package com.amazon.ion.impl;
+
+import com.amazon.ion.IonWriter;
+import java.io.IOException;
+
+/**
+ * NOT FOR APPLICATION USE!
+ * <p>
+ * An IonWriter that can write decimal values whose coefficients fit in a
+ * long without constructing a {@link java.math.BigDecimal}.
+ */
+public interface _Private_DecimalWriter
+    extends IonWriter
+{
+    /**
+     * Writes the decimal value {@code unscaledValue * 10^-scale}, which is
+     * equivalent to {@code writeDecimal(BigDecimal.valueOf(unscaledValue, scale))}.
+     */
+    public void writeDecimal(long unscaledValue, int scale) throws IOException;
+}
@@ -32,6 +32,7 @@ import com.amazon.ion.system.IonBinaryWriterBuilder;
 import com.amazon.ion.system.IonSystemBuilder;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.channels.WritableByteChannel;
 
 /**
  * NOT FOR APPLICATION USE!
@@ -275,6 +276,90 @@ public class _Private_IonBinaryWriterBuilder
         return b;
     }
 
+    @Override
+    public _Private_IonBinaryWriterBuilder withIon_1_1Enabled(boolean enabled)
+    {
+        _Private_IonBinaryWriterBuilder b = mutable();
+        b.setIon_1_1Enabled(enabled);
+        return b;
+    }
+
+    public void setIon_1_1Enabled(boolean enabled)
+    {
+        mutationCheck();
+        if (enabled)
+        {
+            myBinaryWriterBuilder.withIon_1_1Enabled();
+        }
+        else
+        {
+            myBinaryWriterBuilder.withIon_1_1Disabled();
+        }
+    }
+
+    @Override
+    public _Private_IonBinaryWriterBuilder withDelimitedContainersEnabled(boolean enabled)
+    {
+        _Private_IonBinaryWriterBuilder b = mutable();
+        b.setDelimitedContainersEnabled(enabled);
+        return b;
+    }
+
+    public void setDelimitedContainersEnabled(boolean enabled)
+    {
+        mutationCheck();
+        if (enabled)
+        {
+            myBinaryWriterBuilder.withDelimitedContainersEnabled();
+        }
+        else
+        {
+            myBinaryWriterBuilder.withDelimitedContainersDisabled();
+        }
+    }
+
+    @Override
+    public _Private_IonBinaryWriterBuilder withSymbolInliningEnabled(boolean enabled)
+    {
+        _Private_IonBinaryWriterBuilder b = mutable();
+        b.setSymbolInliningEnabled(enabled);
+        return b;
+    }
+
+    public void setSymbolInliningEnabled(boolean enabled)
+    {
+        mutationCheck();
+        if (enabled)
+        {
+            myBinaryWriterBuilder.withSymbolInliningEnabled();
+        }
+        else
+        {
+            myBinaryWriterBuilder.withSymbolInliningDisabled();
+        }
+    }
+
+    @Override
+    public _Private_IonBinaryWriterBuilder withLocalSymbolsRetainedOnReset(boolean retained)
+    {
+        _Private_IonBinaryWriterBuilder b = mutable();
+        b.setLocalSymbolsRetainedOnReset(retained);
+        return b;
+    }
+
+    public void setLocalSymbolsRetainedOnReset(boolean retained)
+    {
+        mutationCheck();
+        if (retained)
+        {
+            myBinaryWriterBuilder.withLocalSymbolRetentionEnabled();
+        }
+        else
+        {
+            myBinaryWriterBuilder.withLocalSymbolRetentionDisabled();
+        }
+    }
+
     @Override
     public void setImports(final SymbolTable... imports)
     {
@@ -402,6 +487,21 @@ public class _Private_IonBinaryWriterBuilder
     }
 
 
+    @Override
+    public final IonWriter build(WritableByteChannel channel)
+    {
+        _Private_IonBinaryWriterBuilder b = fillDefaults();
+        try
+        {
+            return b.myBinaryWriterBuilder.newWriter(channel);
+        }
+        catch (final IOException e)
+        {
+            throw new IonException("I/O Error", e);
+        }
+    }
+
+
     @Deprecated
     public final IonBinaryWriter buildLegacy()
     {
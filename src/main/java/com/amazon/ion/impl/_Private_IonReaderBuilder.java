@@ -2,6 +2,7 @@
 // SPDX-License-Identifier: Apache-2.0
 package com.amazon.ion.impl;
 
+import com.amazon.ion.IonBufferConfiguration;
 import com.amazon.ion.IonCatalog;
 import com.amazon.ion.IonException;
 import com.amazon.ion.IonReader;
@@ -9,7 +10,6 @@ import com.amazon.ion.IonTextReader;
 import com.amazon.ion.IonValue;
 import com.amazon.ion.util.InputStreamInterceptor;
 import com.amazon.ion.system.IonReaderBuilder;
-import com.amazon.ion.util.IonStreamUtils;
 
 import java.io.ByteArrayInputStream;
 import java.io.EOFException;
@@ -238,7 +238,7 @@ public class _Private_IonReaderBuilder extends IonReaderBuilder {
                 }
             }
         }
-        if (IonStreamUtils.isIonBinary(ionData, offset, length)) {
+        if (startsWithIvm(ionData, offset, length)) {
             return binary.makeReader(builder, ionData, offset, length);
         }
         return text.makeReader(builder.validateCatalog(), ionData, offset, length, builder.lstFactory);
@@ -273,6 +273,23 @@ public class _Private_IonReaderBuilder extends IonReaderBuilder {
         return true;
     }
 
+    /**
+     * Determines whether the given buffer begins with a binary Ion version marker of any supported minor version.
+     * @param buffer the buffer to check.
+     * @param offset the position in the buffer at which the data begins.
+     * @param length the number of valid bytes in the buffer, starting from 'offset'.
+     * @return true if the first four bytes of the data are an Ion 1.0 or Ion 1.1 binary IVM.
+     */
+    private static boolean startsWithIvm(byte[] buffer, int offset, int length) {
+        if (buffer == null || length < _Private_IonConstants.BINARY_VERSION_MARKER_SIZE) {
+            return false;
+        }
+        return buffer[offset] == (byte) 0xE0
+            && buffer[offset + 1] == (byte) 0x01
+            && (buffer[offset + 2] == (byte) 0x00 || buffer[offset + 2] == (byte) 0x01)
+            && buffer[offset + 3] == (byte) 0xEA;
+    }
+
     @FunctionalInterface
     interface IonReaderFromInputStreamFactoryText {
         IonReader makeReader(IonCatalog catalog, InputStream source, _Private_LocalSymbolTableFactory lstFactory);
@@ -317,6 +334,15 @@ public class _Private_IonReaderBuilder extends IonReaderBuilder {
         return bytesRead;
     }
 
+    /**
+     * @param stream an InputStream.
+     * @return true if the given stream reads directly from memory, meaning that there is no benefit to reading it
+     *  ahead on another thread.
+     */
+    private static boolean isInMemory(InputStream stream) {
+        return stream instanceof ByteArrayInputStream || stream instanceof ByteBufferInputStream;
+    }
+
     static IonReader buildReader(
         _Private_IonReaderBuilder builder,
         InputStream source,
@@ -342,12 +368,21 @@ public class _Private_IonReaderBuilder extends IonReaderBuilder {
         // If the input stream is growing, it is possible that fewer than BINARY_VERSION_MARKER_SIZE bytes are
         // available yet. Simply check whether the stream *could* contain binary Ion based on the available bytes.
         // If it can't, fall back to text.
-        // NOTE: if incremental text reading is added, there will need to be logic that handles the case where
-        // the reader is created with 0 bytes available, as it is impossible to determine text vs. binary without
-        // reading at least one byte. Currently, in that case, just create a binary incremental reader. Either the
-        // stream will always be empty (in which case it doesn't matter whether a text or binary reader is used)
-        // or it's a binary stream (in which case the correct reader was created) or it's a growing text stream
-        // (which has always been unsupported).
+        // If the reader is created with 0 bytes available, it is impossible to determine text vs. binary. When
+        // incremental text reading is enabled, the stream may be a growing text stream, so defer the decision until
+        // at least one byte is available. Otherwise, just create a binary incremental reader. Either the stream will
+        // always be empty (in which case it doesn't matter whether a text or binary reader is used) or it's a binary
+        // stream (in which case the correct reader was created) or it's a growing text stream (which is unsupported
+        // without incremental text reading).
+        if (bytesRead == 0 && builder.isIncrementalTextReadingEnabled()) {
+            return new IonReaderDeferredFormat(source, firstBytes -> buildReader(
+                builder,
+                new TwoElementInputStream(new ByteArrayInputStream(firstBytes), source),
+                binary,
+                text,
+                inputStreamInterceptors
+            ));
+        }
         for (InputStreamInterceptor streamInterceptor : inputStreamInterceptors) {
             if (bytesRead < streamInterceptor.numberOfBytesNeededToDetermineMatch()) {
                 continue;
@@ -364,6 +399,10 @@ public class _Private_IonReaderBuilder extends IonReaderBuilder {
                 break;
             }
         }
+        if (builder.isPrefetchingEnabled() && !isInMemory(ionData)) {
+            // The header bytes have already been consumed on this thread; everything that follows is read ahead.
+            ionData = new PrefetchingInputStream(ionData);
+        }
         if (startsWithIvm(possibleIVM, bytesRead)) {
             return binary.makeReader(builder, ionData, possibleIVM, 0, bytesRead);
         }
@@ -382,11 +421,17 @@ public class _Private_IonReaderBuilder extends IonReaderBuilder {
     @Override
     public IonReader build(InputStream source)
     {
+        IonReaderFromInputStreamFactoryText text = _Private_IonReaderFactory::makeReaderText;
+        if (isIncrementalTextReadingEnabled()) {
+            IonBufferConfiguration configuration = getBufferConfiguration();
+            text = (catalog, textSource, factory) ->
+                _Private_IonReaderFactory.makeIncrementalReaderText(catalog, textSource, factory, configuration);
+        }
         return buildReader(
             this,
             source,
             _Private_IonReaderFactory::makeReaderBinary,
-            _Private_IonReaderFactory::makeReaderText,
+            text,
             getInputStreamInterceptors()
         );
     }
@@ -4,6 +4,7 @@ package com.amazon.ion.impl;
 
 import static com.amazon.ion.impl.UnifiedInputStreamX.makeStream;
 
+import com.amazon.ion.IonBufferConfiguration;
 import com.amazon.ion.IonCatalog;
 import com.amazon.ion.IonException;
 import com.amazon.ion.IonReader;
@@ -90,6 +91,19 @@ public final class _Private_IonReaderFactory
         return new IonReaderTextUserX(catalog, lstFactory, uis, 0);
     }
 
+    /**
+     * Creates a text reader that reads incrementally from the given stream. Any GZIP decompression must already have
+     * been applied to the stream, e.g. by the reader builder's input stream interceptors.
+     */
+    public static IonReader makeIncrementalReaderText(IonCatalog catalog,
+                                                      InputStream is,
+                                                      _Private_LocalSymbolTableFactory lstFactory,
+                                                      IonBufferConfiguration configuration)
+    {
+        is.getClass(); // Force NPE
+        return new IonReaderContinuableTopLevelText(catalog, lstFactory, is, configuration);
+    }
+
     public static IonReader makeSystemReaderText(InputStream is)
     {
         _Private_IonReaderBuilder builder = (_Private_IonReaderBuilder) _Private_IonReaderBuilder.standard();
@@ -180,6 +194,15 @@ public final class _Private_IonReaderFactory
         return new IonReaderContinuableTopLevelBinary(builder, is, alreadyRead, alreadyReadOff, alreadyReadLen);
     }
 
+    /**
+     * Creates a binary reader that accepts pushed data via the {@link com.amazon.ion.NonBlockingReader} facet.
+     * @param builder the builder containing the configuration for the new reader. Incremental reading must be enabled.
+     */
+    public static final IonReader makeNonBlockingReaderBinary(IonReaderBuilder builder)
+    {
+        return new IonReaderContinuableTopLevelBinary(builder, new ByteBufferFeedInputStream(), null, 0, 0);
+    }
+
     public static final IonReader makeSystemReaderBinary(IonReaderBuilder builder, InputStream is, byte[] alreadyRead, int alreadyReadOff, int alreadyReadLen)
     {
         return new IonReaderNonContinuableSystem(
@@ -15,12 +15,13 @@
 
 package com.amazon.ion.impl;
 
-import static com.amazon.ion.impl._Private_IonConstants.MAX_LONG_TEXT_SIZE;
 import static com.amazon.ion.impl._Private_IonConstants.isHighSurrogate;
 import static com.amazon.ion.impl._Private_IonConstants.isLowSurrogate;
 import static com.amazon.ion.impl._Private_IonConstants.makeUnicodeScalar;
 
 import com.amazon.ion.Decimal;
+import com.amazon.ion.Timestamp;
+import com.amazon.ion._Private_TrampolineKt;
 import com.amazon.ion.impl.Base64Encoder.TextStream;
 import com.amazon.ion.impl.schubfach.DoubleToDecimal;
 import com.amazon.ion.system.IonTextWriterBuilder;
@@ -673,34 +674,94 @@ public final class _Private_IonTextAppender
     // Numeric scalars
 
 
-    /** ONLY FOR USE BY {@link #printInt(long)}. */
-    private final char[] _fixedIntBuffer = new char[MAX_LONG_TEXT_SIZE];
+    /**
+     * The two ASCII digits of each number from 0 to 99, so that numbers can be
+     * formatted two digits at a time.
+     */
+    private static final char[] DIGIT_PAIRS = new char[200];
+    static
+    {
+        for (int i = 0; i < 100; i++)
+        {
+            DIGIT_PAIRS[2 * i]     = (char) ('0' + i / 10);
+            DIGIT_PAIRS[2 * i + 1] = (char) ('0' + i % 10);
+        }
+    }
+
+    /**
+     * The maximum number of fractional second digits that
+     * {@link #printTimestamp(Timestamp, int)} formats in {@link #_scratch}.
+     * Its text is at most {@code YYYY-MM-DDThh:mm:ss.} and {@code +hh:mm}
+     * (26 characters) plus this many digits.
+     */
+    private static final int MAX_SCRATCH_FRACTION_DIGITS = 38;
+
+    private static final int MINUTES_PER_DAY = 24 * 60;
+
+    /**
+     * Numbers and timestamps are formatted into this buffer and appended from
+     * it, so that printing them doesn't allocate intermediate Strings.
+     * Holds any {@code long}, any {@code double}, and any timestamp whose
+     * fraction has up to {@link #MAX_SCRATCH_FRACTION_DIGITS} digits.
+     */
+    private final char[] _scratch = new char[26 + MAX_SCRATCH_FRACTION_DIGITS];
+
+    /** Wraps {@link #_scratch} once, since wrapping allocates. */
+    private final CharBuffer _scratchChars = CharBuffer.wrap(_scratch);
+
+    /**
+     * Formats the digits of the absolute value of a long into
+     * {@link #_scratch}, ending just before the given index.
+     *
+     * @return the index of the first digit.
+     */
+    private int putMagnitude(long value, int end)
+    {
+        // Negative values have room for the magnitude of Long.MIN_VALUE.
+        if (value > 0) value = -value;
+        while (value <= -100)
+        {
+            long quotient = value / 100;
+            int pair = (int) (quotient * 100 - value);
+            value = quotient;
+            _scratch[--end] = DIGIT_PAIRS[2 * pair + 1];
+            _scratch[--end] = DIGIT_PAIRS[2 * pair];
+        }
+        int last = (int) -value;
+        if (last >= 10)
+        {
+            _scratch[--end] = DIGIT_PAIRS[2 * last + 1];
+            _scratch[--end] = DIGIT_PAIRS[2 * last];
+        }
+        else
+        {
+            _scratch[--end] = (char) ('0' + last);
+        }
+        return end;
+    }
+
+    /**
+     * Formats a value from 0 to 99 as two digits into {@link #_scratch}.
+     *
+     * @return the index following the digits.
+     */
+    private int putDigitPair(int value, int start)
+    {
+        _scratch[start]     = DIGIT_PAIRS[2 * value];
+        _scratch[start + 1] = DIGIT_PAIRS[2 * value + 1];
+        return start + 2;
+    }
 
     public void printInt(long value)
         throws IOException
     {
-        int j = _fixedIntBuffer.length;
-        if (value == 0) {
-            _fixedIntBuffer[--j] = '0';
-        } else {
-            if (value < 0) {
-                while (value != 0) {
-                    _fixedIntBuffer[--j] = (char)(0x30 - value % 10);
-                    value /= 10;
-                }
-                _fixedIntBuffer[--j] = '-';
-            } else {
-                while (value != 0) {
-                    _fixedIntBuffer[--j] = (char)(0x30 + value % 10);
-                    value /= 10;
-                }
-            }
+        int end = _scratch.length;
+        int start = putMagnitude(value, end);
+        if (value < 0)
+        {
+            _scratch[--start] = '-';
         }
-
-        // Using CharBuffer avoids copying the _fixedIntBuffer into a String
-        appendAscii(CharBuffer.wrap(_fixedIntBuffer),
-                    j,
-                    _fixedIntBuffer.length);
+        appendAscii(_scratchChars, start, end);
     }
 
 
@@ -713,7 +774,16 @@ public final class _Private_IonTextAppender
             return;
         }
 
-        appendAscii(bigIntegerToString(value));
+        // BigInteger.toString uses non-native division, which is much slower
+        // than formatting a long.
+        if (value.bitLength() < 64)
+        {
+            printInt(value.longValue());
+        }
+        else
+        {
+            appendAscii(value.toString());
+        }
     }
 
 
@@ -727,38 +797,84 @@ public final class _Private_IonTextAppender
             return;
         }
 
+        if (value.signum() == 0
+            && value instanceof Decimal
+            && ((Decimal)value).isNegativeZero())
+        {
+            // for the various forms of negative zero we have to
+            // write the sign ourselves, since neither BigInteger
+            // nor BigDecimal recognize negative zero, but Ion does.
+            appendAscii('-');
+        }
+
         BigInteger unscaled = value.unscaledValue();
+        if (unscaled.bitLength() < 64)
+        {
+            printDecimal(_options, unscaled.longValue(), value.scale());
+            return;
+        }
 
-        int signum = value.signum();
-        if (signum < 0)
+        if (value.signum() < 0)
         {
             appendAscii('-');
             unscaled = unscaled.negate();
         }
-        else if (value instanceof Decimal
-             && ((Decimal)value).isNegativeZero())
+
+        String unscaledText = unscaled.toString();
+        printDecimalMagnitude(_options, unscaledText, 0, unscaledText.length(), value.scale());
+    }
+
+
+    /**
+     * Prints the decimal value {@code unscaledValue * 10^-scale} without
+     * constructing a {@link BigDecimal}. The output is identical to that of
+     * {@link #printDecimal(_Private_IonTextWriterBuilder, BigDecimal)} for
+     * the equivalent value.
+     */
+    public void printDecimal(_Private_IonTextWriterBuilder _options,
+                             long                          unscaledValue,
+                             int                           scale)
+        throws IOException
+    {
+        if (unscaledValue < 0)
         {
-            // for the various forms of negative zero we have to
-            // write the sign ourselves, since neither BigInteger
-            // nor BigDecimal recognize negative zero, but Ion does.
             appendAscii('-');
         }
 
-        final String unscaledText = bigIntegerToString(unscaled);
-        final int significantDigits = unscaledText.length();
+        int end = _scratch.length;
+        int start = putMagnitude(unscaledValue, end);
+        printDecimalMagnitude(_options, _scratchChars, start, end, scale);
+    }
 
-        final int scale = value.scale();
+
+    /**
+     * Prints the magnitude of a decimal value, after any sign has been
+     * printed.
+     *
+     * @param digits holds the digits of the absolute value of the
+     * coefficient from {@code start} to {@code end}. May be
+     * {@link #_scratchChars}, which is only reused after the digits are
+     * appended.
+     */
+    private void printDecimalMagnitude(_Private_IonTextWriterBuilder _options,
+                                       CharSequence                  digits,
+                                       int                           start,
+                                       int                           end,
+                                       int                           scale)
+        throws IOException
+    {
+        final int significantDigits = end - start;
         final int exponent = -scale;
 
         if (_options._decimal_as_float)
         {
-            appendAscii(unscaledText);
+            appendAscii(digits, start, end);
             appendAscii('e');
-            appendAscii(Integer.toString(exponent));
+            printInt(exponent);
         }
         else if (exponent == 0)
         {
-            appendAscii(unscaledText);
+            appendAscii(digits, start, end);
             appendAscii('.');
         }
         else if (exponent < 0)
@@ -770,31 +886,30 @@ public final class _Private_IonTextAppender
             if (adjustedExponent >= 0)
             {
                 int wholeDigits = significantDigits - scale;
-                appendAscii(unscaledText, 0, wholeDigits);
+                appendAscii(digits, start, start + wholeDigits);
                 appendAscii('.');
-                appendAscii(unscaledText, wholeDigits,
-                                    significantDigits);
+                appendAscii(digits, start + wholeDigits, end);
             }
             else if (adjustedExponent >= -6)
             {
                 appendAscii("0.");
                 appendAscii("00000", 0, scale - significantDigits);
-                appendAscii(unscaledText);
+                appendAscii(digits, start, end);
             }
             else
             {
-                appendAscii(unscaledText);
+                appendAscii(digits, start, end);
                 appendAscii("d-");
-                appendAscii(Integer.toString(scale));
+                printInt(scale);
             }
         }
         else // (exponent > 0)
         {
             // We cannot move the decimal point to the right, adding
             // rightmost zeros, because that would alter the precision.
-            appendAscii(unscaledText);
+            appendAscii(digits, start, end);
             appendAscii('d');
-            appendAscii(Integer.toString(exponent));
+            printInt(exponent);
         }
     }
 
@@ -840,8 +955,8 @@ public final class _Private_IonTextAppender
         }
         else
         {
-            String str = DoubleToDecimal.toString(value);
-            appendAscii(str);
+            int length = DoubleToDecimal.getChars(value, _scratch, 0);
+            appendAscii(_scratchChars, 0, length);
         }
     }
 
@@ -859,6 +974,197 @@ public final class _Private_IonTextAppender
     }
 
 
+    //=========================================================================
+    // Timestamps
+
+
+    private static int lastDayInMonth(int year, int month)
+    {
+        switch (month)
+        {
+            case 2:
+                boolean isLeapYear = (year % 4 == 0 && year % 100 != 0) || year % 400 == 0;
+                return isLeapYear ? 29 : 28;
+            case 4:
+            case 6:
+            case 9:
+            case 11:
+                return 30;
+            default:
+                return 31;
+        }
+    }
+
+    /**
+     * Prints a timestamp in its local time. The output is identical to that
+     * of {@link Timestamp#toString()}, but without intermediate Strings or
+     * Timestamps.
+     *
+     * @param maximumDigits the maximum number of fractional second digits.
+     *
+     * @throws com.amazon.ion.IonException if the timestamp's fractional seconds require
+     * more than {@code maximumDigits} digits.
+     */
+    @SuppressWarnings("deprecation") // getZFractionalSecond is the only accessor that doesn't allocate.
+    public void printTimestamp(Timestamp value, int maximumDigits)
+        throws IOException
+    {
+        if (value == null)
+        {
+            appendAscii("null.timestamp");
+            return;
+        }
+
+        Timestamp.Precision precision = value.getPrecision();
+        int fractionDigits = 0;
+        long fractionValue = 0;
+        BigDecimal fraction = value.getZFractionalSecond();
+        if (precision == Timestamp.Precision.SECOND && fraction != null)
+        {
+            fractionDigits = fraction.scale();
+            BigInteger unscaled = null;
+            if (fractionDigits > 0
+                && fractionDigits <= Math.min(maximumDigits, MAX_SCRATCH_FRACTION_DIGITS))
+            {
+                unscaled = fraction.unscaledValue();
+            }
+            if (unscaled == null || unscaled.bitLength() >= 64)
+            {
+                // Unusual fractions, including those that exceed the maximum,
+                // are left to Timestamp.
+                appendAscii(_Private_TrampolineKt.printTimestamp(value, maximumDigits));
+                return;
+            }
+            fractionValue = unscaled.longValue();
+        }
+
+        // Timestamps hold UTC fields; shift them to local time. Offsets are
+        // at most a day, so the date moves by at most one day.
+        int year = value.getZYear();
+        int month = value.getZMonth();
+        int day = value.getZDay();
+        int hour = value.getZHour();
+        int minute = value.getZMinute();
+        Integer offset = value.getLocalOffset();
+        if (offset != null && offset != 0)
+        {
+            int minutes = hour * 60 + minute + offset;
+            if (minutes < 0)
+            {
+                minutes += MINUTES_PER_DAY;
+                if (--day < 1)
+                {
+                    if (--month < 1)
+                    {
+                        month = 12;
+                        year--;
+                    }
+                    day = lastDayInMonth(year, month);
+                }
+            }
+            else if (minutes >= MINUTES_PER_DAY)
+            {
+                minutes -= MINUTES_PER_DAY;
+                if (++day > lastDayInMonth(year, month))
+                {
+                    day = 1;
+                    if (++month > 12)
+                    {
+                        month = 1;
+                        year++;
+                    }
+                }
+            }
+            if (year < 1 || year > 9999)
+            {
+                // Timestamp throws when local time is out of range.
+                appendAscii(_Private_TrampolineKt.printTimestamp(value, maximumDigits));
+                return;
+            }
+            hour = minutes / 60;
+            minute = minutes % 60;
+        }
+
+        int pos = putDigitPair(year / 100, 0);
+        pos = putDigitPair(year % 100, pos);
+        if (precision == Timestamp.Precision.YEAR)
+        {
+            _scratch[pos++] = 'T';
+            appendAscii(_scratchChars, 0, pos);
+            return;
+        }
+
+        _scratch[pos++] = '-';
+        pos = putDigitPair(month, pos);
+        if (precision == Timestamp.Precision.MONTH)
+        {
+            _scratch[pos++] = 'T';
+            appendAscii(_scratchChars, 0, pos);
+            return;
+        }
+
+        _scratch[pos++] = '-';
+        pos = putDigitPair(day, pos);
+        if (precision == Timestamp.Precision.DAY)
+        {
+            appendAscii(_scratchChars, 0, pos);
+            return;
+        }
+
+        _scratch[pos++] = 'T';
+        pos = putDigitPair(hour, pos);
+        _scratch[pos++] = ':';
+        pos = putDigitPair(minute, pos);
+        if (precision == Timestamp.Precision.SECOND)
+        {
+            _scratch[pos++] = ':';
+            pos = putDigitPair(value.getZSecond(), pos);
+            if (fractionDigits > 0)
+            {
+                _scratch[pos++] = '.';
+                int end = pos + fractionDigits;
+                int start = putMagnitude(fractionValue, end);
+                while (start > pos)
+                {
+                    _scratch[--start] = '0';
+                }
+                pos = end;
+            }
+        }
+
+        if (offset == null)
+        {
+            _scratch[pos++] = '-';
+            _scratch[pos++] = '0';
+            _scratch[pos++] = '0';
+            _scratch[pos++] = ':';
+            _scratch[pos++] = '0';
+            _scratch[pos++] = '0';
+        }
+        else if (offset == 0)
+        {
+            _scratch[pos++] = 'Z';
+        }
+        else
+        {
+            int offsetMinutes = offset;
+            if (offsetMinutes < 0)
+            {
+                offsetMinutes = -offsetMinutes;
+                _scratch[pos++] = '-';
+            }
+            else
+            {
+                _scratch[pos++] = '+';
+            }
+            pos = putDigitPair(offsetMinutes / 60, pos);
+            _scratch[pos++] = ':';
+            pos = putDigitPair(offsetMinutes % 60, pos);
+        }
+        appendAscii(_scratchChars, 0, pos);
+    }
+
+
     //=========================================================================
     // LOBs
 
@@ -993,30 +1299,4 @@ public final class _Private_IonTextAppender
             appendAscii("}}");
         }
     }
-
-    /**
-     * Convert {@link BigInteger} to a {@link String}.
-     * <p>
-     * The current implementation of {@link BigInteger#toString()} is suboptimal
-     * speed-wise, as it uses non-native division for arbitrary-sized integers
-     * to convert the binary representation to a string.
-     * This is inefficient for integers that can fit into a {@link Long}, where
-     * native division can be used to convert the long to its string representation,
-     * which is currently implemented in {@link Long#toString()}.
-     * <p>
-     * This method delegates to {@link Long#toString()} if it's possible to
-     * do so, which results in a speedup from 2x to 5x.
-     *
-     * @param value the integer to convert
-     * @return the string representation in base 10
-     */
-    private String bigIntegerToString(final BigInteger value)
-    {
-        if (value.bitLength() >= 64) {
-            // if it's out of long range, the only way is through toString()
-            return value.toString();
-        } else {
-            return Long.toString(value.longValue());
-        }
-    }
 }
@@ -0,0 +1,80 @@
+// Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+// SPDX-License-Identifier: Apache-2.0
+package com.amazon.ion.impl.bin;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.GatheringByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.Arrays;
+
+/**
+ * Accumulates a sequence of {@link ByteBuffer} views over encoded data so that it can be written to a
+ * {@link WritableByteChannel} without copying. When the channel is a {@link GatheringByteChannel}, the whole sequence
+ * is handed to the channel in a single {@link GatheringByteChannel#write(ByteBuffer[], int, int)} call, repeated only
+ * if the channel performs a partial write.
+ * <p>
+ * Instances are reusable but are NOT thread-safe.
+ */
+/*package*/ final class ByteBufferGatherer
+{
+    private ByteBuffer[] buffers;
+    private int size;
+
+    /*package*/ ByteBufferGatherer()
+    {
+        this.buffers = new ByteBuffer[16];
+        this.size = 0;
+    }
+
+    /** Adds a view of the given range of bytes, which must not be modified until the sequence is written. */
+    /*package*/ void add(final byte[] data, final int offset, final int length)
+    {
+        if (length == 0)
+        {
+            return;
+        }
+        if (size == buffers.length)
+        {
+            buffers = Arrays.copyOf(buffers, size * 2);
+        }
+        buffers[size++] = ByteBuffer.wrap(data, offset, length);
+    }
+
+    /** Writes all bytes in the sequence to the given channel, then clears the sequence. */
+    /*package*/ void writeTo(final WritableByteChannel channel) throws IOException
+    {
+        try
+        {
+            if (channel instanceof GatheringByteChannel)
+            {
+                final GatheringByteChannel gatheringChannel = (GatheringByteChannel) channel;
+                int offset = 0;
+                while (offset < size)
+                {
+                    gatheringChannel.write(buffers, offset, size - offset);
+                    while (offset < size && !buffers[offset].hasRemaining())
+                    {
+                        offset++;
+                    }
+                }
+            }
+            else
+            {
+                for (int i = 0; i < size; i++)
+                {
+                    final ByteBuffer buffer = buffers[i];
+                    while (buffer.hasRemaining())
+                    {
+                        channel.write(buffer);
+                    }
+                }
+            }
+        }
+        finally
+        {
+            Arrays.fill(buffers, 0, size, null);
+            size = 0;
+        }
+    }
+}
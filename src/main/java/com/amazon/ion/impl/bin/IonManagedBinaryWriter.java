@@ -33,10 +33,12 @@ import static java.util.Collections.unmodifiableList;
 import com.amazon.ion.IonCatalog;
 import com.amazon.ion.IonException;
 import com.amazon.ion.IonType;
+import com.amazon.ion.ResettableWriter;
 import com.amazon.ion.SymbolTable;
 import com.amazon.ion.SymbolToken;
 import com.amazon.ion.Timestamp;
 import com.amazon.ion.UnknownSymbolException;
+import com.amazon.ion.impl._Private_DecimalWriter;
 import com.amazon.ion.impl._Private_LocalSymbolTable;
 import com.amazon.ion.impl.bin.IonRawBinaryWriter.StreamCloseMode;
 import com.amazon.ion.impl.bin.IonRawBinaryWriter.StreamFlushMode;
@@ -44,6 +46,8 @@ import java.io.IOException;
 import java.io.OutputStream;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -55,7 +59,7 @@ import java.util.List;
 import java.util.Map;
 /** Wraps {@link IonRawBinaryWriter} with symbol table management. */
 @SuppressWarnings("deprecation")
-/*package*/ final class IonManagedBinaryWriter extends AbstractIonWriter implements _Private_IonManagedWriter
+/*package*/ final class IonManagedBinaryWriter extends AbstractIonWriter implements _Private_IonManagedWriter, _Private_DecimalWriter, ResettableWriter
 {
     private interface SymbolResolver
     {
@@ -216,6 +220,12 @@ import java.util.Map;
             this.importedSymbols = builder.build();
             this.localSidStart = maxSid;
         }
+
+        /** Resolves the text to an imported {@link SymbolToken} or returns <code>null</code> if it is not imported. */
+        /*package*/ SymbolToken findImportedSymbol(final String text)
+        {
+            return importedSymbols.get(text);
+        }
     }
     /*package*/ static final ImportedSymbolContext ONLY_SYSTEM_IMPORTS =
         new ImportedSymbolContext(ImportedSymbolResolverMode.FLAT, Collections.<SymbolTable>emptyList());
@@ -670,14 +680,22 @@ import java.util.Map;
 
     private final IonCatalog                    catalog;
     private final ImportedSymbolContext         bootstrapImports;
+    private final SymbolTable                   initialSymbolTable;
+    /** Whether local symbols survive {@link #finishAndReset()}, to be re-declared by the next message's symbol table. */
+    private final boolean                       isLocalSymbolRetentionEnabled;
 
     private ImportedSymbolContext               imports;
     private final Map<String, SymbolToken>      locals;
     private boolean                             localsLocked;
     private SymbolTable                         localSymbolTableView;
+    /** Whether the initial symbol table must be declared before the next value, even if no symbols are used. */
+    private boolean                             isInitialSymbolTablePending;
 
     private final IonRawBinaryWriter            symbols;
     private final IonRawBinaryWriter            user;
+    /** When non-null, the channel to which each flush writes the symbol and user blocks in one gathering write. */
+    private WritableByteChannel                 channel;
+    private final ByteBufferGatherer            gatherer;
 
     private UserState                           userState;
     private SymbolState                         symbolState;
@@ -695,8 +713,25 @@ import java.util.Map;
     /*package*/ IonManagedBinaryWriter(final _Private_IonManagedBinaryWriterBuilder builder,
                                        final OutputStream out)
                                        throws IOException
+    {
+        this(builder, out, null);
+    }
+
+    /*package*/ IonManagedBinaryWriter(final _Private_IonManagedBinaryWriterBuilder builder,
+                                       final WritableByteChannel channel)
+                                       throws IOException
+    {
+        this(builder, Channels.newOutputStream(channel), channel);
+    }
+
+    private IonManagedBinaryWriter(final _Private_IonManagedBinaryWriterBuilder builder,
+                                   final OutputStream out,
+                                   final WritableByteChannel channel)
+                                   throws IOException
     {
         super(builder.optimization);
+        this.channel = channel;
+        this.gatherer = channel == null ? null : new ByteBufferGatherer();
         this.symbols = new IonRawBinaryWriter(
             builder.provider,
             builder.symbolsBlockSize,
@@ -724,6 +759,8 @@ import java.util.Map;
 
         this.catalog = builder.catalog;
         this.bootstrapImports = builder.imports;
+        this.initialSymbolTable = builder.initialSymbolTable;
+        this.isLocalSymbolRetentionEnabled = builder.isLocalSymbolRetentionEnabled;
 
         this.locals = new LinkedHashMap<String, SymbolToken>();
         this.localsLocked = false;
@@ -741,7 +778,16 @@ import java.util.Map;
         this.isUserLSTAppend = false;
 
         // TODO decide if initial LST should survive finish() and seed the next LST
-        final SymbolTable lst = builder.initialSymbolTable;
+        startInitialSymbolTable();
+    }
+
+    /**
+     * Establishes the symbol table context with which a newly built writer begins. The initial symbol table, if any,
+     * is declared lazily, so that a message without values writes nothing.
+     */
+    private void startInitialSymbolTable()
+    {
+        final SymbolTable lst = initialSymbolTable;
         if (lst != null)
         {
             // build import context from seeded LST
@@ -750,20 +796,24 @@ import java.util.Map;
             final ImportedSymbolContext lstImports = new ImportedSymbolContext(ImportedSymbolResolverMode.DELEGATE, lstImportList);
             this.imports = lstImports;
 
-            // intern all of the local symbols provided from LST
+            // assign IDs to all of the local symbols provided from LST; they are declared with the table
             final Iterator<String> symbolIter = lst.iterateDeclaredSymbolNames();
             while (symbolIter.hasNext())
             {
                 final String text = symbolIter.next();
-                intern(text);
+                if (text != null && imports.importedSymbols.get(text) == null && !locals.containsKey(text))
+                {
+                    locals.put(text, symbol(text, imports.localSidStart + locals.size()));
+                }
             }
 
             // TODO determine if we really need to force emitting LST if there are no imports/locals
-            startLocalSymbolTableIfNeeded(/*writeIVM*/ true);
+            isInitialSymbolTablePending = true;
         }
         else
         {
-            this.imports = builder.imports;
+            this.imports = bootstrapImports;
+            isInitialSymbolTablePending = false;
         }
     }
 
@@ -802,7 +852,9 @@ import java.util.Map;
         boolean isAppend = symbolState == SymbolState.LOCAL_SYMBOLS_FLUSHED && lstAppendEnabled;
         if (symbolState == SymbolState.SYSTEM_SYMBOLS || isAppend)
         {
-            if (writeIVM && !isAppend)
+            final boolean hasRetainedLocals = !isAppend && !locals.isEmpty();
+            // a pending initial symbol table begins a new message, which requires a version marker
+            if ((writeIVM || isInitialSymbolTablePending) && !isAppend)
             {
                 symbols.writeIonVersionMarker();
             }
@@ -836,6 +888,26 @@ import java.util.Map;
             }
             // XXX no step out
             symbolState = SymbolState.LOCAL_SYMBOLS_WITH_IMPORTS_ONLY;
+            isInitialSymbolTablePending = false;
+
+            if (hasRetainedLocals)
+            {
+                // re-declare the locals retained across a reset, in symbol ID order
+                startLocalSymbolTableSymbolListIfNeeded();
+                for (final String text : locals.keySet())
+                {
+                    symbols.writeString(text);
+                }
+            }
+        }
+    }
+
+    /** Starts a local symbol table that re-declares retained locals if this message has not yet declared them. */
+    private void startRetainedLocalSymbolTableIfNeeded() throws IOException
+    {
+        if (symbolState == SymbolState.SYSTEM_SYMBOLS && !locals.isEmpty())
+        {
+            startLocalSymbolTableIfNeeded(/*writeIVM*/ true);
         }
     }
 
@@ -887,6 +959,10 @@ import java.util.Map;
 
                 symbols.writeString(text);
             }
+            else
+            {
+                startRetainedLocalSymbolTableIfNeeded();
+            }
             return token;
         }
         catch (final IOException e)
@@ -913,13 +989,24 @@ import java.util.Map;
             // so an error would be raised on read. Fail early on write.
             throw new UnknownSymbolException(sid);
         }
+        if (sid >= imports.localSidStart)
+        {
+            try
+            {
+                startRetainedLocalSymbolTableIfNeeded();
+            }
+            catch (final IOException e)
+            {
+                throw new IonException("Error synthesizing symbols", e);
+            }
+        }
         // no text, we just return what we got
         return token;
     }
 
     public SymbolTable getSymbolTable()
     {
-        if (symbolState == SymbolState.SYSTEM_SYMBOLS && imports.parents.isEmpty())
+        if (symbolState == SymbolState.SYSTEM_SYMBOLS && imports.parents.isEmpty() && locals.isEmpty())
         {
             return Symbols.systemSymbolTable();
         }
@@ -1052,6 +1139,11 @@ import java.util.Map;
         user.writeDecimal(value);
     }
 
+    public void writeDecimal(final long unscaledValue, final int scale) throws IOException
+    {
+        user.writeDecimal(unscaledValue, scale);
+    }
+
     public void writeTimestamp(final Timestamp value) throws IOException
     {
         user.writeTimestamp(value);
@@ -1144,14 +1236,30 @@ import java.util.Map;
     {
         if (user.hasWrittenValuesSinceFinished())
         {
+            if (isInitialSymbolTablePending)
+            {
+                // the values did not use any symbols, but the initial symbol table is still declared
+                startLocalSymbolTableIfNeeded(/*writeIVM*/ true);
+            }
             // this implies that we have a local symbol table of some sort and the user locked it
             symbolState.closeTable(symbols);
             // make sure that until the local symbol state changes we no-op the table closing routine
             symbolState = SymbolState.LOCAL_SYMBOLS_FLUSHED;
         }
         // push the data out
-        symbols.finish();
-        user.finish();
+        if (channel != null)
+        {
+            symbols.gatherTo(gatherer);
+            user.gatherTo(gatherer);
+            gatherer.writeTo(channel);
+            symbols.finishGathered();
+            user.finishGathered();
+        }
+        else
+        {
+            symbols.finish();
+            user.finish();
+        }
     }
 
     public void finish() throws IOException
@@ -1167,6 +1275,47 @@ import java.util.Map;
         localsLocked = false;
         symbolState = SymbolState.SYSTEM_SYMBOLS;
         imports = bootstrapImports;
+        isInitialSymbolTablePending = false;
+    }
+
+    public void finishAndReset() throws IOException
+    {
+        if (closed)
+        {
+            throw new IllegalStateException("Cannot reset a closed writer.");
+        }
+        if (getDepth() != 0)
+        {
+            throw new IllegalStateException("A writer can only be reset at top-level.");
+        }
+        unsafeFlush();
+        localsLocked = false;
+        symbolState = SymbolState.SYSTEM_SYMBOLS;
+        if (!isLocalSymbolRetentionEnabled)
+        {
+            locals.clear();
+            startInitialSymbolTable();
+        }
+        // otherwise, the imports and locals stay as they are and are re-declared by the next message when first used
+    }
+
+    public void reset(final OutputStream out) throws IOException
+    {
+        if (out == null) { throw new NullPointerException(); }
+        finishAndReset();
+        symbols.setOutputStream(out);
+        user.setOutputStream(out);
+        channel = null;
+    }
+
+    @Override
+    public <T> T asFacet(final Class<T> facetType)
+    {
+        if (facetType == ResettableWriter.class)
+        {
+            return facetType.cast(this);
+        }
+        return super.asFacet(facetType);
     }
 
     public void close() throws IOException
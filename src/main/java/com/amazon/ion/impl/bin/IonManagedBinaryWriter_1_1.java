@@ -0,0 +1,706 @@
+// Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+// SPDX-License-Identifier: Apache-2.0
+package com.amazon.ion.impl.bin;
+
+import static com.amazon.ion.IonType.LIST;
+import static com.amazon.ion.IonType.STRUCT;
+import static com.amazon.ion.SystemSymbols.IMPORTS_SID;
+import static com.amazon.ion.SystemSymbols.ION_SYMBOL_TABLE_SID;
+import static com.amazon.ion.SystemSymbols.MAX_ID_SID;
+import static com.amazon.ion.SystemSymbols.NAME_SID;
+import static com.amazon.ion.SystemSymbols.SYMBOLS_SID;
+import static com.amazon.ion.SystemSymbols.VERSION_SID;
+import static com.amazon.ion.impl.bin.Symbols.symbol;
+import static com.amazon.ion.impl.bin.Symbols.systemSymbolTable;
+
+import com.amazon.ion.IonCatalog;
+import com.amazon.ion.IonType;
+import com.amazon.ion.ResettableWriter;
+import com.amazon.ion.SymbolTable;
+import com.amazon.ion.SymbolToken;
+import com.amazon.ion.Timestamp;
+import com.amazon.ion.UnknownSymbolException;
+import com.amazon.ion.impl._Private_DecimalWriter;
+import com.amazon.ion.impl.bin.AbstractIonWriter.WriteValueOptimization;
+import com.amazon.ion.impl.bin.IonManagedBinaryWriter.ImportedSymbolContext;
+import com.amazon.ion.impl.bin.IonManagedBinaryWriter.ImportedSymbolResolverMode;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Wraps {@link IonRawBinaryWriter_1_1} with symbol table management, producing a complete Ion 1.1 stream.
+ * <p>
+ * Unless symbol inlining is enabled, symbol text is interned into the local symbol table and referenced by address.
+ * Symbols interned since the last flush are declared by a local symbol table that is written (appending to the
+ * current one) ahead of the buffered data when the writer is flushed. When containers are delimited, the writer may
+ * be flushed at any depth, allowing containers of unknown size to be streamed with bounded memory; any symbol first
+ * encountered after a top-level value has been partially flushed is written inline, because it can no longer be
+ * declared ahead of that value.
+ */
+@SuppressWarnings("deprecation")
+/*package*/ final class IonManagedBinaryWriter_1_1 extends AbstractIonWriter implements _Private_DecimalWriter, ResettableWriter
+{
+    private static final long SYMBOL_TEXT = -1;
+
+    private class LocalSymbolTableView extends AbstractSymbolTable
+    {
+        public LocalSymbolTableView()
+        {
+            super(null, 0);
+        }
+
+        public Iterator<String> iterateDeclaredSymbolNames()
+        {
+            return localSymbols.iterator();
+        }
+
+        public int getMaxId()
+        {
+            return getImportedMaxId() + localSymbols.size();
+        }
+
+        public SymbolTable[] getImportedTables()
+        {
+            return imports.parents.toArray(new SymbolTable[0]);
+        }
+
+        public int getImportedMaxId()
+        {
+            return imports.localSidStart - 1;
+        }
+
+        public boolean isSystemTable() { return false; }
+        public boolean isSubstitute()  { return false; }
+        public boolean isSharedTable() { return false; }
+        public boolean isLocalTable()  { return true; }
+        public boolean isReadOnly()    { return false; }
+
+        public SymbolTable getSystemSymbolTable()
+        {
+            return systemSymbolTable();
+        }
+
+        public SymbolToken intern(final String text)
+        {
+            final SymbolToken token = find(text);
+            return token == null ? IonManagedBinaryWriter_1_1.this.intern(text) : token;
+        }
+
+        public String findKnownSymbol(final int id)
+        {
+            for (final SymbolTable table : imports.parents)
+            {
+                final String text = table.findKnownSymbol(id);
+                if (text != null)
+                {
+                    return text;
+                }
+            }
+            final int index = id - imports.localSidStart;
+            return index >= 0 && index < localSymbols.size() ? localSymbols.get(index) : null;
+        }
+
+        public SymbolToken find(final String text)
+        {
+            final SymbolToken token = imports.findImportedSymbol(text);
+            if (token != null)
+            {
+                return token;
+            }
+            return locals.get(text);
+        }
+    }
+
+    private final IonRawBinaryWriter_1_1 symbols;
+    private final IonRawBinaryWriter_1_1 user;
+    private OutputStream out;
+    private final IonCatalog catalog;
+    private final ImportedSymbolContext bootstrapImports;
+    private final SymbolTable initialSymbolTable;
+    private final boolean isLocalSymbolRetentionEnabled;
+    private final boolean isDelimitedContainersEnabled;
+    private final boolean isSymbolInliningEnabled;
+    private final boolean isAutoFlushEnabled;
+    private final long autoFlushThreshold;
+    private final LocalSymbolTableView localSymbolTableView;
+
+    private ImportedSymbolContext imports;
+    private final Map<String, SymbolToken> locals;
+    private final List<String> localSymbols;
+    // The number of local symbols that have been declared by symbol tables already written to the output.
+    private int numberOfDeclaredLocals;
+    // The number of local symbols retained across the last reset or provided by the initial symbol table, which are
+    // only declared if the message has data.
+    private int numberOfRetainedLocals;
+    // True if the next data written to the output must be preceded by an IVM.
+    private boolean isIvmRequired;
+    // True if the current top-level value has been partially written to the output, in which case new symbols must
+    // be written inline.
+    private boolean isInliningRequired;
+
+    private boolean closed;
+
+    /*package*/ IonManagedBinaryWriter_1_1(final _Private_IonManagedBinaryWriterBuilder builder,
+                                           final OutputStream out)
+    {
+        super(WriteValueOptimization.NONE);
+        if (out == null) { throw new NullPointerException(); }
+
+        // Local symbol tables are small, so their containers are always length-prefixed.
+        this.symbols = new IonRawBinaryWriter_1_1(builder.provider, builder.symbolsBlockSize, false);
+        this.user = new IonRawBinaryWriter_1_1(builder.provider, builder.userBlockSize, builder.isDelimitedContainersEnabled);
+        this.out = out;
+        this.catalog = builder.catalog;
+        this.bootstrapImports = builder.imports;
+        this.initialSymbolTable = builder.initialSymbolTable;
+        this.isLocalSymbolRetentionEnabled = builder.isLocalSymbolRetentionEnabled;
+        this.isDelimitedContainersEnabled = builder.isDelimitedContainersEnabled;
+        this.isSymbolInliningEnabled = builder.isSymbolInliningEnabled;
+        this.isAutoFlushEnabled = builder.isAutoFlushEnabled;
+        this.autoFlushThreshold = builder.userBlockSize;
+        this.localSymbolTableView = new LocalSymbolTableView();
+
+        this.locals = new HashMap<String, SymbolToken>();
+        this.localSymbols = new ArrayList<String>();
+        this.numberOfDeclaredLocals = 0;
+        this.numberOfRetainedLocals = 0;
+        this.isIvmRequired = true;
+        this.isInliningRequired = false;
+        this.closed = false;
+        startInitialSymbolTable();
+    }
+
+    /** Establishes the symbol table context with which a newly built writer begins. */
+    private void startInitialSymbolTable()
+    {
+        final SymbolTable lst = initialSymbolTable;
+        if (lst != null)
+        {
+            this.imports = new ImportedSymbolContext(
+                ImportedSymbolResolverMode.DELEGATE,
+                Arrays.asList(lst.getImportedTables())
+            );
+            final Iterator<String> symbolIter = lst.iterateDeclaredSymbolNames();
+            while (symbolIter.hasNext())
+            {
+                intern(symbolIter.next());
+            }
+            numberOfRetainedLocals = localSymbols.size();
+        }
+        else
+        {
+            this.imports = bootstrapImports;
+        }
+    }
+
+    // Symbol Table Management
+
+    private SymbolToken intern(final String text)
+    {
+        SymbolToken token = locals.get(text);
+        if (token == null)
+        {
+            token = symbol(text, imports.localSidStart + localSymbols.size());
+            locals.put(text, token);
+            localSymbols.add(text);
+        }
+        return token;
+    }
+
+    /**
+     * @return the symbol address that refers to the given text, interning it if necessary, or SYMBOL_TEXT if the
+     *  text must be written inline.
+     */
+    private long sidFor(final String text)
+    {
+        if (isSymbolInliningEnabled)
+        {
+            return SYMBOL_TEXT;
+        }
+        SymbolToken token = imports.findImportedSymbol(text);
+        if (token != null)
+        {
+            return token.getSid();
+        }
+        token = locals.get(text);
+        if (isInliningRequired && (token == null || token.getSid() >= imports.localSidStart + numberOfDeclaredLocals))
+        {
+            // The symbol has not been declared ahead of the partially-written top-level value.
+            return SYMBOL_TEXT;
+        }
+        return token == null ? intern(text).getSid() : token.getSid();
+    }
+
+    /** @return the symbol address of the given token, or SYMBOL_TEXT if its text must be written inline. */
+    private long sidFor(final SymbolToken token)
+    {
+        final String text = token.getText();
+        if (text != null)
+        {
+            return sidFor(text);
+        }
+        final int sid = token.getSid();
+        if (sid > getSymbolTable().getMaxId())
+        {
+            // There is no slot for this symbol ID in the symbol table,
+            // so an error would be raised on read. Fail early on write.
+            throw new UnknownSymbolException(sid);
+        }
+        return sid;
+    }
+
+    /** Writes the IVM and local symbol table, as necessary, that must precede the buffered user data. */
+    private void writeSymbolTable()
+    {
+        final boolean hasUndeclaredLocals = localSymbols.size() > numberOfDeclaredLocals;
+        final boolean hasImports = isIvmRequired && !imports.parents.isEmpty();
+        if (isIvmRequired)
+        {
+            symbols.writeIonVersionMarker();
+        }
+        if (hasUndeclaredLocals || hasImports)
+        {
+            symbols.addAnnotationSymbol(ION_SYMBOL_TABLE_SID);
+            symbols.stepIn(STRUCT);
+            if (!isIvmRequired)
+            {
+                symbols.setFieldNameSymbol(IMPORTS_SID);
+                symbols.writeSymbol(ION_SYMBOL_TABLE_SID);
+            }
+            else if (hasImports)
+            {
+                symbols.setFieldNameSymbol(IMPORTS_SID);
+                symbols.stepIn(LIST);
+                for (final SymbolTable st : imports.parents)
+                {
+                    symbols.stepIn(STRUCT);
+                    symbols.setFieldNameSymbol(NAME_SID);
+                    symbols.writeString(st.getName());
+                    symbols.setFieldNameSymbol(VERSION_SID);
+                    symbols.writeInt(st.getVersion());
+                    symbols.setFieldNameSymbol(MAX_ID_SID);
+                    symbols.writeInt(st.getMaxId());
+                    symbols.stepOut();
+                }
+                symbols.stepOut();
+            }
+            if (hasUndeclaredLocals)
+            {
+                symbols.setFieldNameSymbol(SYMBOLS_SID);
+                symbols.stepIn(LIST);
+                for (int i = numberOfDeclaredLocals; i < localSymbols.size(); i++)
+                {
+                    symbols.writeString(localSymbols.get(i));
+                }
+                symbols.stepOut();
+            }
+            symbols.stepOut();
+        }
+        isIvmRequired = false;
+        numberOfDeclaredLocals = localSymbols.size();
+    }
+
+    public SymbolTable getSymbolTable()
+    {
+        if (isSymbolInliningEnabled || (localSymbols.isEmpty() && imports.parents.isEmpty()))
+        {
+            return systemSymbolTable();
+        }
+        return localSymbolTableView;
+    }
+
+    @Override
+    public <T> T asFacet(final Class<T> facetType)
+    {
+        // This writer does not expose a raw writer, so it is not an _Private_IonManagedWriter.
+        if (facetType == ResettableWriter.class)
+        {
+            return facetType.cast(this);
+        }
+        return null;
+    }
+
+    // Compatibility with Implementation Writer Interface
+
+    public IonCatalog getCatalog()
+    {
+        return catalog;
+    }
+
+    public boolean isFieldNameSet()
+    {
+        return user.isFieldNameSet();
+    }
+
+    public void writeIonVersionMarker() throws IOException
+    {
+        // this has to force a reset of symbol table context
+        finish();
+    }
+
+    public int getDepth()
+    {
+        return user.getDepth();
+    }
+
+    // Current Value Meta
+
+    public void setFieldName(final String name)
+    {
+        if (!isInStruct())
+        {
+            throw new IllegalStateException("IonWriter.setFieldName() must be called before writing a value into a struct.");
+        }
+        if (name == null)
+        {
+            throw new NullPointerException("Null field name is not allowed.");
+        }
+        setFieldName(sidFor(name), name);
+    }
+
+    public void setFieldNameSymbol(final SymbolToken token)
+    {
+        setFieldName(sidFor(token), token.getText());
+    }
+
+    private void setFieldName(final long sid, final String text)
+    {
+        if (sid == SYMBOL_TEXT)
+        {
+            user.setFieldNameText(text);
+        }
+        else
+        {
+            user.setFieldNameSymbol(sid);
+        }
+    }
+
+    public void setTypeAnnotations(final String... annotations)
+    {
+        user.clearAnnotations();
+        if (annotations != null)
+        {
+            for (int i = 0; i < annotations.length; i++)
+            {
+                addTypeAnnotation(annotations[i]);
+            }
+        }
+    }
+
+    public void setTypeAnnotationSymbols(final SymbolToken... annotations)
+    {
+        user.clearAnnotations();
+        if (annotations != null)
+        {
+            for (int i = 0; i < annotations.length; i++)
+            {
+                addAnnotation(sidFor(annotations[i]), annotations[i].getText());
+            }
+        }
+    }
+
+    public void addTypeAnnotation(final String annotation)
+    {
+        addAnnotation(sidFor(annotation), annotation);
+    }
+
+    private void addAnnotation(final long sid, final String text)
+    {
+        if (sid == SYMBOL_TEXT)
+        {
+            user.addAnnotationText(text);
+        }
+        else
+        {
+            user.addAnnotationSymbol(sid);
+        }
+    }
+
+    // Container Manipulation
+
+    public void stepIn(final IonType containerType) throws IOException
+    {
+        user.stepIn(containerType);
+    }
+
+    public void stepOut() throws IOException
+    {
+        user.stepOut();
+        if (isInliningRequired && user.getDepth() == 0)
+        {
+            // Write out the rest of the partially-flushed value so that the buffer once again begins at a top-level
+            // value, ahead of which new symbols may be declared.
+            user.writeTo(out);
+            isInliningRequired = false;
+        }
+        finishValue();
+    }
+
+    public boolean isInStruct()
+    {
+        return user.isInStruct();
+    }
+
+    // Write Value Methods
+
+    /**
+     * Flushes the buffered data if auto-flush is enabled and a block's worth has accumulated. Top-level values are
+     * never split across flushes unless containers are delimited.
+     */
+    private void finishValue() throws IOException
+    {
+        if (isAutoFlushEnabled
+            && (isDelimitedContainersEnabled || user.getDepth() == 0)
+            && user.position() >= autoFlushThreshold)
+        {
+            flush();
+        }
+    }
+
+    public void writeNull() throws IOException
+    {
+        writeNull(IonType.NULL);
+    }
+
+    public void writeNull(final IonType type) throws IOException
+    {
+        user.writeNull(type);
+        finishValue();
+    }
+
+    public void writeBool(final boolean value) throws IOException
+    {
+        user.writeBool(value);
+        finishValue();
+    }
+
+    public void writeInt(final long value) throws IOException
+    {
+        user.writeInt(value);
+        finishValue();
+    }
+
+    public void writeInt(final BigInteger value) throws IOException
+    {
+        user.writeInt(value);
+        finishValue();
+    }
+
+    public void writeFloat(final double value) throws IOException
+    {
+        user.writeFloat(value);
+        finishValue();
+    }
+
+    public void writeDecimal(final BigDecimal value) throws IOException
+    {
+        user.writeDecimal(value);
+        finishValue();
+    }
+
+    public void writeDecimal(final long unscaledValue, final int scale) throws IOException
+    {
+        writeDecimal(BigDecimal.valueOf(unscaledValue, scale));
+    }
+
+    public void writeTimestamp(final Timestamp value) throws IOException
+    {
+        user.writeTimestamp(value);
+        finishValue();
+    }
+
+    public void writeSymbol(final String content) throws IOException
+    {
+        if (content == null)
+        {
+            writeNull(IonType.SYMBOL);
+            return;
+        }
+        writeSymbol(sidFor(content), content);
+    }
+
+    public void writeSymbolToken(final SymbolToken token) throws IOException
+    {
+        if (token == null)
+        {
+            writeNull(IonType.SYMBOL);
+            return;
+        }
+        writeSymbol(sidFor(token), token.getText());
+    }
+
+    private void writeSymbol(final long sid, final String text) throws IOException
+    {
+        if (sid == SYMBOL_TEXT)
+        {
+            user.writeSymbolText(text);
+        }
+        else
+        {
+            user.writeSymbol(sid);
+        }
+        finishValue();
+    }
+
+    public void writeString(final String value) throws IOException
+    {
+        user.writeString(value);
+        finishValue();
+    }
+
+    @Override
+    public void writeString(final byte[] data, final int offset, final int length) throws IOException
+    {
+        writeString(data == null ? null : new String(data, offset, length, StandardCharsets.UTF_8));
+    }
+
+    public void writeClob(final byte[] data) throws IOException
+    {
+        writeClob(data, 0, data == null ? 0 : data.length);
+    }
+
+    public void writeClob(final byte[] data, final int offset, final int length) throws IOException
+    {
+        if (data == null)
+        {
+            writeNull(IonType.CLOB);
+            return;
+        }
+        user.writeClob(data, offset, length);
+        finishValue();
+    }
+
+    public void writeBlob(final byte[] data) throws IOException
+    {
+        writeBlob(data, 0, data == null ? 0 : data.length);
+    }
+
+    public void writeBlob(final byte[] data, final int offset, final int length) throws IOException
+    {
+        if (data == null)
+        {
+            writeNull(IonType.BLOB);
+            return;
+        }
+        user.writeBlob(data, offset, length);
+        finishValue();
+    }
+
+    public void writeBytes(final byte[] data, final int off, final int len) throws IOException
+    {
+        throw new UnsupportedOperationException("Raw Ion 1.0 data cannot be transferred to an Ion 1.1 writer.");
+    }
+
+    // Stream Terminators
+
+    /**
+     * Writes the buffered data to the output stream. Length-prefixed containers can only be written once they are
+     * complete, so unless containers are delimited this has no effect below the top level.
+     */
+    public void flush() throws IOException
+    {
+        if (user.getDepth() > 0)
+        {
+            if (!isDelimitedContainersEnabled)
+            {
+                return;
+            }
+            isInliningRequired = true;
+        }
+        if (user.position() > 0 || localSymbols.size() > Math.max(numberOfDeclaredLocals, numberOfRetainedLocals))
+        {
+            writeSymbolTable();
+            symbols.writeTo(out);
+            user.writeTo(out);
+        }
+        out.flush();
+    }
+
+    public void finish() throws IOException
+    {
+        if (getDepth() != 0)
+        {
+            throw new IllegalStateException("IonWriter.finish() can only be called at top-level.");
+        }
+        flush();
+        // Reset local symbols; the next data written will begin with an IVM.
+        locals.clear();
+        localSymbols.clear();
+        numberOfDeclaredLocals = 0;
+        numberOfRetainedLocals = 0;
+        isIvmRequired = true;
+        imports = bootstrapImports;
+    }
+
+    public void finishAndReset() throws IOException
+    {
+        if (closed)
+        {
+            throw new IllegalStateException("Cannot reset a closed writer.");
+        }
+        if (getDepth() != 0)
+        {
+            throw new IllegalStateException("A writer can only be reset at top-level.");
+        }
+        flush();
+        numberOfDeclaredLocals = 0;
+        isIvmRequired = true;
+        if (isLocalSymbolRetentionEnabled)
+        {
+            numberOfRetainedLocals = localSymbols.size();
+        }
+        else
+        {
+            locals.clear();
+            localSymbols.clear();
+            numberOfRetainedLocals = 0;
+            startInitialSymbolTable();
+        }
+        // otherwise, the imports and locals stay as they are and are re-declared ahead of the next message
+    }
+
+    public void reset(final OutputStream out) throws IOException
+    {
+        if (out == null) { throw new NullPointerException(); }
+        finishAndReset();
+        this.out = out;
+    }
+
+    public void close() throws IOException
+    {
+        if (closed)
+        {
+            return;
+        }
+        closed = true;
+        try
+        {
+            finish();
+        }
+        catch (IllegalStateException e)
+        {
+            // callers do not expect this...
+        }
+        finally
+        {
+            try
+            {
+                symbols.close();
+                user.close();
+            }
+            finally
+            {
+                out.close();
+            }
+        }
+    }
+}
@@ -349,12 +349,14 @@ import java.util.ArrayList;
     private static final int SID_UNASSIGNED = -1;
 
     private final BlockAllocator                allocator;
-    private final OutputStream                  out;
+    private OutputStream                        out;
     private final StreamCloseMode               streamCloseMode;
     private final StreamFlushMode               streamFlushMode;
     private final PreallocationMode             preallocationMode;
     private final boolean                       isFloatBinary32Enabled;
     private final WriteBuffer                   buffer;
+    /** Scratch space for encoded patch lengths gathered by {@link #gatherTo(ByteBufferGatherer)}; lazily allocated. */
+    private byte[]                              patchBytes;
     private final ArrayList<PatchPoint>         patchPoints;
     /** The length of the patch point queue. Some elements in the queue may be null or not yet have the correct data. */
     private int                                 patchPointsLength;
@@ -1032,74 +1034,15 @@ import java.util.ArrayList;
         final int signum = value.signum();
         final int exponent = -value.scale();
 
-        writeVarInt(exponent);
-
         final BigInteger mantissaBigInt = value.unscaledValue();
         if (mantissaBigInt.compareTo(BIG_INT_LONG_MIN_VALUE) >= 0 && mantissaBigInt.compareTo(BIG_INT_LONG_MAX_VALUE) <= 0)
         {
             // we can fit into the long space
-            final long mantissa = mantissaBigInt.longValue();
-            if (signum == 0 && !isNegZero)
-            {
-                // positive zero does not need to be encoded
-            }
-            else if (isNegZero)
-            {
-                // XXX special case for negative zero, we have to encode as a signed zero in the Int format
-                updateLength(1);
-                buffer.writeByte(DECIMAL_NEGATIVE_ZERO_MANTISSA);
-            }
-            else if (mantissa == Long.MIN_VALUE)
-            {
-                // XXX special case for min value -- we need 64-bits to store the magnitude and we need a bit for sign
-                updateLength(9);
-                buffer.writeUInt8(0x80);
-                buffer.writeUInt64(mantissa);
-            }
-            else if (mantissa >= 0xFFFFFFFFFFFFFF81L && mantissa <= 0x000000000000007FL)
-            {
-                updateLength(1);
-                buffer.writeInt8(mantissa);
-            }
-            else if (mantissa >= 0xFFFFFFFFFFFF8001L && mantissa <= 0x0000000000007FFFL)
-            {
-                updateLength(2);
-                buffer.writeInt16(mantissa);
-            }
-            else if (mantissa >= 0xFFFFFFFFFF800001L && mantissa <= 0x00000000007FFFFFL)
-            {
-                updateLength(3);
-                buffer.writeInt24(mantissa);
-            }
-            else if (mantissa >= 0xFFFFFFFF80000001L && mantissa <= 0x000000007FFFFFFFL)
-            {
-                updateLength(4);
-                buffer.writeInt32(mantissa);
-            }
-            else if (mantissa >= 0xFFFFFF8000000001L && mantissa <= 0x0000007FFFFFFFFFL)
-            {
-                updateLength(5);
-                buffer.writeInt40(mantissa);
-            }
-            else if (mantissa >= 0xFFFF800000000001L && mantissa <= 0x00007FFFFFFFFFFFL)
-            {
-                updateLength(6);
-                buffer.writeInt48(mantissa);
-            }
-            else if (mantissa >= 0xFF80000000000001L && mantissa <= 0x007FFFFFFFFFFFFFL)
-            {
-                updateLength(7);
-                buffer.writeInt56(mantissa);
-            }
-            else
-            {
-                // TODO consider being more space efficient for integers that can be written with 6/7 bytes.
-                updateLength(8);
-                buffer.writeInt64(mantissa);
-            }
+            writeDecimalValue(mantissaBigInt.longValue(), exponent, isNegZero);
         }
         else
         {
+            writeVarInt(exponent);
             final BigInteger magnitude = signum > 0 ? mantissaBigInt : mantissaBigInt.negate();
             final byte[] bits = magnitude.toByteArray();
             if (signum < 0)
@@ -1120,6 +1063,71 @@ import java.util.ArrayList;
         }
     }
 
+    /** Encodes a decimal whose mantissa fits in a long, updating the current container length context. */
+    private void writeDecimalValue(final long mantissa, final int exponent, final boolean isNegZero)
+    {
+        writeVarInt(exponent);
+
+        if (mantissa == 0 && !isNegZero)
+        {
+            // positive zero does not need to be encoded
+        }
+        else if (isNegZero)
+        {
+            // XXX special case for negative zero, we have to encode as a signed zero in the Int format
+            updateLength(1);
+            buffer.writeByte(DECIMAL_NEGATIVE_ZERO_MANTISSA);
+        }
+        else if (mantissa == Long.MIN_VALUE)
+        {
+            // XXX special case for min value -- we need 64-bits to store the magnitude and we need a bit for sign
+            updateLength(9);
+            buffer.writeUInt8(0x80);
+            buffer.writeUInt64(mantissa);
+        }
+        else if (mantissa >= 0xFFFFFFFFFFFFFF81L && mantissa <= 0x000000000000007FL)
+        {
+            updateLength(1);
+            buffer.writeInt8(mantissa);
+        }
+        else if (mantissa >= 0xFFFFFFFFFFFF8001L && mantissa <= 0x0000000000007FFFL)
+        {
+            updateLength(2);
+            buffer.writeInt16(mantissa);
+        }
+        else if (mantissa >= 0xFFFFFFFFFF800001L && mantissa <= 0x00000000007FFFFFL)
+        {
+            updateLength(3);
+            buffer.writeInt24(mantissa);
+        }
+        else if (mantissa >= 0xFFFFFFFF80000001L && mantissa <= 0x000000007FFFFFFFL)
+        {
+            updateLength(4);
+            buffer.writeInt32(mantissa);
+        }
+        else if (mantissa >= 0xFFFFFF8000000001L && mantissa <= 0x0000007FFFFFFFFFL)
+        {
+            updateLength(5);
+            buffer.writeInt40(mantissa);
+        }
+        else if (mantissa >= 0xFFFF800000000001L && mantissa <= 0x00007FFFFFFFFFFFL)
+        {
+            updateLength(6);
+            buffer.writeInt48(mantissa);
+        }
+        else if (mantissa >= 0xFF80000000000001L && mantissa <= 0x007FFFFFFFFFFFFFL)
+        {
+            updateLength(7);
+            buffer.writeInt56(mantissa);
+        }
+        else
+        {
+            // TODO consider being more space efficient for integers that can be written with 6/7 bytes.
+            updateLength(8);
+            buffer.writeInt64(mantissa);
+        }
+    }
+
     private void patchSingleByteTypedOptimisticValue(final byte type, final ContainerInfo info)
     {
         if (info.length <= 0xD)
@@ -1165,6 +1173,34 @@ import java.util.ArrayList;
         finishValue();
     }
 
+    /**
+     * Writes the decimal value {@code unscaledValue * 10^-scale} without constructing a {@link BigDecimal}. The
+     * encoding is identical to that written by {@link #writeDecimal(BigDecimal)} for the equivalent value.
+     */
+    public void writeDecimal(final long unscaledValue, final int scale) throws IOException
+    {
+        prepareValue();
+
+        if (unscaledValue == 0 && scale == 0)
+        {
+            // 0d0 can be written in one byte
+            updateLength(1);
+            buffer.writeUInt8(DECIMAL_POS_ZERO);
+        }
+        else
+        {
+            // optimistically try to fit decimal length in low nibble (most should)
+            updateLength(1);
+            pushContainer(ContainerType.VALUE);
+            buffer.writeByte(DECIMAL_TYPE);
+            writeDecimalValue(unscaledValue, -scale, false);
+            final ContainerInfo info = popContainer();
+            patchSingleByteTypedOptimisticValue(DECIMAL_TYPE, info);
+        }
+
+        finishValue();
+    }
+
     public void writeTimestamp(final Timestamp value) throws IOException
     {
         if (value == null)
@@ -1436,6 +1472,60 @@ import java.util.ArrayList;
             }
             buffer.writeTo(out, bufferPosition, buffer.position() - bufferPosition);
         }
+        resetAfterFinish();
+    }
+
+    /**
+     * Adds views of the completed data, with its patched lengths, to the given gatherer without copying or writing it.
+     * The views remain valid until {@link #finishGathered()} is called, which must happen once the gathered data has
+     * been written.
+     */
+    /*package*/ void gatherTo(final ByteBufferGatherer gatherer)
+    {
+        if (closed)
+        {
+            return;
+        }
+        if (containerIndex > -1 || depth > 0)
+        {
+            throw new IllegalStateException("Cannot finish within container: " + containers);
+        }
+        final int maxPatchBytesLength = patchPointsLength * WriteBuffer.varUIntLength(Long.MAX_VALUE);
+        if (patchBytes == null || patchBytes.length < maxPatchBytesLength)
+        {
+            patchBytes = new byte[maxPatchBytesLength];
+        }
+        int patchBytesPosition = 0;
+        long bufferPosition = 0;
+        for (int i = 0; i < patchPointsLength; i++)
+        {
+            final PatchPoint patch = patchPoints.get(i);
+            if (patch == null || patch.length < 0) {
+                continue;
+            }
+            buffer.gatherTo(gatherer, bufferPosition, patch.oldPosition - bufferPosition);
+
+            final int patchLength = WriteBuffer.writeVarUIntTo(patchBytes, patchBytesPosition, patch.length);
+            gatherer.add(patchBytes, patchBytesPosition, patchLength);
+            patchBytesPosition += patchLength;
+
+            bufferPosition = patch.oldPosition + patch.oldLength;
+        }
+        buffer.gatherTo(gatherer, bufferPosition, buffer.position() - bufferPosition);
+    }
+
+    /** Completes a {@link #finish()} whose data was written from the views added by {@link #gatherTo(ByteBufferGatherer)}. */
+    /*package*/ void finishGathered() throws IOException
+    {
+        if (closed)
+        {
+            return;
+        }
+        resetAfterFinish();
+    }
+
+    private void resetAfterFinish() throws IOException
+    {
         patchPointsLength = 0;
         buffer.reset();
 
@@ -1447,6 +1537,13 @@ import java.util.ArrayList;
         hasWrittenValuesSinceFinished = false;
     }
 
+    /** Directs subsequent output to the given stream. Must only be called when no data is buffered. */
+    /*package*/ void setOutputStream(final OutputStream out)
+    {
+        if (out == null) { throw new NullPointerException(); }
+        this.out = out;
+    }
+
     public void close() throws IOException
     {
         if (closed)
@@ -0,0 +1,486 @@
+// Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+// SPDX-License-Identifier: Apache-2.0
+package com.amazon.ion.impl.bin;
+
+import com.amazon.ion.IonException;
+import com.amazon.ion.IonType;
+import com.amazon.ion.Timestamp;
+import com.amazon.ion.impl.bin.utf8.Utf8StringEncoder;
+import com.amazon.ion.impl.bin.utf8.Utf8StringEncoderPool;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static com.amazon.ion.impl.bin.Ion_1_1_Constants.FLEX_SYM_ESCAPE;
+import static com.amazon.ion.impl.bin.Ion_1_1_Constants.FLEX_SYM_ESCAPED_EMPTY_TEXT;
+import static com.amazon.ion.impl.bin.Ion_1_1_Constants.FLEX_SYM_ESCAPED_SID_ZERO;
+
+/**
+ * Low-level Ion 1.1 binary encoder. Scalars are encoded using {@link IonEncoder_1_1}; this class adds containers,
+ * field names, and annotations, each of which may refer to a symbol either by address or by inline text. It performs
+ * no symbol table management.
+ * <p>
+ * Containers are written in one of two modes:
+ * <ul>
+ *     <li>Delimited: containers are written front-to-back, terminated by an end marker. All data is written to a
+ *     single buffer, so the encoded bytes written so far may be drained at any depth.</li>
+ *     <li>Length-prefixed: each open container's content is buffered separately and copied into its parent, preceded
+ *     by its length, when the container is closed.</li>
+ * </ul>
+ */
+/*package*/ final class IonRawBinaryWriter_1_1 implements Closeable
+{
+    private static final byte[] IVM = { (byte) 0xE0, 0x01, 0x01, (byte) 0xEA };
+
+    private static final int SYMBOL_TEXT = -1;
+
+    private static final Runnable NO_OP = () -> {};
+
+    private final BlockAllocator allocator;
+    private final boolean isDelimitedContainersEnabled;
+    private final Utf8StringEncoder utf8StringEncoder;
+
+    // In length-prefixed mode, buffers.get(i) holds the content of the container at depth i, with index 0 being the
+    // top level. In delimited mode, only the top-level buffer is used.
+    private final List<WriteBuffer> buffers;
+    private WriteBuffer buffer;
+
+    private IonType[] containerTypes;
+    private int depth;
+
+    private boolean hasFieldName;
+    private long fieldNameSid;
+    private String fieldNameText;
+
+    private long[] annotationSids;
+    private String[] annotationTexts;
+    private int numberOfAnnotations;
+
+    /*package*/ IonRawBinaryWriter_1_1(final BlockAllocatorProvider provider,
+                                       final int blockSize,
+                                       final boolean isDelimitedContainersEnabled)
+    {
+        this.allocator = provider.vendAllocator(blockSize);
+        this.isDelimitedContainersEnabled = isDelimitedContainersEnabled;
+        this.utf8StringEncoder = Utf8StringEncoderPool.getInstance().getOrCreate();
+        this.buffers = new ArrayList<>();
+        this.buffer = new WriteBuffer(allocator, NO_OP);
+        this.buffers.add(buffer);
+        this.containerTypes = new IonType[8];
+        this.depth = 0;
+        this.annotationSids = new long[4];
+        this.annotationTexts = new String[4];
+        this.numberOfAnnotations = 0;
+    }
+
+    // Current Value Meta
+
+    /*package*/ int getDepth()
+    {
+        return depth;
+    }
+
+    /*package*/ boolean isInStruct()
+    {
+        return depth > 0 && containerTypes[depth - 1] == IonType.STRUCT;
+    }
+
+    /*package*/ boolean isFieldNameSet()
+    {
+        return hasFieldName;
+    }
+
+    /*package*/ boolean hasAnnotations()
+    {
+        return numberOfAnnotations > 0;
+    }
+
+    /** Sets the field name of the next value to the given symbol address. */
+    /*package*/ void setFieldNameSymbol(final long sid)
+    {
+        if (!isInStruct())
+        {
+            throw new IonException("Cannot set field name outside of struct context");
+        }
+        hasFieldName = true;
+        fieldNameSid = sid;
+        fieldNameText = null;
+    }
+
+    /** Sets the field name of the next value to the given inline text. */
+    /*package*/ void setFieldNameText(final String text)
+    {
+        if (!isInStruct())
+        {
+            throw new IonException("Cannot set field name outside of struct context");
+        }
+        hasFieldName = true;
+        fieldNameSid = SYMBOL_TEXT;
+        fieldNameText = text;
+    }
+
+    /*package*/ void clearAnnotations()
+    {
+        numberOfAnnotations = 0;
+        Arrays.fill(annotationTexts, null);
+    }
+
+    /** Adds an annotation with the given symbol address to the next value. */
+    /*package*/ void addAnnotationSymbol(final long sid)
+    {
+        addAnnotation(sid, null);
+    }
+
+    /** Adds an annotation with the given inline text to the next value. */
+    /*package*/ void addAnnotationText(final String text)
+    {
+        addAnnotation(SYMBOL_TEXT, text);
+    }
+
+    private void addAnnotation(final long sid, final String text)
+    {
+        if (numberOfAnnotations == annotationSids.length)
+        {
+            annotationSids = Arrays.copyOf(annotationSids, numberOfAnnotations * 2);
+            annotationTexts = Arrays.copyOf(annotationTexts, numberOfAnnotations * 2);
+        }
+        annotationSids[numberOfAnnotations] = sid;
+        annotationTexts[numberOfAnnotations] = text;
+        numberOfAnnotations++;
+    }
+
+    // Low-Level Writing
+
+    /**
+     * Writes a FlexSym, which holds a positive symbol address, the negated length of the inline UTF-8 text that
+     * follows it, or zero followed by an escaped byte.
+     */
+    private void writeFlexSym(final long sid, final String text)
+    {
+        if (sid > 0)
+        {
+            buffer.writeFlexInt(sid);
+        }
+        else if (sid == 0)
+        {
+            buffer.writeByte(FLEX_SYM_ESCAPE);
+            buffer.writeByte(FLEX_SYM_ESCAPED_SID_ZERO);
+        }
+        else if (text.isEmpty())
+        {
+            buffer.writeByte(FLEX_SYM_ESCAPE);
+            buffer.writeByte(FLEX_SYM_ESCAPED_EMPTY_TEXT);
+        }
+        else
+        {
+            final Utf8StringEncoder.Result encoded = utf8StringEncoder.encode(text);
+            buffer.writeFlexInt(-encoded.getEncodedLength());
+            buffer.writeBytes(encoded.getBuffer(), 0, encoded.getEncodedLength());
+        }
+    }
+
+    private static int flexSymLength(final long sid)
+    {
+        return sid == 0 ? 2 : WriteBuffer.flexIntLength(sid);
+    }
+
+    private void writeAnnotations()
+    {
+        boolean hasText = false;
+        for (int i = 0; i < numberOfAnnotations; i++)
+        {
+            hasText |= annotationSids[i] == SYMBOL_TEXT;
+        }
+        if (!hasText)
+        {
+            IonEncoder_1_1.writeAnnotations(buffer, Arrays.copyOf(annotationSids, numberOfAnnotations));
+        }
+        else if (numberOfAnnotations <= 2)
+        {
+            buffer.writeByte(numberOfAnnotations == 1 ? OpCodes.ANNOTATIONS_1_FLEX_SYM : OpCodes.ANNOTATIONS_2_FLEX_SYM);
+            for (int i = 0; i < numberOfAnnotations; i++)
+            {
+                writeFlexSym(annotationSids[i], annotationTexts[i]);
+            }
+        }
+        else
+        {
+            // The sequence of FlexSyms is prefixed by its length in bytes.
+            int length = 0;
+            for (int i = 0; i < numberOfAnnotations; i++)
+            {
+                if (annotationSids[i] == SYMBOL_TEXT)
+                {
+                    final String text = annotationTexts[i];
+                    if (text.isEmpty())
+                    {
+                        length += 2;
+                    }
+                    else
+                    {
+                        final int textLength = utf8StringEncoder.encode(text).getEncodedLength();
+                        length += WriteBuffer.flexIntLength(-textLength) + textLength;
+                    }
+                }
+                else
+                {
+                    length += flexSymLength(annotationSids[i]);
+                }
+            }
+            buffer.writeByte(OpCodes.ANNOTATIONS_MANY_FLEX_SYM);
+            buffer.writeFlexUInt(length);
+            for (int i = 0; i < numberOfAnnotations; i++)
+            {
+                writeFlexSym(annotationSids[i], annotationTexts[i]);
+            }
+        }
+        clearAnnotations();
+    }
+
+    /** Writes the field name and annotations of the value about to be written. */
+    private void prepareValue()
+    {
+        if (isInStruct())
+        {
+            if (!hasFieldName)
+            {
+                throw new IllegalStateException("IonWriter.setFieldName() must be called before writing a value into a struct.");
+            }
+            writeFlexSym(fieldNameSid, fieldNameText);
+            hasFieldName = false;
+            fieldNameText = null;
+        }
+        if (numberOfAnnotations > 0)
+        {
+            writeAnnotations();
+        }
+    }
+
+    // Container Manipulation
+
+    /*package*/ void stepIn(final IonType containerType)
+    {
+        if (!IonType.isContainer(containerType))
+        {
+            throw new IonException("Cannot step into " + containerType);
+        }
+        prepareValue();
+        if (depth == containerTypes.length)
+        {
+            containerTypes = Arrays.copyOf(containerTypes, depth * 2);
+        }
+        containerTypes[depth++] = containerType;
+        if (isDelimitedContainersEnabled)
+        {
+            switch (containerType)
+            {
+                case LIST:
+                    buffer.writeByte(OpCodes.DELIMITED_LIST);
+                    break;
+                case SEXP:
+                    buffer.writeByte(OpCodes.DELIMITED_SEXP);
+                    break;
+                default:
+                    buffer.writeByte(OpCodes.DELIMITED_STRUCT);
+                    break;
+            }
+        }
+        else
+        {
+            if (depth == buffers.size())
+            {
+                buffers.add(new WriteBuffer(allocator, NO_OP));
+            }
+            buffer = buffers.get(depth);
+        }
+    }
+
+    /*package*/ void stepOut()
+    {
+        if (hasFieldName)
+        {
+            throw new IonException("Cannot step out with field name set");
+        }
+        if (numberOfAnnotations > 0)
+        {
+            throw new IonException("Cannot step out with annotations set");
+        }
+        if (depth == 0)
+        {
+            throw new IonException("Cannot step out when not in container");
+        }
+        final IonType containerType = containerTypes[--depth];
+        if (isDelimitedContainersEnabled)
+        {
+            if (containerType == IonType.STRUCT)
+            {
+                // In a struct, the end marker takes the place of a field name, so it is escaped as a FlexSym.
+                buffer.writeByte(FLEX_SYM_ESCAPE);
+            }
+            buffer.writeByte(OpCodes.DELIMITED_END_MARKER);
+            return;
+        }
+        final WriteBuffer content = buffer;
+        buffer = buffers.get(depth);
+        final long length = content.position();
+        byte opCode;
+        byte variableLengthOpCode;
+        switch (containerType)
+        {
+            case LIST:
+                opCode = OpCodes.LIST_ZERO_LENGTH;
+                variableLengthOpCode = OpCodes.VARIABLE_LENGTH_LIST;
+                break;
+            case SEXP:
+                opCode = OpCodes.SEXP_ZERO_LENGTH;
+                variableLengthOpCode = OpCodes.VARIABLE_LENGTH_SEXP;
+                break;
+            default:
+                // Field names are always written as FlexSyms so that they may be either addresses or inline text.
+                opCode = OpCodes.STRUCT_FLEX_SYM_ZERO_LENGTH;
+                variableLengthOpCode = OpCodes.VARIABLE_LENGTH_STRUCT_WITH_FLEX_SYMS;
+                break;
+        }
+        if (length <= 0xF)
+        {
+            buffer.writeByte((byte) (opCode | length));
+        }
+        else
+        {
+            buffer.writeByte(variableLengthOpCode);
+            buffer.writeFlexUInt(length);
+        }
+        content.writeTo(buffer);
+        content.reset();
+    }
+
+    // Value Writing
+
+    /*package*/ void writeIonVersionMarker()
+    {
+        if (depth > 0)
+        {
+            throw new IonException("Cannot write an Ion version marker within a container");
+        }
+        buffer.writeBytes(IVM);
+    }
+
+    /*package*/ void writeNull(final IonType type)
+    {
+        prepareValue();
+        IonEncoder_1_1.writeNullValue(buffer, type);
+    }
+
+    /*package*/ void writeBool(final boolean value)
+    {
+        prepareValue();
+        IonEncoder_1_1.writeBoolValue(buffer, value);
+    }
+
+    /*package*/ void writeInt(final long value)
+    {
+        prepareValue();
+        IonEncoder_1_1.writeIntValue(buffer, value);
+    }
+
+    /*package*/ void writeInt(final BigInteger value)
+    {
+        prepareValue();
+        IonEncoder_1_1.writeIntValue(buffer, value);
+    }
+
+    /*package*/ void writeFloat(final double value)
+    {
+        prepareValue();
+        IonEncoder_1_1.writeFloat(buffer, value);
+    }
+
+    /*package*/ void writeDecimal(final BigDecimal value)
+    {
+        prepareValue();
+        IonEncoder_1_1.writeDecimalValue(buffer, value);
+    }
+
+    /*package*/ void writeTimestamp(final Timestamp value)
+    {
+        prepareValue();
+        IonEncoder_1_1.writeTimestampValue(buffer, value);
+    }
+
+    /*package*/ void writeString(final String value)
+    {
+        prepareValue();
+        IonEncoder_1_1.writeStringValue(buffer, value);
+    }
+
+    /** Writes a symbol value that refers to the given symbol address. */
+    /*package*/ void writeSymbol(final long sid)
+    {
+        prepareValue();
+        IonEncoder_1_1.writeSymbolValue(buffer, sid);
+    }
+
+    /** Writes a symbol value with the given inline text. */
+    /*package*/ void writeSymbolText(final String text)
+    {
+        prepareValue();
+        IonEncoder_1_1.writeSymbolValue(buffer, text);
+    }
+
+    /*package*/ void writeBlob(final byte[] data, final int offset, final int length)
+    {
+        prepareValue();
+        writeLob(OpCodes.VARIABLE_LENGTH_BLOB, data, offset, length);
+    }
+
+    /*package*/ void writeClob(final byte[] data, final int offset, final int length)
+    {
+        prepareValue();
+        writeLob(OpCodes.VARIABLE_LENGTH_CLOB, data, offset, length);
+    }
+
+    private void writeLob(final byte opCode, final byte[] data, final int offset, final int length)
+    {
+        buffer.writeByte(opCode);
+        buffer.writeFlexUInt(length);
+        buffer.writeBytes(data, offset, length);
+    }
+
+    // Output
+
+    /**
+     * @return the number of encoded bytes that are available to be written by {@link #writeTo(OutputStream)}.
+     */
+    /*package*/ long position()
+    {
+        return buffers.get(0).position();
+    }
+
+    /**
+     * Writes the encoded bytes that are available to the given stream and discards them from this writer. In
+     * delimited mode, this includes the bytes of any open containers.
+     */
+    /*package*/ void writeTo(final OutputStream out) throws IOException
+    {
+        final WriteBuffer topLevel = buffers.get(0);
+        topLevel.writeTo(out);
+        topLevel.reset();
+    }
+
+    public void close()
+    {
+        for (final WriteBuffer writeBuffer : buffers)
+        {
+            writeBuffer.close();
+        }
+        buffers.clear();
+        utf8StringEncoder.close();
+        allocator.close();
+    }
+}
@@ -1104,6 +1104,22 @@ import java.util.List;
         out.write((int) (((value & VAR_INT_MASK) | VAR_INT_FINAL_OCTET_SIGNAL_MASK) & 0xFF));
     }
 
+    /** Write the varUint value to the array at the given offset, returning the number of bytes written. */
+    public static int writeVarUIntTo(final byte[] bytes, int offset, final long value)
+    {
+        final int length = varUIntLength(value);
+        final int end = offset + length - 1;
+        long remaining = value;
+        for (int i = end; i > offset; i--)
+        {
+            bytes[i] = (byte) (remaining & VAR_INT_MASK);
+            remaining >>>= 7;
+        }
+        bytes[offset] = (byte) (remaining & VAR_INT_MASK);
+        bytes[end] |= (byte) VAR_INT_FINAL_OCTET_SIGNAL_MASK;
+        return length;
+    }
+
     private static final long VAR_INT_SIGNED_OCTET_MASK = 0x3F;
     private static final long VAR_INT_SIGNBIT_ON_MASK   = 0x40L;
     private static final long VAR_INT_SIGNBIT_OFF_MASK  = 0x00L;
@@ -1526,6 +1542,16 @@ import java.util.List;
         }
     }
 
+    /** Appends the entire buffer to another buffer. */
+    public void writeTo(final WriteBuffer other)
+    {
+        for (int i = 0; i <= index; i++)
+        {
+            Block block = blocks.get(i);
+            other.writeBytes(block.data, 0, block.limit);
+        }
+    }
+
     /** Write a specific segment of data from the buffer to a stream. */
     public void writeTo(final OutputStream out, long position, long length) throws IOException
     {
@@ -1541,4 +1567,20 @@ import java.util.List;
             length -= amount;
         }
     }
+
+    /** Adds views of a specific segment of data from the buffer to a gatherer, without copying. */
+    /*package*/ void gatherTo(final ByteBufferGatherer gatherer, long position, long length)
+    {
+        while (length > 0)
+        {
+            final int index = index(position);
+            final int offset = offset(position);
+            final Block block = blocks.get(index);
+            final int amount = (int) Math.min(block.data.length - offset, length);
+            gatherer.add(block.data, offset, amount);
+
+            position += amount;
+            length -= amount;
+        }
+    }
 }
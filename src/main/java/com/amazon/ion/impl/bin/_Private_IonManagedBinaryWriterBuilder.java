@@ -32,6 +32,8 @@ import com.amazon.ion.impl.bin.IonRawBinaryWriter.PreallocationMode;
 import com.amazon.ion.system.SimpleCatalog;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
 import java.util.Arrays;
 import java.util.List;
 
@@ -79,6 +81,10 @@ public final class _Private_IonManagedBinaryWriterBuilder
     /*package*/ volatile SymbolTable            initialSymbolTable;
     /*package*/ volatile boolean                isLocalSymbolTableAppendEnabled;
     /*package*/ volatile boolean                isFloatBinary32Enabled;
+    /*package*/ volatile boolean                isIon_1_1Enabled;
+    /*package*/ volatile boolean                isDelimitedContainersEnabled;
+    /*package*/ volatile boolean                isSymbolInliningEnabled;
+    /*package*/ volatile boolean                isLocalSymbolRetentionEnabled;
      volatile boolean                           isAutoFlushEnabled;
 
     private _Private_IonManagedBinaryWriterBuilder(final BlockAllocatorProvider provider)
@@ -92,6 +98,10 @@ public final class _Private_IonManagedBinaryWriterBuilder
         this.optimization = WriteValueOptimization.NONE;
         this.isLocalSymbolTableAppendEnabled = false;
         this.isFloatBinary32Enabled = false;
+        this.isIon_1_1Enabled = false;
+        this.isDelimitedContainersEnabled = false;
+        this.isSymbolInliningEnabled = false;
+        this.isLocalSymbolRetentionEnabled = false;
         this.isAutoFlushEnabled = false;
     }
 
@@ -107,6 +117,10 @@ public final class _Private_IonManagedBinaryWriterBuilder
         this.initialSymbolTable = other.initialSymbolTable;
         this.isLocalSymbolTableAppendEnabled = other.isLocalSymbolTableAppendEnabled;
         this.isFloatBinary32Enabled = other.isFloatBinary32Enabled;
+        this.isIon_1_1Enabled = other.isIon_1_1Enabled;
+        this.isDelimitedContainersEnabled = other.isDelimitedContainersEnabled;
+        this.isSymbolInliningEnabled = other.isSymbolInliningEnabled;
+        this.isLocalSymbolRetentionEnabled = other.isLocalSymbolRetentionEnabled;
         this.isAutoFlushEnabled = other.isAutoFlushEnabled;
     }
 
@@ -233,6 +247,61 @@ public final class _Private_IonManagedBinaryWriterBuilder
         return this;
     }
 
+    /**
+     * Writers will produce Ion 1.1 data. Float width is chosen automatically in Ion 1.1, so the Binary32 setting has
+     * no effect.
+     */
+    public _Private_IonManagedBinaryWriterBuilder withIon_1_1Enabled() {
+        isIon_1_1Enabled = true;
+        return this;
+    }
+
+    public _Private_IonManagedBinaryWriterBuilder withIon_1_1Disabled() {
+        isIon_1_1Enabled = false;
+        return this;
+    }
+
+    /**
+     * Ion 1.1 writers will write containers front-to-back, terminated by an end marker, instead of prefixing them
+     * with their lengths.
+     */
+    public _Private_IonManagedBinaryWriterBuilder withDelimitedContainersEnabled() {
+        isDelimitedContainersEnabled = true;
+        return this;
+    }
+
+    public _Private_IonManagedBinaryWriterBuilder withDelimitedContainersDisabled() {
+        isDelimitedContainersEnabled = false;
+        return this;
+    }
+
+    /**
+     * Ion 1.1 writers will write all symbol text inline rather than interning it into local symbol tables.
+     */
+    public _Private_IonManagedBinaryWriterBuilder withSymbolInliningEnabled() {
+        isSymbolInliningEnabled = true;
+        return this;
+    }
+
+    public _Private_IonManagedBinaryWriterBuilder withSymbolInliningDisabled() {
+        isSymbolInliningEnabled = false;
+        return this;
+    }
+
+    /**
+     * Writers will keep their local symbols when reset via {@link com.amazon.ion.ResettableWriter}, re-declaring them
+     * at the start of each subsequent message.
+     */
+    public _Private_IonManagedBinaryWriterBuilder withLocalSymbolRetentionEnabled() {
+        isLocalSymbolRetentionEnabled = true;
+        return this;
+    }
+
+    public _Private_IonManagedBinaryWriterBuilder withLocalSymbolRetentionDisabled() {
+        isLocalSymbolRetentionEnabled = false;
+        return this;
+    }
+
     public _Private_IonManagedBinaryWriterBuilder withInitialSymbolTable(SymbolTable symbolTable)
     {
         if (symbolTable != null)
@@ -272,9 +341,23 @@ public final class _Private_IonManagedBinaryWriterBuilder
 
     public IonWriter newWriter(final OutputStream out) throws IOException
     {
+        if (isIon_1_1Enabled)
+        {
+            return new IonManagedBinaryWriter_1_1(this, out);
+        }
         return new IonManagedBinaryWriter(this, out);
     }
 
+    public IonWriter newWriter(final WritableByteChannel channel) throws IOException
+    {
+        if (isIon_1_1Enabled)
+        {
+            // The Ion 1.1 writer does not gather its blocks, so it writes to the channel through a stream adapter.
+            return new IonManagedBinaryWriter_1_1(this, Channels.newOutputStream(channel));
+        }
+        return new IonManagedBinaryWriter(this, channel);
+    }
+
     public IonBinaryWriter newLegacyWriter()
     {
         try
@@ -86,12 +86,52 @@ public class Utf8StringDecoder extends Poolable<Utf8StringDecoder> {
      * @return the decoded Java String.
      */
     public String decode(ByteBuffer utf8InputBuffer, int numberOfBytes) {
+        decodeToBuffer(utf8InputBuffer, numberOfBytes);
+        return finishDecode();
+    }
+
+    /**
+     * Decodes the given number of UTF-8 bytes from the given ByteBuffer, appending the resulting characters to the
+     * given StringBuilder without creating an intermediate String.
+     * @param utf8InputBuffer a ByteBuffer containing UTF-8 bytes.
+     * @param numberOfBytes the number of bytes from the utf8InputBuffer to decode.
+     * @param destination the StringBuilder to which the decoded characters will be appended.
+     */
+    public void decode(ByteBuffer utf8InputBuffer, int numberOfBytes, StringBuilder destination) {
+        decodeToBuffer(utf8InputBuffer, numberOfBytes);
+        utf8DecodingBuffer.flip();
+        destination.append(utf8DecodingBuffer.array(), utf8DecodingBuffer.arrayOffset(), utf8DecodingBuffer.limit());
+    }
+
+    /**
+     * Decodes the given number of UTF-8 bytes from the given ByteBuffer into the given char array without creating an
+     * intermediate String.
+     * @param utf8InputBuffer a ByteBuffer containing UTF-8 bytes.
+     * @param numberOfBytes the number of bytes from the utf8InputBuffer to decode.
+     * @param destination the array into which the decoded characters will be copied.
+     * @param offset the index in the destination at which to begin copying.
+     * @return the number of characters copied.
+     * @throws IndexOutOfBoundsException if the decoded characters do not fit in the destination.
+     */
+    public int decode(ByteBuffer utf8InputBuffer, int numberOfBytes, char[] destination, int offset) {
+        decodeToBuffer(utf8InputBuffer, numberOfBytes);
+        utf8DecodingBuffer.flip();
+        int numberOfChars = utf8DecodingBuffer.limit();
+        System.arraycopy(utf8DecodingBuffer.array(), utf8DecodingBuffer.arrayOffset(), destination, offset, numberOfChars);
+        return numberOfChars;
+    }
+
+    /**
+     * Decodes the given number of UTF-8 bytes from the given ByteBuffer into the decoding buffer.
+     * @param utf8InputBuffer a ByteBuffer containing UTF-8 bytes.
+     * @param numberOfBytes the number of bytes from the utf8InputBuffer to decode.
+     */
+    private void decodeToBuffer(ByteBuffer utf8InputBuffer, int numberOfBytes) {
         prepareDecode(numberOfBytes);
 
         utf8DecodingBuffer.position(0);
         utf8DecodingBuffer.limit(utf8DecodingBuffer.capacity());
 
         partialDecode(utf8InputBuffer, true);
-        return finishDecode();
     }
 }
@@ -257,6 +257,23 @@ final public class DoubleToDecimal {
         return threadLocalInstance().appendDecimalTo(v, app);
     }
 
+    /**
+     * Renders {@code v} into {@code dest}, starting at {@code offset}.
+     *
+     * <p>The characters written are the same as those of the
+     * {@link #toString(double) rendering} of {@code v}, but no intermediate
+     * objects are allocated.
+     *
+     * @param v the {@code double} to be rendered.
+     * @param dest the array to write to, with room for at least
+     *             {@link #MAX_CHARS} characters after {@code offset}.
+     * @param offset the index in {@code dest} of the first character.
+     * @return the number of characters written.
+     */
+    public static int getChars(double v, char[] dest, int offset) {
+        return threadLocalInstance().toDecimalChars(v, dest, offset);
+    }
+
     private static DoubleToDecimal threadLocalInstance() {
         return threadLocal.get();
     }
@@ -272,6 +289,26 @@ final public class DoubleToDecimal {
         }
     }
 
+    private int toDecimalChars(double v, char[] dest, int offset) {
+        switch (toDecimal(v)) {
+            case NON_SPECIAL:
+                for (int i = 0; i <= index; ++i) {
+                    dest[offset + i] = (char) bytes[i];
+                }
+                return index + 1;
+            case PLUS_ZERO: return copyChars("0e0", dest, offset);
+            case MINUS_ZERO: return copyChars("-0e0", dest, offset);
+            case PLUS_INF: return copyChars("+inf", dest, offset);
+            case MINUS_INF: return copyChars("-inf", dest, offset);
+            default: return copyChars("nan", dest, offset);
+        }
+    }
+
+    private static int copyChars(String s, char[] dest, int offset) {
+        s.getChars(0, s.length(), dest, offset);
+        return s.length();
+    }
+
     private Appendable appendDecimalTo(double v, Appendable app)
             throws IOException {
         switch (toDecimal(v)) {
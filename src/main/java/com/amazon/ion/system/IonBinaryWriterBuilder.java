@@ -18,9 +18,12 @@ package com.amazon.ion.system;
 import com.amazon.ion.IonCatalog;
 import com.amazon.ion.IonReader;
 import com.amazon.ion.IonWriter;
+import com.amazon.ion.ResettableWriter;
 import com.amazon.ion.SubstituteSymbolTableException;
 import com.amazon.ion.SymbolTable;
 import com.amazon.ion.impl._Private_IonBinaryWriterBuilder;
+import java.nio.channels.GatheringByteChannel;
+import java.nio.channels.WritableByteChannel;
 
 
 /**
@@ -265,6 +268,88 @@ public abstract class IonBinaryWriterBuilder
      */
     public abstract IonBinaryWriterBuilder withFloatBinary32Disabled();
 
+    /**
+     * Enables or disables writing Ion 1.1 binary data. Ion 1.1 writers
+     * support the same symbol table configuration as Ion 1.0 writers, and may
+     * additionally write containers delimited (see
+     * {@link #withDelimitedContainersEnabled(boolean)}) or write symbol text
+     * inline (see {@link #withSymbolInliningEnabled(boolean)}). Float widths
+     * are always chosen automatically, so
+     * {@link #withFloatBinary32Enabled()} has no effect on them.
+     * Ion 1.1 output is disabled by default.
+     * <p>
+     * <b>This feature is experimental! Ion 1.1 is not yet finalized, and data
+     * written this way can only be read by implementations that support the
+     * same draft of the specification.</b>
+     *
+     * @param enabled {@code true} to write Ion 1.1; {@code false} to write
+     * Ion 1.0.
+     */
+    public abstract IonBinaryWriterBuilder withIon_1_1Enabled(boolean enabled);
+
+    /**
+     * Enables or disables writing Ion 1.1 containers in delimited form. A
+     * delimited container is written front-to-back and terminated by an end
+     * marker, so its length never needs to be patched in after its content
+     * has been written. This allows containers of unknown size to be streamed
+     * with bounded memory: the writer may be flushed at any depth, and when
+     * auto-flush is enabled it flushes whenever a block fills, even within a
+     * container. Length-prefixed containers are used by default, which allow
+     * readers to skip over containers without scanning their content.
+     * <p>
+     * This setting only applies when {@link #withIon_1_1Enabled(boolean)
+     * Ion 1.1} is enabled.
+     *
+     * @param enabled {@code true} to write delimited containers;
+     * {@code false} to write length-prefixed containers.
+     */
+    public abstract IonBinaryWriterBuilder withDelimitedContainersEnabled(boolean enabled);
+
+    /**
+     * Enables or disables writing all Ion 1.1 symbol text (symbol values,
+     * field names, and annotations) inline, rather than interning it into
+     * local symbol tables and referring to it by symbol ID. Inline symbols
+     * require no symbol table, which suits streams with few repeated symbols.
+     * This is disabled by default.
+     * <p>
+     * This setting only applies when {@link #withIon_1_1Enabled(boolean)
+     * Ion 1.1} is enabled.
+     *
+     * @param enabled {@code true} to write symbol text inline;
+     * {@code false} to intern symbols.
+     */
+    public abstract IonBinaryWriterBuilder withSymbolInliningEnabled(boolean enabled);
+
+    /**
+     * Declares whether built writers keep their local symbols when they are
+     * reset using the {@link ResettableWriter} facet. When retained, each
+     * message written after a reset that refers to any of those symbols
+     * begins with a local symbol table re-declaring all of them with the same
+     * symbol IDs, so every message remains self-contained while the writer
+     * avoids re-interning its symbols. When not retained (the default), a
+     * reset writer starts each message with the same symbol table context as
+     * a newly built writer.
+     *
+     * @param retained {@code true} to keep local symbols across resets;
+     * {@code false} to discard them.
+     */
+    public abstract IonBinaryWriterBuilder withLocalSymbolsRetainedOnReset(boolean retained);
+
+    /**
+     * Builds a new writer that writes to the given channel. Each flush hands
+     * the writer's buffered blocks to the channel directly, without copying
+     * them to an intermediate stream; when the channel is a
+     * {@link GatheringByteChannel}, all of the blocks are written with a
+     * single gathering write. The channel must be in blocking mode. Closing
+     * the writer closes the channel.
+     *
+     * @param channel the channel that will receive Ion data.
+     * Must not be null.
+     *
+     * @return a new {@link IonWriter} instance; not {@code null}.
+     */
+    public abstract IonWriter build(WritableByteChannel channel);
+
     //=========================================================================
 
 
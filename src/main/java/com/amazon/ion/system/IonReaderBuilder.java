@@ -7,17 +7,27 @@ import com.amazon.ion.IonBufferConfiguration;
 import com.amazon.ion.IonCatalog;
 import com.amazon.ion.IonException;
 import com.amazon.ion.IonReader;
+import com.amazon.ion.IonReaderMetricsListener;
 import com.amazon.ion.IonStruct;
 import com.amazon.ion.IonSystem;
 import com.amazon.ion.IonTextReader;
 import com.amazon.ion.IonValue;
+import com.amazon.ion.NonBlockingReader;
 import com.amazon.ion.util.InputStreamInterceptor;
+import com.amazon.ion.impl.ByteBufferInputStream;
+import com.amazon.ion.impl.MappedFileInputStream;
 import com.amazon.ion.impl._Private_IonReaderBuilder;
+import com.amazon.ion.impl._Private_IonReaderFactory;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
@@ -76,10 +86,11 @@ import java.util.ServiceLoader;
  * }
  * }
  * Builders can build an IonReader over a string, {@code byte[]} array,
- * {@link java.io.InputStream}, {@link java.io.Reader}, or existing {@link com.amazon.ion.IonValue}
- * data model. Building a reader over a byte array allows specifying the start
- * index and length of the data to be read. Readers built over {@code byte[]}
- * arrays or {@code InputStream}s are capable of reading both binary and text
+ * {@link java.nio.ByteBuffer}, {@link java.io.InputStream}, {@link java.io.Reader},
+ * file, or existing {@link com.amazon.ion.IonValue} data model. Building a reader
+ * over a byte array allows specifying the start index and length of the data to
+ * be read. Readers built over {@code byte[]} arrays, {@code ByteBuffer}s,
+ * {@code InputStream}s, or files are capable of reading both binary and text
  * Ion; readers built over strings and {@code Reader} instances are only capable of
  * reading text Ion.
  */
@@ -99,8 +110,12 @@ public abstract class IonReaderBuilder
 
     private IonCatalog catalog = null;
     private boolean isIncrementalReadingEnabled = false;
+    private boolean isIncrementalTextReadingEnabled = false;
+    private boolean isPrefetchingEnabled = false;
     private IonBufferConfiguration bufferConfiguration = IonBufferConfiguration.DEFAULT;
     private List<InputStreamInterceptor> streamInterceptors = null;
+    private List<String> projectedFieldPaths = null;
+    private IonReaderMetricsListener metricsListener = null;
 
     protected IonReaderBuilder()
     {
@@ -110,8 +125,12 @@ public abstract class IonReaderBuilder
     {
         this.catalog = that.catalog;
         this.isIncrementalReadingEnabled = that.isIncrementalReadingEnabled;
+        this.isIncrementalTextReadingEnabled = that.isIncrementalTextReadingEnabled;
+        this.isPrefetchingEnabled = that.isPrefetchingEnabled;
         this.bufferConfiguration = that.bufferConfiguration;
         this.streamInterceptors = that.streamInterceptors == null ? null : new ArrayList<>(that.streamInterceptors);
+        this.projectedFieldPaths = that.projectedFieldPaths;
+        this.metricsListener = that.metricsListener;
     }
 
     /**
@@ -229,9 +248,9 @@ public abstract class IonReaderBuilder
      * {@link IonReader#close()} is called when an incomplete value is buffered, an {@link IonException} will be raised.
      * </p>
      * <p>
-     * There is currently no incremental text IonReader, so for text data a non-incremental IonReader will be
-     * returned regardless of the value of this option. If incremental text reading is supported in the future, it
-     * may be enabled via this option.
+     * This option does not apply to text data, for which a non-incremental IonReader will be returned regardless of
+     * its value. Incremental reading of text data is enabled separately via
+     * {@link #withIncrementalTextReadingEnabled(boolean)}.
      * </p>
      * <p>
      * There is one caveat to note when using this option: the incremental implementation must be able to buffer an
@@ -281,12 +300,137 @@ public abstract class IonReaderBuilder
         return isIncrementalReadingEnabled;
     }
 
+    /**
+     * <p>
+     * Determines whether IonReaders built from {@link InputStream}s will allow incremental reading of text Ion data,
+     * with the same contract as {@link #withIncrementalReadingEnabled(boolean)} provides for binary Ion data.
+     * </p>
+     * <p>
+     * Because text values are not length-prefixed, the incremental text reader cannot determine that some top-level
+     * values are complete until the next non-whitespace, non-comment character is available: a top-level symbol could
+     * be the first of a value's annotations, and a top-level long string could be followed by another that is
+     * concatenated with it. Such values are not returned until the next value begins. Similarly, unquoted values such
+     * as numbers are not returned until a delimiter, such as whitespace, follows them. The reader cannot distinguish
+     * the end of the data from a pause in a growing stream, so a final value that is not followed by a delimiter is
+     * never returned, and {@link IonReader#close()} raises an {@link IonException} for it as it would for a truncated
+     * value. Text streams intended for incremental reading must therefore end each top-level value with a newline or
+     * other whitespace. Data that does not follow this convention should be read with this option disabled.
+     * </p>
+     * <p>
+     * When this option is enabled and no data is yet available in the stream when the reader is built, the choice
+     * between text and binary is deferred until the first byte becomes available. The incremental text reader does
+     * not support the {@link com.amazon.ion.SpanProvider} and {@link com.amazon.ion.SeekableReader} facets.
+     * </p>
+     * @param isEnabled true if the option is enabled; otherwise, false.
+     *
+     * @return this builder instance, if mutable;
+     * otherwise a mutable copy of this builder.
+     *
+     * @see #setIncrementalTextReadingEnabled()
+     * @see #setIncrementalTextReadingDisabled()
+     */
+    public IonReaderBuilder withIncrementalTextReadingEnabled(boolean isEnabled) {
+        IonReaderBuilder b = mutable();
+        if (isEnabled) {
+            b.setIncrementalTextReadingEnabled();
+        } else {
+            b.setIncrementalTextReadingDisabled();
+        }
+        return b;
+    }
+
+    /**
+     * @see #withIncrementalTextReadingEnabled(boolean)
+     */
+    public void setIncrementalTextReadingEnabled() {
+        mutationCheck();
+        isIncrementalTextReadingEnabled = true;
+    }
+
+    /**
+     * @see #withIncrementalTextReadingEnabled(boolean)
+     */
+    public void setIncrementalTextReadingDisabled() {
+        mutationCheck();
+        isIncrementalTextReadingEnabled = false;
+    }
+
+    /**
+     * @see #withIncrementalTextReadingEnabled(boolean)
+     * @return true if incremental reading of text is enabled; otherwise, false.
+     */
+    public boolean isIncrementalTextReadingEnabled() {
+        return isIncrementalTextReadingEnabled;
+    }
+
+    /**
+     * <p>
+     * Determines whether IonReaders built from {@link InputStream}s will read ahead from the stream on a background
+     * thread. When enabled, a dedicated thread reads the stream, including any decompression performed by the
+     * {@link InputStreamInterceptor}s (e.g. GZIP), into a bounded ring of blocks (currently four blocks of 64 KB each),
+     * which the reader consumes while the thread continues to fill the remaining blocks. This allows I/O and
+     * decompression to overlap with parsing, which may improve throughput when reading large, compressed, or
+     * slow-to-arrive streams on a machine with an idle core.
+     * </p>
+     * <p>
+     * This option has no effect on readers built from byte arrays (unless the bytes are intercepted, e.g. because
+     * they are GZIP-compressed), {@link java.io.ByteArrayInputStream}s, {@link Reader}s, or {@link IonValue}s.
+     * </p>
+     * <p>
+     * Each reader built with this option owns a thread, which runs until the stream ends or the reader is closed.
+     * Readers built with this option must therefore be closed. Because the background thread stops reading when the
+     * stream reports its end, this option is not suitable for streams that grow after reaching their end, as may be
+     * the case when incremental reading is enabled.
+     * </p>
+     * @param isEnabled true if the option is enabled; otherwise, false.
+     *
+     * @return this builder instance, if mutable;
+     * otherwise a mutable copy of this builder.
+     *
+     * @see #setPrefetchingEnabled()
+     * @see #setPrefetchingDisabled()
+     */
+    public IonReaderBuilder withPrefetchingEnabled(boolean isEnabled) {
+        IonReaderBuilder b = mutable();
+        if (isEnabled) {
+            b.setPrefetchingEnabled();
+        } else {
+            b.setPrefetchingDisabled();
+        }
+        return b;
+    }
+
+    /**
+     * @see #withPrefetchingEnabled(boolean)
+     */
+    public void setPrefetchingEnabled() {
+        mutationCheck();
+        isPrefetchingEnabled = true;
+    }
+
+    /**
+     * @see #withPrefetchingEnabled(boolean)
+     */
+    public void setPrefetchingDisabled() {
+        mutationCheck();
+        isPrefetchingEnabled = false;
+    }
+
+    /**
+     * @see #withPrefetchingEnabled(boolean)
+     * @return true if prefetching is enabled; otherwise, false.
+     */
+    public boolean isPrefetchingEnabled() {
+        return isPrefetchingEnabled;
+    }
+
     /**
      * Sets the buffer configuration. This can be used, for example, to set a maximum buffer size
      * and receive notifications when values would exceed this size. Currently, this is ignored unless incremental
      * reading has been enabled via {@link #withIncrementalReadingEnabled(boolean)}) or
-     * {@link #setIncrementalReadingEnabled()}. This configuration is optional. If not provided, the buffer size will
-     * be limited only by the available memory.
+     * {@link #setIncrementalReadingEnabled()}, or incremental text reading has been enabled via
+     * {@link #withIncrementalTextReadingEnabled(boolean)}. This configuration is optional. If not provided, the
+     * buffer size will be limited only by the available memory.
      *
      * @param configuration the configuration.
      *
@@ -320,6 +464,92 @@ public abstract class IonReaderBuilder
         return bufferConfiguration;
     }
 
+    /**
+     * Restricts the values surfaced by binary IonReaders to those on the given field paths, allowing all other
+     * values nested within top-level containers to be skipped by their length prefixes without being decoded.
+     * <p>
+     * Each path is a sequence of field names separated by {@code .}, each of which may be followed by any number
+     * of {@code [*]} selectors that match every element of a list or s-expression. Paths are relative to each
+     * top-level value. For example, with the path {@code a.b[*].c}, the reader surfaces every top-level value; within
+     * a top-level struct, only field {@code a}; within {@code a}, only field {@code b}; within {@code b}, every
+     * element; and within each element, only field {@code c}, including its entire subtree. Values that are not on
+     * any path are never returned from {@link IonReader#next()}.
+     * <p>
+     * Field names are resolved to symbol IDs at most once per symbol table, so skipping a value requires only a
+     * comparison of its raw field symbol ID.
+     * <p>
+     * There is currently no projection support in the text IonReader, so for text data all values will be
+     * surfaced regardless of this option.
+     *
+     * @param fieldPaths the field paths to select, or null to surface all values (the default).
+     *
+     * @return this builder instance, if mutable;
+     * otherwise a mutable copy of this builder.
+     *
+     * @see #setProjectedFieldPaths(List)
+     */
+    public IonReaderBuilder withProjectedFieldPaths(String... fieldPaths) {
+        IonReaderBuilder b = mutable();
+        b.setProjectedFieldPaths(fieldPaths == null ? null : Arrays.asList(fieldPaths));
+        return b;
+    }
+
+    /**
+     * @see #withProjectedFieldPaths(String...)
+     * @param fieldPaths the field paths to select, or null to surface all values.
+     */
+    public void setProjectedFieldPaths(List<String> fieldPaths) {
+        mutationCheck();
+        projectedFieldPaths = fieldPaths == null ? null : Collections.unmodifiableList(new ArrayList<>(fieldPaths));
+    }
+
+    /**
+     * @see #withProjectedFieldPaths(String...)
+     * @return the projected field paths, or null if all values are surfaced.
+     */
+    public List<String> getProjectedFieldPaths() {
+        return projectedFieldPaths;
+    }
+
+    /**
+     * Sets a listener that will be notified of the work performed by each IonReader built by this builder, such as
+     * buffer refills and growth, skipped oversized values, local symbol tables, bytes consumed, and values visited.
+     * This is intended for diagnosing the performance of consumers. Readers built without a listener (the default)
+     * incur no cost.
+     * <p>
+     * There is currently no metrics support in the text IonReader, so for text data the listener will not be
+     * notified.
+     *
+     * @param listener the listener, or null to disable notifications (the default).
+     *
+     * @return this builder instance, if mutable;
+     * otherwise a mutable copy of this builder.
+     *
+     * @see #setMetricsListener(IonReaderMetricsListener)
+     */
+    public IonReaderBuilder withMetricsListener(IonReaderMetricsListener listener) {
+        IonReaderBuilder b = mutable();
+        b.setMetricsListener(listener);
+        return b;
+    }
+
+    /**
+     * @see #withMetricsListener(IonReaderMetricsListener)
+     * @param listener the listener, or null to disable notifications.
+     */
+    public void setMetricsListener(IonReaderMetricsListener listener) {
+        mutationCheck();
+        metricsListener = listener;
+    }
+
+    /**
+     * @see #withMetricsListener(IonReaderMetricsListener)
+     * @return the listener, or null if notifications are disabled.
+     */
+    public IonReaderMetricsListener getMetricsListener() {
+        return metricsListener;
+    }
+
     /**
      * Adds an {@link InputStreamInterceptor} to the end of the list that the builder will attempt
      * to apply to a stream before creating {@link IonReader} instances over that stream.
@@ -454,6 +684,113 @@ public abstract class IonReaderBuilder
      */
     public abstract IonReader build(InputStream ionData);
 
+    /**
+     * Based on the builder's configuration properties, creates a new IonReader
+     * instance over the Ion data between the given buffer's position and limit,
+     * detecting whether it's text or binary data.
+     * <p>
+     * This method will auto-detect and uncompress GZIPped Ion data.
+     * <p>
+     * If the buffer is backed by an accessible array, this is equivalent to
+     * {@link #build(byte[], int, int)} over that array's remaining bytes: the
+     * reader parses the array in place, without copying, and retains a
+     * reference to it; its data must not be modified while the reader is
+     * active.
+     * <p>
+     * Direct and read-only buffers are <em>not</em> parsed in place. For
+     * these, the reader allocates a new heap buffer sized to fit the data and
+     * copies the data into it, which costs the same as copying the data into a
+     * byte array and calling {@link #build(byte[])}. This method only saves
+     * the caller from writing that copy.
+     * <p>
+     * The position and limit of the given buffer are not modified.
+     *
+     * @param ionData the source of the Ion data, which may be either Ion binary
+     * data or UTF-8 Ion text. Must not be null.
+     *
+     * @return a new reader instance.
+     * Callers must call {@link IonReader#close()} when finished with it.
+     */
+    public IonReader build(ByteBuffer ionData)
+    {
+        if (ionData.hasArray()) {
+            return build(ionData.array(), ionData.arrayOffset() + ionData.position(), ionData.remaining());
+        }
+        return build(new ByteBufferInputStream(ionData));
+    }
+
+    /**
+     * Based on the builder's configuration properties, creates a new IonReader
+     * instance over the Ion data in the given file, detecting whether it's text or
+     * binary data.
+     * <p>
+     * The file is read through memory-mapped windows rather than read system
+     * calls, but the reader does not parse the mapped memory in place; see
+     * {@link #build(FileChannel)}.
+     *
+     * @param ionFile the path of a file containing either Ion binary data or
+     * UTF-8 Ion text. Must not be null.
+     *
+     * @return a new reader instance.
+     * Callers must call {@link IonReader#close()} when finished with it, which
+     * closes the file.
+     *
+     * @throws IonException if the file cannot be opened or mapped.
+     */
+    public IonReader build(Path ionFile)
+    {
+        FileChannel channel;
+        try {
+            channel = FileChannel.open(ionFile, StandardOpenOption.READ);
+        } catch (IOException e) {
+            throw new IonException(e);
+        }
+        try {
+            return build(channel);
+        } catch (RuntimeException e) {
+            try {
+                channel.close();
+            } catch (IOException closeException) {
+                e.addSuppressed(closeException);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Based on the builder's configuration properties, creates a new IonReader
+     * instance over the Ion data in the given channel, starting at the channel's
+     * current position, detecting whether it's text or binary data.
+     * <p>
+     * This method will auto-detect and uncompress GZIPped Ion data.
+     * <p>
+     * The file is read through memory-mapped windows instead of read system
+     * calls, so the reader's buffer is refilled from the operating system's
+     * page cache without a system call per refill. The reader still copies the
+     * bytes it parses into its own heap buffer, so this reduces system call
+     * overhead rather than eliminating copies; parsing the mapping in place is
+     * not supported. Files larger than 2 GB are supported; windows are
+     * remapped as the reader advances, at any byte offset rather than only at
+     * top-level value boundaries.
+     *
+     * @param ionData a readable channel over a file containing either Ion binary
+     * data or UTF-8 Ion text. Must not be null.
+     *
+     * @return a new reader instance.
+     * Callers must call {@link IonReader#close()} when finished with it, which
+     * closes the channel.
+     *
+     * @throws IonException if the channel throws {@link IOException}.
+     */
+    public IonReader build(FileChannel ionData)
+    {
+        try {
+            return build(new MappedFileInputStream(ionData));
+        } catch (IOException e) {
+            throw new IonException(e);
+        }
+    }
+
     /**
      * Based on the builder's configuration properties, creates a new
      * {@link IonReader} instance over Ion text data.
@@ -498,4 +835,51 @@ public abstract class IonReaderBuilder
      */
     public abstract IonTextReader build(String ionText);
 
+    /**
+     * Based on the builder's configuration properties, creates a new
+     * {@link IonReader} instance that reads binary Ion data pushed to it via
+     * its {@link NonBlockingReader} facet, rather than pulling data from a
+     * source. Incremental reading is always enabled for such readers,
+     * regardless of this builder's configuration.
+     * <p>
+     * Text and GZIPped data are not supported, and this builder's stream
+     * interceptors are not applied.
+     * <pre>
+     * IonReader reader = builder.buildNonBlocking();
+     * NonBlockingReader feed = reader.asFacet(NonBlockingReader.class);
+     * </pre>
+     *
+     * @return a new reader instance.
+     * Callers must call {@link IonReader#close()} when finished with it, which
+     * verifies that the data did not end with an incomplete value.
+     */
+    public IonReader buildNonBlocking()
+    {
+        return _Private_IonReaderFactory.makeNonBlockingReaderBinary(
+            copy().withIncrementalReadingEnabled(true).immutable()
+        );
+    }
+
+    /**
+     * The default maximum number of idle readers retained by pools built by
+     * {@link #buildReaderPool()}.
+     */
+    private static final int DEFAULT_MAXIMUM_IDLE_READERS = 4;
+
+    /**
+     * Creates a new {@link IonReaderPool} that recycles the binary readers it
+     * provides, avoiding the cost of constructing a new reader for each of many
+     * small, independent streams. Readers provided by the pool are configured
+     * by a snapshot of this builder's current configuration.
+     * <p>
+     * The pool is not thread-safe; the intended usage is one pool per thread.
+     *
+     * @return a new pool. Callers should call {@link IonReaderPool#close()}
+     * when finished with it.
+     */
+    public IonReaderPool buildReaderPool()
+    {
+        return new IonReaderPool(immutable(), DEFAULT_MAXIMUM_IDLE_READERS);
+    }
+
 }
@@ -0,0 +1,197 @@
+// Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+// SPDX-License-Identifier: Apache-2.0
+package com.amazon.ion.system;
+
+import com.amazon.ion.IonException;
+import com.amazon.ion.IonReader;
+import com.amazon.ion.ResettableReader;
+import com.amazon.ion.facet.Facets;
+import com.amazon.ion.impl._Private_Utils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayDeque;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * A pool of {@link IonReader}s that recycles binary readers between uses, avoiding the cost of constructing a new
+ * reader for each of many small, independent streams, such as individual messages.
+ * <p>
+ * Readers are acquired using one of the {@code acquire} methods and returned to the pool using
+ * {@link #release(IonReader)}, which must be used instead of {@link IonReader#close()}. Binary data is read by a
+ * recycled reader via the {@link ResettableReader} facet when one is available. Other data, such as text or GZIP
+ * data, is read by a new reader built by the pool's {@link IonReaderBuilder}, which is closed upon release.
+ * <p>
+ * Instances of this class are NOT safe for use by multiple threads. Because readers are not thread-safe either, the
+ * intended usage is one pool per thread, for example held in a {@link ThreadLocal}.
+ * <pre>
+ * IonReader reader = pool.acquire(message);
+ * try {
+ *     ...
+ * } finally {
+ *     pool.release(reader);
+ * }
+ * </pre>
+ *
+ * @see IonReaderBuilder#buildReaderPool()
+ */
+public final class IonReaderPool implements AutoCloseable {
+
+    // The number of bytes in the binary Ion version marker.
+    private static final int IVM_LENGTH = 4;
+
+    private final IonReaderBuilder builder;
+
+    // Readers that have been released and may be reset to read new data.
+    private final ArrayDeque<IonReader> idleReaders = new ArrayDeque<>();
+
+    // The ResettableReader facet of each resettable reader created by the pool that has not been closed, retained to
+    // avoid allocating a new facet for each use.
+    private final Map<IonReader, ResettableReader> resettableFacets = new IdentityHashMap<>();
+
+    // The maximum number of idle readers retained by the pool.
+    private final int maximumIdleReaders;
+
+    // Scratch space for the first bytes of input streams.
+    private final byte[] header = new byte[IVM_LENGTH];
+
+    private boolean isClosed = false;
+
+    /**
+     * @param builder the builder that configures the pool's readers. Must be immutable.
+     * @param maximumIdleReaders the maximum number of released readers to retain for reuse.
+     */
+    IonReaderPool(IonReaderBuilder builder, int maximumIdleReaders) {
+        this.builder = builder;
+        this.maximumIdleReaders = maximumIdleReaders;
+    }
+
+    /**
+     * @param data a byte array.
+     * @param offset the offset of the first byte of data.
+     * @param length the number of bytes of data.
+     * @return true if the data begins with a binary Ion version marker.
+     */
+    private static boolean isBinary(byte[] data, int offset, int length) {
+        return length >= IVM_LENGTH
+            && data[offset] == (byte) 0xE0
+            && data[offset + 3] == (byte) 0xEA;
+    }
+
+    /**
+     * @return an idle reader's ResettableReader facet, or null if there are no idle readers.
+     */
+    private ResettableReader idleReader() {
+        if (isClosed) {
+            throw new IllegalStateException("The pool has been closed.");
+        }
+        IonReader reader = idleReaders.peekFirst();
+        return reader == null ? null : resettableFacets.get(reader);
+    }
+
+    /**
+     * Acquires a reader over the given data, which may be binary or text.
+     * @param ionData the data. Not copied; must not be modified until the reader is released.
+     * @return a reader, which must be released using {@link #release(IonReader)}.
+     */
+    public IonReader acquire(byte[] ionData) {
+        return acquire(ionData, 0, ionData.length);
+    }
+
+    /**
+     * Acquires a reader over the given data, which may be binary or text.
+     * @param ionData the byte array containing the data. Not copied; must not be modified until the reader is
+     *                released.
+     * @param offset the offset into the byte array at which the data begins.
+     * @param length the number of bytes of data.
+     * @return a reader, which must be released using {@link #release(IonReader)}.
+     */
+    public IonReader acquire(byte[] ionData, int offset, int length) {
+        ResettableReader resettable = idleReader();
+        if (resettable != null && isBinary(ionData, offset, length)) {
+            resettable.reset(ionData, offset, length);
+            return idleReaders.pollFirst();
+        }
+        return builder.build(ionData, offset, length);
+    }
+
+    /**
+     * Acquires a reader over the given stream, which may contain binary or text data. Idle readers are reused only if
+     * the stream supports {@link InputStream#mark(int)}, which is required to detect binary data without consuming it.
+     * @param ionData the stream, which will be closed when the reader is released.
+     * @return a reader, which must be released using {@link #release(IonReader)}.
+     */
+    public IonReader acquire(InputStream ionData) {
+        ResettableReader resettable = idleReader();
+        if (resettable != null && ionData.markSupported() && startsWithIvm(ionData)) {
+            resettable.reset(ionData);
+            return idleReaders.pollFirst();
+        }
+        return builder.build(ionData);
+    }
+
+    /**
+     * @param ionData a stream that supports mark.
+     * @return true if the stream begins with a binary Ion version marker. The stream's position is unchanged.
+     */
+    private boolean startsWithIvm(InputStream ionData) {
+        try {
+            ionData.mark(IVM_LENGTH);
+            int length = 0;
+            int bytesRead;
+            while (length < IVM_LENGTH && (bytesRead = ionData.read(header, length, IVM_LENGTH - length)) > 0) {
+                length += bytesRead;
+            }
+            ionData.reset();
+            return isBinary(header, 0, length);
+        } catch (IOException e) {
+            throw new IonException(e);
+        }
+    }
+
+    /**
+     * Returns a reader acquired from this pool. If the reader is resettable and the pool has room, it is retained
+     * for reuse; otherwise, it is closed. In either case, the reader's data source is released, and the reader must
+     * not be used again by the caller.
+     * @param reader a reader acquired from this pool, which must not have been closed.
+     */
+    public void release(IonReader reader) {
+        ResettableReader resettable = resettableFacets.get(reader);
+        if (resettable == null && !isClosed) {
+            resettable = Facets.asFacet(ResettableReader.class, reader);
+            if (resettable != null) {
+                resettableFacets.put(reader, resettable);
+            }
+        }
+        if (isClosed || resettable == null || idleReaders.size() >= maximumIdleReaders) {
+            resettableFacets.remove(reader);
+            closeReader(reader);
+            return;
+        }
+        // Resetting to empty data releases the reference to the caller's data and closes any input stream.
+        resettable.reset(_Private_Utils.EMPTY_BYTE_ARRAY, 0, 0);
+        idleReaders.addFirst(reader);
+    }
+
+    private static void closeReader(IonReader reader) {
+        try {
+            reader.close();
+        } catch (IOException e) {
+            throw new IonException(e);
+        }
+    }
+
+    /**
+     * Closes all idle readers. Readers released after the pool is closed are closed rather than retained.
+     */
+    @Override
+    public void close() {
+        isClosed = true;
+        IonReader reader;
+        while ((reader = idleReaders.pollFirst()) != null) {
+            closeReader(reader);
+        }
+        resettableFacets.clear();
+    }
+}
@@ -22,9 +22,11 @@ import com.amazon.ion.IonException;
 import com.amazon.ion.IonReader;
 import com.amazon.ion.IonType;
 import com.amazon.ion.IonWriter;
+import com.amazon.ion.impl._Private_DecimalWriter;
 import com.amazon.ion.impl._Private_ListWriter;
 import java.io.IOException;
 import java.io.InputStream;
+import java.math.BigDecimal;
 
 /**
  * Utility methods for working with the Ion streaming interfaces,
@@ -322,4 +324,27 @@ public class IonStreamUtils
         }
         writer.stepOut();
     }
+
+
+    /**
+     * writes an IonDecimal with the value {@code unscaledValue * 10^-scale},
+     * which is equivalent to
+     * {@code writer.writeDecimal(BigDecimal.valueOf(unscaledValue, scale))}.
+     * For writers built by the standard builders this avoids constructing
+     * a BigDecimal, which makes it cheaper to write decimals that are
+     * already held as a scaled long, such as prices.
+     * @param unscaledValue the coefficient of the decimal.
+     * @param scale the number of digits to the right of the decimal point;
+     * the decimal's exponent is {@code -scale}.
+     */
+    public static void writeDecimal(IonWriter writer, long unscaledValue, int scale)
+        throws IOException
+    {
+        if (writer instanceof _Private_DecimalWriter) {
+            ((_Private_DecimalWriter)writer).writeDecimal(unscaledValue, scale);
+            return;
+        }
+
+        writer.writeDecimal(BigDecimal.valueOf(unscaledValue, scale));
+    }
 }
@@ -0,0 +1,341 @@
+// Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+// SPDX-License-Identifier: Apache-2.0
+package com.amazon.ion.util;
+
+import com.amazon.ion.IonException;
+import com.amazon.ion.IonReader;
+import com.amazon.ion.system.IonReaderBuilder;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Decodes the top-level values of a large binary Ion 1.0 stream using multiple threads.
+ * <p>
+ * The stream is split into chunks of consecutive top-level values using a {@link TopLevelOffsetIndex}, whose
+ * construction hops over each top-level value using its length prefix without decoding it. Each chunk is then decoded
+ * by its own reader, which begins at the chunk's first value with the symbol table in effect at that point reinstated.
+ * Chunks are therefore fully independent and may be decoded on any thread.
+ * <p>
+ * Decoded values may be consumed in stream order using {@link #spliterator(Function)} or {@link #stream(Function)},
+ * which split work at chunk boundaries and are suitable for parallel streams; or, for maximum throughput, in no
+ * particular order using {@link #forEachUnordered(ForkJoinPool, Function, Consumer)}.
+ * <p>
+ * The function that decodes each value is invoked with a reader positioned on a top-level value. It may step into
+ * the value, but must step back out before returning, and must not advance the reader beyond that value. It may be
+ * invoked concurrently from multiple threads, each time with a different reader.
+ */
+public final class ParallelIonDecoder {
+
+    private final IonReaderBuilder builder;
+    private final TopLevelOffsetIndex index;
+
+    // Exactly one of the following is non-null.
+    private final Path ionFile;
+    private final byte[] ionData;
+
+    private ParallelIonDecoder(IonReaderBuilder builder, TopLevelOffsetIndex index, Path ionFile, byte[] ionData) {
+        this.builder = builder;
+        this.index = index;
+        this.ionFile = ionFile;
+        this.ionData = ionData;
+    }
+
+    /**
+     * Creates a decoder over the given file, scanning it once to locate its chunks.
+     * @param builder the builder used to create each reader.
+     * @param ionFile a file that begins with an Ion 1.0 binary version marker.
+     * @param valuesPerChunk the number of top-level values in each chunk. Larger chunks amortize the cost of starting
+     *                       each chunk's reader; smaller chunks balance the work more evenly between threads.
+     * @return a new decoder.
+     */
+    public static ParallelIonDecoder forFile(IonReaderBuilder builder, Path ionFile, int valuesPerChunk) {
+        return forFile(builder, ionFile, TopLevelOffsetIndex.build(builder, ionFile, valuesPerChunk));
+    }
+
+    /**
+     * Creates a decoder over the given file using an existing index, such as one previously persisted using
+     * {@link TopLevelOffsetIndex#writeTo(java.io.OutputStream)}, to avoid scanning the file. Each chunk contains
+     * {@link TopLevelOffsetIndex#getStride()} top-level values.
+     * @param builder the builder used to create each reader.
+     * @param ionFile the file from which the index was built.
+     * @param index the index.
+     * @return a new decoder.
+     */
+    public static ParallelIonDecoder forFile(IonReaderBuilder builder, Path ionFile, TopLevelOffsetIndex index) {
+        return new ParallelIonDecoder(builder, index, ionFile, null);
+    }
+
+    /**
+     * Creates a decoder over the given data, scanning it once to locate its chunks.
+     * @param builder the builder used to create each reader.
+     * @param ionData data that begins with an Ion 1.0 binary version marker.
+     * @param valuesPerChunk the number of top-level values in each chunk.
+     * @return a new decoder.
+     */
+    public static ParallelIonDecoder forBytes(IonReaderBuilder builder, byte[] ionData, int valuesPerChunk) {
+        return new ParallelIonDecoder(
+            builder,
+            TopLevelOffsetIndex.build(builder, ionData, valuesPerChunk, null),
+            null,
+            ionData
+        );
+    }
+
+    /**
+     * @return the number of independently-decodable chunks.
+     */
+    public int getNumberOfChunks() {
+        return (int) ((index.getValueCount() + index.getStride() - 1) / index.getStride());
+    }
+
+    /**
+     * @return the number of top-level values in the stream.
+     */
+    public long getValueCount() {
+        return index.getValueCount();
+    }
+
+    /**
+     * @param chunk a chunk index.
+     * @return the number of top-level values in the given chunk.
+     */
+    private int valuesInChunk(int chunk) {
+        long firstValue = (long) chunk * index.getStride();
+        return (int) Math.min(index.getStride(), index.getValueCount() - firstValue);
+    }
+
+    /**
+     * Creates a reader positioned at the first value of the given chunk.
+     * @param chunk a chunk index.
+     * @return a new reader, which the caller must close.
+     */
+    private IonReader readerForChunk(int chunk) {
+        if (ionFile != null) {
+            // Each chunk's first value is the first value covered by the index entry with the same number. Only the
+            // chunk's own region of the file is mapped.
+            return index.readerForEntryValues(builder, ionFile, chunk);
+        }
+        return index.readerForValue(builder, ionData, (long) chunk * index.getStride());
+    }
+
+    /**
+     * Decodes every value in the given chunk.
+     * @param chunk a chunk index.
+     * @param decoder the function that decodes each value.
+     * @param sink receives each decoded value, in order.
+     */
+    private <T> void decodeChunk(int chunk, Function<? super IonReader, ? extends T> decoder, Consumer<? super T> sink) {
+        int numberOfValues = valuesInChunk(chunk);
+        try (IonReader reader = readerForChunk(chunk)) {
+            for (int i = 0; i < numberOfValues; i++) {
+                if (reader.next() == null) {
+                    throw new IonException("Data ended before the number of values recorded in the index.");
+                }
+                sink.accept(decoder.apply(reader));
+            }
+        } catch (IOException e) {
+            throw new IonException(e);
+        }
+    }
+
+    /**
+     * Creates a Spliterator over the decoded top-level values, in stream order. The Spliterator splits at chunk
+     * boundaries, allowing each chunk to be decoded by a different thread when used in a parallel stream.
+     * @param decoder the function that decodes each value.
+     * @param <T> the type of the decoded values.
+     * @return a new Spliterator.
+     */
+    public <T> Spliterator<T> spliterator(Function<? super IonReader, ? extends T> decoder) {
+        return new ChunkSpliterator<>(decoder, 0, getNumberOfChunks());
+    }
+
+    /**
+     * Creates a parallel Stream over the decoded top-level values. Order-sensitive terminal operations observe the
+     * values in stream order; for throughput, use {@link Stream#unordered()} or
+     * {@link #forEachUnordered(ForkJoinPool, Function, Consumer)} when order does not matter.
+     * @param decoder the function that decodes each value.
+     * @param <T> the type of the decoded values.
+     * @return a new parallel Stream.
+     */
+    public <T> Stream<T> stream(Function<? super IonReader, ? extends T> decoder) {
+        return StreamSupport.stream(spliterator(decoder), true);
+    }
+
+    /**
+     * Decodes every top-level value using the given pool, passing each decoded value to the given sink as soon as it
+     * is available. Values within a chunk are delivered in order, but chunks are delivered in no particular order and
+     * concurrently. Returns once every value has been delivered.
+     * @param pool the pool that decodes the chunks.
+     * @param decoder the function that decodes each value.
+     * @param sink receives each decoded value. Must be safe for concurrent use.
+     * @param <T> the type of the decoded values.
+     * @throws IonException if any chunk fails to decode.
+     */
+    public <T> void forEachUnordered(
+        ForkJoinPool pool,
+        Function<? super IonReader, ? extends T> decoder,
+        Consumer<? super T> sink
+    ) {
+        pool.invoke(new ChunkAction<>(decoder, sink, 0, getNumberOfChunks()));
+    }
+
+    /**
+     * Decodes a range of chunks, recursively forking halves of the range until a single chunk remains.
+     */
+    private final class ChunkAction<T> extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Function<? super IonReader, ? extends T> decoder;
+        private final Consumer<? super T> sink;
+        private final int fromChunk;
+        private final int toChunk;
+
+        ChunkAction(Function<? super IonReader, ? extends T> decoder, Consumer<? super T> sink, int fromChunk, int toChunk) {
+            this.decoder = decoder;
+            this.sink = sink;
+            this.fromChunk = fromChunk;
+            this.toChunk = toChunk;
+        }
+
+        @Override
+        protected void compute() {
+            int numberOfChunks = toChunk - fromChunk;
+            if (numberOfChunks == 0) {
+                return;
+            }
+            if (numberOfChunks == 1) {
+                decodeChunk(fromChunk, decoder, sink);
+                return;
+            }
+            int middle = (fromChunk + toChunk) >>> 1;
+            invokeAll(
+                new ChunkAction<>(decoder, sink, fromChunk, middle),
+                new ChunkAction<>(decoder, sink, middle, toChunk)
+            );
+        }
+    }
+
+    /**
+     * A Spliterator over the values in a range of chunks. Each chunk's reader is opened when its first value is
+     * requested and closed after its last value is consumed.
+     */
+    private final class ChunkSpliterator<T> implements Spliterator<T> {
+
+        private final Function<? super IonReader, ? extends T> decoder;
+
+        // The chunk that will be read after the current chunk is exhausted, or is being read if 'reader' is null.
+        private int nextChunk;
+
+        // The chunk after the last chunk covered by this Spliterator.
+        private final int toChunk;
+
+        // The reader over the chunk before 'nextChunk', or null if no chunk is being read.
+        private IonReader reader = null;
+
+        // The number of values remaining in the chunk being read.
+        private int valuesRemainingInChunk = 0;
+
+        ChunkSpliterator(Function<? super IonReader, ? extends T> decoder, int fromChunk, int toChunk) {
+            this.decoder = decoder;
+            this.nextChunk = fromChunk;
+            this.toChunk = toChunk;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            while (valuesRemainingInChunk == 0) {
+                closeReader();
+                if (nextChunk >= toChunk) {
+                    return false;
+                }
+                valuesRemainingInChunk = valuesInChunk(nextChunk);
+                reader = readerForChunk(nextChunk);
+                nextChunk++;
+            }
+            if (reader.next() == null) {
+                closeReader();
+                throw new IonException("Data ended before the number of values recorded in the index.");
+            }
+            valuesRemainingInChunk--;
+            T value;
+            boolean isDecoded = false;
+            try {
+                value = decoder.apply(reader);
+                isDecoded = true;
+            } finally {
+                // The reader is closed after the chunk's last value, or if the decoder fails.
+                if (!isDecoded || valuesRemainingInChunk == 0) {
+                    closeReader();
+                }
+            }
+            action.accept(value);
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            if (valuesRemainingInChunk > 0) {
+                // Finish the chunk in progress before decoding whole chunks.
+                while (valuesRemainingInChunk > 0) {
+                    tryAdvance(action);
+                }
+            }
+            while (nextChunk < toChunk) {
+                decodeChunk(nextChunk++, decoder, action);
+            }
+        }
+
+        private void closeReader() {
+            if (reader != null) {
+                try {
+                    reader.close();
+                } catch (IOException e) {
+                    throw new IonException(e);
+                }
+                reader = null;
+                valuesRemainingInChunk = 0;
+            }
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            int numberOfWholeChunks = toChunk - nextChunk;
+            if (numberOfWholeChunks < 2) {
+                return null;
+            }
+            // The prefix retains any chunk in progress, preserving encounter order.
+            int middle = nextChunk + numberOfWholeChunks / 2;
+            ChunkSpliterator<T> prefix = new ChunkSpliterator<>(decoder, nextChunk, middle);
+            prefix.reader = reader;
+            prefix.valuesRemainingInChunk = valuesRemainingInChunk;
+            reader = null;
+            valuesRemainingInChunk = 0;
+            nextChunk = middle;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            long size = valuesRemainingInChunk;
+            if (nextChunk < toChunk) {
+                size += Math.min(index.getValueCount(), (long) toChunk * index.getStride())
+                    - (long) nextChunk * index.getStride();
+            }
+            return size;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | SIZED | SUBSIZED | IMMUTABLE;
+        }
+    }
+}
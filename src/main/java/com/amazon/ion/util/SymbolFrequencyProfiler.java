@@ -0,0 +1,280 @@
+// Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+// SPDX-License-Identifier: Apache-2.0
+package com.amazon.ion.util;
+
+import com.amazon.ion.IonReader;
+import com.amazon.ion.IonSystem;
+import com.amazon.ion.IonType;
+import com.amazon.ion.SymbolTable;
+import com.amazon.ion.SymbolToken;
+import com.amazon.ion.SystemSymbols;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Counts how often each symbol occurs as a field name, annotation, or symbol value in sample data, and derives from
+ * those counts a shared symbol table suitable for use as an import by writers of similar data.
+ * <p>
+ * The symbols in the derived table are ranked by their total number of occurrences, so that the most frequent symbols
+ * receive the lowest symbol IDs, which are the shortest to encode. When the table is the only import, its first 118
+ * symbols receive one-byte symbol IDs. Ties are broken by order of first occurrence. System symbols are never
+ * included, and symbols with unknown text are not counted.
+ * <p>
+ * {@link #project(int)} estimates the number of bytes that importing the derived table would save when encoding the
+ * sample data as a single binary Ion 1.0 stream. See {@link Projection} for the model used.
+ * <p>
+ * Profilers accumulate counts across calls to {@link #profile(IonReader)} and are NOT thread-safe.
+ */
+public final class SymbolFrequencyProfiler {
+
+    // The first symbol ID available to a shared symbol table imported after only the system symbol table.
+    private static final int FIRST_IMPORTED_SID = SystemSymbols.ION_1_0_MAX_ID + 1;
+
+    private static final Set<String> SYSTEM_SYMBOLS = new HashSet<>(Arrays.asList(
+        SystemSymbols.ION,
+        SystemSymbols.ION_1_0,
+        SystemSymbols.ION_SYMBOL_TABLE,
+        SystemSymbols.NAME,
+        SystemSymbols.VERSION,
+        SystemSymbols.IMPORTS,
+        SystemSymbols.SYMBOLS,
+        SystemSymbols.MAX_ID,
+        SystemSymbols.ION_SHARED_SYMBOL_TABLE
+    ));
+
+    /**
+     * The number of occurrences of a symbol in each position.
+     */
+    private static final class Counts {
+        long fieldNames = 0;
+        long annotations = 0;
+        long symbolValues = 0;
+
+        long total() {
+            return fieldNames + annotations + symbolValues;
+        }
+    }
+
+    /**
+     * Projected encoded sizes, in bytes, of the symbol-related content of the profiled data when written as a single
+     * binary Ion 1.0 stream.
+     * <p>
+     * Each size is the sum of the bytes required to encode every symbol ID occurrence (field names and annotations as
+     * VarUInts, symbol values as UInts) plus the bytes required to declare each local symbol in the stream's local
+     * symbol table. The baseline declares every symbol locally, assigning symbol IDs in order of first occurrence, as
+     * a binary writer without imports would. The optimized size imports the ranked shared symbol table and declares
+     * only the remaining symbols locally. The size of the import declaration itself, and any change in the width of
+     * container length fields, are not included.
+     */
+    public static final class Projection {
+        private final long baselineBytes;
+        private final long optimizedBytes;
+
+        private Projection(long baselineBytes, long optimizedBytes) {
+            this.baselineBytes = baselineBytes;
+            this.optimizedBytes = optimizedBytes;
+        }
+
+        /**
+         * @return the projected size without the shared symbol table.
+         */
+        public long getBaselineBytes() {
+            return baselineBytes;
+        }
+
+        /**
+         * @return the projected size when the shared symbol table is imported.
+         */
+        public long getOptimizedBytes() {
+            return optimizedBytes;
+        }
+
+        /**
+         * @return the projected number of bytes saved by importing the shared symbol table.
+         */
+        public long getSavings() {
+            return baselineBytes - optimizedBytes;
+        }
+
+        @Override
+        public String toString() {
+            return "Projection{baselineBytes=" + baselineBytes
+                + ", optimizedBytes=" + optimizedBytes
+                + ", savings=" + getSavings() + "}";
+        }
+    }
+
+    // Iterates in order of first occurrence.
+    private final Map<String, Counts> counts = new LinkedHashMap<>();
+
+    private Counts countsFor(String text) {
+        return counts.computeIfAbsent(text, t -> new Counts());
+    }
+
+    private static boolean isCounted(SymbolToken token) {
+        return token != null && token.getText() != null && !SYSTEM_SYMBOLS.contains(token.getText());
+    }
+
+    /**
+     * Counts the symbols in all remaining values at the reader's current depth, including the values nested within
+     * them. The reader is left positioned after the last of those values.
+     * @param reader a user-level reader over the sample data.
+     */
+    public void profile(IonReader reader) {
+        IonType type;
+        while ((type = reader.next()) != null) {
+            if (reader.isInStruct()) {
+                SymbolToken fieldName = reader.getFieldNameSymbol();
+                if (isCounted(fieldName)) {
+                    countsFor(fieldName.getText()).fieldNames++;
+                }
+            }
+            for (SymbolToken annotation : reader.getTypeAnnotationSymbols()) {
+                if (isCounted(annotation)) {
+                    countsFor(annotation.getText()).annotations++;
+                }
+            }
+            if (reader.isNullValue()) {
+                continue;
+            }
+            if (type == IonType.SYMBOL) {
+                SymbolToken value = reader.symbolValue();
+                if (isCounted(value)) {
+                    countsFor(value.getText()).symbolValues++;
+                }
+            } else if (IonType.isContainer(type)) {
+                reader.stepIn();
+                profile(reader);
+                reader.stepOut();
+            }
+        }
+    }
+
+    /**
+     * @return the number of distinct symbols counted.
+     */
+    public int getSymbolCount() {
+        return counts.size();
+    }
+
+    /**
+     * @param text the text of a symbol.
+     * @return the number of times the symbol occurred as a field name.
+     */
+    public long getFieldNameCount(String text) {
+        Counts c = counts.get(text);
+        return c == null ? 0 : c.fieldNames;
+    }
+
+    /**
+     * @param text the text of a symbol.
+     * @return the number of times the symbol occurred as an annotation.
+     */
+    public long getAnnotationCount(String text) {
+        Counts c = counts.get(text);
+        return c == null ? 0 : c.annotations;
+    }
+
+    /**
+     * @param text the text of a symbol.
+     * @return the number of times the symbol occurred as a symbol value.
+     */
+    public long getSymbolValueCount(String text) {
+        Counts c = counts.get(text);
+        return c == null ? 0 : c.symbolValues;
+    }
+
+    /**
+     * @return the text of every counted symbol, most frequent first.
+     */
+    public List<String> getRankedSymbols() {
+        List<String> ranked = new ArrayList<>(counts.keySet());
+        // The sort is stable, so ties remain in order of first occurrence.
+        ranked.sort((a, b) -> Long.compare(counts.get(b).total(), counts.get(a).total()));
+        return ranked;
+    }
+
+    private List<String> rankedSymbols(int maxSymbols) {
+        if (maxSymbols < 0) {
+            throw new IllegalArgumentException("maxSymbols must not be negative: " + maxSymbols);
+        }
+        List<String> ranked = getRankedSymbols();
+        return ranked.size() > maxSymbols ? ranked.subList(0, maxSymbols) : ranked;
+    }
+
+    /**
+     * Creates a shared symbol table containing the most frequent symbols, most frequent first.
+     * @param system the system used to create the table.
+     * @param name the name of the table, a non-empty string.
+     * @param version the version of the table, at least one. See
+     *                {@link IonSystem#newSharedSymbolTable(String, int, java.util.Iterator, SymbolTable...)} for
+     *                requirements on versions greater than one.
+     * @param maxSymbols the maximum number of symbols to include.
+     * @return a new shared symbol table.
+     */
+    public SymbolTable newSharedSymbolTable(IonSystem system, String name, int version, int maxSymbols) {
+        return system.newSharedSymbolTable(name, version, rankedSymbols(maxSymbols).iterator());
+    }
+
+    /**
+     * Projects the size of the profiled data's symbol-related content with and without importing the table that
+     * {@link #newSharedSymbolTable(IonSystem, String, int, int)} would create with the same {@code maxSymbols}.
+     * @param maxSymbols the maximum number of symbols in the shared symbol table.
+     * @return the projection.
+     */
+    public Projection project(int maxSymbols) {
+        List<String> imported = rankedSymbols(maxSymbols);
+        Set<String> importedSet = new HashSet<>(imported);
+
+        long baselineBytes = 0;
+        int sid = FIRST_IMPORTED_SID;
+        for (Map.Entry<String, Counts> entry : counts.entrySet()) {
+            baselineBytes += referenceBytes(entry.getValue(), sid++) + declarationBytes(entry.getKey());
+        }
+
+        long optimizedBytes = 0;
+        sid = FIRST_IMPORTED_SID;
+        for (String text : imported) {
+            optimizedBytes += referenceBytes(counts.get(text), sid++);
+        }
+        for (Map.Entry<String, Counts> entry : counts.entrySet()) {
+            if (!importedSet.contains(entry.getKey())) {
+                optimizedBytes += referenceBytes(entry.getValue(), sid++) + declarationBytes(entry.getKey());
+            }
+        }
+        return new Projection(baselineBytes, optimizedBytes);
+    }
+
+    private static long referenceBytes(Counts c, int sid) {
+        return (c.fieldNames + c.annotations) * varUIntLength(sid) + c.symbolValues * uIntLength(sid);
+    }
+
+    // The size of the symbol's text encoded as a string in a local symbol table's symbol list.
+    private static long declarationBytes(String text) {
+        int length = text.getBytes(StandardCharsets.UTF_8).length;
+        return 1 + (length < 14 ? 0 : varUIntLength(length)) + length;
+    }
+
+    private static int varUIntLength(long value) {
+        int length = 1;
+        while ((value >>>= 7) != 0) {
+            length++;
+        }
+        return length;
+    }
+
+    private static int uIntLength(long value) {
+        int length = 1;
+        while ((value >>>= 8) != 0) {
+            length++;
+        }
+        return length;
+    }
+}
@@ -0,0 +1,891 @@
+// Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+// SPDX-License-Identifier: Apache-2.0
+package com.amazon.ion.util;
+
+import com.amazon.ion.IonException;
+import com.amazon.ion.IonReader;
+import com.amazon.ion.IonType;
+import com.amazon.ion.IonWriter;
+import com.amazon.ion.OffsetSpan;
+import com.amazon.ion.SymbolTable;
+import com.amazon.ion.SystemSymbols;
+import com.amazon.ion.impl.MappedFileInputStream;
+import com.amazon.ion.impl._Private_IonConstants;
+import com.amazon.ion.system.IonBinaryWriterBuilder;
+import com.amazon.ion.system.IonReaderBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.SequenceInputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.ToLongFunction;
+
+/**
+ * A sparse index of the byte offsets of the top-level values in a binary Ion 1.0 stream, allowing readers to be
+ * positioned at the k-th top-level value, or near a key, without re-reading the stream from the beginning.
+ * <p>
+ * The index records the offset of every Nth top-level value (where N is the index's stride) along with the symbol
+ * table in effect at that value. A reader positioned using the index begins at the nearest recorded offset at or
+ * before the requested value, with the recorded symbol table reinstated, and skips at most N - 1 values to reach the
+ * requested value.
+ * <p>
+ * An index may be persisted alongside the data it indexes using {@link #writeTo(OutputStream)} and later restored
+ * using {@link #readFrom(InputStream)}. The persisted form is a compact Ion binary stream. An index is only valid for
+ * the exact bytes it was built from; offsets are relative to the start of that data, which must be uncompressed.
+ * <p>
+ * Once built, an index is immutable and may be used to create readers from multiple threads concurrently.
+ */
+public final class TopLevelOffsetIndex {
+
+    // Annotation on the persisted index struct.
+    private static final String INDEX_ANNOTATION = "ion_top_level_offset_index";
+
+    // Version of the persisted format.
+    private static final int FORMAT_VERSION = 1;
+
+    // Field names used in the persisted form.
+    private static final String VERSION = "version";
+    private static final String STRIDE = "stride";
+    private static final String VALUE_COUNT = "value_count";
+    private static final String OFFSET_DELTAS = "offset_deltas";
+    private static final String SYMBOL_TABLE_IDS = "symbol_table_ids";
+    private static final String KEYS = "keys";
+    private static final String SYMBOL_TABLES = "symbol_tables";
+    private static final String BASE = "base";
+    private static final String NAME = "name";
+    private static final String MAX_ID = "max_id";
+    private static final String IMPORTS = "imports";
+    private static final String SYMBOLS = "symbols";
+
+    // Denotes an entry that occurs where only the system symbol table is in effect.
+    private static final int SYSTEM_SYMBOL_TABLE_ID = -1;
+
+    // Denotes a recorded symbol table that does not extend another.
+    private static final int NO_BASE_ID = -1;
+
+    /**
+     * A shared symbol table import recorded in the index.
+     */
+    private static final class Import {
+        final String name;
+        final int version;
+        final int maxId;
+
+        Import(String name, int version, int maxId) {
+            this.name = name;
+            this.version = version;
+            this.maxId = maxId;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (!(other instanceof Import)) {
+                return false;
+            }
+            Import that = (Import) other;
+            return Objects.equals(name, that.name) && version == that.version && maxId == that.maxId;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(name, version, maxId);
+        }
+    }
+
+    /**
+     * A local symbol table recorded in the index. A symbol table that only appends symbols to the previously recorded
+     * one, as happens when the data uses local symbol table appends, is recorded as an extension of that table so that
+     * the symbols the two have in common are stored once.
+     */
+    private static final class LocalSymbols {
+        // The ID of the recorded symbol table that this one extends, or NO_BASE_ID.
+        final int baseId;
+        // The imports, which are the same as the base table's when there is one.
+        final List<Import> imports;
+        // The local symbols declared after those of the base table, if any.
+        final List<String> symbols;
+
+        // The Ion binary IVM followed by this symbol table, which is prepended to the data when seeking. Lazily
+        // initialized; volatile so that readers may be created concurrently from multiple threads.
+        volatile byte[] preamble = null;
+
+        LocalSymbols(int baseId, List<Import> imports, List<String> symbols) {
+            this.baseId = baseId;
+            this.imports = imports;
+            this.symbols = symbols;
+        }
+    }
+
+    private final int stride;
+    private final long valueCount;
+
+    // The offset of every 'stride'-th top-level value, i.e. offsets[i] is the offset of value i * stride.
+    private final long[] offsets;
+
+    // The index into 'symbolTables' of the symbol table in effect at each offset, or SYSTEM_SYMBOL_TABLE_ID.
+    private final int[] symbolTableIds;
+
+    // The key of the value at each offset, or null if no keys were recorded.
+    private final long[] keys;
+
+    private final List<LocalSymbols> symbolTables;
+
+    private TopLevelOffsetIndex(
+        int stride,
+        long valueCount,
+        long[] offsets,
+        int[] symbolTableIds,
+        long[] keys,
+        List<LocalSymbols> symbolTables
+    ) {
+        this.stride = stride;
+        this.valueCount = valueCount;
+        this.offsets = offsets;
+        this.symbolTableIds = symbolTableIds;
+        this.keys = keys;
+        this.symbolTables = symbolTables;
+    }
+
+    /**
+     * @return the number of top-level values between consecutive recorded offsets.
+     */
+    public int getStride() {
+        return stride;
+    }
+
+    /**
+     * @return the number of top-level values in the indexed data.
+     */
+    public long getValueCount() {
+        return valueCount;
+    }
+
+    /**
+     * @return true if the index recorded a key for each of its entries, allowing use of the key-based readers.
+     */
+    public boolean hasKeys() {
+        return keys != null;
+    }
+
+    // ---- Building ----
+
+    /**
+     * Builds an index over the binary Ion 1.0 data in the given file by reading it once.
+     * @param builder the builder used to create the reader that scans the file.
+     * @param ionFile the file, which must begin with an Ion 1.0 binary version marker.
+     * @param stride the number of top-level values between recorded offsets. Must be positive.
+     * @return a new index.
+     * @throws IonException if the file cannot be read or is not binary Ion 1.0.
+     */
+    public static TopLevelOffsetIndex build(IonReaderBuilder builder, Path ionFile, int stride) {
+        return build(builder, ionFile, stride, null);
+    }
+
+    /**
+     * Builds an index over the binary Ion 1.0 data in the given file by reading it once, recording the key of each
+     * indexed value so that readers may later be positioned by key.
+     * @param builder the builder used to create the reader that scans the file.
+     * @param ionFile the file, which must begin with an Ion 1.0 binary version marker.
+     * @param stride the number of top-level values between recorded offsets. Must be positive.
+     * @param keyExtractor computes the key of the top-level value on which the given reader is positioned. The keys
+     *                     of the top-level values must not decrease over the course of the data. If the extractor
+     *                     steps into the value, it must step back out before returning. May be null.
+     * @return a new index.
+     * @throws IonException if the file cannot be read or is not binary Ion 1.0.
+     */
+    public static TopLevelOffsetIndex build(
+        IonReaderBuilder builder,
+        Path ionFile,
+        int stride,
+        ToLongFunction<IonReader> keyExtractor
+    ) {
+        try (FileChannel channel = FileChannel.open(ionFile, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(_Private_IonConstants.BINARY_VERSION_MARKER_SIZE);
+            while (header.hasRemaining() && channel.read(header) >= 0) {
+                // Read until the header is full or the file ends.
+            }
+            requireIon10Binary(header.array(), 0, header.position());
+        } catch (IOException e) {
+            throw new IonException(e);
+        }
+        try (IonReader reader = builder.build(ionFile)) {
+            return build(reader, stride, keyExtractor);
+        } catch (IOException e) {
+            throw new IonException(e);
+        }
+    }
+
+    /**
+     * Builds an index over the given binary Ion 1.0 data by reading it once.
+     * @param builder the builder used to create the reader that scans the data.
+     * @param ionData the data, which must begin with an Ion 1.0 binary version marker.
+     * @param stride the number of top-level values between recorded offsets. Must be positive.
+     * @param keyExtractor computes the key of the top-level value on which the given reader is positioned. The keys
+     *                     of the top-level values must not decrease over the course of the data. If the extractor
+     *                     steps into the value, it must step back out before returning. May be null.
+     * @return a new index.
+     * @throws IonException if the data is not binary Ion 1.0.
+     */
+    public static TopLevelOffsetIndex build(
+        IonReaderBuilder builder,
+        byte[] ionData,
+        int stride,
+        ToLongFunction<IonReader> keyExtractor
+    ) {
+        requireIon10Binary(ionData, 0, ionData.length);
+        try (IonReader reader = builder.build(ionData)) {
+            return build(reader, stride, keyExtractor);
+        } catch (IOException e) {
+            throw new IonException(e);
+        }
+    }
+
+    private static void requireIon10Binary(byte[] header, int offset, int length) {
+        // Empty data contains no values, and is therefore trivially indexable.
+        if (length > 0 && !IonStreamUtils.isIonBinary(header, offset, length)) {
+            throw new IonException("Top-level offset indexes require uncompressed binary Ion 1.0 data.");
+        }
+    }
+
+    private static TopLevelOffsetIndex build(IonReader reader, int stride, ToLongFunction<IonReader> keyExtractor) {
+        if (stride < 1) {
+            throw new IllegalArgumentException("Stride must be at least 1.");
+        }
+        long[] offsets = new long[16];
+        int[] symbolTableIds = new int[16];
+        long[] keys = keyExtractor == null ? null : new long[16];
+        List<LocalSymbols> symbolTables = new ArrayList<>();
+        SymbolTable previousSymbolTable = null;
+        int previousSymbolTableId = SYSTEM_SYMBOL_TABLE_ID;
+        // All local symbols of the most recently recorded symbol table, including those of its base tables.
+        List<String> previousSymbols = null;
+        int numberOfEntries = 0;
+        long valueCount = 0;
+        while (reader.next() != null) {
+            if (valueCount % stride == 0) {
+                OffsetSpan span = Spans.currentSpan(OffsetSpan.class, reader);
+                if (span == null) {
+                    throw new IonException("Top-level offset indexes require a reader that provides offset spans.");
+                }
+                SymbolTable symbolTable = reader.getSymbolTable();
+                if (symbolTable != previousSymbolTable) {
+                    previousSymbolTable = symbolTable;
+                    if (symbolTable == null || symbolTable.isSystemTable()) {
+                        previousSymbolTableId = SYSTEM_SYMBOL_TABLE_ID;
+                    } else {
+                        List<Import> imports = importsOf(symbolTable);
+                        List<String> symbols = localSymbolsOf(symbolTable);
+                        LocalSymbols previous = symbolTables.isEmpty() ? null : symbolTables.get(symbolTables.size() - 1);
+                        LocalSymbols localSymbols;
+                        if (previous != null
+                            && previous.imports.equals(imports)
+                            && symbols.size() >= previousSymbols.size()
+                            && symbols.subList(0, previousSymbols.size()).equals(previousSymbols)) {
+                            localSymbols = new LocalSymbols(
+                                symbolTables.size() - 1,
+                                previous.imports,
+                                new ArrayList<>(symbols.subList(previousSymbols.size(), symbols.size()))
+                            );
+                        } else {
+                            localSymbols = new LocalSymbols(NO_BASE_ID, imports, symbols);
+                        }
+                        previousSymbolTableId = symbolTables.size();
+                        symbolTables.add(localSymbols);
+                        previousSymbols = symbols;
+                    }
+                }
+                if (numberOfEntries == offsets.length) {
+                    offsets = Arrays.copyOf(offsets, numberOfEntries * 2);
+                    symbolTableIds = Arrays.copyOf(symbolTableIds, numberOfEntries * 2);
+                    if (keys != null) {
+                        keys = Arrays.copyOf(keys, numberOfEntries * 2);
+                    }
+                }
+                offsets[numberOfEntries] = span.getStartOffset();
+                symbolTableIds[numberOfEntries] = previousSymbolTableId;
+                if (keys != null) {
+                    keys[numberOfEntries] = keyExtractor.applyAsLong(reader);
+                }
+                numberOfEntries++;
+            }
+            valueCount++;
+        }
+        return new TopLevelOffsetIndex(
+            stride,
+            valueCount,
+            Arrays.copyOf(offsets, numberOfEntries),
+            Arrays.copyOf(symbolTableIds, numberOfEntries),
+            keys == null ? null : Arrays.copyOf(keys, numberOfEntries),
+            symbolTables
+        );
+    }
+
+    private static List<Import> importsOf(SymbolTable symbolTable) {
+        List<Import> imports = new ArrayList<>();
+        for (SymbolTable imported : symbolTable.getImportedTables()) {
+            imports.add(new Import(imported.getName(), imported.getVersion(), imported.getMaxId()));
+        }
+        return imports;
+    }
+
+    private static List<String> localSymbolsOf(SymbolTable symbolTable) {
+        int numberOfLocalSymbols = symbolTable.getMaxId() - symbolTable.getImportedMaxId();
+        List<String> symbols = new ArrayList<>(numberOfLocalSymbols);
+        Iterator<String> declaredSymbols = symbolTable.iterateDeclaredSymbolNames();
+        for (int i = 0; i < numberOfLocalSymbols && declaredSymbols.hasNext(); i++) {
+            symbols.add(declaredSymbols.next());
+        }
+        return symbols;
+    }
+
+    /**
+     * @param symbolTableId the ID of a recorded symbol table.
+     * @return all of the table's local symbols, including those of its base tables.
+     */
+    private List<String> allSymbolsOf(int symbolTableId) {
+        List<LocalSymbols> chain = new ArrayList<>();
+        for (int id = symbolTableId; id != NO_BASE_ID; id = symbolTables.get(id).baseId) {
+            chain.add(symbolTables.get(id));
+        }
+        List<String> symbols = new ArrayList<>();
+        for (int i = chain.size() - 1; i >= 0; i--) {
+            symbols.addAll(chain.get(i).symbols);
+        }
+        return symbols;
+    }
+
+    // ---- Seeking ----
+
+    /**
+     * Creates a reader over the given file that is positioned immediately before the top-level value at the given
+     * index, i.e. the reader's next call to {@link IonReader#next()} will return that value.
+     * @param builder the builder used to create the reader. Its catalog must be able to resolve any shared symbol
+     *                tables imported by the data.
+     * @param ionFile the file from which this index was built.
+     * @param valueIndex the zero-based index of the top-level value. Must not exceed {@link #getValueCount()}.
+     * @return a new reader, which the caller must close.
+     */
+    public IonReader readerForValue(IonReaderBuilder builder, Path ionFile, long valueIndex) {
+        int entry = entryForValue(valueIndex);
+        IonReader reader = readerForEntry(builder, ionFile, entry, Long.MAX_VALUE);
+        skip(reader, valueIndex - (long) entry * stride);
+        return reader;
+    }
+
+    /**
+     * Creates a reader over the given file that is positioned immediately before the first top-level value covered
+     * by the given entry, and that reads only the values covered by that entry, i.e. up to the next entry's offset.
+     * Only that region of the file is mapped, so many such readers may be open at once.
+     * @param builder the builder used to create the reader.
+     * @param ionFile the file from which this index was built.
+     * @param entry the entry, which must be less than the number of entries.
+     * @return a new reader, which the caller must close.
+     */
+    IonReader readerForEntryValues(IonReaderBuilder builder, Path ionFile, int entry) {
+        long end = entry + 1 < offsets.length ? offsets[entry + 1] : Long.MAX_VALUE;
+        return readerForEntry(builder, ionFile, entry, end);
+    }
+
+    /**
+     * Creates a reader over the given data that is positioned immediately before the top-level value at the given
+     * index, i.e. the reader's next call to {@link IonReader#next()} will return that value.
+     * @param builder the builder used to create the reader. Its catalog must be able to resolve any shared symbol
+     *                tables imported by the data.
+     * @param ionData the data from which this index was built.
+     * @param valueIndex the zero-based index of the top-level value. Must not exceed {@link #getValueCount()}.
+     * @return a new reader, which the caller must close.
+     */
+    public IonReader readerForValue(IonReaderBuilder builder, byte[] ionData, long valueIndex) {
+        int entry = entryForValue(valueIndex);
+        IonReader reader = readerForEntry(builder, ionData, entry);
+        skip(reader, valueIndex - (long) entry * stride);
+        return reader;
+    }
+
+    /**
+     * Creates a reader over the given file that is positioned at the last indexed value whose key is less than the
+     * given key, or at the first value if there is no such indexed value. Because the index is sparse, the values
+     * between that position and the first value with the given key (if any) must be skipped by the caller; there are
+     * at most {@link #getStride()} such values.
+     * @param builder the builder used to create the reader.
+     * @param ionFile the file from which this index was built.
+     * @param key the key at which to begin reading.
+     * @return a new reader, which the caller must close.
+     * @throws IllegalStateException if the index was built without a key extractor.
+     */
+    public IonReader readerForKey(IonReaderBuilder builder, Path ionFile, long key) {
+        return readerForEntry(builder, ionFile, entryForKey(key), Long.MAX_VALUE);
+    }
+
+    /**
+     * Creates a reader over the given data that is positioned at the last indexed value whose key is less than the
+     * given key, or at the first value if there is no such indexed value. Because the index is sparse, the values
+     * between that position and the first value with the given key (if any) must be skipped by the caller; there are
+     * at most {@link #getStride()} such values.
+     * @param builder the builder used to create the reader.
+     * @param ionData the data from which this index was built.
+     * @param key the key at which to begin reading.
+     * @return a new reader, which the caller must close.
+     * @throws IllegalStateException if the index was built without a key extractor.
+     */
+    public IonReader readerForKey(IonReaderBuilder builder, byte[] ionData, long key) {
+        return readerForEntry(builder, ionData, entryForKey(key));
+    }
+
+    private int entryForValue(long valueIndex) {
+        if (valueIndex < 0 || valueIndex > valueCount) {
+            throw new IllegalArgumentException("Value index " + valueIndex + " is out of range [0, " + valueCount + "].");
+        }
+        return offsets.length == 0 ? -1 : (int) Math.min(offsets.length - 1, valueIndex / stride);
+    }
+
+    private int entryForKey(long key) {
+        if (keys == null) {
+            throw new IllegalStateException("This index was built without keys.");
+        }
+        // Find the last entry whose key is strictly less than the given key. Because keys may repeat, an entry with
+        // an equal key may be preceded by values with that key.
+        int low = 0;
+        int high = keys.length - 1;
+        int entry = 0;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (keys[mid] < key) {
+                entry = mid;
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return offsets.length == 0 ? -1 : entry;
+    }
+
+    private static void skip(IonReader reader, long numberOfValues) {
+        for (long i = 0; i < numberOfValues; i++) {
+            reader.next();
+        }
+    }
+
+    private IonReader readerForEntry(IonReaderBuilder builder, Path ionFile, int entry, long end) {
+        FileChannel channel;
+        try {
+            channel = FileChannel.open(ionFile, StandardOpenOption.READ);
+        } catch (IOException e) {
+            throw new IonException(e);
+        }
+        try {
+            if (entry < 0) {
+                return builder.build(new MappedFileInputStream(channel, 0, end));
+            }
+            return builder.build(new SequenceInputStream(
+                new ByteArrayInputStream(preambleFor(entry)),
+                new MappedFileInputStream(channel, offsets[entry], end - offsets[entry])
+            ));
+        } catch (RuntimeException e) {
+            try {
+                channel.close();
+            } catch (IOException closeException) {
+                e.addSuppressed(closeException);
+            }
+            throw e;
+        }
+    }
+
+    private IonReader readerForEntry(IonReaderBuilder builder, byte[] ionData, int entry) {
+        if (entry < 0) {
+            return builder.build(ionData);
+        }
+        int offset = (int) offsets[entry];
+        return builder.build(new SequenceInputStream(
+            new ByteArrayInputStream(preambleFor(entry)),
+            new ByteArrayInputStream(ionData, offset, ionData.length - offset)
+        ));
+    }
+
+    /**
+     * Gets the bytes that must precede the data at the given entry's offset in order to reinstate the symbol table
+     * in effect at that offset: an Ion 1.0 binary version marker, followed by the symbol table, if any.
+     * @param entry the entry.
+     * @return the preamble.
+     */
+    private byte[] preambleFor(int entry) {
+        int symbolTableId = symbolTableIds[entry];
+        if (symbolTableId == SYSTEM_SYMBOL_TABLE_ID) {
+            return _Private_IonConstants.BINARY_VERSION_MARKER_1_0;
+        }
+        LocalSymbols localSymbols = symbolTables.get(symbolTableId);
+        byte[] preamble = localSymbols.preamble;
+        if (preamble == null) {
+            preamble = encodePreamble(localSymbols.imports, allSymbolsOf(symbolTableId));
+            localSymbols.preamble = preamble;
+        }
+        return preamble;
+    }
+
+    /**
+     * Encodes an Ion 1.0 binary version marker followed by a local symbol table with the given imports and symbols.
+     * The symbol table is encoded directly, rather than through a managed writer, because a managed writer would
+     * rewrite it, dropping symbols with unknown text and duplicate symbols, and so change the symbol IDs.
+     */
+    private static byte[] encodePreamble(List<Import> imports, List<String> symbols) {
+        ByteArrayOutputStream fields = new ByteArrayOutputStream();
+        if (!imports.isEmpty()) {
+            ByteArrayOutputStream importList = new ByteArrayOutputStream();
+            for (Import imported : imports) {
+                ByteArrayOutputStream importFields = new ByteArrayOutputStream();
+                writeVarUInt(importFields, SystemSymbols.NAME_SID);
+                writeString(importFields, imported.name);
+                writeVarUInt(importFields, SystemSymbols.VERSION_SID);
+                writeInt(importFields, imported.version);
+                writeVarUInt(importFields, SystemSymbols.MAX_ID_SID);
+                writeInt(importFields, imported.maxId);
+                writeContainer(importList, _Private_IonConstants.tidStruct, importFields);
+            }
+            writeVarUInt(fields, SystemSymbols.IMPORTS_SID);
+            writeContainer(fields, _Private_IonConstants.tidList, importList);
+        }
+        ByteArrayOutputStream symbolList = new ByteArrayOutputStream();
+        for (String symbol : symbols) {
+            // Symbols with unknown text are declared using any non-string value.
+            writeString(symbolList, symbol);
+        }
+        writeVarUInt(fields, SystemSymbols.SYMBOLS_SID);
+        writeContainer(fields, _Private_IonConstants.tidList, symbolList);
+        ByteArrayOutputStream annotatedValue = new ByteArrayOutputStream();
+        writeVarUInt(annotatedValue, 1); // The length of the annotation SIDs.
+        writeVarUInt(annotatedValue, SystemSymbols.ION_SYMBOL_TABLE_SID);
+        writeContainer(annotatedValue, _Private_IonConstants.tidStruct, fields);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(_Private_IonConstants.BINARY_VERSION_MARKER_1_0, 0, _Private_IonConstants.BINARY_VERSION_MARKER_SIZE);
+        writeContainer(out, _Private_IonConstants.tidTypedecl, annotatedValue);
+        return out.toByteArray();
+    }
+
+    private static void writeVarUInt(ByteArrayOutputStream out, long value) {
+        int shift = 7 * ((63 - Long.numberOfLeadingZeros(value | 1)) / 7);
+        for (; shift > 0; shift -= 7) {
+            out.write((int) (value >>> shift) & 0x7F);
+        }
+        out.write((int) (value & 0x7F) | 0x80);
+    }
+
+    private static void writeTypeDescriptor(ByteArrayOutputStream out, int typeId, int length) {
+        if (length < _Private_IonConstants.lnIsVarLen) {
+            out.write(_Private_IonConstants.makeTypeDescriptor(typeId, length));
+        } else {
+            out.write(_Private_IonConstants.makeTypeDescriptor(typeId, _Private_IonConstants.lnIsVarLen));
+            writeVarUInt(out, length);
+        }
+    }
+
+    private static void writeContainer(ByteArrayOutputStream out, int typeId, ByteArrayOutputStream content) {
+        // Note: a struct length of 1 would denote a sorted struct, but no non-empty struct is that short.
+        writeTypeDescriptor(out, typeId, content.size());
+        out.write(content.toByteArray(), 0, content.size());
+    }
+
+    private static void writeString(ByteArrayOutputStream out, String value) {
+        if (value == null) {
+            out.write(_Private_IonConstants.makeTypeDescriptor(_Private_IonConstants.tidNull, _Private_IonConstants.lnIsNull));
+            return;
+        }
+        byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+        writeTypeDescriptor(out, _Private_IonConstants.tidString, utf8.length);
+        out.write(utf8, 0, utf8.length);
+    }
+
+    private static void writeInt(ByteArrayOutputStream out, int value) {
+        long magnitude = Math.abs((long) value);
+        int length = (64 - Long.numberOfLeadingZeros(magnitude) + 7) / 8;
+        writeTypeDescriptor(out, value < 0 ? _Private_IonConstants.tidNegInt : _Private_IonConstants.tidPosInt, length);
+        for (int i = length - 1; i >= 0; i--) {
+            out.write((int) (magnitude >>> (8 * i)));
+        }
+    }
+
+    // ---- Persistence ----
+
+    /**
+     * Writes this index to the given stream in its compact persisted form, which is a binary Ion stream.
+     * @param out the destination. Not closed by this method.
+     * @throws IOException if thrown by the stream.
+     */
+    public void writeTo(OutputStream out) throws IOException {
+        try (IonWriter writer = IonBinaryWriterBuilder.standard().build(new NonClosingOutputStream(out))) {
+            writer.setTypeAnnotations(INDEX_ANNOTATION);
+            writer.stepIn(IonType.STRUCT);
+            writer.setFieldName(VERSION);
+            writer.writeInt(FORMAT_VERSION);
+            writer.setFieldName(STRIDE);
+            writer.writeInt(stride);
+            writer.setFieldName(VALUE_COUNT);
+            writer.writeInt(valueCount);
+            writer.setFieldName(OFFSET_DELTAS);
+            writer.stepIn(IonType.LIST);
+            long previousOffset = 0;
+            for (long offset : offsets) {
+                writer.writeInt(offset - previousOffset);
+                previousOffset = offset;
+            }
+            writer.stepOut();
+            writer.setFieldName(SYMBOL_TABLE_IDS);
+            writer.stepIn(IonType.LIST);
+            for (int symbolTableId : symbolTableIds) {
+                writer.writeInt(symbolTableId);
+            }
+            writer.stepOut();
+            if (keys != null) {
+                writer.setFieldName(KEYS);
+                writer.stepIn(IonType.LIST);
+                for (long key : keys) {
+                    writer.writeInt(key);
+                }
+                writer.stepOut();
+            }
+            writer.setFieldName(SYMBOL_TABLES);
+            writer.stepIn(IonType.LIST);
+            for (LocalSymbols localSymbols : symbolTables) {
+                writer.stepIn(IonType.STRUCT);
+                if (localSymbols.baseId != NO_BASE_ID) {
+                    // The imports are inherited from the base table.
+                    writer.setFieldName(BASE);
+                    writer.writeInt(localSymbols.baseId);
+                } else {
+                    writer.setFieldName(IMPORTS);
+                    writer.stepIn(IonType.LIST);
+                    for (Import imported : localSymbols.imports) {
+                        writer.stepIn(IonType.STRUCT);
+                        writer.setFieldName(NAME);
+                        writer.writeString(imported.name);
+                        writer.setFieldName(VERSION);
+                        writer.writeInt(imported.version);
+                        writer.setFieldName(MAX_ID);
+                        writer.writeInt(imported.maxId);
+                        writer.stepOut();
+                    }
+                    writer.stepOut();
+                }
+                writer.setFieldName(SYMBOLS);
+                writer.stepIn(IonType.LIST);
+                for (String symbol : localSymbols.symbols) {
+                    writer.writeString(symbol);
+                }
+                writer.stepOut();
+                writer.stepOut();
+            }
+            writer.stepOut();
+            writer.stepOut();
+        }
+    }
+
+    /**
+     * Reads an index previously written by {@link #writeTo(OutputStream)}.
+     * @param in the source. Not closed by this method.
+     * @return the index.
+     * @throws IonException if the source does not contain a valid index.
+     */
+    public static TopLevelOffsetIndex readFrom(InputStream in) {
+        try (IonReader reader = IonReaderBuilder.standard().build(new NonClosingInputStream(in))) {
+            if (reader.next() != IonType.STRUCT) {
+                throw new IonException("Expected a top-level offset index.");
+            }
+            String[] annotations = reader.getTypeAnnotations();
+            if (annotations.length != 1 || !INDEX_ANNOTATION.equals(annotations[0])) {
+                throw new IonException("Expected a top-level offset index.");
+            }
+            int stride = -1;
+            long valueCount = -1;
+            long[] offsets = null;
+            int[] symbolTableIds = null;
+            long[] keys = null;
+            List<LocalSymbols> symbolTables = new ArrayList<>();
+            reader.stepIn();
+            while (reader.next() != null) {
+                switch (reader.getFieldName()) {
+                    case VERSION:
+                        if (reader.intValue() != FORMAT_VERSION) {
+                            throw new IonException("Unsupported top-level offset index version: " + reader.intValue());
+                        }
+                        break;
+                    case STRIDE:
+                        stride = reader.intValue();
+                        break;
+                    case VALUE_COUNT:
+                        valueCount = reader.longValue();
+                        break;
+                    case OFFSET_DELTAS:
+                        offsets = readLongs(reader);
+                        for (int i = 1; i < offsets.length; i++) {
+                            offsets[i] += offsets[i - 1];
+                        }
+                        break;
+                    case SYMBOL_TABLE_IDS:
+                        long[] ids = readLongs(reader);
+                        symbolTableIds = new int[ids.length];
+                        for (int i = 0; i < ids.length; i++) {
+                            symbolTableIds[i] = (int) ids[i];
+                        }
+                        break;
+                    case KEYS:
+                        keys = readLongs(reader);
+                        break;
+                    case SYMBOL_TABLES:
+                        reader.stepIn();
+                        while (reader.next() != null) {
+                            symbolTables.add(readLocalSymbols(reader, symbolTables));
+                        }
+                        reader.stepOut();
+                        break;
+                    default:
+                        // Ignore unknown fields for forward compatibility.
+                        break;
+                }
+            }
+            reader.stepOut();
+            if (stride < 1 || valueCount < 0 || offsets == null || symbolTableIds == null
+                || symbolTableIds.length != offsets.length || (keys != null && keys.length != offsets.length)) {
+                throw new IonException("Malformed top-level offset index.");
+            }
+            for (int symbolTableId : symbolTableIds) {
+                if (symbolTableId < SYSTEM_SYMBOL_TABLE_ID || symbolTableId >= symbolTables.size()) {
+                    throw new IonException("Malformed top-level offset index.");
+                }
+            }
+            return new TopLevelOffsetIndex(stride, valueCount, offsets, symbolTableIds, keys, symbolTables);
+        } catch (IOException e) {
+            throw new IonException(e);
+        }
+    }
+
+    private static long[] readLongs(IonReader reader) {
+        long[] values = new long[16];
+        int size = 0;
+        reader.stepIn();
+        while (reader.next() != null) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = reader.longValue();
+        }
+        reader.stepOut();
+        return Arrays.copyOf(values, size);
+    }
+
+    /**
+     * Reads a persisted symbol table.
+     * @param reader a reader positioned on the symbol table struct.
+     * @param previousSymbolTables the symbol tables that precede it, any of which it may extend.
+     * @return the symbol table.
+     */
+    private static LocalSymbols readLocalSymbols(IonReader reader, List<LocalSymbols> previousSymbolTables) {
+        int baseId = NO_BASE_ID;
+        List<Import> imports = new ArrayList<>();
+        List<String> symbols = new ArrayList<>();
+        reader.stepIn();
+        while (reader.next() != null) {
+            String fieldName = reader.getFieldName();
+            if (BASE.equals(fieldName)) {
+                baseId = reader.intValue();
+                if (baseId < 0 || baseId >= previousSymbolTables.size()) {
+                    throw new IonException("Malformed top-level offset index.");
+                }
+            } else if (IMPORTS.equals(fieldName)) {
+                reader.stepIn();
+                while (reader.next() != null) {
+                    String name = null;
+                    int version = -1;
+                    int maxId = -1;
+                    reader.stepIn();
+                    while (reader.next() != null) {
+                        switch (reader.getFieldName()) {
+                            case NAME:
+                                name = reader.stringValue();
+                                break;
+                            case VERSION:
+                                version = reader.intValue();
+                                break;
+                            case MAX_ID:
+                                maxId = reader.intValue();
+                                break;
+                            default:
+                                break;
+                        }
+                    }
+                    reader.stepOut();
+                    imports.add(new Import(name, version, maxId));
+                }
+                reader.stepOut();
+            } else if (SYMBOLS.equals(fieldName)) {
+                reader.stepIn();
+                while (reader.next() != null) {
+                    symbols.add(reader.stringValue());
+                }
+                reader.stepOut();
+            }
+        }
+        reader.stepOut();
+        if (baseId != NO_BASE_ID) {
+            imports = previousSymbolTables.get(baseId).imports;
+        }
+        return new LocalSymbols(baseId, imports, symbols);
+    }
+
+    /**
+     * Prevents the writer from closing the user's stream.
+     */
+    private static final class NonClosingOutputStream extends OutputStream {
+        private final OutputStream delegate;
+
+        NonClosingOutputStream(OutputStream delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            delegate.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            delegate.write(b, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            delegate.flush();
+        }
+    }
+
+    /**
+     * Prevents the reader from closing the user's stream.
+     */
+    private static final class NonClosingInputStream extends InputStream {
+        private final InputStream delegate;
+
+        NonClosingInputStream(InputStream delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public int read() throws IOException {
+            return delegate.read();
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            return delegate.read(b, off, len);
+        }
+    }
+}
@@ -0,0 +1,116 @@
+// Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+// SPDX-License-Identifier: Apache-2.0
+package com.amazon.ion.impl;
+
+import com.amazon.ion.IonReader;
+import com.amazon.ion.IonType;
+import com.amazon.ion.TestUtils;
+import com.amazon.ion.system.IonReaderBuilder;
+import com.amazon.ion.system.IonSystemBuilder;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static com.amazon.ion.BitUtils.bytes;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class ByteBufferInputStreamTest {
+
+    private static final String TEST_DATA = "{foo: \"bar\", baz: [1, 2.5e0, 3d-1]} abc";
+
+    private enum BufferKind {
+        HEAP,
+        DIRECT,
+        READ_ONLY
+    }
+
+    /**
+     * Creates a buffer of the given kind with the given data between its position and limit, surrounded by padding
+     * that must not be read.
+     */
+    private static ByteBuffer bufferFor(BufferKind kind, byte[] data) {
+        ByteBuffer buffer = kind == BufferKind.DIRECT
+            ? ByteBuffer.allocateDirect(data.length + 6)
+            : ByteBuffer.allocate(data.length + 6);
+        buffer.put(bytes(0xFF, 0xFF, 0xFF));
+        buffer.put(data);
+        buffer.put(bytes(0xFF, 0xFF, 0xFF));
+        buffer.position(3);
+        buffer.limit(3 + data.length);
+        return kind == BufferKind.READ_ONLY ? buffer.asReadOnlyBuffer() : buffer;
+    }
+
+    private static void assertTestData(IonReader reader) {
+        assertEquals(IonType.STRUCT, reader.next());
+        reader.stepIn();
+        assertEquals(IonType.STRING, reader.next());
+        assertEquals("foo", reader.getFieldName());
+        assertEquals("bar", reader.stringValue());
+        assertEquals(IonType.LIST, reader.next());
+        assertEquals("baz", reader.getFieldName());
+        reader.stepIn();
+        assertEquals(IonType.INT, reader.next());
+        assertEquals(1, reader.intValue());
+        assertEquals(IonType.FLOAT, reader.next());
+        assertEquals(2.5, reader.doubleValue(), 0);
+        assertEquals(IonType.DECIMAL, reader.next());
+        assertEquals("0.3", reader.decimalValue().toString());
+        assertNull(reader.next());
+        reader.stepOut();
+        assertNull(reader.next());
+        reader.stepOut();
+        assertEquals(IonType.SYMBOL, reader.next());
+        assertEquals("abc", reader.stringValue());
+        assertNull(reader.next());
+    }
+
+    private static void assertBuildFromByteBuffer(BufferKind kind, byte[] data) throws Exception {
+        ByteBuffer buffer = bufferFor(kind, data);
+        try (IonReader reader = IonReaderBuilder.standard().build(buffer)) {
+            assertTestData(reader);
+        }
+        assertEquals(3, buffer.position());
+        assertEquals(3 + data.length, buffer.limit());
+    }
+
+    @ParameterizedTest(name = "kind={0}")
+    @ValueSource(strings = {"HEAP", "DIRECT", "READ_ONLY"})
+    public void buildFromBinaryByteBuffer(String kind) throws Exception {
+        byte[] data = TestUtils.ensureBinary(
+            IonSystemBuilder.standard().build(),
+            TEST_DATA.getBytes(StandardCharsets.UTF_8)
+        );
+        assertBuildFromByteBuffer(BufferKind.valueOf(kind), data);
+    }
+
+    @ParameterizedTest(name = "kind={0}")
+    @ValueSource(strings = {"HEAP", "DIRECT", "READ_ONLY"})
+    public void buildFromTextByteBuffer(String kind) throws Exception {
+        assertBuildFromByteBuffer(BufferKind.valueOf(kind), TEST_DATA.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void readSkipAndReset() {
+        ByteBuffer buffer = bufferFor(BufferKind.DIRECT, bytes(0, 1, 2, 3, 4, 5, 6, 7));
+        ByteBufferInputStream input = new ByteBufferInputStream(buffer);
+        assertEquals(8, input.available());
+        assertEquals(0, input.read());
+        assertEquals(2, input.skip(2));
+        input.mark(Integer.MAX_VALUE);
+        byte[] destination = new byte[3];
+        assertEquals(3, input.read(destination, 0, 3));
+        assertArrayEquals(bytes(3, 4, 5), destination);
+        input.reset();
+        assertEquals(3, input.read());
+        assertEquals(4, input.skip(10));
+        assertEquals(0, input.available());
+        assertEquals(-1, input.read());
+        assertEquals(-1, input.read(destination, 0, 3));
+        assertEquals(3, buffer.position());
+    }
+}
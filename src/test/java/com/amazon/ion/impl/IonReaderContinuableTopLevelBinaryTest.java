@@ -4,27 +4,42 @@ package com.amazon.ion.impl;
 
 import com.amazon.ion.BufferConfiguration;
 import com.amazon.ion.Decimal;
+import com.amazon.ion.DecimalPrimitivesProvider;
 import com.amazon.ion.IonBufferConfiguration;
+import com.amazon.ion.IonBufferPool;
 import com.amazon.ion.IonDatagram;
+import com.amazon.ion.IntegerSize;
+import com.amazon.ion.IonCursor;
 import com.amazon.ion.IonException;
 import com.amazon.ion.IonLoader;
 import com.amazon.ion.IonReader;
+import com.amazon.ion.IonReaderMetricsListener;
 import com.amazon.ion.IonString;
 import com.amazon.ion.IonStruct;
 import com.amazon.ion.IonSystem;
 import com.amazon.ion.IonType;
 import com.amazon.ion.IonValue;
 import com.amazon.ion.IonWriter;
+import com.amazon.ion.NonBlockingReader;
 import com.amazon.ion.OversizedValueException;
+import com.amazon.ion.PrimitiveArrayReader;
+import com.amazon.ion.RawValueSlice;
+import com.amazon.ion.RawValueSliceProvider;
+import com.amazon.ion.ResettableReader;
 import com.amazon.ion.SymbolTable;
 import com.amazon.ion.SymbolToken;
 import com.amazon.ion.SystemSymbols;
 import com.amazon.ion.TestUtils;
+import com.amazon.ion.Timestamp;
+import com.amazon.ion.TimestampPrimitivesProvider;
 import com.amazon.ion.UnknownSymbolException;
+import com.amazon.ion.Utf8TextProvider;
 import com.amazon.ion.impl.bin._Private_IonManagedBinaryWriterBuilder;
 import com.amazon.ion.impl.bin._Private_IonManagedWriter;
 import com.amazon.ion.impl.bin._Private_IonRawWriter;
 import com.amazon.ion.system.IonBinaryWriterBuilder;
+import com.amazon.ion.system.IonTextWriterBuilder;
+import com.amazon.ion.util.IonStreamUtils;
 import com.amazon.ion.system.IonReaderBuilder;
 import com.amazon.ion.system.IonSystemBuilder;
 import com.amazon.ion.system.SimpleCatalog;
@@ -40,6 +55,9 @@ import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -62,6 +80,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
@@ -376,6 +395,30 @@ public class IonReaderContinuableTopLevelBinaryTest {
         ));
     }
 
+    static ExpectationProvider<IonReaderContinuableTopLevelBinary> booleanValue(boolean expectedValue) {
+        return consumer -> consumer.accept(new Expectation<>(
+            String.format("boolean(%b)", expectedValue),
+            reader -> assertEquals(expectedValue, reader.booleanValue())
+        ));
+    }
+
+    static ExpectationProvider<IonReaderContinuableTopLevelBinary> timestampValue(Timestamp expectedValue) {
+        return consumer -> consumer.accept(new Expectation<>(
+            String.format("timestamp(%s)", expectedValue),
+            reader -> assertEquals(expectedValue, reader.timestampValue())
+        ));
+    }
+
+    static ExpectationProvider<IonReaderContinuableTopLevelBinary> nullValue(IonType expectedType) {
+        return consumer -> consumer.accept(new Expectation<>(
+            String.format("null(%s)", expectedType),
+            reader -> {
+                assertTrue(reader.isNullValue());
+                assertEquals(expectedType, reader.getType());
+            }
+        ));
+    }
+
     static ExpectationProvider<IonReaderContinuableTopLevelBinary> symbolValue(String expectedValue) {
         return consumer -> consumer.accept(new Expectation<>(
             String.format("symbol(%s)", expectedValue),
@@ -4027,4 +4070,1360 @@ public class IonReaderContinuableTopLevelBinaryTest {
         assertNull(reader.getType());
         reader.close();
     }
+
+    @ParameterizedTest(name = "constructFromBytes={0}")
+    @ValueSource(booleans = {true, false})
+    public void ion11Scalars(boolean constructFromBytes) throws Exception {
+        reader = readerFor(readerBuilder, constructFromBytes, bytes(
+            0xE0, 0x01, 0x01, 0xEA,
+            0x50, // 0
+            0x52, 0xFE, 0xFF, // -2
+            0x5C, 0x3F, 0xC0, 0x00, 0x00, // 1.5e0
+            0x5B, 0x3C, 0x00, // 1e0 (half precision)
+            0x5E, // true
+            0x63, 0xEE, 0x01, 0xFE, // 1.23
+            0x62, 0x01, 0xFE, // -0.00
+            0x71, 0xB2, 0x01, // 2020-03T
+            0x85, 'h', 'e', 'l', 'l', 'o', // "hello"
+            0x93, 's', 'y', 'm', // sym
+            0xE1, 0x04, // name
+            0xEB, 0x04, // null.timestamp
+            0xEA // null
+        ));
+        assertSequence(
+            next(IonType.INT), intValue(0),
+            next(IonType.INT), intValue(-2),
+            next(IonType.FLOAT), doubleValue(1.5),
+            next(IonType.FLOAT), doubleValue(1.0),
+            next(IonType.BOOL), booleanValue(true),
+            next(IonType.DECIMAL), decimalValue(new BigDecimal("1.23")),
+            next(IonType.DECIMAL), decimalValue(Decimal.negativeZero(2)),
+            next(IonType.TIMESTAMP), timestampValue(Timestamp.valueOf("2020-03T")),
+            next(IonType.STRING), stringValue("hello"),
+            next(IonType.SYMBOL), symbolValue("sym"),
+            next(IonType.SYMBOL), symbolValue("name"),
+            next(IonType.TIMESTAMP), nullValue(IonType.TIMESTAMP),
+            next(IonType.NULL), nullValue(IonType.NULL),
+            next(null)
+        );
+        closeAndCount();
+    }
+
+    @ParameterizedTest(name = "constructFromBytes={0}")
+    @ValueSource(booleans = {true, false})
+    public void ion11FlexSymAnnotationsAndFieldNames(boolean constructFromBytes) throws Exception {
+        reader = readerFor(readerBuilder, constructFromBytes, bytes(
+            0xE0, 0x01, 0x01, 0xEA,
+            0xE8, 0xFF, 'x', 0x09, // x::name::
+            0xDD, // struct with FlexSym field names, length 13
+                0x09, 0x51, 0x01, // name: 1
+                0xFB, 'f', 'o', 'o', 0x51, 0x02, // foo: 2
+                0x01, 0x90, 0x51, 0x03 // '': 3
+        ));
+        assertSequence(
+            next(IonType.STRUCT), annotations("x", "name"),
+            STEP_IN,
+                next(IonType.INT), fieldName("name"), intValue(1),
+                next(IonType.INT), fieldName("foo"), intValue(2),
+                next(IonType.INT), fieldName(""), intValue(3),
+                next(null),
+            STEP_OUT,
+            next(null)
+        );
+        closeAndCount();
+    }
+
+    @ParameterizedTest(name = "constructFromBytes={0}")
+    @ValueSource(booleans = {true, false})
+    public void ion11DelimitedContainers(boolean constructFromBytes) throws Exception {
+        byte[] data = bytes(
+            0xE0, 0x01, 0x01, 0xEA,
+            0xF3, // {
+                0xFB, 'f', 'o', 'o', 0xF3, // foo: {
+                    0xFB, 'b', 'a', 'r', 0xF1, 0x51, 0x01, 0xF0, // bar: [1]
+                0x01, 0xF0, // }
+                0x09, 0x51, 0x02, // name: 2
+            0x01, 0xF0, // }
+            0xF1, 0x51, 0x03, 0xEC, 0xF2, 0xF0, 0xF0, // [3, ()]
+            0x51, 0x04 // 4
+        );
+        reader = readerFor(readerBuilder, constructFromBytes, data);
+        assertSequence(
+            next(IonType.STRUCT),
+            STEP_IN,
+                next(IonType.STRUCT), fieldName("foo"),
+                STEP_IN,
+                    next(IonType.LIST), fieldName("bar"),
+                    STEP_IN, next(IonType.INT), intValue(1), next(null), STEP_OUT,
+                    next(null),
+                STEP_OUT,
+                next(IonType.INT), fieldName("name"), intValue(2),
+                next(null),
+            STEP_OUT,
+            next(IonType.LIST),
+            STEP_IN, next(IonType.INT), intValue(3), next(IonType.SEXP), next(null), STEP_OUT,
+            next(IonType.INT), intValue(4),
+            next(null)
+        );
+        closeAndCount();
+        // Skip the same containers without stepping in, and step out of them early.
+        byteCounter.set(0);
+        reader = readerFor(readerBuilder, constructFromBytes, data);
+        assertSequence(
+            next(IonType.STRUCT),
+            next(IonType.LIST),
+            STEP_IN, next(IonType.INT), STEP_OUT,
+            next(IonType.INT), intValue(4),
+            next(null)
+        );
+        closeAndCount();
+    }
+
+    @Test
+    public void ion11IncrementalDelimitedContainer() throws Exception {
+        ResizingPipedInputStream pipe = new ResizingPipedInputStream(128);
+        reader = readerFor(pipe);
+        byte[] bytes = bytes(
+            0xE0, 0x01, 0x01, 0xEA,
+            0xF3, 0xFB, 'f', 'o', 'o', 0xF1, 0x51, 0x01, 0xF0, 0x01, 0xF0 // {foo: [1]}
+        );
+        totalBytesInStream = bytes.length;
+        feedBytesOneByOne(bytes, pipe, reader);
+        assertSequence(
+            next(IonType.STRUCT),
+            STEP_IN,
+                next(IonType.LIST), fieldName("foo"),
+                STEP_IN, next(IonType.INT), intValue(1), STEP_OUT,
+            STEP_OUT,
+            next(null)
+        );
+        closeAndCount();
+    }
+
+    @ParameterizedTest(name = "constructFromBytes={0}")
+    @ValueSource(booleans = {true, false})
+    public void ion11MacroInvocationFails(boolean constructFromBytes) throws Exception {
+        reader = readerFor(readerBuilder, constructFromBytes, bytes(0xE0, 0x01, 0x01, 0xEA, 0x00));
+        assertThrows(IonException.class, () -> reader.next());
+    }
+
+    @ParameterizedTest(name = "constructFromBytes={0}")
+    @ValueSource(booleans = {true, false})
+    public void projectedFieldPaths(boolean constructFromBytes) throws Exception {
+        readerBuilder = readerBuilder.withProjectedFieldPaths("a.b[*].c", "d");
+        reader = readerFor(
+            "{a: {b: [{c: 1, x: 2}, {y: 3, c: [4]}], z: 5}, d: {e: 6}, f: 7} 8 [9] {g: 10}",
+            constructFromBytes
+        );
+        assertSequence(
+            next(IonType.STRUCT), STEP_IN,
+                next(IonType.STRUCT), fieldName("a"), STEP_IN,
+                    next(IonType.LIST), fieldName("b"), STEP_IN,
+                        next(IonType.STRUCT), STEP_IN,
+                            next(IonType.INT), fieldName("c"), intValue(1),
+                            next(null),
+                        STEP_OUT,
+                        next(IonType.STRUCT), STEP_IN,
+                            next(IonType.LIST), fieldName("c"), STEP_IN,
+                                next(IonType.INT), intValue(4),
+                                next(null),
+                            STEP_OUT,
+                            next(null),
+                        STEP_OUT,
+                        next(null),
+                    STEP_OUT,
+                    next(null),
+                STEP_OUT,
+                next(IonType.STRUCT), fieldName("d"), STEP_IN,
+                    next(IonType.INT), fieldName("e"), intValue(6),
+                    next(null),
+                STEP_OUT,
+                next(null),
+            STEP_OUT,
+            next(IonType.INT), intValue(8),
+            next(IonType.LIST), STEP_IN, next(null), STEP_OUT,
+            next(IonType.STRUCT), STEP_IN, next(null), STEP_OUT,
+            next(null)
+        );
+        closeAndCount();
+    }
+
+    @ParameterizedTest(name = "constructFromBytes={0}")
+    @ValueSource(booleans = {true, false})
+    public void projectedFieldPathsResolvedPerSymbolTable(boolean constructFromBytes) throws Exception {
+        readerBuilder = readerBuilder.withProjectedFieldPaths("foo");
+        // The IVM between the two values resets the symbol table, so the local symbol IDs of 'foo' and 'bar' swap.
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(toBinary("{foo: 1, bar: 2}"));
+        out.write(toBinary("{bar: 3, foo: 4}"));
+        reader = readerFor(readerBuilder, constructFromBytes, out.toByteArray());
+        assertSequence(
+            next(IonType.STRUCT), STEP_IN,
+                next(IonType.INT), fieldName("foo"), intValue(1),
+                next(null),
+            STEP_OUT,
+            next(IonType.STRUCT), STEP_IN,
+                next(IonType.INT), fieldName("foo"), intValue(4),
+                next(null),
+            STEP_OUT,
+            next(null)
+        );
+        closeAndCount();
+    }
+
+    @Test
+    public void malformedProjectedFieldPathFails() {
+        readerBuilder = readerBuilder.withProjectedFieldPaths("a..b");
+        assertThrows(IllegalArgumentException.class, () -> readerFor("{a: 1}", true));
+    }
+
+    private static byte[] utf8(String text) {
+        return text.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String utf8(ByteBuffer bytes) {
+        byte[] copy = new byte[bytes.remaining()];
+        bytes.duplicate().get(copy);
+        return new String(copy, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Asserts that the Utf8TextProvider views of the current value's text and field name match the reader's Strings.
+     */
+    private static void assertUtf8Text(Utf8TextProvider text, IonReader reader) {
+        String expected = reader.stringValue();
+        assertTrue(text.textValueEquals(utf8(expected)));
+        assertFalse(text.textValueEquals(utf8(expected + "x")));
+        StringBuilder builder = new StringBuilder("prefix");
+        assertTrue(text.appendTextValue(builder));
+        assertEquals("prefix" + expected, builder.toString());
+        char[] chars = new char[expected.length() + 1];
+        assertEquals(expected.length(), text.copyTextValue(chars, 1));
+        assertEquals(expected, new String(chars, 1, expected.length()));
+        assertThrows(IndexOutOfBoundsException.class, () -> text.copyTextValue(new char[expected.length() - 1], 0));
+        ByteBuffer bytes = text.textValueBytes();
+        assertTrue(bytes.isReadOnly());
+        assertEquals(expected, utf8(bytes));
+        String fieldName = reader.getFieldName();
+        assertTrue(text.fieldNameEquals(utf8(fieldName)));
+        assertFalse(text.fieldNameEquals(utf8("x" + fieldName)));
+        assertEquals(fieldName, utf8(text.fieldNameBytes()));
+    }
+
+    @ParameterizedTest(name = "constructFromBytes={0}")
+    @ValueSource(booleans = {true, false})
+    public void utf8TextProvider(boolean constructFromBytes) throws Exception {
+        reader = readerFor("{abc: \"d\u00e9f\", ghi: jkl, mno: null.string, pqr: null.symbol, stu: 1} \"\ud83d\ude00\"", constructFromBytes);
+        Utf8TextProvider text = reader.asFacet(Utf8TextProvider.class);
+        assertNotNull(text);
+        assertEquals(IonType.STRUCT, reader.next());
+        assertNull(text.fieldNameBytes());
+        assertFalse(text.fieldNameEquals(utf8("")));
+        reader.stepIn();
+        assertEquals(IonType.STRING, reader.next());
+        assertUtf8Text(text, reader);
+        assertEquals(IonType.SYMBOL, reader.next());
+        assertUtf8Text(text, reader);
+        assertEquals(IonType.STRING, reader.next());
+        assertFalse(text.textValueEquals(utf8("")));
+        assertFalse(text.appendTextValue(new StringBuilder()));
+        assertEquals(-1, text.copyTextValue(new char[0], 0));
+        assertNull(text.textValueBytes());
+        assertEquals(IonType.SYMBOL, reader.next());
+        assertNull(text.textValueBytes());
+        assertEquals(IonType.INT, reader.next());
+        assertThrows(IllegalStateException.class, () -> text.textValueEquals(utf8("1")));
+        assertTrue(text.fieldNameEquals(utf8("stu")));
+        reader.stepOut();
+        assertEquals(IonType.STRING, reader.next());
+        assertTrue(text.textValueEquals(utf8("\ud83d\ude00")));
+        char[] chars = new char[4];
+        assertEquals(2, text.copyTextValue(chars, 0));
+        assertEquals("\ud83d\ude00", new String(chars, 0, 2));
+        assertNull(reader.next());
+        closeAndCount();
+    }
+
+    @ParameterizedTest(name = "constructFromBytes={0}")
+    @ValueSource(booleans = {true, false})
+    public void utf8TextProviderResolvesSymbolsPerSymbolTable(boolean constructFromBytes) throws Exception {
+        // The IVM between the two values resets the symbol table, so the same local symbol ID maps to different text.
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(toBinary("{foo: bar}"));
+        out.write(toBinary("{baz: qux}"));
+        reader = readerFor(readerBuilder, constructFromBytes, out.toByteArray());
+        Utf8TextProvider text = reader.asFacet(Utf8TextProvider.class);
+        assertEquals(IonType.STRUCT, reader.next());
+        reader.stepIn();
+        assertEquals(IonType.SYMBOL, reader.next());
+        assertUtf8Text(text, reader);
+        reader.stepOut();
+        assertEquals(IonType.STRUCT, reader.next());
+        reader.stepIn();
+        assertEquals(IonType.SYMBOL, reader.next());
+        assertUtf8Text(text, reader);
+        assertFalse(text.fieldNameEquals(utf8("foo")));
+        assertFalse(text.textValueEquals(utf8("bar")));
+        reader.stepOut();
+        assertNull(reader.next());
+        closeAndCount();
+    }
+
+    @ParameterizedTest(name = "constructFromBytes={0}")
+    @ValueSource(booleans = {true, false})
+    public void utf8TextProviderIon11InlineText(boolean constructFromBytes) throws Exception {
+        reader = readerFor(readerBuilder, constructFromBytes, bytes(
+            0xE0, 0x01, 0x01, 0xEA,
+            0xDC, // struct with FlexSym field names, length 12
+                0xFB, 'f', 'o', 'o', 0x82, 'h', 'i', // foo: "hi"
+                0x09, 0x93, 's', 'y', 'm' // name: sym
+        ));
+        Utf8TextProvider text = reader.asFacet(Utf8TextProvider.class);
+        assertEquals(IonType.STRUCT, reader.next());
+        reader.stepIn();
+        assertEquals(IonType.STRING, reader.next());
+        assertUtf8Text(text, reader);
+        assertEquals(IonType.SYMBOL, reader.next());
+        assertUtf8Text(text, reader);
+        reader.stepOut();
+        assertNull(reader.next());
+        closeAndCount();
+    }
+
+    private static void reset(IonReader reader, boolean resetFromBytes, byte[] data) {
+        ResettableReader resettable = reader.asFacet(ResettableReader.class);
+        assertNotNull(resettable);
+        if (resetFromBytes) {
+            // Surround the data with padding to verify that the offset and length are respected.
+            byte[] padded = new byte[data.length + 4];
+            System.arraycopy(data, 0, padded, 2, data.length);
+            resettable.reset(padded, 2, data.length);
+        } else {
+            resettable.reset(new ByteArrayInputStream(data));
+        }
+    }
+
+    @ParameterizedTest(name = "constructFromBytes={0}, resetFromBytes={1}")
+    @CsvSource({"true, true", "true, false", "false, true", "false, false"})
+    public void resetReader(boolean constructFromBytes, boolean resetFromBytes) throws Exception {
+        reader = readerFor("{foo: bar, baz: [1, 2]} qux", constructFromBytes);
+        // Abandon the first stream while positioned within a container.
+        assertSequence(
+            next(IonType.STRUCT), STEP_IN,
+                next(IonType.SYMBOL), fieldName("foo"),
+                next(IonType.LIST), fieldName("baz"), STEP_IN,
+                    next(IonType.INT), intValue(1)
+        );
+        // The second stream has a different symbol table, so symbol IDs resolve to different text.
+        reset(reader, resetFromBytes, toBinary("{abc: def} ghi"));
+        assertSequence(
+            next(IonType.STRUCT), STEP_IN,
+                next(IonType.SYMBOL), fieldName("abc"), symbolValue("def"),
+                next(null),
+            STEP_OUT,
+            next(IonType.SYMBOL), symbolValue("ghi"),
+            next(null)
+        );
+        assertEquals(0, reader.getDepth());
+        // Symbols in the third stream are resolved using only the system symbol table.
+        reset(reader, resetFromBytes, bytes(0xE0, 0x01, 0x00, 0xEA, 0x71, 0x04, 0x21, 0x01));
+        assertSequence(
+            next(IonType.SYMBOL), symbolValue("name"),
+            next(IonType.INT), intValue(1),
+            next(null)
+        );
+        reader.close();
+    }
+
+    @ParameterizedTest(name = "resetFromBytes={0}")
+    @ValueSource(booleans = {true, false})
+    public void resetIon11Reader(boolean resetFromBytes) throws Exception {
+        reader = readerFor("1", true);
+        reset(reader, resetFromBytes, bytes(0xE0, 0x01, 0x01, 0xEA, 0x85, 'h', 'e', 'l', 'l', 'o'));
+        assertSequence(
+            next(IonType.STRING), stringValue("hello"),
+            next(null)
+        );
+        reset(reader, resetFromBytes, toBinary("2"));
+        assertSequence(
+            next(IonType.INT), intValue(2),
+            next(null)
+        );
+        reader.close();
+    }
+
+    @Test
+    public void resetClosesPreviousStreamAndRejectsClosedReader() throws Exception {
+        AtomicInteger closeCount = new AtomicInteger();
+        InputStream input = new ByteArrayInputStream(toBinary("1")) {
+            @Override
+            public void close() {
+                closeCount.incrementAndGet();
+            }
+        };
+        reader = new IonReaderContinuableTopLevelBinary(readerBuilder, input, null, 0, 0);
+        ResettableReader resettable = reader.asFacet(ResettableReader.class);
+        resettable.reset(toBinary("2"), 0, toBinary("2").length);
+        assertEquals(1, closeCount.get());
+        assertSequence(next(IonType.INT), intValue(2), next(null));
+        reader.close();
+        assertThrows(IllegalStateException.class, () -> resettable.reset(toBinary("3"), 0, 4));
+    }
+
+    @Test
+    public void nonBlockingReaderFedOneByteAtATime() throws Exception {
+        byte[] data = toBinary("{foo: bar} [1, baz] qux");
+        reader = readerBuilder.buildNonBlocking();
+        NonBlockingReader feed = reader.asFacet(NonBlockingReader.class);
+        assertNotNull(feed);
+        List<String> values = new ArrayList<>();
+        for (byte b : data) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(1);
+            buffer.put(b).flip();
+            feed.feed(buffer);
+            IonCursor.Event event;
+            while ((event = feed.nextValue()) != IonCursor.Event.NEEDS_DATA) {
+                if (event == IonCursor.Event.START_CONTAINER) {
+                    reader.stepIn();
+                    while ((event = feed.nextValue()) != IonCursor.Event.END_CONTAINER) {
+                        assertEquals(IonCursor.Event.START_SCALAR, event);
+                        values.add(reader.getType() == IonType.INT ? Integer.toString(reader.intValue()) : reader.stringValue());
+                    }
+                    reader.stepOut();
+                } else {
+                    assertEquals(IonCursor.Event.START_SCALAR, event);
+                    values.add(reader.stringValue());
+                }
+            }
+            assertFalse(buffer.hasRemaining());
+        }
+        assertEquals(Arrays.asList("bar", "1", "baz", "qux"), values);
+        reader.close();
+    }
+
+    @Test
+    public void nonBlockingReaderFedMultipleBuffersAtOnce() throws Exception {
+        byte[] data = toBinary("abc 123 \"def\"");
+        reader = readerBuilder.buildNonBlocking();
+        NonBlockingReader feed = reader.asFacet(NonBlockingReader.class);
+        assertEquals(IonCursor.Event.NEEDS_DATA, feed.nextValue());
+        ByteBuffer first = ByteBuffer.wrap(data, 0, data.length / 2).slice();
+        ByteBuffer second = ByteBuffer.wrap(data, data.length / 2, data.length - data.length / 2).slice();
+        feed.feed(first);
+        feed.feed(second);
+        assertEquals(IonCursor.Event.START_SCALAR, feed.nextValue());
+        assertEquals("abc", reader.symbolValue().getText());
+        assertEquals(IonCursor.Event.START_SCALAR, feed.nextValue());
+        assertEquals(123, reader.intValue());
+        assertEquals(IonCursor.Event.START_SCALAR, feed.nextValue());
+        assertEquals("def", reader.stringValue());
+        assertEquals(IonCursor.Event.NEEDS_DATA, feed.nextValue());
+        assertFalse(first.hasRemaining());
+        assertFalse(second.hasRemaining());
+        reader.close();
+    }
+
+    @Test
+    public void nonBlockingReaderCloseWithIncompleteValueFails() throws Exception {
+        byte[] data = toBinary("\"abcdef\"");
+        reader = readerBuilder.buildNonBlocking();
+        NonBlockingReader feed = reader.asFacet(NonBlockingReader.class);
+        feed.feed(ByteBuffer.wrap(data, 0, data.length - 1));
+        assertEquals(IonCursor.Event.NEEDS_DATA, feed.nextValue());
+        assertThrows(IonException.class, () -> reader.close());
+    }
+
+    @ParameterizedTest(name = "chunkSize={0}")
+    @ValueSource(ints = {1, 2, 3, 7})
+    public void nonBlockingReaderFedSmallChunksOfRealisticData(int chunkSize) throws Exception {
+        // Several symbol tables, including appended ones, each followed immediately by containers of varying size.
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (int stream = 0; stream < 2; stream++) {
+            try (IonWriter writer = IonBinaryWriterBuilder.standard().withLocalSymbolTableAppendEnabled().build(out)) {
+                for (int i = 0; i < 5; i++) {
+                    writer.setTypeAnnotations("annotation" + stream + "_" + i);
+                    writer.stepIn(IonType.STRUCT);
+                    writer.setFieldName("field" + stream + "_" + i);
+                    writer.stepIn(IonType.LIST);
+                    for (int j = 0; j < i * 3; j++) {
+                        writer.writeSymbol("symbol" + j);
+                        writer.writeString("a string value that makes the list long " + j);
+                    }
+                    writer.stepOut();
+                    writer.setFieldName("nested");
+                    writer.stepIn(IonType.SEXP);
+                    writer.writeInt(i);
+                    writer.stepOut();
+                    writer.stepOut();
+                    writer.flush();
+                }
+            }
+        }
+        byte[] data = out.toByteArray();
+        IonDatagram expected = SYSTEM.getLoader().load(data);
+        reader = readerBuilder.buildNonBlocking();
+        NonBlockingReader feed = reader.asFacet(NonBlockingReader.class);
+        List<IonValue> actual = new ArrayList<>();
+        for (int i = 0; i < data.length; i += chunkSize) {
+            feed.feed(ByteBuffer.wrap(data, i, Math.min(chunkSize, data.length - i)));
+            IonCursor.Event event;
+            while ((event = feed.nextValue()) != IonCursor.Event.NEEDS_DATA) {
+                assertEquals(IonCursor.Event.START_CONTAINER, event);
+                // The entire container is available.
+                actual.add(SYSTEM.newValue(reader));
+            }
+        }
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < actual.size(); i++) {
+            assertEquals(expected.get(i), actual.get(i));
+        }
+        reader.close();
+    }
+
+    @Test
+    public void buildNonBlockingDoesNotModifyTheBuilder() throws Exception {
+        IonReaderBuilder builder = IonReaderBuilder.standard();
+        assertFalse(builder.isIncrementalReadingEnabled());
+        reader = builder.buildNonBlocking();
+        reader.close();
+        assertFalse(builder.isIncrementalReadingEnabled());
+        reader = builder.build(toBinary("1"));
+        assertNull(reader.asFacet(NonBlockingReader.class));
+        assertSequence(next(IonType.INT), intValue(1), next(null));
+        reader.close();
+    }
+
+    @Test
+    public void nonBlockingReaderFacetUnavailableForOtherReaders() throws Exception {
+        reader = readerFor("1", false);
+        assertNull(reader.asFacet(NonBlockingReader.class));
+        reader.close();
+    }
+
+    @ParameterizedTest(name = "constructFromBytes={0}")
+    @ValueSource(booleans = {true, false})
+    public void primitiveArrayReaderReadsLongsUntilMismatch(boolean constructFromBytes) throws Exception {
+        reader = readerFor(
+            "[1, -2, 9223372036854775807, -9223372036854775808, null.int, 3, a::4, 5, 18446744073709551616, 6, \"seven\"]",
+            constructFromBytes
+        );
+        PrimitiveArrayReader arrays = reader.asFacet(PrimitiveArrayReader.class);
+        assertNotNull(arrays);
+        long[] values = new long[16];
+        assertEquals(IonType.LIST, reader.next());
+        reader.stepIn();
+        assertEquals(4, arrays.readLongs(values, 1, 15));
+        assertArrayEquals(new long[] {0, 1, -2, Long.MAX_VALUE, Long.MIN_VALUE}, Arrays.copyOf(values, 5));
+        assertEquals(IonType.INT, reader.getType());
+        assertTrue(reader.isNullValue());
+        assertEquals(1, arrays.readLongs(values, 0, 16));
+        assertEquals(3, values[0]);
+        assertEquals(IonType.INT, reader.getType());
+        assertEquals(1, reader.getTypeAnnotations().length);
+        assertEquals(1, arrays.readLongs(values, 0, 16));
+        assertEquals(5, values[0]);
+        assertEquals(IntegerSize.BIG_INTEGER, reader.getIntegerSize());
+        assertEquals(1, arrays.readLongs(values, 0, 16));
+        assertEquals(6, values[0]);
+        assertEquals(IonType.STRING, reader.getType());
+        assertEquals(0, arrays.readLongs(values, 0, 16));
+        assertNull(reader.getType());
+        reader.stepOut();
+        assertNull(reader.next());
+        reader.close();
+    }
+
+    @ParameterizedTest(name = "constructFromBytes={0}")
+    @ValueSource(booleans = {true, false})
+    public void primitiveArrayReaderReadsIntsInChunks(boolean constructFromBytes) throws Exception {
+        reader = readerFor("(1 2 3 4 5 2147483648 6) 7", constructFromBytes);
+        PrimitiveArrayReader arrays = reader.asFacet(PrimitiveArrayReader.class);
+        int[] values = new int[2];
+        assertEquals(IonType.SEXP, reader.next());
+        reader.stepIn();
+        assertEquals(2, arrays.readInts(values, 0, 2));
+        assertArrayEquals(new int[] {1, 2}, values);
+        assertEquals(2, arrays.readInts(values, 0, 2));
+        assertArrayEquals(new int[] {3, 4}, values);
+        // Values may be interleaved with calls to next().
+        assertEquals(IonType.INT, reader.next());
+        assertEquals(5, reader.intValue());
+        assertEquals(0, arrays.readInts(values, 0, 2));
+        assertEquals(IntegerSize.LONG, reader.getIntegerSize());
+        assertEquals(1, arrays.readInts(values, 1, 1));
+        assertEquals(6, values[1]);
+        assertNull(reader.next());
+        reader.stepOut();
+        assertEquals(IonType.INT, reader.next());
+        assertEquals(7, reader.intValue());
+        reader.close();
+    }
+
+    @ParameterizedTest(name = "constructFromBytes={0}")
+    @ValueSource(booleans = {true, false})
+    public void primitiveArrayReaderReadsFloats(boolean constructFromBytes) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (IonWriter writer = IonBinaryWriterBuilder.standard().build(out)) {
+            IonStreamUtils.writeFloatList(writer, new float[] {1.5f, -2.25f});
+            IonStreamUtils.writeFloatList(writer, new double[] {0.0, Math.PI, Double.NEGATIVE_INFINITY});
+        }
+        reader = readerFor(readerBuilder, constructFromBytes, out.toByteArray());
+        PrimitiveArrayReader arrays = reader.asFacet(PrimitiveArrayReader.class);
+        float[] floats = new float[4];
+        double[] doubles = new double[4];
+        reader.next();
+        reader.stepIn();
+        assertEquals(2, arrays.readFloats(floats, 0, 4));
+        assertArrayEquals(new float[] {1.5f, -2.25f, 0f, 0f}, floats);
+        reader.stepOut();
+        reader.next();
+        reader.stepIn();
+        assertEquals(3, arrays.readDoubles(doubles, 1, 3));
+        assertArrayEquals(new double[] {0.0, 0.0, Math.PI, Double.NEGATIVE_INFINITY}, doubles);
+        assertNull(reader.next());
+        reader.stepOut();
+        assertNull(reader.next());
+        assertThrows(IndexOutOfBoundsException.class, () -> arrays.readDoubles(doubles, 2, 3));
+        reader.close();
+    }
+
+    @ParameterizedTest(name = "constructFromBytes={0}")
+    @ValueSource(booleans = {true, false})
+    public void primitiveArrayReaderReadsIon11(boolean constructFromBytes) throws Exception {
+        byte[] data = bytes(
+            0xE0, 0x01, 0x01, 0xEA,
+            0xAB, // List, length 11
+            0x51, 0xFF, // -1
+            0x52, 0x00, 0x01, // 256
+            0x50, // 0
+            0x5C, 0x3F, 0xC0, 0x00, 0x00 // 1.5f
+        );
+        reader = readerFor(readerBuilder, constructFromBytes, data);
+        PrimitiveArrayReader arrays = reader.asFacet(PrimitiveArrayReader.class);
+        long[] values = new long[4];
+        assertEquals(IonType.LIST, reader.next());
+        reader.stepIn();
+        assertEquals(3, arrays.readLongs(values, 0, 4));
+        assertArrayEquals(new long[] {-1, 256, 0, 0}, values);
+        assertEquals(IonType.FLOAT, reader.getType());
+        assertEquals(1.5, reader.doubleValue(), 0);
+        reader.stepOut();
+        assertNull(reader.next());
+        reader.close();
+    }
+
+    private static void assertTimestampPrimitivesMatch(IonReader reader) {
+        TimestampPrimitivesProvider primitives = reader.asFacet(TimestampPrimitivesProvider.class);
+        Timestamp expected = reader.timestampValue();
+        assertEquals(expected.getMillis(), primitives.timestampEpochMillis());
+        assertEquals(expected.getPrecision(), primitives.timestampPrecision());
+        assertEquals(
+            expected.getDecimalMillis().movePointRight(6).setScale(0, RoundingMode.FLOOR).longValueExact(),
+            primitives.timestampEpochNanos()
+        );
+    }
+
+    @ParameterizedTest(name = "constructFromBytes={0}")
+    @ValueSource(booleans = {true, false})
+    public void timestampPrimitives(boolean constructFromBytes) throws Exception {
+        String[] timestamps = {
+            "1970T",
+            "2024-02T",
+            "2024-02-29",
+            "1969-12-31T23:59-00:00",
+            "2000-03-01T00:00+05:30",
+            "2023-10-15T11:22:33-08:00",
+            "2023-10-15T11:22:33.1Z",
+            "2023-10-15T11:22:33.123456789+01:15",
+            "2023-10-15T11:22:33.12345678912345-00:00",
+            "1900-01-01T00:00:00.000Z",
+            "1969-12-31T23:59:59.9995Z",
+            "2262-04-11T23:47:16.854775807Z",
+        };
+        reader = readerFor(String.join(" ", timestamps), constructFromBytes);
+        for (String timestamp : timestamps) {
+            assertEquals(IonType.TIMESTAMP, reader.next(), timestamp);
+            assertTimestampPrimitivesMatch(reader);
+        }
+        assertNull(reader.next());
+        reader.close();
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @CsvSource({
+        "2023T,                                01110000 00110101",
+        "2023-10-15T,                          01110010 00110101 01111101",
+        "2023-10-15T11:22:33.444555-00:00,     01110110 00110101 01111101 11001011 00010010 00101110 00100010 00011011",
+        "2023-10-15T11:22:33+01:15,            01111001 00110101 01111101 11001011 11101010 10000101",
+        "2023-10-15T11:22:33.999+01:15,        01111010 00110101 01111101 11001011 11101010 10000101 11100111 00000011",
+    })
+    public void timestampPrimitivesIon11(String expected, String bits) throws Exception {
+        String[] octets = bits.trim().split(" ");
+        byte[] data = new byte[4 + octets.length];
+        data[0] = (byte) 0xE0;
+        data[1] = 0x01;
+        data[2] = 0x01;
+        data[3] = (byte) 0xEA;
+        for (int i = 0; i < octets.length; i++) {
+            data[4 + i] = (byte) Integer.parseInt(octets[i], 2);
+        }
+        reader = readerFor(readerBuilder, true, data);
+        assertEquals(IonType.TIMESTAMP, reader.next());
+        assertEquals(Timestamp.valueOf(expected), reader.timestampValue());
+        assertTimestampPrimitivesMatch(reader);
+        reader.close();
+    }
+
+    @ParameterizedTest(name = "constructFromBytes={0}")
+    @ValueSource(booleans = {true, false})
+    public void timestampPrimitivesBeforeGregorianCutover(boolean constructFromBytes) throws Exception {
+        // Before 1582-10-15, Timestamp.getMillis() interprets dates in the Julian calendar.
+        String[] timestamps = {
+            "0001-01-01T00:00Z",
+            "0100-03-01T",
+            "1000-06-15T12:00Z",
+            "1500-03-01T00:30+01:00",
+            "1582-10-04T23:59:59.999Z",
+            "1582-10-10T",
+            "1582-10-15T00:00Z",
+            "1582-10-15T00:30+01:00",
+        };
+        reader = readerFor(String.join(" ", timestamps), constructFromBytes);
+        TimestampPrimitivesProvider primitives = reader.asFacet(TimestampPrimitivesProvider.class);
+        for (String timestamp : timestamps) {
+            assertEquals(IonType.TIMESTAMP, reader.next(), timestamp);
+            assertEquals(Timestamp.valueOf(timestamp).getMillis(), primitives.timestampEpochMillis(), timestamp);
+        }
+        assertNull(reader.next());
+        reader.close();
+    }
+
+    @ParameterizedTest(name = "constructFromBytes={0}")
+    @ValueSource(booleans = {true, false})
+    public void ion11TimestampWithLongFractionalSeconds(boolean constructFromBytes) throws Exception {
+        // Fraction coefficients longer than eight bytes use the long form, in which the coefficient is a FlexUInt.
+        Timestamp[] timestamps = {
+            Timestamp.valueOf("2023-10-15T11:22:33.9999999999999999999Z"),
+            Timestamp.valueOf("2023-10-15T11:22:33.999999999999999999999Z"),
+            Timestamp.valueOf("2023-10-15T11:22:33.12345678901234567890123-07:00"),
+            Timestamp.valueOf("1500-10-15T11:22:33.99999999999999999999999999999+01:00"),
+        };
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (IonWriter writer = IonBinaryWriterBuilder.standard().withIon_1_1Enabled(true).build(out)) {
+            for (Timestamp timestamp : timestamps) {
+                writer.writeTimestamp(timestamp);
+            }
+        }
+        reader = readerFor(readerBuilder, constructFromBytes, out.toByteArray());
+        TimestampPrimitivesProvider primitives = reader.asFacet(TimestampPrimitivesProvider.class);
+        for (Timestamp timestamp : timestamps) {
+            assertEquals(IonType.TIMESTAMP, reader.next());
+            assertEquals(timestamp, reader.timestampValue());
+            assertEquals(timestamp.getMillis(), primitives.timestampEpochMillis());
+            assertEquals(timestamp.getPrecision(), primitives.timestampPrecision());
+        }
+        assertNull(reader.next());
+        reader.close();
+    }
+
+    @Test
+    public void timestampPrimitivesRequireNonNullTimestamp() throws Exception {
+        reader = readerFor("null.timestamp 123 1677-01-01T", true);
+        TimestampPrimitivesProvider primitives = reader.asFacet(TimestampPrimitivesProvider.class);
+        assertEquals(IonType.TIMESTAMP, reader.next());
+        assertThrows(IllegalStateException.class, primitives::timestampEpochMillis);
+        assertEquals(IonType.INT, reader.next());
+        assertThrows(IllegalStateException.class, primitives::timestampPrecision);
+        assertEquals(IonType.TIMESTAMP, reader.next());
+        assertEquals(Timestamp.valueOf("1677-01-01T").getMillis(), primitives.timestampEpochMillis());
+        assertThrows(ArithmeticException.class, primitives::timestampEpochNanos);
+        reader.close();
+    }
+
+    private static void assertDecimalPrimitivesMatch(IonReader reader) {
+        DecimalPrimitivesProvider primitives = reader.asFacet(DecimalPrimitivesProvider.class);
+        Decimal expected = reader.decimalValue();
+        boolean fitsInLong = !expected.isNegativeZero() && expected.unscaledValue().bitLength() < Long.SIZE;
+        assertEquals(fitsInLong, primitives.decimalFitsInLong());
+        assertEquals(expected.scale(), primitives.decimalScale());
+        if (fitsInLong) {
+            assertEquals(expected.unscaledValue().longValueExact(), primitives.decimalUnscaledValue());
+        } else {
+            assertThrows(ArithmeticException.class, primitives::decimalUnscaledValue);
+        }
+    }
+
+    @ParameterizedTest(name = "constructFromBytes={0}")
+    @ValueSource(booleans = {true, false})
+    public void decimalPrimitives(boolean constructFromBytes) throws Exception {
+        String[] decimals = {
+            "0.",
+            "0.00",
+            "0d3",
+            "-0.",
+            "-0.000",
+            "12.34",
+            "-12.34",
+            "1d3",
+            "-7d-20",
+            "9223372036854775807.",
+            "-9223372036854775808d-2",
+            "9223372036854775808.",
+            "-9223372036854775809d1",
+            "123456789012345678901234567890d-10",
+        };
+        reader = readerFor(String.join(" ", decimals), constructFromBytes);
+        for (String decimal : decimals) {
+            assertEquals(IonType.DECIMAL, reader.next(), decimal);
+            assertDecimalPrimitivesMatch(reader);
+            assertTrue(Decimal.equals(Decimal.valueOf(decimal.replace('d', 'e')), reader.decimalValue()), decimal);
+        }
+        assertNull(reader.next());
+        reader.close();
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @CsvSource({
+        "0.,                          60",
+        "0.00,                        6F FD",
+        "-0e3,                        62 01 03",
+        "1.27,                        63 FE 01 FE",
+        "3.14159265359,               67 E0 93 7D 56 49 12 F5",
+        "3.1415926535897932,          69 80 4C 43 76 65 9E 9C 6F F0",
+        "3.1415926535897932384626434, 6E 00 50 E0 DC F7 CC D6 08 48 99 92 3F 03 E7",
+    })
+    public void decimalPrimitivesIon11(String expected, String hex) throws Exception {
+        String[] octets = hex.trim().split(" ");
+        byte[] data = new byte[4 + octets.length];
+        data[0] = (byte) 0xE0;
+        data[1] = 0x01;
+        data[2] = 0x01;
+        data[3] = (byte) 0xEA;
+        for (int i = 0; i < octets.length; i++) {
+            data[4 + i] = (byte) Integer.parseInt(octets[i], 16);
+        }
+        reader = readerFor(readerBuilder, true, data);
+        assertEquals(IonType.DECIMAL, reader.next());
+        assertTrue(Decimal.equals(Decimal.valueOf(expected), reader.decimalValue()));
+        assertDecimalPrimitivesMatch(reader);
+        reader.close();
+    }
+
+    @ParameterizedTest(name = "constructFromBytes={0}")
+    @ValueSource(booleans = {true, false})
+    public void decimalPrimitivesIon11NearLongLimits(boolean constructFromBytes) throws Exception {
+        // Coefficients with magnitudes of at least 2^62 require ten-byte FlexInts.
+        long[] longCoefficients = {
+            Long.MAX_VALUE,
+            Long.MIN_VALUE,
+            Long.MAX_VALUE - 1,
+            Long.MIN_VALUE + 1,
+            1L << 62,
+            -(1L << 62),
+            (1L << 62) - 1,
+            -(1L << 62) - 1,
+        };
+        String[] bigCoefficients = {"9223372036854775808", "-9223372036854775809", "-18446744073709551616"};
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        IonWriter writer = IonBinaryWriterBuilder.standard().withIon_1_1Enabled(true).build(out);
+        for (long coefficient : longCoefficients) {
+            IonStreamUtils.writeDecimal(writer, coefficient, 2);
+        }
+        for (String coefficient : bigCoefficients) {
+            writer.writeDecimal(new BigDecimal(new BigInteger(coefficient), -3));
+        }
+        writer.close();
+        reader = readerFor(readerBuilder, constructFromBytes, out.toByteArray());
+        DecimalPrimitivesProvider primitives = reader.asFacet(DecimalPrimitivesProvider.class);
+        for (long coefficient : longCoefficients) {
+            assertEquals(IonType.DECIMAL, reader.next());
+            assertTrue(primitives.decimalFitsInLong());
+            assertEquals(coefficient, primitives.decimalUnscaledValue());
+            assertEquals(2, primitives.decimalScale());
+            assertEquals(BigDecimal.valueOf(coefficient, 2), reader.bigDecimalValue());
+            assertDecimalPrimitivesMatch(reader);
+        }
+        for (String coefficient : bigCoefficients) {
+            assertEquals(IonType.DECIMAL, reader.next());
+            assertFalse(primitives.decimalFitsInLong());
+            assertEquals(new BigDecimal(new BigInteger(coefficient), -3), reader.bigDecimalValue());
+            assertDecimalPrimitivesMatch(reader);
+        }
+        assertNull(reader.next());
+        reader.close();
+    }
+
+    @Test
+    public void decimalPrimitivesRequireNonNullDecimal() throws Exception {
+        reader = readerFor("null.decimal 123 1.5", true);
+        DecimalPrimitivesProvider primitives = reader.asFacet(DecimalPrimitivesProvider.class);
+        assertEquals(IonType.DECIMAL, reader.next());
+        assertThrows(IllegalStateException.class, primitives::decimalFitsInLong);
+        assertEquals(IonType.INT, reader.next());
+        assertThrows(IllegalStateException.class, primitives::decimalScale);
+        assertEquals(IonType.DECIMAL, reader.next());
+        assertEquals(15, primitives.decimalUnscaledValue());
+        assertEquals(1, primitives.decimalScale());
+        reader.close();
+    }
+
+    /**
+     * An IonReaderMetricsListener that accumulates the notifications it receives.
+     */
+    private static class AccumulatingMetricsListener implements IonReaderMetricsListener {
+        long bytesRefilled = 0;
+        int bufferGrowths = 0;
+        int bufferCapacity = 0;
+        long oversizedBytesSkipped = 0;
+        int oversizedValuesSkipped = 0;
+        final List<String> localSymbolTables = new ArrayList<>();
+        long bytesConsumed = 0;
+        final List<IonType> values = new ArrayList<>();
+
+        @Override
+        public void onRefill(int numberOfBytes) {
+            bytesRefilled += numberOfBytes;
+        }
+
+        @Override
+        public void onBufferGrowth(int previousCapacity, int newCapacity) {
+            assertTrue(newCapacity > previousCapacity);
+            bufferGrowths++;
+            bufferCapacity = newCapacity;
+        }
+
+        @Override
+        public void onOversizedValueSkipped(long numberOfBytes) {
+            oversizedValuesSkipped++;
+            oversizedBytesSkipped += numberOfBytes;
+        }
+
+        @Override
+        public void onLocalSymbolTable(int numberOfSymbolsAdded, boolean isAppend) {
+            localSymbolTables.add((isAppend ? "append " : "replace ") + numberOfSymbolsAdded);
+        }
+
+        @Override
+        public void onBytesConsumed(int numberOfBytes) {
+            bytesConsumed += numberOfBytes;
+        }
+
+        @Override
+        public void onValue(IonType type) {
+            values.add(type);
+        }
+    }
+
+    @ParameterizedTest(name = "constructFromBytes={0}")
+    @ValueSource(booleans = {true, false})
+    public void metricsListener(boolean constructFromBytes) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        IonWriter writer = writerBuilder.withLocalSymbolTableAppendEnabled().build(out);
+        writer.stepIn(IonType.STRUCT);
+        writer.setFieldName("foo");
+        writer.writeString("abcdefghijklmnopqrstuvwxyz");
+        writer.setFieldName("bar");
+        writer.stepIn(IonType.LIST);
+        writer.writeInt(1);
+        writer.writeInt(2);
+        writer.stepOut();
+        writer.stepOut();
+        writer.flush();
+        writer.writeSymbol("baz");
+        writer.close();
+        byte[] data = out.toByteArray();
+
+        AccumulatingMetricsListener metrics = new AccumulatingMetricsListener();
+        setBufferBounds(8, Integer.MAX_VALUE, byteCountingHandler);
+        readerBuilder = readerBuilder.withMetricsListener(metrics);
+        reader = readerFor(readerBuilder, constructFromBytes, data);
+        assertSequence(
+            container(IonType.STRUCT,
+                next("foo", IonType.STRING), stringValue("abcdefghijklmnopqrstuvwxyz"),
+                next("bar", IonType.LIST), STEP_IN,
+                    next(IonType.INT), intValue(1),
+                    next(IonType.INT), intValue(2),
+                    next(null),
+                STEP_OUT,
+                next(null)
+            ),
+            next(IonType.SYMBOL), symbolValue("baz"),
+            next(null)
+        );
+        reader.close();
+        assertBytesConsumed();
+        assertEquals(data.length, metrics.bytesConsumed);
+        assertEquals(
+            Arrays.asList(IonType.STRUCT, IonType.STRING, IonType.LIST, IonType.INT, IonType.INT, IonType.SYMBOL),
+            metrics.values
+        );
+        assertEquals(Arrays.asList("replace 2", "append 1"), metrics.localSymbolTables);
+        assertEquals(0, metrics.oversizedValuesSkipped);
+        if (constructFromBytes) {
+            // Readers over byte arrays neither refill nor grow a buffer.
+            assertEquals(0, metrics.bytesRefilled);
+            assertEquals(0, metrics.bufferGrowths);
+        } else {
+            assertEquals(data.length, metrics.bytesRefilled);
+            assertTrue(metrics.bufferGrowths > 0);
+            assertTrue(metrics.bufferCapacity > 8);
+        }
+    }
+
+    @Test
+    public void metricsListenerIsNotifiedOfOversizedValues() throws Exception {
+        byte[] bytes = toBinary(
+            "\"abcdefghijklmnopqrstuvwxyz\" " + // 28 bytes (1 TID, 1 length, 26 chars)
+            "\"abc\" " +
+            "\"abcdefghijklmnopqrstuvwxyz\" " +
+            "\"def\""
+        );
+        AccumulatingMetricsListener metrics = new AccumulatingMetricsListener();
+        readerBuilder = readerBuilder.withMetricsListener(metrics);
+        reader = boundedReaderFor(new ByteArrayInputStream(bytes), 8, 16, byteAndOversizedValueCountingHandler);
+        assertSequence(
+            next(IonType.STRING), stringValue("abc"),
+            next(IonType.STRING), stringValue("def"),
+            next(null)
+        );
+        reader.close();
+        expectOversized(2);
+        assertEquals(2, metrics.oversizedValuesSkipped);
+        assertEquals(56, metrics.oversizedBytesSkipped);
+        assertEquals(Arrays.asList(IonType.STRING, IonType.STRING), metrics.values);
+        assertEquals(bytes.length, metrics.bytesConsumed);
+        // The remainder of each oversized value is skipped in the stream without being read into the buffer.
+        assertTrue(metrics.bytesRefilled < bytes.length);
+    }
+
+    /**
+     * Writes a stream containing a single large string followed by the given number of small ints.
+     * @param largeStringLength the length of the large string.
+     * @param numberOfInts the number of ints.
+     * @return the binary Ion stream.
+     */
+    private static byte[] largeValueFollowedBySmallValues(int largeStringLength, int numberOfInts) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        IonWriter writer = IonBinaryWriterBuilder.standard().build(out);
+        char[] chars = new char[largeStringLength];
+        Arrays.fill(chars, 'a');
+        writer.writeString(new String(chars));
+        for (int i = 0; i < numberOfInts; i++) {
+            writer.writeInt(i);
+        }
+        writer.close();
+        return out.toByteArray();
+    }
+
+    /**
+     * Reads the stream written by {@link #largeValueFollowedBySmallValues(int, int)}.
+     */
+    private void assertLargeValueFollowedBySmallValues(int largeStringLength, int numberOfInts) {
+        assertEquals(IonType.STRING, reader.next());
+        assertEquals(largeStringLength, reader.stringValue().length());
+        for (int i = 0; i < numberOfInts; i++) {
+            assertEquals(IonType.INT, reader.next());
+            assertEquals(i, reader.intValue());
+        }
+        assertNull(reader.next());
+    }
+
+    @ParameterizedTest(name = "shrinkAfterValues={0}")
+    @ValueSource(ints = {0, 1, 10})
+    public void bufferShrinksAfterSmallValues(int shrinkAfterValues) throws Exception {
+        byte[] data = largeValueFollowedBySmallValues(1000, 2000);
+        readerBuilder = readerBuilder.withBufferConfiguration(
+            IonBufferConfiguration.Builder.standard()
+                .withInitialBufferSize(64)
+                .withShrinkAfterValues(shrinkAfterValues)
+                .build()
+        );
+        reader = readerFor(readerBuilder, false, data);
+        assertLargeValueFollowedBySmallValues(1000, 2000);
+        if (shrinkAfterValues == 0) {
+            assertTrue(((IonCursorBinary) reader).buffer.length >= 1000);
+        } else {
+            assertEquals(64, ((IonCursorBinary) reader).buffer.length);
+        }
+        reader.close();
+    }
+
+    @Test
+    public void bufferDoesNotShrinkWhileLargeValuesContinue() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        IonWriter writer = IonBinaryWriterBuilder.standard().build(out);
+        char[] chars = new char[1000];
+        Arrays.fill(chars, 'a');
+        for (int i = 0; i < 50; i++) {
+            writer.writeString(new String(chars));
+            writer.writeInt(i);
+        }
+        writer.close();
+        AccumulatingMetricsListener metrics = new AccumulatingMetricsListener();
+        readerBuilder = readerBuilder
+            .withMetricsListener(metrics)
+            .withBufferConfiguration(
+                IonBufferConfiguration.Builder.standard()
+                    .withInitialBufferSize(64)
+                    .withShrinkAfterValues(2)
+                    .build()
+            );
+        reader = readerFor(readerBuilder, false, out.toByteArray());
+        for (int i = 0; i < 50; i++) {
+            assertEquals(IonType.STRING, reader.next());
+            assertEquals(1000, reader.stringValue().length());
+            assertEquals(IonType.INT, reader.next());
+            assertEquals(i, reader.intValue());
+        }
+        assertNull(reader.next());
+        reader.close();
+        // The buffer grew to accommodate the first large value and never shrank, so it never needed to grow again.
+        assertEquals(1024, metrics.bufferCapacity);
+        assertEquals(1, metrics.bufferGrowths);
+    }
+
+    @Test
+    public void grownBuffersAreBorrowedFromPool() throws Exception {
+        byte[] data = largeValueFollowedBySmallValues(1000, 10);
+        IonBufferPool pool = new IonBufferPool(1);
+        readerBuilder = readerBuilder.withBufferConfiguration(
+            IonBufferConfiguration.Builder.standard()
+                .withInitialBufferSize(64)
+                .withBufferPool(pool)
+                .build()
+        );
+        reader = readerFor(readerBuilder, false, data);
+        assertLargeValueFollowedBySmallValues(1000, 10);
+        byte[] grownBuffer = ((IonCursorBinary) reader).buffer;
+        assertTrue(grownBuffer.length >= 1000);
+        assertEquals(0, pool.getIdleBufferCount());
+        reader.close();
+        assertEquals(1, pool.getIdleBufferCount());
+
+        // A second reader borrows the same grown buffer instead of allocating a new one.
+        reader = readerFor(readerBuilder, false, data);
+        assertLargeValueFollowedBySmallValues(1000, 10);
+        assertSame(grownBuffer, ((IonCursorBinary) reader).buffer);
+        assertEquals(0, pool.getIdleBufferCount());
+        reader.close();
+        assertEquals(1, pool.getIdleBufferCount());
+    }
+
+    @Test
+    public void shrunkenBuffersAreReturnedToPool() throws Exception {
+        byte[] data = largeValueFollowedBySmallValues(1000, 2000);
+        IonBufferPool pool = new IonBufferPool(1);
+        readerBuilder = readerBuilder.withBufferConfiguration(
+            IonBufferConfiguration.Builder.standard()
+                .withInitialBufferSize(64)
+                .withShrinkAfterValues(10)
+                .withBufferPool(pool)
+                .build()
+        );
+        reader = readerFor(readerBuilder, false, data);
+        assertLargeValueFollowedBySmallValues(1000, 2000);
+        assertEquals(64, ((IonCursorBinary) reader).buffer.length);
+        assertEquals(1, pool.getIdleBufferCount());
+        reader.close();
+        assertEquals(1, pool.getIdleBufferCount());
+    }
+
+    @Test
+    public void bufferPoolAcquiresSmallestSufficientBuffer() {
+        IonBufferPool pool = new IonBufferPool(2);
+        byte[] small = new byte[100];
+        byte[] large = new byte[1000];
+        pool.release(large);
+        pool.release(small);
+        pool.release(new byte[10]); // Discarded; the pool is full.
+        assertEquals(2, pool.getIdleBufferCount());
+        assertSame(small, pool.acquire(50));
+        assertEquals(2000, pool.acquire(2000).length);
+        assertSame(large, pool.acquire(50));
+        assertEquals(0, pool.getIdleBufferCount());
+    }
+
+    @Test
+    public void negativeShrinkAfterValuesFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> IonBufferConfiguration.Builder.standard().withShrinkAfterValues(-1).build()
+        );
+    }
+
+    /**
+     * @param constructFromBytes whether to read from a byte array or an InputStream.
+     * @param isIncremental whether incremental reading is enabled.
+     * @param data the binary Ion to read.
+     * @return the slice of the first top-level value.
+     */
+    private RawValueSlice firstTopLevelValueSlice(boolean constructFromBytes, boolean isIncremental, byte[] data) {
+        readerBuilder = readerBuilder.withIncrementalReadingEnabled(isIncremental);
+        reader = readerFor(readerBuilder, constructFromBytes, data);
+        assertNotNull(reader.next());
+        return reader.asFacet(RawValueSliceProvider.class).currentValueSlice();
+    }
+
+    /**
+     * Asserts that the given slice's bytes are exactly the last bytes of the given data.
+     */
+    private static void assertSliceIsTail(RawValueSlice slice, byte[] data) {
+        ByteBuffer bytes = slice.getBytes();
+        assertTrue(bytes.isReadOnly());
+        byte[] actual = new byte[bytes.remaining()];
+        bytes.get(actual);
+        assertArrayEquals(Arrays.copyOfRange(data, data.length - actual.length, data.length), actual);
+    }
+
+    @ParameterizedTest(name = "constructFromBytes={0},isIncremental={1}")
+    @CsvSource({"true, true", "true, false", "false, true", "false, false"})
+    public void rawValueSliceOfScalar(boolean constructFromBytes, boolean isIncremental) throws Exception {
+        byte[] data = toBinary("\"abc\"");
+        RawValueSlice slice = firstTopLevelValueSlice(constructFromBytes, isIncremental, data);
+        assertSliceIsTail(slice, data);
+        assertEquals(4, slice.getBytes().remaining());
+        assertEquals(IonType.STRING, slice.getType());
+        assertEquals(0, slice.getIonMinorVersion());
+        assertTrue(slice.isSymbolTableIndependent());
+        reader.close();
+    }
+
+    @ParameterizedTest(name = "constructFromBytes={0},isIncremental={1}")
+    @CsvSource({"true, true", "true, false", "false, true", "false, false"})
+    public void rawValueSliceOfAnnotatedContainer(boolean constructFromBytes, boolean isIncremental) throws Exception {
+        byte[] data = toBinary("foo::{bar: [1, baz, \"abc\"], qux: 2.5}");
+        RawValueSlice slice = firstTopLevelValueSlice(constructFromBytes, isIncremental, data);
+        assertSliceIsTail(slice, data);
+        assertEquals(IonType.STRUCT, slice.getType());
+        assertFalse(slice.isSymbolTableIndependent());
+        assertEquals(reader.getSymbolTable(), slice.getSymbolTable());
+        assertEquals("baz", slice.getSymbolTable().findKnownSymbol(reader.getSymbolTable().findSymbol("baz")));
+        reader.close();
+    }
+
+    @Test
+    public void rawValueSliceRequiresValue() throws Exception {
+        reader = readerFor(readerBuilder, true, toBinary("1"));
+        RawValueSliceProvider provider = reader.asFacet(RawValueSliceProvider.class);
+        assertThrows(IllegalStateException.class, provider::currentValueSlice);
+        reader.close();
+    }
+
+    /**
+     * Reads the struct `{id: 123, payload: ...}` and forwards its payload field, both with its original field name and
+     * with a new field name, using the given writer.
+     * @return the resulting stream.
+     */
+    private byte[] forwardPayload(boolean constructFromBytes, String payload, IonBinaryWriterBuilder builder) throws Exception {
+        reader = readerFor(readerBuilder, constructFromBytes, toBinary("{id: 123, payload: " + payload + "}"));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        IonWriter writer = builder.build(out);
+        writer.stepIn(IonType.STRUCT);
+        assertEquals(IonType.STRUCT, reader.next());
+        reader.stepIn();
+        while (reader.next() != null) {
+            if (reader.getFieldName().equals("payload")) {
+                RawValueSlice slice = reader.asFacet(RawValueSliceProvider.class).currentValueSlice();
+                slice.writeTo(writer);
+                writer.setFieldName("forwarded");
+                slice.writeTo(writer);
+            }
+        }
+        reader.stepOut();
+        writer.stepOut();
+        writer.close();
+        reader.close();
+        return out.toByteArray();
+    }
+
+    @ParameterizedTest(name = "constructFromBytes={0}")
+    @ValueSource(booleans = {true, false})
+    public void rawValueSliceWriteTo(boolean constructFromBytes) throws Exception {
+        String[] payloads = {
+            "\"abc\"",
+            "ann::2.5",
+            "name",
+            "version::{symbols: [name, imports]}",
+            "a::b::{x: sym, y: [1, 2.5, \"s\", null.symbol]}",
+            "[1, {z: $0}, (foo bar)]"
+        };
+        for (String payload : payloads) {
+            // The first writer is copy-optimized and has no local symbols; the second re-encodes the values.
+            for (IonBinaryWriterBuilder builder : Arrays.asList(
+                IonBinaryWriterBuilder.standard().withStreamCopyOptimized(true),
+                IonBinaryWriterBuilder.standard().withLocalSymbolTableAppendEnabled()
+            )) {
+                byte[] forwarded = forwardPayload(constructFromBytes, payload, builder);
+                assertEquals(
+                    SYSTEM.getLoader().load("{payload: " + payload + ", forwarded: " + payload + "}"),
+                    SYSTEM.getLoader().load(forwarded),
+                    payload
+                );
+            }
+        }
+    }
+
+    @Test
+    public void rawValueSliceWriteToText() throws Exception {
+        reader = readerFor(readerBuilder, true, toBinary("a::{b: [c, 1]} 2"));
+        StringBuilder out = new StringBuilder();
+        IonWriter writer = IonTextWriterBuilder.minimal().build(out);
+        while (reader.next() != null) {
+            reader.asFacet(RawValueSliceProvider.class).currentValueSlice().writeTo(writer);
+        }
+        writer.close();
+        reader.close();
+        assertEquals("a::{b:[c,1]} 2", out.toString());
+    }
+
+    @ParameterizedTest(name = "constructFromBytes={0}")
+    @ValueSource(booleans = {true, false})
+    public void rawValueSliceWriteToIon11Writer(boolean constructFromBytes) throws Exception {
+        reader = readerFor(readerBuilder, constructFromBytes, toBinary("5 a::{b: [c, 1.5]} \"s\""));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        IonWriter writer = IonBinaryWriterBuilder.standard().withIon_1_1Enabled(true).build(out);
+        while (reader.next() != null) {
+            reader.asFacet(RawValueSliceProvider.class).currentValueSlice().writeTo(writer);
+        }
+        writer.close();
+        reader.close();
+        assertEquals(SYSTEM.getLoader().load("5 a::{b: [c, 1.5]} \"s\""), SYSTEM.getLoader().load(out.toByteArray()));
+    }
+
+    @ParameterizedTest(name = "constructFromBytes={0}")
+    @ValueSource(booleans = {true, false})
+    public void rawValueSliceWriteToWriterWithCompatibleSymbolTable(boolean constructFromBytes) throws Exception {
+        SymbolTable shared = SYSTEM.newSharedSymbolTable(
+            "test", 1, Arrays.asList("id", "payload", "forwarded", "x", "y", "sym", "ann").iterator()
+        );
+        SimpleCatalog catalog = new SimpleCatalog();
+        catalog.putTable(shared);
+        ByteArrayOutputStream source = new ByteArrayOutputStream();
+        IonWriter sourceWriter = IonBinaryWriterBuilder.standard().withImports(shared).build(source);
+        SYSTEM.getLoader().load("{id: 123, payload: ann::{x: sym, y: [sym, 1]}}").writeTo(sourceWriter);
+        sourceWriter.close();
+
+        readerBuilder = readerBuilder.withCatalog(catalog);
+        reader = readerFor(readerBuilder, constructFromBytes, source.toByteArray());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        IonWriter writer = IonBinaryWriterBuilder.standard().withImports(shared).build(out);
+        writer.stepIn(IonType.STRUCT);
+        assertEquals(IonType.STRUCT, reader.next());
+        reader.stepIn();
+        assertEquals(IonType.INT, reader.next());
+        assertEquals(IonType.STRUCT, reader.next());
+        RawValueSlice slice = reader.asFacet(RawValueSliceProvider.class).currentValueSlice();
+        assertFalse(slice.isSymbolTableIndependent());
+        writer.setFieldName("forwarded");
+        slice.writeTo(writer);
+        reader.stepOut();
+        writer.stepOut();
+        writer.close();
+        reader.close();
+
+        assertEquals(
+            SYSTEM.getLoader().load("{forwarded: ann::{x: sym, y: [sym, 1]}}"),
+            IonSystemBuilder.standard().withCatalog(catalog).build().getLoader().load(out.toByteArray())
+        );
+    }
 }
@@ -0,0 +1,324 @@
+// Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+// SPDX-License-Identifier: Apache-2.0
+package com.amazon.ion.impl;
+
+import com.amazon.ion.IonBufferConfiguration;
+import com.amazon.ion.IonDatagram;
+import com.amazon.ion.IonException;
+import com.amazon.ion.IonReader;
+import com.amazon.ion.IonSystem;
+import com.amazon.ion.IonType;
+import com.amazon.ion.IonValue;
+import com.amazon.ion.SeekableReader;
+import com.amazon.ion.SpanProvider;
+import com.amazon.ion.system.IonReaderBuilder;
+import com.amazon.ion.system.IonSystemBuilder;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class IonReaderContinuableTopLevelTextTest {
+
+    private static final IonSystem SYSTEM = IonSystemBuilder.standard().build();
+
+    private static final IonReaderBuilder STANDARD_READER_BUILDER = IonReaderBuilder.standard()
+        .withIncrementalTextReadingEnabled(true);
+
+    private final ResizingPipedInputStream pipe = new ResizingPipedInputStream(1);
+
+    private IonReader reader;
+
+    private void feed(String text) {
+        pipe.receive(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Builds a reader over the pipe, which must already contain enough data to be detected as text.
+     */
+    private void buildReader(IonReaderBuilder builder) {
+        reader = builder.build(pipe);
+        assertTrue(reader instanceof IonReaderContinuableTopLevelText);
+    }
+
+    private void assertInt(int expected) {
+        assertEquals(IonType.INT, reader.next());
+        assertEquals(expected, reader.intValue());
+    }
+
+    @Test
+    public void scalarsAreReturnedOnceDelimited() throws Exception {
+        feed("12");
+        buildReader(STANDARD_READER_BUILDER);
+        assertNull(reader.next());
+        feed("3");
+        assertNull(reader.next());
+        feed(" \"ab");
+        assertInt(123);
+        assertNull(reader.next());
+        feed("c\"");
+        assertEquals(IonType.STRING, reader.next());
+        assertEquals("abc", reader.stringValue());
+        assertNull(reader.next());
+        feed("\n2");
+        assertNull(reader.next());
+        feed("\n");
+        assertInt(2);
+        assertNull(reader.next());
+        reader.close();
+    }
+
+    @Test
+    public void containersAreReturnedOnceClosed() throws Exception {
+        feed("{a:[1, \"]}\", '}', (x // ]\n)], b:/* } */ 2");
+        buildReader(STANDARD_READER_BUILDER);
+        assertNull(reader.next());
+        feed("}");
+        assertEquals(IonType.STRUCT, reader.next());
+        reader.stepIn();
+        assertEquals(IonType.LIST, reader.next());
+        reader.stepIn();
+        assertInt(1);
+        assertEquals(IonType.STRING, reader.next());
+        assertEquals("]}", reader.stringValue());
+        assertEquals(IonType.SYMBOL, reader.next());
+        assertEquals("}", reader.stringValue());
+        assertEquals(IonType.SEXP, reader.next());
+        assertNull(reader.next());
+        reader.stepOut();
+        assertInt(2);
+        assertEquals("b", reader.getFieldName());
+        assertNull(reader.next());
+        reader.stepOut();
+        assertNull(reader.next());
+        reader.close();
+    }
+
+    @Test
+    public void symbolsAwaitTheNextSignificantCharacter() throws Exception {
+        feed("abc");
+        buildReader(STANDARD_READER_BUILDER);
+        assertNull(reader.next());
+        feed(" // comment\n");
+        assertNull(reader.next());
+        feed(":");
+        assertNull(reader.next());
+        feed(": 'def' ");
+        assertNull(reader.next());
+        feed("g ");
+        assertEquals(IonType.SYMBOL, reader.next());
+        assertArrayEquals(new String[] {"abc"}, reader.getTypeAnnotations());
+        assertEquals("def", reader.stringValue());
+        assertNull(reader.next());
+        feed("null.int ");
+        assertEquals(IonType.SYMBOL, reader.next());
+        assertEquals("g", reader.stringValue());
+        assertNull(reader.next());
+        feed("[]");
+        assertEquals(IonType.INT, reader.next());
+        assertEquals(true, reader.isNullValue());
+        assertEquals(IonType.LIST, reader.next());
+        assertNull(reader.next());
+        reader.close();
+    }
+
+    @Test
+    public void longStringsAwaitPossibleConcatenation() throws Exception {
+        feed("'''ab''' ");
+        buildReader(STANDARD_READER_BUILDER);
+        assertNull(reader.next());
+        feed("''");
+        assertNull(reader.next());
+        feed("'c''' 1 ");
+        assertEquals(IonType.STRING, reader.next());
+        assertEquals("abc", reader.stringValue());
+        assertInt(1);
+        assertNull(reader.next());
+        reader.close();
+    }
+
+    @Test
+    public void lobs() throws Exception {
+        feed("{{ \"a}}//\" }} {{aGVs");
+        buildReader(STANDARD_READER_BUILDER);
+        assertEquals(IonType.CLOB, reader.next());
+        assertArrayEquals("a}}//".getBytes(StandardCharsets.US_ASCII), reader.newBytes());
+        assertNull(reader.next());
+        feed("bG8= }");
+        assertNull(reader.next());
+        feed("}");
+        assertEquals(IonType.BLOB, reader.next());
+        assertArrayEquals("hello".getBytes(StandardCharsets.US_ASCII), reader.newBytes());
+        assertNull(reader.next());
+        reader.close();
+    }
+
+    @Test
+    public void symbolTablesApplyAcrossBatches() throws Exception {
+        feed("$ion_symbol_table::{symbols:[\"foo\"]} ");
+        buildReader(STANDARD_READER_BUILDER);
+        assertNull(reader.next());
+        feed("($10) ");
+        assertEquals(IonType.SEXP, reader.next());
+        reader.stepIn();
+        assertEquals(IonType.SYMBOL, reader.next());
+        assertEquals("foo", reader.stringValue());
+        reader.stepOut();
+        assertNull(reader.next());
+        feed("$ion_symbol_table::{imports:$ion_symbol_table, symbols:[\"bar\"]} [$10, $11]");
+        assertEquals(IonType.LIST, reader.next());
+        reader.stepIn();
+        assertEquals(IonType.SYMBOL, reader.next());
+        assertEquals("foo", reader.stringValue());
+        assertEquals(IonType.SYMBOL, reader.next());
+        assertEquals("bar", reader.stringValue());
+        reader.stepOut();
+        assertNull(reader.next());
+        reader.close();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"[1, 2", "\"abc", "abc", "123", "a::", "{{ abc"})
+    public void closeWithIncompleteValueFails(String text) {
+        feed(" " + text);
+        buildReader(STANDARD_READER_BUILDER);
+        assertNull(reader.next());
+        assertThrows(IonException.class, reader::close);
+    }
+
+    @Test
+    public void readsValuesFedOneByteAtATime() throws Exception {
+        String text = "$ion_1_0 a::b::{x: 1.5e0, y: [2024-01-02T03:04Z, -0.10, 0x1F, +inf], \"z\": (+ - 'q' \"\\\"\")}"
+            + " /* comment */ 'sym' '''long''' '''string''' {{\"clob\"}} {{ }} null.struct true -12_3\n";
+        IonDatagram expected = SYSTEM.getLoader().load(text);
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        // The first byte must be available for the data to be detected as text.
+        pipe.receive(bytes[0]);
+        buildReader(STANDARD_READER_BUILDER);
+        int numberOfValues = 0;
+        for (int i = 1; i < bytes.length; i++) {
+            pipe.receive(bytes[i]);
+            while (reader.next() != null) {
+                assertEquals(expected.get(numberOfValues++), SYSTEM.newValue(reader));
+            }
+        }
+        assertEquals(expected.size(), numberOfValues);
+        reader.close();
+    }
+
+    @Test
+    public void oversizedValuesAreSkipped() throws Exception {
+        AtomicInteger oversizedCounter = new AtomicInteger();
+        IonBufferConfiguration.Builder configuration = IonBufferConfiguration.Builder.standard();
+        configuration
+            .withInitialBufferSize(8)
+            .withMaximumBufferSize(16)
+            .onOversizedValue(oversizedCounter::incrementAndGet)
+            .onOversizedSymbolTable(configuration.getNoOpOversizedSymbolTableHandler())
+            .onData(configuration.getNoOpDataHandler());
+        feed("1 [\"abcdefghijklmnopqrstuvwxyz\"] 2 ");
+        buildReader(STANDARD_READER_BUILDER.withBufferConfiguration(configuration.build()));
+        assertInt(1);
+        assertInt(2);
+        assertNull(reader.next());
+        assertEquals(1, oversizedCounter.get());
+        reader.close();
+    }
+
+    @Test
+    public void spanFacetsAreNotSupported() throws Exception {
+        feed("1 ");
+        buildReader(STANDARD_READER_BUILDER);
+        assertInt(1);
+        assertNull(reader.asFacet(SpanProvider.class));
+        assertNull(reader.asFacet(SeekableReader.class));
+        reader.close();
+    }
+
+    @Test
+    public void byteArraysAreNotReadIncrementally() throws Exception {
+        byte[] data = "1 2".getBytes(StandardCharsets.UTF_8);
+        try (IonReader reader = STANDARD_READER_BUILDER.build(data)) {
+            assertInt(reader, 1);
+            assertInt(reader, 2);
+        }
+        IonReader reader = STANDARD_READER_BUILDER.build(new ByteArrayInputStream(data));
+        // The last value has no delimiter, so it is incomplete.
+        assertInt(reader, 1);
+        assertNull(reader.next());
+        assertThrows(IonException.class, reader::close);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "1 2 3",
+        "{a:1} foo",
+        "$ion_symbol_table::{symbols:[\"a\"]} $10",
+        "'''long''' '''string'''\n",
+    })
+    public void incrementalBinaryReadingDoesNotApplyToText(String text) throws Exception {
+        // Values without a trailing delimiter are complete at the end of the stream for the non-incremental reader.
+        IonDatagram expected = SYSTEM.getLoader().load(text);
+        IonReaderBuilder builder = IonReaderBuilder.standard().withIncrementalReadingEnabled(true);
+        try (IonReader reader = builder.build(new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8)))) {
+            assertFalse(reader instanceof IonReaderContinuableTopLevelText);
+            for (IonValue value : expected) {
+                assertEquals(value.getType(), reader.next());
+                assertEquals(value, SYSTEM.newValue(reader));
+            }
+            assertNull(reader.next());
+        }
+    }
+
+    @Test
+    public void formatDetectionIsDeferredUntilDataIsAvailable() throws Exception {
+        reader = STANDARD_READER_BUILDER.build(pipe);
+        assertTrue(reader instanceof IonReaderDeferredFormat);
+        assertNull(reader.next());
+        assertNull(reader.getType());
+        assertEquals(0, reader.getDepth());
+        assertThrows(IllegalStateException.class, reader::stepIn);
+        feed("1");
+        assertNull(reader.next());
+        feed("0 ");
+        assertInt(10);
+        assertNull(reader.next());
+        reader.close();
+    }
+
+    @Test
+    public void formatDetectionIsDeferredUntilBinaryDataIsAvailable() throws Exception {
+        reader = STANDARD_READER_BUILDER.withIncrementalReadingEnabled(true).build(pipe);
+        assertNull(reader.next());
+        pipe.receive(new byte[] {(byte) 0xE0, 0x01});
+        assertNull(reader.next());
+        pipe.receive(new byte[] {0x00, (byte) 0xEA, 0x21, 0x07});
+        assertInt(7);
+        assertNull(reader.next());
+        reader.close();
+    }
+
+    @Test
+    public void emptyStreamWithDeferredFormatDetectionClosesCleanly() throws Exception {
+        reader = STANDARD_READER_BUILDER.build(pipe);
+        assertNull(reader.next());
+        assertFalse(reader.hasNext());
+        assertNull(reader.asFacet(SpanProvider.class));
+        reader.close();
+    }
+
+    private static void assertInt(IonReader reader, int expected) {
+        assertEquals(IonType.INT, reader.next());
+        assertEquals(expected, reader.intValue());
+    }
+}
@@ -0,0 +1,183 @@
+// Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+// SPDX-License-Identifier: Apache-2.0
+package com.amazon.ion.impl;
+
+import com.amazon.ion.Decimal;
+import com.amazon.ion.IntegerSize;
+import com.amazon.ion.IonException;
+import com.amazon.ion.IonReader;
+import com.amazon.ion.IonType;
+import com.amazon.ion.SpanProvider;
+import com.amazon.ion.TextSpan;
+import com.amazon.ion.system.IonReaderBuilder;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class IonReaderTextSystemXTest {
+
+    private static IonReader readerOver(String text, IonType expectedType) {
+        IonReader reader = IonReaderBuilder.standard().build(text);
+        assertEquals(expectedType, reader.next());
+        return reader;
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "0, INT",
+        "-0, INT",
+        "123, INT",
+        "-2147483648, INT",
+        "2147483647, INT",
+        "2147483648, LONG",
+        "-2147483649, LONG",
+        "9223372036854775807, LONG",
+        "-9223372036854775808, LONG",
+        "9223372036854775808, BIG_INTEGER",
+        "-9223372036854775809, BIG_INTEGER",
+        "123456789012345678901234567890, BIG_INTEGER",
+        "1_000_000, INT",
+    })
+    public void ints(String image, IntegerSize expectedSize) throws Exception {
+        try (IonReader reader = readerOver(image, IonType.INT)) {
+            assertEquals(expectedSize, reader.getIntegerSize());
+            assertEquals(new BigInteger(image.replace("_", "")), reader.bigIntegerValue());
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "0.",
+        "1.",
+        "1.50",
+        "-123.456",
+        "0d-5",
+        "1d5",
+        "-1D-5",
+        "12.5d+3",
+        "123456789012345678.9",
+        "1234567890123456789.0",
+        "999999999999999999999.99",
+        "1_000.000_1",
+    })
+    public void decimals(String image) throws Exception {
+        try (IonReader reader = readerOver(image, IonType.DECIMAL)) {
+            BigDecimal expected = new BigDecimal(image.replace("_", "").replace('d', 'e').replace('D', 'e'));
+            BigDecimal actual = reader.bigDecimalValue();
+            assertEquals(expected, actual);
+            assertEquals(expected.scale(), actual.scale());
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"-0.", "-0.00", "-0d0", "-0d-3"})
+    public void negativeZeroDecimals(String image) throws Exception {
+        try (IonReader reader = readerOver(image, IonType.DECIMAL)) {
+            assertEquals(true, reader.decimalValue().isNegativeZero());
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "0e0",
+        "-0e0",
+        "1.5e0",
+        "-123.456e-3",
+        "1e22",
+        "1.5e22",
+        "1e23",
+        "1e-22",
+        "123.456e-22",
+        "9007199254740992e0",
+        "9007199254740993e0",
+        "0.1e1",
+        "4.9e-324",
+        "1.7976931348623157e308",
+        "12345678901234567890e0",
+        "1_000.5e0",
+    })
+    public void floats(String image) throws Exception {
+        try (IonReader reader = readerOver(image, IonType.FLOAT)) {
+            double expected = Double.parseDouble(image.replace("_", ""));
+            assertEquals(Double.doubleToRawLongBits(expected), Double.doubleToRawLongBits(reader.doubleValue()));
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"1d", "1d2147483648"})
+    public void invalidDecimals(String image) throws Exception {
+        try (IonReader reader = readerOver(image, IonType.DECIMAL)) {
+            assertThrows(IonException.class, reader::bigDecimalValue);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"1.5", "2"})
+    public void decimalsAreExact(String image) throws Exception {
+        try (IonReader reader = readerOver(image + "d0", IonType.DECIMAL)) {
+            assertEquals(Decimal.valueOf(image), reader.decimalValue());
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "{a:1, b:[2, (3 4)], c:{d:{}}}",
+        "[\"]\", \"\\\"]\", '}', '\\']', '''])}''', '''a''' '''}''']",
+        "(a // ) ]\n b /* ) } */ c)",
+        "{a:{{aGVs bG8=}}, b:{{\"}}\"}}, c:{{'''}}''' '''//'''}}, d:{{}}}",
+        "[\"\u00e9\u4e2d\ud83d\ude00]\", '\u00e9)', {}, [], ()]",
+    })
+    public void skipsContainers(String container) throws Exception {
+        String text = container + " 42 " + container + " 43";
+        IonReader[] readers = {
+            IonReaderBuilder.standard().build(text),
+            IonReaderBuilder.standard().build(new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8))),
+        };
+        for (IonReader reader : readers) {
+            try {
+                reader.next();
+                assertEquals(IonType.INT, reader.next());
+                assertEquals(42, reader.intValue());
+                reader.next();
+                reader.stepIn();
+                reader.next();
+                reader.stepOut();
+                assertEquals(IonType.INT, reader.next());
+                assertEquals(43, reader.intValue());
+            } finally {
+                reader.close();
+            }
+        }
+    }
+
+    @Test
+    public void skippingContainersPreservesLinePositions() throws Exception {
+        String text = "{a:'''x\ny''', b:\"\"}\n[1,\r\n2, {{\naGVsbG8=\n}}]\n  foo";
+        try (IonReader reader = IonReaderBuilder.standard().build(text.getBytes(StandardCharsets.UTF_8))) {
+            reader.next();
+            reader.next();
+            assertEquals(IonType.SYMBOL, reader.next());
+            TextSpan span = reader.asFacet(SpanProvider.class).currentSpan().asFacet(TextSpan.class);
+            assertEquals(7, span.getStartLine());
+            assertEquals(3, span.getStartColumn());
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"[1, 2", "{a:\"]}", "('''))", "[{{aGVs"})
+    public void skippingUnterminatedContainersFails(String text) throws Exception {
+        try (IonReader reader = IonReaderBuilder.standard().build(text)) {
+            reader.next();
+            assertThrows(IonException.class, reader::next);
+        }
+    }
+}
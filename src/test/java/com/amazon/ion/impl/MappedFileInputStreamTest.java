@@ -0,0 +1,152 @@
+// Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+// SPDX-License-Identifier: Apache-2.0
+package com.amazon.ion.impl;
+
+import com.amazon.ion.IonReader;
+import com.amazon.ion.IonType;
+import com.amazon.ion.IonWriter;
+import com.amazon.ion.system.IonBinaryWriterBuilder;
+import com.amazon.ion.system.IonReaderBuilder;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class MappedFileInputStreamTest {
+
+    private static final int NUMBER_OF_VALUES = 100;
+
+    @TempDir
+    Path directory;
+
+    private Path writeTestFile() throws IOException {
+        Path file = directory.resolve("data.10n");
+        try (OutputStream out = Files.newOutputStream(file); IonWriter writer = IonBinaryWriterBuilder.standard().build(out)) {
+            for (int i = 0; i < NUMBER_OF_VALUES; i++) {
+                writer.stepIn(IonType.STRUCT);
+                writer.setFieldName("id");
+                writer.writeInt(i);
+                writer.setFieldName("name");
+                writer.writeString("value " + i);
+                writer.stepOut();
+            }
+        }
+        return file;
+    }
+
+    private static void assertTestData(IonReader reader) {
+        for (int i = 0; i < NUMBER_OF_VALUES; i++) {
+            assertEquals(IonType.STRUCT, reader.next());
+            reader.stepIn();
+            assertEquals(IonType.INT, reader.next());
+            assertEquals(i, reader.intValue());
+            assertEquals(IonType.STRING, reader.next());
+            assertEquals("value " + i, reader.stringValue());
+            reader.stepOut();
+        }
+        assertNull(reader.next());
+    }
+
+    @ParameterizedTest(name = "windowSize={0}")
+    @ValueSource(ints = {1, 7, 64, 1 << 20})
+    public void readsAcrossWindows(int windowSize) throws Exception {
+        Path file = writeTestFile();
+        FileChannel channel = FileChannel.open(file);
+        try (IonReader reader = IonReaderBuilder.standard().build(new MappedFileInputStream(channel, windowSize))) {
+            assertTestData(reader);
+        }
+        assertFalse(channel.isOpen());
+    }
+
+    @ParameterizedTest(name = "windowSize={0}")
+    @ValueSource(ints = {1, 3, 1 << 20})
+    public void skipAndMarkAcrossWindows(int windowSize) throws Exception {
+        byte[] data = new byte[32];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = (byte) i;
+        }
+        Path file = directory.resolve("bytes");
+        Files.write(file, data);
+        try (MappedFileInputStream input = new MappedFileInputStream(FileChannel.open(file), windowSize)) {
+            assertEquals(0, input.read());
+            assertEquals(10, input.skip(10));
+            assertEquals(11, input.read());
+            input.mark(Integer.MAX_VALUE);
+            assertEquals(12, input.read());
+            assertEquals(13, input.read());
+            input.reset();
+            assertEquals(12, input.read());
+            assertEquals(19, input.available());
+            ByteArrayOutputStream rest = new ByteArrayOutputStream();
+            byte[] chunk = new byte[5];
+            int numberOfBytesRead;
+            while ((numberOfBytesRead = input.read(chunk, 0, chunk.length)) > 0) {
+                rest.write(chunk, 0, numberOfBytesRead);
+            }
+            byte[] expected = new byte[19];
+            System.arraycopy(data, 13, expected, 0, expected.length);
+            assertArrayEquals(expected, rest.toByteArray());
+            assertEquals(0, input.skip(1));
+            assertEquals(-1, input.read());
+        }
+    }
+
+    @Test
+    public void readsOnlyTheGivenRegion() throws Exception {
+        byte[] data = new byte[32];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = (byte) i;
+        }
+        Path file = directory.resolve("bytes");
+        Files.write(file, data);
+        try (MappedFileInputStream input = new MappedFileInputStream(FileChannel.open(file), 5, 10)) {
+            assertEquals(10, input.available());
+            assertEquals(5, input.read());
+            assertEquals(3, input.skip(3));
+            byte[] rest = new byte[16];
+            assertEquals(6, input.read(rest, 0, rest.length));
+            assertEquals(9, rest[0]);
+            assertEquals(14, rest[5]);
+            assertEquals(0, input.skip(1));
+            assertEquals(-1, input.read());
+        }
+        // A region that extends beyond the end of the file ends with the file.
+        try (MappedFileInputStream input = new MappedFileInputStream(FileChannel.open(file), 30, Long.MAX_VALUE)) {
+            assertEquals(30, input.read());
+            assertEquals(31, input.read());
+            assertEquals(-1, input.read());
+        }
+    }
+
+    @Test
+    public void buildFromPath() throws Exception {
+        Path file = writeTestFile();
+        try (IonReader reader = IonReaderBuilder.standard().build(file)) {
+            assertTestData(reader);
+        }
+    }
+
+    @Test
+    public void buildFromPathDetectsText() throws Exception {
+        Path file = directory.resolve("data.ion");
+        Files.write(file, "{id: 0} foo".getBytes("UTF-8"));
+        try (IonReader reader = IonReaderBuilder.standard().build(file)) {
+            assertEquals(IonType.STRUCT, reader.next());
+            assertEquals(IonType.SYMBOL, reader.next());
+            assertEquals("foo", reader.stringValue());
+            assertNull(reader.next());
+        }
+    }
+}
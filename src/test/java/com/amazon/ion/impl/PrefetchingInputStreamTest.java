@@ -0,0 +1,271 @@
+// Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+// SPDX-License-Identifier: Apache-2.0
+package com.amazon.ion.impl;
+
+import com.amazon.ion.IonReader;
+import com.amazon.ion.IonType;
+import com.amazon.ion.IonWriter;
+import com.amazon.ion.system.IonBinaryWriterBuilder;
+import com.amazon.ion.system.IonReaderBuilder;
+import com.amazon.ion.system.IonTextWriterBuilder;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PrefetchingInputStreamTest {
+
+    private static byte[] randomBytes(int length) {
+        byte[] bytes = new byte[length];
+        new Random(length).nextBytes(bytes);
+        return bytes;
+    }
+
+    /**
+     * An InputStream that returns at most the given number of bytes per read, simulating a slow or chunked source.
+     */
+    private static class ChunkedInputStream extends FilterInputStream {
+
+        private final int chunkSize;
+        final AtomicBoolean isClosed = new AtomicBoolean(false);
+
+        ChunkedInputStream(byte[] data, int chunkSize) {
+            super(new ByteArrayInputStream(data));
+            this.chunkSize = chunkSize;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            return super.read(b, off, Math.min(len, chunkSize));
+        }
+
+        @Override
+        public void close() throws IOException {
+            isClosed.set(true);
+            super.close();
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {
+        0,
+        1,
+        PrefetchingInputStream.BLOCK_SIZE - 1,
+        PrefetchingInputStream.BLOCK_SIZE,
+        PrefetchingInputStream.BLOCK_SIZE * PrefetchingInputStream.NUMBER_OF_BLOCKS * 3 + 17
+    })
+    public void readsEntireSource(int length) throws Exception {
+        byte[] data = randomBytes(length);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (InputStream in = new PrefetchingInputStream(new ChunkedInputStream(data, 1000))) {
+            byte[] buffer = new byte[7919];
+            int numberOfBytesRead;
+            while ((numberOfBytesRead = in.read(buffer, 0, buffer.length)) >= 0) {
+                out.write(buffer, 0, numberOfBytesRead);
+            }
+            assertEquals(-1, in.read());
+        }
+        assertArrayEquals(data, out.toByteArray());
+    }
+
+    @Test
+    public void readsSingleBytes() throws Exception {
+        byte[] data = randomBytes(PrefetchingInputStream.BLOCK_SIZE * 2 + 3);
+        try (InputStream in = new PrefetchingInputStream(new ChunkedInputStream(data, 4096))) {
+            for (byte b : data) {
+                assertEquals(b & 0xFF, in.read());
+            }
+            assertEquals(-1, in.read());
+        }
+    }
+
+    @Test
+    public void skipsAcrossBlocks() throws Exception {
+        byte[] data = randomBytes(PrefetchingInputStream.BLOCK_SIZE * 3);
+        int skipLength = PrefetchingInputStream.BLOCK_SIZE + 100;
+        try (InputStream in = new PrefetchingInputStream(new ChunkedInputStream(data, 4096))) {
+            assertEquals(10, in.read(new byte[10], 0, 10));
+            assertEquals(skipLength, in.skip(skipLength));
+            assertEquals(data[10 + skipLength] & 0xFF, in.read());
+            assertEquals(data.length - 11 - skipLength, in.skip(Long.MAX_VALUE));
+            assertEquals(-1, in.read());
+        }
+    }
+
+    @Test
+    public void errorFromSourceIsRaisedAfterPrecedingBytesAreConsumed() throws Exception {
+        byte[] data = randomBytes(PrefetchingInputStream.BLOCK_SIZE + 10);
+        InputStream source = new ChunkedInputStream(data, 1000) {
+            @Override
+            public int read(byte[] b, int off, int len) throws IOException {
+                int numberOfBytesRead = super.read(b, off, len);
+                if (numberOfBytesRead < 0) {
+                    throw new IOException("Source failure.");
+                }
+                return numberOfBytesRead;
+            }
+        };
+        try (InputStream in = new PrefetchingInputStream(source)) {
+            byte[] buffer = new byte[data.length * 2];
+            int numberOfBytesRead = 0;
+            int numberOfBytesReadThisIteration;
+            // Bytes read before the failure are delivered; the failure is raised only once they have been consumed.
+            while (numberOfBytesRead < data.length
+                && (numberOfBytesReadThisIteration = in.read(buffer, numberOfBytesRead, buffer.length - numberOfBytesRead)) > 0) {
+                numberOfBytesRead += numberOfBytesReadThisIteration;
+            }
+            assertEquals(data.length, numberOfBytesRead);
+            IOException e = assertThrows(IOException.class, in::read);
+            assertEquals("Source failure.", e.getMessage());
+        }
+    }
+
+    @Test
+    public void closeStopsProducerAndClosesSource() throws Exception {
+        // Larger than the ring, so the producer will be blocked waiting for an empty block when the stream is closed.
+        ChunkedInputStream source = new ChunkedInputStream(
+            randomBytes(PrefetchingInputStream.BLOCK_SIZE * (PrefetchingInputStream.NUMBER_OF_BLOCKS + 2)),
+            PrefetchingInputStream.BLOCK_SIZE
+        );
+        InputStream in = new PrefetchingInputStream(source);
+        in.read();
+        in.close();
+        assertTrue(source.isClosed.get());
+        assertThrows(IOException.class, in::read);
+        // Closing again has no effect.
+        in.close();
+    }
+
+    @Test
+    public void closeUnblocksReadThatIgnoresInterrupts() throws Exception {
+        // Like a socket or pipe, this source blocks until data arrives or the source is closed, ignoring interrupts.
+        CountDownLatch readStarted = new CountDownLatch(1);
+        CountDownLatch sourceClosed = new CountDownLatch(1);
+        InputStream source = new InputStream() {
+            @Override
+            public int read() throws IOException {
+                readStarted.countDown();
+                while (true) {
+                    try {
+                        sourceClosed.await();
+                        throw new IOException("Source closed.");
+                    } catch (InterruptedException e) {
+                        // Ignored.
+                    }
+                }
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) throws IOException {
+                return read();
+            }
+
+            @Override
+            public void close() {
+                sourceClosed.countDown();
+            }
+        };
+        InputStream in = new PrefetchingInputStream(source);
+        assertTrue(readStarted.await(10, TimeUnit.SECONDS));
+        ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+            // A close() that never returns must not prevent the JVM from exiting.
+            Thread thread = new Thread(runnable);
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            // Fails with TimeoutException if close() waits for the blocked read.
+            executor.submit(() -> {
+                in.close();
+                return null;
+            }).get(10, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThrows(IOException.class, in::read);
+    }
+
+    private static byte[] gzipped(byte[] data) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(data);
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] writeValues(boolean isBinary, int numberOfValues) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (IonWriter writer = isBinary
+            ? IonBinaryWriterBuilder.standard().build(out)
+            : IonTextWriterBuilder.standard().build(out)) {
+            for (int i = 0; i < numberOfValues; i++) {
+                writer.stepIn(IonType.STRUCT);
+                writer.setFieldName("id");
+                writer.writeInt(i);
+                writer.setFieldName("name");
+                writer.writeString("value " + i);
+                writer.stepOut();
+            }
+        }
+        return out.toByteArray();
+    }
+
+    private static void assertValues(IonReader reader, int numberOfValues) {
+        for (int i = 0; i < numberOfValues; i++) {
+            assertEquals(IonType.STRUCT, reader.next());
+            reader.stepIn();
+            assertEquals(IonType.INT, reader.next());
+            assertEquals(i, reader.intValue());
+            assertEquals(IonType.STRING, reader.next());
+            assertEquals("value " + i, reader.stringValue());
+            reader.stepOut();
+        }
+        assertNull(reader.next());
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    public void builderPrefetchesCompressedStreams(boolean isBinary) throws Exception {
+        int numberOfValues = 50_000;
+        byte[] data = gzipped(writeValues(isBinary, numberOfValues));
+        IonReaderBuilder builder = IonReaderBuilder.standard().withPrefetchingEnabled(true);
+        assertTrue(builder.isPrefetchingEnabled());
+        try (IonReader reader = builder.build(new ChunkedInputStream(data, 1000))) {
+            assertValues(reader, numberOfValues);
+        }
+        try (IonReader reader = builder.build(data)) {
+            assertValues(reader, numberOfValues);
+        }
+    }
+
+    @Test
+    public void builderPrefetchingOption() {
+        IonReaderBuilder builder = IonReaderBuilder.standard();
+        assertFalse(builder.isPrefetchingEnabled());
+        builder.setPrefetchingEnabled();
+        assertTrue(builder.isPrefetchingEnabled());
+        assertTrue(builder.copy().isPrefetchingEnabled());
+        builder.setPrefetchingDisabled();
+        assertFalse(builder.isPrefetchingEnabled());
+        assertThrows(UnsupportedOperationException.class, () -> builder.immutable().setPrefetchingEnabled());
+    }
+}
@@ -15,14 +15,23 @@
 
 package com.amazon.ion.impl;
 
+import com.amazon.ion.IonReader;
+import com.amazon.ion.IonType;
+import com.amazon.ion.system.IonReaderBuilder;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class UnifiedInputStreamXTest {
 
@@ -64,4 +73,75 @@ public class UnifiedInputStreamXTest {
 
         assertArrayEquals(expected, actual);
     }
+
+    @Test
+    public void consumeRunFromBytes() throws Exception {
+        byte[] data = "abc\"d\u00e9f".getBytes(StandardCharsets.UTF_8);
+        UnifiedInputStreamX uix = UnifiedInputStreamX.makeStream(data);
+        StringBuilder sb = new StringBuilder();
+        assertEquals(3, uix.consumeRun(IonTokenConstsX.PLAIN_STRING_RUN, sb));
+        assertEquals("abc", sb.toString());
+        assertEquals('"', uix.read());
+        // Non-ASCII bytes end a plain run, but may be skipped without being decoded.
+        assertEquals(1, uix.consumeRun(IonTokenConstsX.PLAIN_STRING_RUN, sb));
+        assertEquals(3, uix.consumeRun(IonTokenConstsX.SKIPPED_STRING_RUN, null));
+        assertEquals("abcd", sb.toString());
+        assertEquals(-1, uix.read());
+        assertEquals(0, uix.consumeRun(IonTokenConstsX.SKIPPED_STRING_RUN, null));
+    }
+
+    @Test
+    public void consumeRunFromChars() throws Exception {
+        UnifiedInputStreamX uix = UnifiedInputStreamX.makeStream("abc_$1 def\u00e9\u4e2d");
+        StringBuilder sb = new StringBuilder();
+        assertEquals(6, uix.consumeRun(IonTokenConstsX.SYMBOL_IDENTIFIER_RUN, sb));
+        assertEquals("abc_$1", sb.toString());
+        // Characters above 0xFF always end the run.
+        assertEquals(5, uix.consumeRun(IonTokenConstsX.SKIPPED_STRING_RUN, null));
+        assertEquals(0x4e2d, uix.read());
+    }
+
+    @Test
+    public void consumeRunStopsAtEndOfPage() throws Exception {
+        byte[] data = new byte[UnifiedInputStreamX.DEFAULT_PAGE_SIZE * 2];
+        Arrays.fill(data, (byte) 'a');
+        UnifiedInputStreamX uix = UnifiedInputStreamX.makeStream(new ByteArrayInputStream(data));
+        int total = 0;
+        while (true) {
+            int consumed = uix.consumeRun(IonTokenConstsX.SYMBOL_IDENTIFIER_RUN, null);
+            assertTrue(consumed <= UnifiedInputStreamX.DEFAULT_PAGE_SIZE);
+            total += consumed;
+            // Reading the next character refills the page.
+            if (uix.read() < 0) {
+                break;
+            }
+            total++;
+        }
+        assertEquals(data.length, total);
+    }
+
+    @Test
+    public void textReaderLoadsStringsThatSpanPages() throws Exception {
+        StringBuilder expected = new StringBuilder();
+        StringBuilder text = new StringBuilder("\"");
+        while (expected.length() < UnifiedInputStreamX.DEFAULT_PAGE_SIZE * 3) {
+            expected.append("plain text \u00e9\uD83D\uDE00\"\n");
+            text.append("plain text \u00e9\uD83D\uDE00\\\"\\n");
+        }
+        text.append("\" ").append("abc_$123");
+        byte[] bytes = text.toString().getBytes(StandardCharsets.UTF_8);
+        IonReaderBuilder builder = IonReaderBuilder.standard();
+        for (IonReader reader : new IonReader[] {
+            builder.build(bytes),
+            builder.build(new ByteArrayInputStream(bytes)),
+            builder.build(new StringReader(text.toString()))
+        }) {
+            assertEquals(IonType.STRING, reader.next());
+            assertEquals(expected.toString(), reader.stringValue());
+            assertEquals(IonType.SYMBOL, reader.next());
+            assertEquals("abc_$123", reader.stringValue());
+            assertNull(reader.next());
+            reader.close();
+        }
+    }
 }
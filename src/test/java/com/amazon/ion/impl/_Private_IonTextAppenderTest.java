@@ -0,0 +1,120 @@
+// Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+// SPDX-License-Identifier: Apache-2.0
+package com.amazon.ion.impl;
+
+import com.amazon.ion.Decimal;
+import com.amazon.ion.IonException;
+import com.amazon.ion.Timestamp;
+import com.amazon.ion.impl.schubfach.DoubleToDecimal;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.ThrowingConsumer;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import static com.amazon.ion.impl._Private_IonTextWriterBuilder.STANDARD;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class _Private_IonTextAppenderTest {
+
+    private static String print(ThrowingConsumer<_Private_IonTextAppender> printer) throws Throwable {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        _Private_IonTextAppender appender = _Private_IonTextAppender.forOutputStream(out, StandardCharsets.UTF_8);
+        // Print twice to verify that the scratch buffer is reusable.
+        printer.accept(appender);
+        printer.accept(appender);
+        appender.flush();
+        String text = new String(out.toByteArray(), StandardCharsets.UTF_8);
+        assertEquals(text.substring(0, text.length() / 2), text.substring(text.length() / 2));
+        return text.substring(0, text.length() / 2);
+    }
+
+    @Test
+    public void printIntMatchesLongToString() throws Throwable {
+        Random random = new Random(42);
+        long[] values = new long[1000];
+        values[0] = Long.MIN_VALUE;
+        values[1] = Long.MAX_VALUE;
+        values[2] = 0;
+        for (int i = 3; i < values.length; i++) {
+            values[i] = random.nextLong() >> random.nextInt(64);
+        }
+        for (long value : values) {
+            assertEquals(Long.toString(value), print(a -> a.printInt(value)));
+            BigInteger big = BigInteger.valueOf(value).shiftLeft(32);
+            assertEquals(big.toString(), print(a -> a.printInt(big)));
+        }
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "0, 0, 0.",
+        "-7, 0, -7.",
+        "123, 1, 12.3",
+        "-123, 5, -0.00123",
+        "123, 9, 123d-9",
+        "123, -2, 123d2",
+        "-9223372036854775808, 3, -9223372036854775.808",
+        "9223372036854775807, 30, 9223372036854775807d-30",
+    })
+    public void printDecimal(long unscaledValue, int scale, String expected) throws Throwable {
+        assertEquals(expected, print(a -> a.printDecimal(STANDARD, unscaledValue, scale)));
+        assertEquals(expected, print(a -> a.printDecimal(STANDARD, BigDecimal.valueOf(unscaledValue, scale))));
+    }
+
+    @Test
+    public void printDecimalOutsideLongRange() throws Throwable {
+        BigDecimal value = new BigDecimal("-123456789012345678901234.5678");
+        assertEquals("-123456789012345678901234.5678", print(a -> a.printDecimal(STANDARD, value)));
+        assertEquals("-0.00", print(a -> a.printDecimal(STANDARD, Decimal.negativeZero(2))));
+    }
+
+    @Test
+    public void printFloatMatchesDoubleToDecimal() throws Throwable {
+        Random random = new Random(42);
+        for (int i = 0; i < 1000; i++) {
+            double value = Double.longBitsToDouble(random.nextLong());
+            assertEquals(DoubleToDecimal.toString(value), print(a -> a.printFloat(STANDARD, value)));
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "2007T",
+        "2007-02T",
+        "2007-02-23",
+        "2007-02-23T12:14-00:00",
+        "2007-02-23T12:14Z",
+        "2007-02-23T12:14:33-00:00",
+        "2007-02-23T12:14:33.079-08:00",
+        "2001-01-01T00:00:00.000Z",
+        "2001-01-01T00:00:00.1234567890123456789012345Z",
+        // Local time crosses a day, month, or year boundary from UTC.
+        "2000-03-01T00:10+01:00",
+        "1900-03-01T00:10+01:00",
+        "2021-03-31T23:00-05:00",
+        "2024-01-01T00:00:00.000001+23:59",
+        "2023-12-31T23:59:59.5-23:59",
+        "0001-01-01T23:59-00:01",
+        "9999-12-31T00:00+00:01",
+    })
+    public void printTimestampMatchesToString(String text) throws Throwable {
+        Timestamp value = Timestamp.valueOf(text);
+        assertEquals(text, value.toString());
+        assertEquals(text, print(a -> a.printTimestamp(value, Timestamp.DEFAULT_MAXIMUM_DIGITS_TEXT)));
+    }
+
+    @Test
+    public void printTimestampRespectsMaximumDigits() throws Throwable {
+        Timestamp value = Timestamp.valueOf("2007-02-23T12:14:33.079Z");
+        assertEquals("2007-02-23T12:14:33.079Z", print(a -> a.printTimestamp(value, 3)));
+        assertThrows(IonException.class, () -> print(a -> a.printTimestamp(value, 2)));
+    }
+}
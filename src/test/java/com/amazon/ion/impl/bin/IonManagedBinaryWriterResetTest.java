@@ -0,0 +1,163 @@
+// Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+// SPDX-License-Identifier: Apache-2.0
+package com.amazon.ion.impl.bin;
+
+import com.amazon.ion.IonDatagram;
+import com.amazon.ion.IonReader;
+import com.amazon.ion.IonSystem;
+import com.amazon.ion.IonType;
+import com.amazon.ion.IonWriter;
+import com.amazon.ion.ResettableWriter;
+import com.amazon.ion.SymbolTable;
+import com.amazon.ion.system.IonBinaryWriterBuilder;
+import com.amazon.ion.system.IonReaderBuilder;
+import com.amazon.ion.system.IonSystemBuilder;
+import com.amazon.ion.system.SimpleCatalog;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class IonManagedBinaryWriterResetTest {
+
+    private static final IonSystem SYSTEM = IonSystemBuilder.standard().build();
+
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+    private static IonWriter newWriter(ByteArrayOutputStream out, boolean isIon_1_1, boolean isRetained) {
+        return IonBinaryWriterBuilder.standard()
+            .withIon_1_1Enabled(isIon_1_1)
+            .withLocalSymbolsRetainedOnReset(isRetained)
+            .build(out);
+    }
+
+    private static ResettableWriter resettable(IonWriter writer) {
+        ResettableWriter resettable = writer.asFacet(ResettableWriter.class);
+        assertNotNull(resettable);
+        return resettable;
+    }
+
+    private static IonDatagram load(byte[] data) {
+        try (IonReader reader = IonReaderBuilder.standard().build(data)) {
+            IonDatagram datagram = SYSTEM.newDatagram();
+            while (reader.next() != null) {
+                datagram.add(SYSTEM.newValue(reader));
+            }
+            return datagram;
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @ParameterizedTest(name = "isIon_1_1={0}, isRetained={1}")
+    @CsvSource({"false, false", "false, true", "true, false", "true, true"})
+    public void resetWritesIndependentMessages(boolean isIon_1_1, boolean isRetained) throws Exception {
+        ByteArrayOutputStream first = new ByteArrayOutputStream();
+        IonWriter writer = newWriter(first, isIon_1_1, isRetained);
+        writer.setTypeAnnotations("a");
+        writer.stepIn(IonType.STRUCT);
+        writer.setFieldName("b");
+        writer.writeSymbol("c");
+        writer.stepOut();
+        resettable(writer).reset(out);
+
+        writer.stepIn(IonType.STRUCT);
+        writer.setFieldName("b");
+        writer.writeSymbol("d");
+        writer.stepOut();
+        writer.writeSymbol("c");
+        resettable(writer).finishAndReset();
+        int secondMessageEnd = out.size();
+
+        writer.writeSymbol("b");
+        writer.writeInt(42);
+        writer.close();
+
+        assertEquals(SYSTEM.getLoader().load("a::{b: c}"), load(first.toByteArray()));
+        assertEquals(SYSTEM.getLoader().load("{b: d} c b 42"), load(out.toByteArray()));
+        // The last message can be read without the one that precedes it.
+        byte[] thirdMessage = Arrays.copyOfRange(out.toByteArray(), secondMessageEnd, out.size());
+        assertEquals(SYSTEM.getLoader().load("b 42"), load(thirdMessage));
+    }
+
+    @ParameterizedTest(name = "isIon_1_1={0}, isRetained={1}")
+    @CsvSource({"false, false", "false, true", "true, false", "true, true"})
+    public void retainedLocalSymbolsKeepTheirIds(boolean isIon_1_1, boolean isRetained) throws Exception {
+        IonWriter writer = newWriter(out, isIon_1_1, isRetained);
+        writer.writeSymbol("x");
+        writer.writeSymbol("y");
+        resettable(writer).finishAndReset();
+        int firstMessageEnd = out.size();
+        writer.writeSymbol("y");
+        writer.close();
+
+        byte[] secondMessage = Arrays.copyOfRange(out.toByteArray(), firstMessageEnd, out.size());
+        try (IonReader reader = IonReaderBuilder.standard().build(secondMessage)) {
+            assertEquals(IonType.SYMBOL, reader.next());
+            assertEquals("y", reader.stringValue());
+            assertEquals(isRetained ? 11 : 10, reader.symbolValue().getSid());
+        }
+    }
+
+    @ParameterizedTest(name = "isIon_1_1={0}, isRetained={1}")
+    @CsvSource({"false, false", "false, true", "true, false", "true, true"})
+    public void emptyMessagesAreNotWritten(boolean isIon_1_1, boolean isRetained) throws Exception {
+        IonWriter writer = newWriter(out, isIon_1_1, isRetained);
+        writer.writeSymbol("x");
+        resettable(writer).finishAndReset();
+        int firstMessageEnd = out.size();
+        resettable(writer).finishAndReset();
+        writer.close();
+        assertEquals(firstMessageEnd, out.size());
+    }
+
+    @ParameterizedTest(name = "isIon_1_1={0}, isRetained={1}")
+    @CsvSource({"false, false", "false, true", "true, false", "true, true"})
+    public void consecutiveEmptyMessagesWithInitialSymbolTable(boolean isIon_1_1, boolean isRetained) throws Exception {
+        SymbolTable shared = SYSTEM.newSharedSymbolTable("shared", 1, Arrays.asList("imported").iterator());
+        SymbolTable initial = SYSTEM.newLocalSymbolTable(shared);
+        initial.intern("x");
+        IonWriter writer = IonBinaryWriterBuilder.standard()
+            .withIon_1_1Enabled(isIon_1_1)
+            .withLocalSymbolsRetainedOnReset(isRetained)
+            .withInitialSymbolTable(initial)
+            .build(out);
+        ResettableWriter resettable = resettable(writer);
+        resettable.finishAndReset();
+        assertEquals(0, out.size());
+        writer.writeInt(1);
+        resettable.finishAndReset();
+        int firstMessageEnd = out.size();
+        resettable.finishAndReset();
+        resettable.finishAndReset();
+        assertEquals(firstMessageEnd, out.size());
+        writer.writeSymbol("x");
+        writer.writeSymbol("imported");
+        writer.close();
+
+        SimpleCatalog catalog = new SimpleCatalog();
+        catalog.putTable(shared);
+        IonSystem system = IonSystemBuilder.standard().withCatalog(catalog).build();
+        assertEquals(system.getLoader().load("1 x imported"), system.getLoader().load(out.toByteArray()));
+        byte[] lastMessage = Arrays.copyOfRange(out.toByteArray(), firstMessageEnd, out.size());
+        assertEquals(system.getLoader().load("x imported"), system.getLoader().load(lastMessage));
+    }
+
+    @ParameterizedTest(name = "isIon_1_1={0}")
+    @CsvSource({"false", "true"})
+    public void resetRequiresAnOpenWriterAtTopLevel(boolean isIon_1_1) throws Exception {
+        IonWriter writer = newWriter(out, isIon_1_1, false);
+        ResettableWriter resettable = resettable(writer);
+        writer.stepIn(IonType.LIST);
+        assertThrows(IllegalStateException.class, resettable::finishAndReset);
+        writer.stepOut();
+        writer.close();
+        assertThrows(IllegalStateException.class, () -> resettable.reset(new ByteArrayOutputStream()));
+    }
+}
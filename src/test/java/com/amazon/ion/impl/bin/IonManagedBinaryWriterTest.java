@@ -26,6 +26,8 @@ import com.amazon.ion.IonWriter;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.GatheringByteChannel;
 
 import com.amazon.ion.system.IonBinaryWriterBuilder;
 import com.amazon.ion.system.IonSystemBuilder;
@@ -466,6 +468,79 @@ public class IonManagedBinaryWriterTest extends IonManagedBinaryWriterTestCase
         assertValue("{bar: foo::[]}");
     }
 
+    @Test
+    public void testBuildWithGatheringByteChannel() throws Exception
+    {
+        final IonBinaryWriterBuilder builder = IonBinaryWriterBuilder.standard().withLocalSymbolTableAppendEnabled();
+        final ByteArrayOutputStream expected = new ByteArrayOutputStream();
+        final CountingGatheringByteChannel channel = new CountingGatheringByteChannel();
+        final IonWriter streamWriter = builder.build(expected);
+        final IonWriter channelWriter = builder.build(channel);
+        final IonReader reader = system().newReader(source_67K.toByteArray());
+        while (reader.next() != null)
+        {
+            streamWriter.writeValue(reader);
+            channelWriter.writeValue(reader);
+        }
+        // A container long enough to require a patched length.
+        for (final IonWriter writer : new IonWriter[] {streamWriter, channelWriter})
+        {
+            writer.stepIn(IonType.LIST);
+            writer.stepIn(IonType.STRUCT);
+            writer.setFieldName("taco");
+            writer.writeString(new String(new char[1000]).replace('\0', 'x'));
+            writer.stepOut();
+            writer.stepOut();
+            writer.flush();
+        }
+        assertEquals(1, channel.gatheringWrites);
+        streamWriter.close();
+        channelWriter.close();
+        assertArrayEquals(expected.toByteArray(), channel.out.toByteArray());
+        assertFalse(channel.isOpen());
+    }
+
+    private static final class CountingGatheringByteChannel implements GatheringByteChannel
+    {
+        private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        private int gatheringWrites = 0;
+        private boolean open = true;
+
+        public long write(ByteBuffer[] srcs, int offset, int length)
+        {
+            gatheringWrites++;
+            long written = 0;
+            for (int i = offset; i < offset + length; i++)
+            {
+                written += write(srcs[i]);
+            }
+            return written;
+        }
+
+        public long write(ByteBuffer[] srcs)
+        {
+            return write(srcs, 0, srcs.length);
+        }
+
+        public int write(ByteBuffer src)
+        {
+            final int length = src.remaining();
+            out.write(src.array(), src.arrayOffset() + src.position(), length);
+            src.position(src.limit());
+            return length;
+        }
+
+        public boolean isOpen()
+        {
+            return open;
+        }
+
+        public void close()
+        {
+            open = false;
+        }
+    }
+
     /**
      * Asserts equivalence of ion data model between two provided data streams.
      * @param actual represents the serialized data streams when auto-flush is enabled.
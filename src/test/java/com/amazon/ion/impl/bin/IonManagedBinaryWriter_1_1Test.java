@@ -0,0 +1,179 @@
+// Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+// SPDX-License-Identifier: Apache-2.0
+package com.amazon.ion.impl.bin;
+
+import com.amazon.ion.IonDatagram;
+import com.amazon.ion.IonList;
+import com.amazon.ion.IonReader;
+import com.amazon.ion.IonSystem;
+import com.amazon.ion.IonType;
+import com.amazon.ion.IonWriter;
+import com.amazon.ion.system.IonBinaryWriterBuilder;
+import com.amazon.ion.system.IonReaderBuilder;
+import com.amazon.ion.system.IonSystemBuilder;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+import static com.amazon.ion.BitUtils.bytes;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class IonManagedBinaryWriter_1_1Test {
+
+    private static final IonSystem SYSTEM = IonSystemBuilder.standard().build();
+
+    private static final IonBinaryWriterBuilder ION_1_1_BUILDER = IonBinaryWriterBuilder.standard()
+        .withIon_1_1Enabled(true)
+        .immutable();
+
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+    private IonWriter newWriter(boolean isDelimited, boolean isInlined) {
+        return ION_1_1_BUILDER
+            .withDelimitedContainersEnabled(isDelimited)
+            .withSymbolInliningEnabled(isInlined)
+            .build(out);
+    }
+
+    private static IonDatagram load(byte[] data) {
+        try (IonReader reader = IonReaderBuilder.standard().build(data)) {
+            IonDatagram datagram = SYSTEM.newDatagram();
+            while (reader.next() != null) {
+                datagram.add(SYSTEM.newValue(reader));
+            }
+            return datagram;
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String longText(int length) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            sb.append((char) ('a' + i % 26));
+        }
+        return sb.toString();
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "false, false",
+        "false, true",
+        "true, false",
+        "true, true",
+    })
+    public void roundTrip(boolean isDelimited, boolean isInlined) throws Exception {
+        String text = "null true 0 -1 123456789012345678901234567890 1.5e0 -0.25 2024-01-02T03:04:05.678Z \"abc\""
+            + " abc '' $0 {{aGVsbG8=}} {{\"clob\"}} null.list [] () {} [1, [2, (3 +)], {}]"
+            + " a::b::c::d::{a: 1, '': null.struct, $0: x::'', \"é\": ['中', $0::$0, ''::x]}"
+            + " {z: {y: {x: [\"" + longText(200) + "\", " + longText(20000) + "]}}}"
+            + " (" + longText(20) + "::{b:[]} " + longText(100) + ")";
+        IonDatagram expected = SYSTEM.getLoader().load(text);
+        try (IonWriter writer = newWriter(isDelimited, isInlined); IonReader reader = IonReaderBuilder.standard().build(text)) {
+            writer.writeValues(reader);
+        }
+        assertEquals(expected, load(out.toByteArray()));
+    }
+
+    @Test
+    public void delimitedContainersAreWrittenFrontToBack() throws Exception {
+        try (IonWriter writer = newWriter(true, true)) {
+            writer.stepIn(IonType.LIST);
+            writer.writeInt(1);
+            writer.stepOut();
+            writer.stepIn(IonType.STRUCT);
+            writer.setFieldName("a");
+            writer.stepIn(IonType.SEXP);
+            writer.stepOut();
+            writer.stepOut();
+        }
+        assertArrayEquals(
+            bytes(
+                0xE0, 0x01, 0x01, 0xEA,
+                0xF1, 0x51, 0x01, 0xF0, // [1]
+                0xF3, 0xFF, 0x61, 0xF2, 0xF0, 0x01, 0xF0 // {a:()}
+            ),
+            out.toByteArray()
+        );
+    }
+
+    @Test
+    public void lengthPrefixedContainers() throws Exception {
+        try (IonWriter writer = newWriter(false, true)) {
+            writer.stepIn(IonType.LIST);
+            writer.writeInt(1);
+            writer.stepOut();
+            writer.stepIn(IonType.STRUCT);
+            writer.setFieldName("a");
+            writer.writeString(longText(20));
+            writer.stepOut();
+        }
+        byte[] data = out.toByteArray();
+        assertArrayEquals(bytes(0xE0, 0x01, 0x01, 0xEA, 0xA2, 0x51, 0x01, 0xFD, 0x31, 0xFF, 0x61, 0xF8, 0x29), Arrays.copyOf(data, 13));
+        assertEquals(13 + 20, data.length);
+    }
+
+    @Test
+    public void symbolsAreDeclaredByAppendedSymbolTables() throws Exception {
+        try (IonWriter writer = newWriter(false, false)) {
+            writer.setTypeAnnotations("a");
+            writer.writeSymbol("b");
+            writer.flush();
+            int flushedLength = out.size();
+            writer.writeSymbol("c");
+            writer.writeSymbol("a");
+            writer.flush();
+            // The second symbol table declares only "c".
+            assertTrue(out.size() - flushedLength < 20);
+            writer.finish();
+            writer.writeSymbol("d");
+        }
+        assertEquals(SYSTEM.getLoader().load("a::b c a d"), load(out.toByteArray()));
+    }
+
+    @Test
+    public void delimitedContainersAreStreamedWhenFlushed() throws Exception {
+        try (IonWriter writer = newWriter(true, false)) {
+            writer.stepIn(IonType.LIST);
+            writer.writeSymbol("a");
+            writer.flush();
+            int flushedLength = out.size();
+            assertTrue(flushedLength > 0);
+            // "b" can no longer be declared ahead of the list, so it is written inline.
+            writer.writeSymbol("b");
+            writer.writeSymbol("a");
+            writer.stepOut();
+            writer.writeSymbol("b");
+            writer.flush();
+            assertTrue(out.size() > flushedLength);
+        }
+        assertEquals(SYSTEM.getLoader().load("[a, b, a] b"), load(out.toByteArray()));
+    }
+
+    @Test
+    public void autoFlushStreamsDelimitedContainers() throws Exception {
+        IonWriter writer = ION_1_1_BUILDER
+            .withDelimitedContainersEnabled(true)
+            .withAutoFlushEnabled(true)
+            .withBlockSize(64)
+            .build(out);
+        writer.stepIn(IonType.LIST);
+        for (int i = 0; i < 100; i++) {
+            writer.writeSymbol("s" + i % 10);
+        }
+        assertTrue(out.size() > 64);
+        writer.stepOut();
+        writer.close();
+        IonDatagram expected = SYSTEM.newDatagram(SYSTEM.newEmptyList());
+        for (int i = 0; i < 100; i++) {
+            ((IonList) expected.get(0)).add(SYSTEM.newSymbol("s" + i % 10));
+        }
+        assertEquals(expected, load(out.toByteArray()));
+    }
+}
@@ -28,6 +28,7 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.UnsupportedEncodingException;
 import java.math.BigInteger;
+import java.nio.channels.Channels;
 import java.util.Arrays;
 import java.util.concurrent.atomic.AtomicBoolean;
 
@@ -1265,6 +1266,39 @@ public class WriteBufferTest
         assertArrayEquals(bytes, out.toByteArray());
     }
 
+    @ParameterizedTest
+    @CsvSource({
+        "0", "127", "128", "16383", "16384", "2097151", "268435455", "34359738367", "4398046511103",
+        "562949953421311", "72057594037927935", "72057594037927936", "9223372036854775807"
+    })
+    public void writeVarUIntToArray(long value) throws IOException {
+        writeVarUIntTo(out, value);
+        final byte[] bytes = new byte[12];
+        final int length = writeVarUIntTo(bytes, 2, value);
+        assertEquals(varUIntLength(value), length);
+        assertArrayEquals(out.toByteArray(), Arrays.copyOfRange(bytes, 2, 2 + length));
+    }
+
+    @Test
+    public void gatherTo() throws IOException
+    {
+        final byte[] data = "0123456789abcdefghijklmnopqrstuvwxyz".getBytes("UTF-8");
+        buf.writeBytes(data);
+        final ByteBufferGatherer gatherer = new ByteBufferGatherer();
+        buf.gatherTo(gatherer, 0, 3);
+        buf.gatherTo(gatherer, 5, 30);
+        gatherer.writeTo(Channels.newChannel(out));
+        final byte[] expected = new byte[33];
+        System.arraycopy(data, 0, expected, 0, 3);
+        System.arraycopy(data, 5, expected, 3, 30);
+        assertArrayEquals(expected, out.toByteArray());
+
+        // The gatherer is empty after being written.
+        out.reset();
+        gatherer.writeTo(Channels.newChannel(out));
+        assertEquals(0, out.size());
+    }
+
     /**
      * Test if the method 'varUIntLength' generates the expected length of the provided long value.
      */
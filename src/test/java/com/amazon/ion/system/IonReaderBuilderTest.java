@@ -150,6 +150,23 @@ public class IonReaderBuilderTest
         assertNull(reader3.next());
     }
 
+    @Test
+    public void testEnableIncrementalTextReading()
+    {
+        IonReaderBuilder builder = IonReaderBuilder.standard();
+        assertFalse(builder.isIncrementalTextReadingEnabled());
+        builder.withIncrementalTextReadingEnabled(true);
+        assertTrue(builder.isIncrementalTextReadingEnabled());
+        builder.setIncrementalTextReadingDisabled();
+        assertFalse(builder.isIncrementalTextReadingEnabled());
+        builder.setIncrementalTextReadingEnabled();
+        assertTrue(builder.isIncrementalTextReadingEnabled());
+        assertFalse(builder.isIncrementalReadingEnabled());
+        assertTrue(builder.immutable().isIncrementalTextReadingEnabled());
+        builder.withIncrementalTextReadingEnabled(false);
+        assertFalse(builder.isIncrementalTextReadingEnabled());
+    }
+
     @Test
     public void testBufferConfiguration()
     {
@@ -0,0 +1,130 @@
+// Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+// SPDX-License-Identifier: Apache-2.0
+package com.amazon.ion.system;
+
+import com.amazon.ion.IonReader;
+import com.amazon.ion.IonType;
+import com.amazon.ion.IonWriter;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class IonReaderPoolTest {
+
+    private static byte[] toBinary(String fieldName, String value) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (IonWriter writer = IonBinaryWriterBuilder.standard().build(out)) {
+            writer.stepIn(IonType.STRUCT);
+            writer.setFieldName(fieldName);
+            writer.writeSymbol(value);
+            writer.stepOut();
+        }
+        return out.toByteArray();
+    }
+
+    private static String read(IonReader reader) {
+        assertEquals(IonType.STRUCT, reader.next());
+        reader.stepIn();
+        assertEquals(IonType.SYMBOL, reader.next());
+        String value = reader.getFieldName() + "=" + reader.stringValue();
+        reader.stepOut();
+        assertNull(reader.next());
+        return value;
+    }
+
+    @Test
+    public void binaryReadersAreReused() throws Exception {
+        try (IonReaderPool pool = IonReaderBuilder.standard().buildReaderPool()) {
+            IonReader first = pool.acquire(toBinary("a", "b"));
+            assertEquals("a=b", read(first));
+            pool.release(first);
+            for (int i = 0; i < 3; i++) {
+                IonReader reader = pool.acquire(toBinary("name" + i, "value" + i));
+                assertSame(first, reader);
+                assertEquals("name" + i + "=value" + i, read(reader));
+                pool.release(reader);
+            }
+        }
+    }
+
+    @Test
+    public void readersAreReusedForMarkableBinaryStreams() throws Exception {
+        try (IonReaderPool pool = IonReaderBuilder.standard().buildReaderPool()) {
+            IonReader first = pool.acquire(toBinary("a", "b"));
+            pool.release(first);
+            IonReader reader = pool.acquire(new BufferedInputStream(new ByteArrayInputStream(toBinary("c", "d"))));
+            assertSame(first, reader);
+            assertEquals("c=d", read(reader));
+            pool.release(reader);
+            // Streams that do not support mark cannot be inspected, so a new reader is built.
+            reader = pool.acquire(new ByteArrayInputStream(toBinary("e", "f")) {
+                @Override
+                public boolean markSupported() {
+                    return false;
+                }
+            });
+            assertNotSame(first, reader);
+            assertEquals("e=f", read(reader));
+            pool.release(reader);
+        }
+    }
+
+    @Test
+    public void textIsReadByNewReaders() throws Exception {
+        try (IonReaderPool pool = IonReaderBuilder.standard().buildReaderPool()) {
+            IonReader binary = pool.acquire(toBinary("a", "b"));
+            pool.release(binary);
+            IonReader text = pool.acquire("{c: d}".getBytes(StandardCharsets.UTF_8));
+            assertNotSame(binary, text);
+            assertEquals("c=d", read(text));
+            pool.release(text);
+            text = pool.acquire(new BufferedInputStream(new ByteArrayInputStream("{e: f}".getBytes(StandardCharsets.UTF_8))));
+            assertNotSame(binary, text);
+            assertEquals("e=f", read(text));
+            pool.release(text);
+            // The idle binary reader remains available.
+            assertSame(binary, pool.acquire(toBinary("g", "h")));
+        }
+    }
+
+    @Test
+    public void releaseClosesStreams() throws Exception {
+        AtomicInteger closeCount = new AtomicInteger();
+        InputStream input = new BufferedInputStream(new ByteArrayInputStream(toBinary("a", "b"))) {
+            @Override
+            public void close() throws IOException {
+                closeCount.incrementAndGet();
+                super.close();
+            }
+        };
+        try (IonReaderPool pool = IonReaderBuilder.standard().buildReaderPool()) {
+            IonReader reader = pool.acquire(input);
+            assertEquals("a=b", read(reader));
+            pool.release(reader);
+            assertEquals(1, closeCount.get());
+        }
+    }
+
+    @Test
+    public void closedPoolRejectsAcquisitionAndClosesReleasedReaders() throws Exception {
+        IonReaderPool pool = IonReaderBuilder.standard().buildReaderPool();
+        IonReader idle = pool.acquire(toBinary("a", "b"));
+        IonReader inUse = pool.acquire(toBinary("c", "d"));
+        pool.release(idle);
+        pool.close();
+        assertThrows(IllegalStateException.class, () -> pool.acquire(toBinary("e", "f")));
+        pool.release(inUse);
+    }
+}
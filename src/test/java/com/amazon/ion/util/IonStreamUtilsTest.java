@@ -18,9 +18,17 @@ package com.amazon.ion.util;
 import static com.amazon.ion.impl._Private_IonConstants.BINARY_VERSION_MARKER_1_0;
 import static com.amazon.ion.impl._Private_Utils.EMPTY_BYTE_ARRAY;
 import static com.amazon.ion.util.IonStreamUtils.isIonBinary;
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
+import com.amazon.ion.IonType;
+import com.amazon.ion.IonWriter;
+import com.amazon.ion.system.IonBinaryWriterBuilder;
+import com.amazon.ion.system.IonTextWriterBuilder;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
 import org.junit.Test;
 
 public class IonStreamUtilsTest
@@ -69,4 +77,67 @@ public class IonStreamUtilsTest
         assertEquals(false, isIonBinary(BINARY_VERSION_MARKER_1_0, 0, 2));
         assertEquals(false, isIonBinary(BINARY_VERSION_MARKER_1_0, 0, 3));
     }
+
+    private static final long[][] DECIMALS = {
+        // { unscaledValue, scale }
+        { 0, 0 },
+        { 0, 2 },
+        { 0, -3 },
+        { 1234, 2 },
+        { -1234, 2 },
+        { 5, -1 },
+        { 1, 7 },
+        { -1, 20 },
+        { 127, 0 },
+        { -128, 5 },
+        { Long.MAX_VALUE, 4 },
+        { Long.MIN_VALUE, 4 },
+        { Long.MIN_VALUE + 1, -4 },
+    };
+
+    private static byte[] writeDecimals(IonWriter writer, ByteArrayOutputStream out, boolean asPrimitives)
+        throws IOException
+    {
+        writer.stepIn(IonType.LIST);
+        for (long[] decimal : DECIMALS) {
+            if (asPrimitives) {
+                IonStreamUtils.writeDecimal(writer, decimal[0], (int) decimal[1]);
+            } else {
+                writer.writeDecimal(BigDecimal.valueOf(decimal[0], (int) decimal[1]));
+            }
+        }
+        writer.stepOut();
+        writer.close();
+        return out.toByteArray();
+    }
+
+    @Test
+    public void testWriteDecimalBinary()
+        throws IOException
+    {
+        ByteArrayOutputStream expected = new ByteArrayOutputStream();
+        ByteArrayOutputStream actual = new ByteArrayOutputStream();
+        assertArrayEquals(
+            writeDecimals(IonBinaryWriterBuilder.standard().build(expected), expected, false),
+            writeDecimals(IonBinaryWriterBuilder.standard().build(actual), actual, true)
+        );
+    }
+
+    @Test
+    public void testWriteDecimalText()
+        throws IOException
+    {
+        ByteArrayOutputStream expected = new ByteArrayOutputStream();
+        ByteArrayOutputStream actual = new ByteArrayOutputStream();
+        assertArrayEquals(
+            writeDecimals(IonTextWriterBuilder.standard().build(expected), expected, false),
+            writeDecimals(IonTextWriterBuilder.standard().build(actual), actual, true)
+        );
+        expected.reset();
+        actual.reset();
+        assertArrayEquals(
+            writeDecimals(IonTextWriterBuilder.json().build(expected), expected, false),
+            writeDecimals(IonTextWriterBuilder.json().build(actual), actual, true)
+        );
+    }
 }
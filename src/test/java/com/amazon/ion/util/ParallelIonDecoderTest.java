@@ -0,0 +1,154 @@
+// Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+// SPDX-License-Identifier: Apache-2.0
+package com.amazon.ion.util;
+
+import com.amazon.ion.IonReader;
+import com.amazon.ion.IonType;
+import com.amazon.ion.IonWriter;
+import com.amazon.ion.system.IonBinaryWriterBuilder;
+import com.amazon.ion.system.IonReaderBuilder;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ParallelIonDecoderTest {
+
+    private static final int NUMBER_OF_VALUES = 1000;
+
+    // A new binary stream, with a new local symbol table, begins every STREAM_LENGTH values.
+    private static final int STREAM_LENGTH = 300;
+
+    private static final IonReaderBuilder READER_BUILDER = IonReaderBuilder.standard();
+
+    @TempDir
+    Path directory;
+
+    private static byte[] testData() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        IonWriter writer = null;
+        for (int i = 0; i < NUMBER_OF_VALUES; i++) {
+            if (i % STREAM_LENGTH == 0) {
+                if (writer != null) {
+                    writer.close();
+                }
+                writer = IonBinaryWriterBuilder.standard().build(out);
+            }
+            writer.stepIn(IonType.STRUCT);
+            writer.setFieldName("name" + (i / STREAM_LENGTH));
+            writer.writeSymbol("value" + i);
+            writer.stepOut();
+        }
+        writer.close();
+        return out.toByteArray();
+    }
+
+    private static String decode(IonReader reader) {
+        reader.stepIn();
+        reader.next();
+        String value = reader.getFieldName() + "=" + reader.stringValue();
+        reader.stepOut();
+        return value;
+    }
+
+    private static List<String> expectedValues() {
+        List<String> values = new ArrayList<>(NUMBER_OF_VALUES);
+        for (int i = 0; i < NUMBER_OF_VALUES; i++) {
+            values.add("name" + (i / STREAM_LENGTH) + "=value" + i);
+        }
+        return values;
+    }
+
+    @ParameterizedTest(name = "valuesPerChunk={0}")
+    @ValueSource(ints = {1, 64, 1000, 5000})
+    public void orderedStream(int valuesPerChunk) throws Exception {
+        ParallelIonDecoder decoder = ParallelIonDecoder.forBytes(READER_BUILDER, testData(), valuesPerChunk);
+        assertEquals(NUMBER_OF_VALUES, decoder.getValueCount());
+        assertEquals((NUMBER_OF_VALUES + valuesPerChunk - 1) / valuesPerChunk, decoder.getNumberOfChunks());
+        assertEquals(expectedValues(), decoder.stream(ParallelIonDecoderTest::decode).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void spliteratorSplitsAfterPartialAdvance() throws Exception {
+        ParallelIonDecoder decoder = ParallelIonDecoder.forBytes(READER_BUILDER, testData(), 100);
+        Spliterator<String> suffix = decoder.spliterator(ParallelIonDecoderTest::decode);
+        List<String> values = new ArrayList<>();
+        for (int i = 0; i < 150; i++) {
+            suffix.tryAdvance(values::add);
+        }
+        assertEquals(NUMBER_OF_VALUES - 150, suffix.estimateSize());
+        Spliterator<String> prefix = suffix.trySplit();
+        assertNotNull(prefix);
+        assertEquals(NUMBER_OF_VALUES - 150, prefix.estimateSize() + suffix.estimateSize());
+        prefix.forEachRemaining(values::add);
+        suffix.forEachRemaining(values::add);
+        assertEquals(expectedValues(), values);
+        assertNull(prefix.trySplit());
+    }
+
+    @Test
+    public void spliteratorReleasesChunkWhenDecoderFails() throws Exception {
+        ParallelIonDecoder decoder = ParallelIonDecoder.forBytes(READER_BUILDER, testData(), 100);
+        Spliterator<String> spliterator = decoder.spliterator(reader -> {
+            String value = decode(reader);
+            if (value.endsWith("=value1")) {
+                throw new IllegalStateException(value);
+            }
+            return value;
+        });
+        assertTrue(spliterator.tryAdvance(value -> { }));
+        assertThrows(IllegalStateException.class, () -> spliterator.tryAdvance(value -> { }));
+        // The failed chunk's reader was closed; decoding resumes with the next chunk.
+        assertEquals(NUMBER_OF_VALUES - 100, spliterator.estimateSize());
+        List<String> values = new ArrayList<>();
+        spliterator.forEachRemaining(values::add);
+        assertEquals(expectedValues().subList(100, NUMBER_OF_VALUES), values);
+    }
+
+    @Test
+    public void unorderedFromFile() throws Exception {
+        Path file = directory.resolve("data.10n");
+        Files.write(file, testData());
+        ParallelIonDecoder decoder = ParallelIonDecoder.forFile(READER_BUILDER, file, 37);
+        ConcurrentLinkedQueue<String> values = new ConcurrentLinkedQueue<>();
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            decoder.forEachUnordered(pool, ParallelIonDecoderTest::decode, values::add);
+        } finally {
+            pool.shutdown();
+        }
+        List<String> sorted = new ArrayList<>(values);
+        List<String> expected = expectedValues();
+        Collections.sort(sorted);
+        Collections.sort(expected);
+        assertEquals(expected, sorted);
+    }
+
+    @Test
+    public void orderedFromFileWithExistingIndex() throws Exception {
+        Path file = directory.resolve("data.10n");
+        Files.write(file, testData());
+        TopLevelOffsetIndex index = TopLevelOffsetIndex.build(READER_BUILDER, file, 128);
+        ParallelIonDecoder decoder = ParallelIonDecoder.forFile(READER_BUILDER, file, index);
+        assertEquals(8, decoder.getNumberOfChunks());
+        assertEquals(expectedValues(), decoder.stream(ParallelIonDecoderTest::decode).collect(Collectors.toList()));
+    }
+}
@@ -0,0 +1,111 @@
+// Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+// SPDX-License-Identifier: Apache-2.0
+package com.amazon.ion.util;
+
+import com.amazon.ion.IonReader;
+import com.amazon.ion.IonSystem;
+import com.amazon.ion.IonType;
+import com.amazon.ion.IonWriter;
+import com.amazon.ion.SymbolTable;
+import com.amazon.ion.system.IonBinaryWriterBuilder;
+import com.amazon.ion.system.IonReaderBuilder;
+import com.amazon.ion.system.IonSystemBuilder;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SymbolFrequencyProfilerTest {
+
+    private static final IonSystem SYSTEM = IonSystemBuilder.standard().build();
+
+    private static SymbolFrequencyProfiler profile(String text) throws Exception {
+        SymbolFrequencyProfiler profiler = new SymbolFrequencyProfiler();
+        try (IonReader reader = IonReaderBuilder.standard().build(text)) {
+            profiler.profile(reader);
+        }
+        return profiler;
+    }
+
+    @Test
+    public void countsFieldNamesAnnotationsAndSymbolValues() throws Exception {
+        SymbolFrequencyProfiler profiler = profile(
+            "a::{b: c, d: [b, a::e, null.symbol, \"b\"], f: (b c)} $ion_symbol_table::{} name $0 b::null"
+        );
+        assertEquals(1, profiler.getFieldNameCount("b"));
+        assertEquals(1, profiler.getAnnotationCount("b"));
+        assertEquals(2, profiler.getSymbolValueCount("b"));
+        assertEquals(2, profiler.getAnnotationCount("a"));
+        assertEquals(2, profiler.getSymbolValueCount("c"));
+        assertEquals(0, profiler.getFieldNameCount("e"));
+        assertEquals(1, profiler.getSymbolValueCount("e"));
+        // System symbols and symbols with unknown text are not counted.
+        assertEquals(0, profiler.getSymbolValueCount("name"));
+        assertEquals(0, profiler.getAnnotationCount("$ion_symbol_table"));
+        assertEquals(Arrays.asList("b", "a", "c", "d", "e", "f"), profiler.getRankedSymbols());
+    }
+
+    @Test
+    public void sharedSymbolTableIsRanked() throws Exception {
+        SymbolFrequencyProfiler profiler = profile("{x: y, z: z, w: z} z y");
+        SymbolTable table = profiler.newSharedSymbolTable(SYSTEM, "profiled", 1, 2);
+        assertTrue(table.isSharedTable());
+        assertEquals("profiled", table.getName());
+        assertEquals(2, table.getMaxId());
+        assertEquals("z", table.findKnownSymbol(1));
+        assertEquals("y", table.findKnownSymbol(2));
+        assertThrows(IllegalArgumentException.class, () -> profiler.newSharedSymbolTable(SYSTEM, "profiled", 1, -1));
+    }
+
+    @Test
+    public void projectedSavingsMatchEncodedSize() throws Exception {
+        // Rare symbols occur first, so that a writer without imports assigns them the lowest local symbol IDs.
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 200; i++) {
+            text.append("rare").append(i).append(' ');
+        }
+        for (int i = 0; i < 1000; i++) {
+            text.append("{frequent_field: frequent_value, id: ").append(i).append("} ");
+        }
+        SymbolFrequencyProfiler profiler = profile(text.toString());
+        SymbolTable table = profiler.newSharedSymbolTable(SYSTEM, "profiled", 1, Integer.MAX_VALUE);
+        assertEquals(203, table.getMaxId());
+
+        ByteArrayOutputStream baseline = new ByteArrayOutputStream();
+        ByteArrayOutputStream optimized = new ByteArrayOutputStream();
+        try (
+            IonReader first = IonReaderBuilder.standard().build(text.toString());
+            IonReader second = IonReaderBuilder.standard().build(text.toString());
+            IonWriter baselineWriter = IonBinaryWriterBuilder.standard().build(baseline);
+            IonWriter optimizedWriter = IonBinaryWriterBuilder.standard().withImports(table).build(optimized)
+        ) {
+            baselineWriter.writeValues(first);
+            optimizedWriter.writeValues(second);
+        }
+        SymbolFrequencyProfiler.Projection projection = profiler.project(Integer.MAX_VALUE);
+        assertTrue(projection.getSavings() > 0);
+        // The projection excludes the import declaration and local symbol table framing, which are small.
+        long actualSavings = baseline.size() - optimized.size();
+        assertTrue(Math.abs(projection.getSavings() - actualSavings) < 64, projection + " vs " + actualSavings);
+
+        // Without a shared table, nothing is saved.
+        assertEquals(0, profiler.project(0).getSavings());
+    }
+
+    @Test
+    public void profilingContinuesFromTheReadersPosition() throws Exception {
+        SymbolFrequencyProfiler profiler = new SymbolFrequencyProfiler();
+        try (IonReader reader = IonReaderBuilder.standard().build("[a, [b]] c")) {
+            assertEquals(IonType.LIST, reader.next());
+            reader.stepIn();
+            profiler.profile(reader);
+            reader.stepOut();
+            profiler.profile(reader);
+        }
+        assertEquals(Arrays.asList("a", "b", "c"), profiler.getRankedSymbols());
+    }
+}
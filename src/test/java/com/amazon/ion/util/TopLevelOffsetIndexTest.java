@@ -0,0 +1,243 @@
+// Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+// SPDX-License-Identifier: Apache-2.0
+package com.amazon.ion.util;
+
+import com.amazon.ion.IonException;
+import com.amazon.ion.IonReader;
+import com.amazon.ion.IonType;
+import com.amazon.ion.IonWriter;
+import com.amazon.ion.system.IonBinaryWriterBuilder;
+import com.amazon.ion.system.IonReaderBuilder;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TopLevelOffsetIndexTest {
+
+    // The number of values in each of the concatenated streams in the test data.
+    private static final int VALUES_PER_STREAM = 25;
+
+    private static final int NUMBER_OF_STREAMS = 3;
+
+    private static final int NUMBER_OF_VALUES = VALUES_PER_STREAM * NUMBER_OF_STREAMS;
+
+    private static final IonReaderBuilder READER_BUILDER = IonReaderBuilder.standard();
+
+    @TempDir
+    Path directory;
+
+    /**
+     * Creates several concatenated binary streams, each with its own symbol table, containing structs whose field
+     * names differ from stream to stream. Some values are annotated.
+     */
+    private static byte[] testData() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        int id = 0;
+        for (int stream = 0; stream < NUMBER_OF_STREAMS; stream++) {
+            try (IonWriter writer = IonBinaryWriterBuilder.standard().build(out)) {
+                for (int i = 0; i < VALUES_PER_STREAM; i++) {
+                    if (id % 4 == 0) {
+                        writer.setTypeAnnotations("annotation" + stream);
+                    }
+                    writer.stepIn(IonType.STRUCT);
+                    writer.setFieldName("id");
+                    writer.writeInt(id);
+                    writer.setFieldName("field" + stream);
+                    writer.writeSymbol("symbol" + id);
+                    writer.stepOut();
+                    id++;
+                }
+            }
+        }
+        return out.toByteArray();
+    }
+
+    private static long idOf(IonReader reader) {
+        reader.stepIn();
+        try {
+            while (reader.next() != null) {
+                if ("id".equals(reader.getFieldName())) {
+                    return reader.longValue();
+                }
+            }
+            throw new IllegalStateException("No id field.");
+        } finally {
+            reader.stepOut();
+        }
+    }
+
+    /**
+     * Asserts that the reader's next value is the test value with the given ID, with all symbols resolved.
+     */
+    private static void assertNextValue(IonReader reader, int id) {
+        assertEquals(IonType.STRUCT, reader.next());
+        int stream = id / VALUES_PER_STREAM;
+        if (id % 4 == 0) {
+            assertArrayEquals(new String[] {"annotation" + stream}, reader.getTypeAnnotations());
+        } else {
+            assertEquals(0, reader.getTypeAnnotations().length);
+        }
+        reader.stepIn();
+        assertEquals(IonType.INT, reader.next());
+        assertEquals("id", reader.getFieldName());
+        assertEquals(id, reader.intValue());
+        assertEquals(IonType.SYMBOL, reader.next());
+        assertEquals("field" + stream, reader.getFieldName());
+        assertEquals("symbol" + id, reader.stringValue());
+        reader.stepOut();
+    }
+
+    private static void assertValuesFrom(IonReader reader, int firstId) {
+        for (int id = firstId; id < NUMBER_OF_VALUES; id++) {
+            assertNextValue(reader, id);
+        }
+        assertNull(reader.next());
+    }
+
+    @ParameterizedTest(name = "stride={0}")
+    @ValueSource(ints = {1, 4, 10, 100})
+    public void readerForValueFromBytes(int stride) throws Exception {
+        byte[] data = testData();
+        TopLevelOffsetIndex index = TopLevelOffsetIndex.build(READER_BUILDER, data, stride, null);
+        assertEquals(stride, index.getStride());
+        assertEquals(NUMBER_OF_VALUES, index.getValueCount());
+        assertFalse(index.hasKeys());
+        for (int id = 0; id <= NUMBER_OF_VALUES; id++) {
+            try (IonReader reader = index.readerForValue(READER_BUILDER, data, id)) {
+                assertValuesFrom(reader, id);
+            }
+        }
+    }
+
+    @ParameterizedTest(name = "stride={0}")
+    @ValueSource(ints = {1, 7})
+    public void readerForValueFromFile(int stride) throws Exception {
+        Path file = directory.resolve("data.10n");
+        Files.write(file, testData());
+        TopLevelOffsetIndex index = TopLevelOffsetIndex.build(READER_BUILDER, file, stride);
+        for (int id = 0; id < NUMBER_OF_VALUES; id += 3) {
+            try (IonReader reader = index.readerForValue(READER_BUILDER, file, id)) {
+                assertValuesFrom(reader, id);
+            }
+        }
+    }
+
+    @Test
+    public void readerForKey() throws Exception {
+        byte[] data = testData();
+        TopLevelOffsetIndex index = TopLevelOffsetIndex.build(READER_BUILDER, data, 10, TopLevelOffsetIndexTest::idOf);
+        assertTrue(index.hasKeys());
+        for (int id = 0; id < NUMBER_OF_VALUES; id++) {
+            try (IonReader reader = index.readerForKey(READER_BUILDER, data, id)) {
+                // The reader is positioned no more than one stride before the value with the requested key.
+                long skipped = 0;
+                while (true) {
+                    assertEquals(IonType.STRUCT, reader.next());
+                    if (idOf(reader) == id) {
+                        break;
+                    }
+                    skipped++;
+                }
+                assertTrue(skipped <= index.getStride());
+                assertValuesFrom(reader, id + 1);
+            }
+        }
+    }
+
+    @Test
+    public void readerForValueOutOfRangeFails() throws Exception {
+        byte[] data = testData();
+        TopLevelOffsetIndex index = TopLevelOffsetIndex.build(READER_BUILDER, data, 10, null);
+        assertThrows(IllegalArgumentException.class, () -> index.readerForValue(READER_BUILDER, data, -1));
+        assertThrows(IllegalArgumentException.class, () -> index.readerForValue(READER_BUILDER, data, NUMBER_OF_VALUES + 1));
+        assertThrows(IllegalStateException.class, () -> index.readerForKey(READER_BUILDER, data, 0));
+    }
+
+    @Test
+    public void writeToAndReadFrom() throws Exception {
+        byte[] data = testData();
+        TopLevelOffsetIndex index = TopLevelOffsetIndex.build(READER_BUILDER, data, 6, TopLevelOffsetIndexTest::idOf);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        index.writeTo(out);
+        TopLevelOffsetIndex restored = TopLevelOffsetIndex.readFrom(new ByteArrayInputStream(out.toByteArray()));
+        assertEquals(index.getStride(), restored.getStride());
+        assertEquals(index.getValueCount(), restored.getValueCount());
+        assertTrue(restored.hasKeys());
+        for (int id = 0; id < NUMBER_OF_VALUES; id += 5) {
+            try (IonReader reader = restored.readerForValue(READER_BUILDER, data, id)) {
+                assertValuesFrom(reader, id);
+            }
+        }
+    }
+
+    @Test
+    public void symbolTableAppendsArePersistedOnce() throws Exception {
+        // Each value declares a new symbol, which the writer appends to the symbol table when it is flushed.
+        int numberOfValues = 40;
+        ByteArrayOutputStream data = new ByteArrayOutputStream();
+        try (IonWriter writer = IonBinaryWriterBuilder.standard().withLocalSymbolTableAppendEnabled().build(data)) {
+            for (int id = 0; id < numberOfValues; id++) {
+                writer.writeSymbol(String.format("sym%03d", id));
+                writer.flush();
+            }
+        }
+        byte[] bytes = data.toByteArray();
+        TopLevelOffsetIndex index = TopLevelOffsetIndex.build(READER_BUILDER, bytes, 1, null);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        index.writeTo(out);
+        String persisted = new String(out.toByteArray(), StandardCharsets.ISO_8859_1);
+        for (int id = 0; id < numberOfValues; id++) {
+            String symbol = String.format("sym%03d", id);
+            assertEquals(persisted.indexOf(symbol), persisted.lastIndexOf(symbol), symbol);
+        }
+        TopLevelOffsetIndex restored = TopLevelOffsetIndex.readFrom(new ByteArrayInputStream(out.toByteArray()));
+        for (int id = 0; id <= numberOfValues; id++) {
+            try (IonReader reader = restored.readerForValue(READER_BUILDER, bytes, id)) {
+                for (int i = id; i < numberOfValues; i++) {
+                    assertEquals(IonType.SYMBOL, reader.next());
+                    assertEquals(String.format("sym%03d", i), reader.stringValue());
+                }
+                assertNull(reader.next());
+            }
+        }
+    }
+
+    @Test
+    public void emptyData() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        IonBinaryWriterBuilder.standard().build(out).close();
+        byte[] data = out.toByteArray();
+        TopLevelOffsetIndex index = TopLevelOffsetIndex.build(READER_BUILDER, data, 10, null);
+        assertEquals(0, index.getValueCount());
+        try (IonReader reader = index.readerForValue(READER_BUILDER, data, 0)) {
+            assertNull(reader.next());
+        }
+    }
+
+    @Test
+    public void textDataFails() {
+        byte[] data = "{id: 0}".getBytes(StandardCharsets.UTF_8);
+        assertThrows(IonException.class, () -> TopLevelOffsetIndex.build(READER_BUILDER, data, 10, null));
+    }
+
+    @Test
+    public void readFromInvalidDataFails() {
+        byte[] data = "{stride: 10}".getBytes(StandardCharsets.UTF_8);
+        assertThrows(IonException.class, () -> TopLevelOffsetIndex.readFrom(new ByteArrayInputStream(data)));
+    }
+}